@@ -49,6 +49,8 @@ abstract class AbstractDatabaseObject extends AbstractNamedObjectWithAttributes
   private final Schema schema;
   private transient NamedObjectKey key;
   private transient String fullName;
+  // Hash codes only depend on names, which do not change, so they are computed once
+  private transient int hashCode;
 
   /**
    * Effective Java - Item 17 - Minimize Mutability - Package-private constructors make a class
@@ -123,10 +125,12 @@ abstract class AbstractDatabaseObject extends AbstractNamedObjectWithAttributes
   }
 
   @Override
-  public int hashCode() {
-    final int prime = 31;
-    int result = super.hashCode();
-    result = prime * result + hash(schema);
+  public final int hashCode() {
+    int result = hashCode;
+    if (result == 0) {
+      result = buildHashCode();
+      hashCode = result;
+    }
     return result;
   }
 
@@ -144,6 +148,13 @@ abstract class AbstractDatabaseObject extends AbstractNamedObjectWithAttributes
     fullName = identifiers.quoteFullName(this);
   }
 
+  int buildHashCode() {
+    final int prime = 31;
+    int result = super.hashCode();
+    result = prime * result + hash(schema);
+    return result;
+  }
+
   private void buildFullName() {
     if (fullName != null) {
       return;
@@ -103,14 +103,6 @@ abstract class AbstractDependantObject<D extends DatabaseObject> extends Abstrac
     return shortName;
   }
 
-  @Override
-  public final int hashCode() {
-    final int prime = 31;
-    int result = super.hashCode();
-    result = prime * result + hash(parent);
-    return result;
-  }
-
   @Override
   public final boolean isParentPartial() {
     return parent.isPartialDatabaseObjectReference();
@@ -131,6 +123,14 @@ abstract class AbstractDependantObject<D extends DatabaseObject> extends Abstrac
     shortName = identifiers.quoteShortName(this);
   }
 
+  @Override
+  final int buildHashCode() {
+    final int prime = 31;
+    int result = super.buildHashCode();
+    result = prime * result + hash(parent);
+    return result;
+  }
+
   private void buildFullName() {
     if (fullName != null) {
       return;
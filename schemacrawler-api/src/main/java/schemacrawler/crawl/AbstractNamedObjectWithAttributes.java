@@ -31,6 +31,7 @@ package schemacrawler.crawl;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.trimToEmpty;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -47,7 +48,8 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
 
   private static final long serialVersionUID = -1486322887991472729L;
 
-  private final Map<String, Object> attributeMap;
+  // Most objects have few or no attributes, so the map is only created when one is set
+  private volatile Map<String, Object> attributeMap;
 
   /**
    * Effective Java - Item 17 - Minimize Mutability - Package-private constructors make a class
@@ -57,7 +59,6 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
    */
   AbstractNamedObjectWithAttributes(final String name) {
     super(name);
-    attributeMap = new ConcurrentHashMap<>();
   }
 
   /** {@inheritDoc} */
@@ -70,19 +71,19 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   @Override
   public final <T> T getAttribute(final String name, final T defaultValue)
       throws ClassCastException {
-    return (T) attributeMap.getOrDefault(name, defaultValue);
+    return (T) attributeMap().getOrDefault(name, defaultValue);
   }
 
   /** {@inheritDoc} */
   @Override
   public final Map<String, Object> getAttributes() {
-    return new TreeMap<>(attributeMap);
+    return new TreeMap<>(attributeMap());
   }
 
   /** {@inheritDoc} */
   @Override
   public final String getRemarks() {
-    final Object remarks = attributeMap.get(REMARKS_ATTRIBUTE);
+    final Object remarks = attributeMap().get(REMARKS_ATTRIBUTE);
     if (remarks == null) {
       return "";
     }
@@ -92,7 +93,7 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   /** {@inheritDoc} */
   @Override
   public final boolean hasAttribute(final String name) {
-    return attributeMap.containsKey(name);
+    return attributeMap().containsKey(name);
   }
 
   /** {@inheritDoc} */
@@ -113,8 +114,8 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   /** {@inheritDoc} */
   @Override
   public final void removeAttribute(final String name) {
-    if (!isBlank(name)) {
-      attributeMap.remove(name);
+    if (!isBlank(name) && hasAttribute(name)) {
+      modifiableAttributeMap().remove(name);
     }
   }
 
@@ -123,9 +124,9 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   public final void setAttribute(final String name, final Object value) {
     if (!isBlank(name)) {
       if (value == null) {
-        attributeMap.remove(name);
+        removeAttribute(name);
       } else {
-        attributeMap.put(name, value);
+        modifiableAttributeMap().put(name, value);
       }
     }
   }
@@ -136,7 +137,7 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
   }
 
   protected final void addAttributes(final Map<String, Object> values) {
-    if (values == null) {
+    if (values == null || values.isEmpty()) {
       return;
     }
     // Check for null entries, since concurrent hash map does not allow them
@@ -144,8 +145,52 @@ abstract class AbstractNamedObjectWithAttributes extends AbstractNamedObject
       final String key = entry.getKey();
       final Object value = entry.getValue();
       if (key != null && value != null) {
-        attributeMap.put(key, value);
+        modifiableAttributeMap().put(key, value);
+      }
+    }
+  }
+
+  /**
+   * Replaces the attributes with a compact, read-only copy, once the crawl is complete. Attributes
+   * can still be set later, for example by catalog loaders, and the copy is then replaced by a
+   * concurrent map again.
+   */
+  void freeze() {
+    synchronized (this) {
+      final Map<String, Object> attributes = attributeMap;
+      if (attributes == null || attributes instanceof FrozenMap) {
+        return;
+      }
+      if (attributes.isEmpty()) {
+        attributeMap = null;
+      } else {
+        attributeMap = new FrozenMap<>(attributes);
+      }
+    }
+  }
+
+  private Map<String, Object> attributeMap() {
+    final Map<String, Object> attributes = attributeMap;
+    if (attributes == null) {
+      return Collections.emptyMap();
+    }
+    return attributes;
+  }
+
+  private Map<String, Object> modifiableAttributeMap() {
+    Map<String, Object> attributes = attributeMap;
+    if (attributes == null || attributes instanceof FrozenMap) {
+      synchronized (this) {
+        attributes = attributeMap;
+        if (attributes == null) {
+          attributes = new ConcurrentHashMap<>();
+          attributeMap = attributes;
+        } else if (attributes instanceof FrozenMap) {
+          attributes = new ConcurrentHashMap<>(attributes);
+          attributeMap = attributes;
+        }
       }
     }
+    return attributes;
   }
 }
@@ -31,8 +31,11 @@ package schemacrawler.crawl;
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
 import static us.fatehi.utility.Utility.isBlank;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -43,6 +46,7 @@ import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.JavaSqlType;
 import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.LimitOptions;
 import schemacrawler.schemacrawler.Retriever;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaReference;
@@ -99,10 +103,49 @@ abstract class AbstractRetriever {
     return belongsToCatalog && belongsToSchema;
   }
 
+  /**
+   * Creates a statement for data dictionary queries, with the fetch size configured for the
+   * database.
+   *
+   * @param connection Database connection
+   * @return Statement
+   * @throws SQLException On an exception
+   */
+  final Statement createStatement(final Connection connection) throws SQLException {
+    final Statement statement = connection.createStatement();
+    try {
+      statement.setFetchSize(retrieverConnection.getFetchSize());
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    }
+    return statement;
+  }
+
   final NamedObjectList<SchemaReference> getAllSchemas() {
     return catalog.getAllSchemas();
   }
 
+  /**
+   * Gets unread columns from the results as additional attributes, with repeated names and values
+   * shared across the catalog.
+   *
+   * @param results Metadata results
+   * @return Map of additional attributes to the database object
+   */
+  final Map<String, Object> getAttributes(final MetadataResultSet results) {
+    return results.getAttributes(retrieverConnection.getIdentifierPool());
+  }
+
+  /**
+   * Gets the limits on the schemas and tables to crawl, for data dictionary queries that can
+   * return rows only for the tables that are crawled.
+   *
+   * @return Limit options
+   */
+  final LimitOptions getLimitOptions() {
+    return options.getLimitOptions();
+  }
+
   final RetrieverConnection getRetrieverConnection() {
     return retrieverConnection;
   }
@@ -111,6 +154,17 @@ abstract class AbstractRetriever {
     return options.getLimitOptions().get(ruleForSchemaInclusion);
   }
 
+  /**
+   * Gets a shared instance of an identifier that is kept in the catalog, since the same names are
+   * returned by the database for many objects.
+   *
+   * @param identifier Identifier, which may be null
+   * @return Pooled identifier
+   */
+  final String intern(final String identifier) {
+    return retrieverConnection.getIdentifierPool().intern(identifier);
+  }
+
   final void logPossiblyUnsupportedSQLFeature(
       final Supplier<String> message, final SQLException e) {
     // HYC00 = Optional feature not implemented
@@ -203,12 +257,17 @@ abstract class AbstractRetriever {
 
   final Optional<MutableTable> lookupTable(
       final String catalogName, final String schemaName, final String tableName) {
-    return catalog.lookupTable(new NamedObjectKey(catalogName, schemaName, tableName));
+    final NamedObjectKey tableLookupKey = new NamedObjectKey(catalogName, schemaName, tableName);
+    // Tables carried over from an earlier crawl already have all their details
+    if (catalog.isRetainedTable(tableLookupKey)) {
+      return Optional.empty();
+    }
+    return catalog.lookupTable(tableLookupKey);
   }
 
   final String normalizeCatalogName(final String name) {
     if (retrieverConnection.isSupportsCatalogs()) {
-      return name;
+      return intern(name);
     } else {
       return null;
     }
@@ -216,7 +275,7 @@ abstract class AbstractRetriever {
 
   final String normalizeSchemaName(final String name) {
     if (retrieverConnection.isSupportsSchemas()) {
-      return name;
+      return intern(name);
     } else {
       return null;
     }
@@ -0,0 +1,183 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * Reads a binary catalog from one or more byte buffers, as if they were a single buffer with a
+ * long position. A file that is larger than a single memory-mapped buffer can hold is mapped in
+ * several regions of the same size, and values that cross from one region into the next are read
+ * a byte at a time.
+ */
+final class BinaryCatalogBuffer {
+
+  /** Size of each memory-mapped region of a file. */
+  static final long DEFAULT_REGION_SIZE = 1L << 30;
+
+  /**
+   * Memory-maps a file in regions of the given size.
+   *
+   * @param channel Channel for the file
+   * @param regionSize Size of each region, except the last one, which may be smaller
+   * @return Buffer over the whole file
+   * @throws IOException On an exception mapping the file
+   */
+  static BinaryCatalogBuffer map(final FileChannel channel, final long regionSize)
+      throws IOException {
+    requireNonNull(channel, "No file channel provided");
+    if (regionSize < 1 || regionSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(String.format("Bad region size <%d>", regionSize));
+    }
+    final long size = channel.size();
+    final int regionCount = (int) Math.max(1, (size + regionSize - 1) / regionSize);
+    final ByteBuffer[] regions = new ByteBuffer[regionCount];
+    for (int i = 0; i < regionCount; i++) {
+      final long regionStart = i * regionSize;
+      regions[i] =
+          channel.map(MapMode.READ_ONLY, regionStart, Math.min(regionSize, size - regionStart));
+    }
+    return new BinaryCatalogBuffer(regions, regionSize, size);
+  }
+
+  private final ByteBuffer[] regions;
+  private final long regionSize;
+  private final long limit;
+  private long position;
+
+  BinaryCatalogBuffer(final ByteBuffer buffer) {
+    requireNonNull(buffer, "No buffer provided");
+    final ByteBuffer region = buffer.slice();
+    regions = new ByteBuffer[] {region};
+    regionSize = Math.max(1, region.limit());
+    limit = region.limit();
+  }
+
+  private BinaryCatalogBuffer(final ByteBuffer[] regions, final long regionSize, final long limit) {
+    this.regions = regions;
+    this.regionSize = regionSize;
+    this.limit = limit;
+  }
+
+  byte get() {
+    checkRemaining(position, 1);
+    final byte b = region(position).get(regionOffset(position));
+    position = position + 1;
+    return b;
+  }
+
+  void get(final byte[] bytes) {
+    checkRemaining(position, bytes.length);
+    int copied = 0;
+    while (copied < bytes.length) {
+      final ByteBuffer region = region(position).duplicate();
+      region.position(regionOffset(position));
+      final int length = Math.min(bytes.length - copied, region.remaining());
+      region.get(bytes, copied, length);
+      copied = copied + length;
+      position = position + length;
+    }
+  }
+
+  int getInt() {
+    final int value = getInt(position);
+    position = position + 4;
+    return value;
+  }
+
+  int getInt(final long index) {
+    checkRemaining(index, 4);
+    final int offset = regionOffset(index);
+    final ByteBuffer region = region(index);
+    if (offset + 4 <= region.limit()) {
+      return region.getInt(offset);
+    }
+    return (int) getBigEndian(index, 4);
+  }
+
+  long getLong() {
+    final long value = getLong(position);
+    position = position + 8;
+    return value;
+  }
+
+  long getLong(final long index) {
+    checkRemaining(index, 8);
+    final int offset = regionOffset(index);
+    final ByteBuffer region = region(index);
+    if (offset + 8 <= region.limit()) {
+      return region.getLong(offset);
+    }
+    return getBigEndian(index, 8);
+  }
+
+  long limit() {
+    return limit;
+  }
+
+  long position() {
+    return position;
+  }
+
+  void position(final long newPosition) {
+    if (newPosition < 0 || newPosition > limit) {
+      throw new IllegalArgumentException(String.format("Bad position <%d>", newPosition));
+    }
+    position = newPosition;
+  }
+
+  private void checkRemaining(final long index, final int length) {
+    if (index < 0 || index + length > limit) {
+      throw new BufferUnderflowException();
+    }
+  }
+
+  /** Reads a value that crosses from one region into the next. */
+  private long getBigEndian(final long index, final int length) {
+    long value = 0;
+    for (int i = 0; i < length; i++) {
+      value = value << 8 | region(index + i).get(regionOffset(index + i)) & 0xFF;
+    }
+    return value;
+  }
+
+  private ByteBuffer region(final long index) {
+    return regions[(int) (index / regionSize)];
+  }
+
+  private int regionOffset(final long index) {
+    return (int) (index % regionSize);
+  }
+}
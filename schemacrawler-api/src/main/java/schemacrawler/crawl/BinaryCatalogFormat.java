@@ -0,0 +1,117 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+/**
+ * Constants for the SchemaCrawler binary catalog format.
+ *
+ * <p>A binary catalog file starts with a fixed header of the magic number and the format version,
+ * followed by sections of variable-length encoded records. Identifiers and other strings are
+ * written once to a string table, and referenced everywhere else by their position in the table.
+ * Objects refer to each other by integer ids, so that a file can be read without any reflection.
+ * The file ends with a trailer that has the offsets of each section, the number of sections, and
+ * the magic number again.
+ *
+ * <p>Tables, table references and routines are written as records, followed by a directory with
+ * the names of the objects and the offsets of their records. The table references directory also
+ * has the tables at both ends of each reference. A reader can decide which objects to load from the
+ * directories alone, and then seek to the records of just those objects.
+ */
+final class BinaryCatalogFormat {
+
+  /** "SCBC", for SchemaCrawler binary catalog. */
+  static final int MAGIC = 0x53434243;
+
+  static final int VERSION = 2;
+
+  // Sections, in the order of their offsets in the trailer
+  static final int CATALOG_SECTION = 0;
+  static final int SCHEMAS_SECTION = 1;
+  static final int COLUMN_DATA_TYPES_SECTION = 2;
+  static final int TABLES_SECTION = 3;
+  static final int TABLE_REFERENCES_SECTION = 4;
+  static final int ROUTINES_SECTION = 5;
+  static final int SEQUENCES_SECTION = 6;
+  static final int SYNONYMS_SECTION = 7;
+  static final int STRINGS_SECTION = 8;
+  static final int SECTION_COUNT = 9;
+
+  // Kinds of tables
+  static final int TABLE = 0;
+  static final int VIEW = 1;
+
+  // Kinds of table references
+  static final int FOREIGN_KEY = 0;
+  static final int WEAK_ASSOCIATION = 1;
+
+  // Kinds of routines
+  static final int FUNCTION = 0;
+  static final int PROCEDURE = 1;
+
+  // Table ids in the table references directory are offset by one, so that zero can be used for
+  // tables that are not in the catalog
+  static final int NOT_IN_CATALOG = 0;
+
+  // References to tables, which may not have been loaded into the catalog
+  static final int NO_TABLE = 0;
+  static final int CATALOG_TABLE = 1;
+  static final int PARTIAL_TABLE = 2;
+
+  // Kinds of entries in the table constraints of a table
+  static final int TABLE_CONSTRAINT = 0;
+  static final int PRIMARY_KEY_CONSTRAINT = 1;
+  static final int FOREIGN_KEY_CONSTRAINT = 2;
+
+  // Kinds of objects referenced by synonyms
+  static final int UNKNOWN_OBJECT = 0;
+  static final int TABLE_OBJECT = 1;
+  static final int ROUTINE_OBJECT = 2;
+
+  // Types of attribute and property values
+  static final int NULL_VALUE = 0;
+  static final int STRING_VALUE = 1;
+  static final int TRUE_VALUE = 2;
+  static final int FALSE_VALUE = 3;
+  static final int INTEGER_VALUE = 4;
+  static final int LONG_VALUE = 5;
+  static final int SHORT_VALUE = 6;
+  static final int BYTE_VALUE = 7;
+  static final int DOUBLE_VALUE = 8;
+  static final int FLOAT_VALUE = 9;
+  static final int BIG_INTEGER_VALUE = 10;
+  static final int BIG_DECIMAL_VALUE = 11;
+  static final int CHARACTER_VALUE = 12;
+  static final int STRING_ARRAY_VALUE = 13;
+  static final int LIST_VALUE = 14;
+  static final int SERIALIZED_VALUE = 15;
+
+  private BinaryCatalogFormat() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,1241 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.BinaryCatalogBuffer.DEFAULT_REGION_SIZE;
+import static schemacrawler.crawl.BinaryCatalogFormat.BIG_DECIMAL_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.BIG_INTEGER_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.BYTE_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.CATALOG_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.CATALOG_TABLE;
+import static schemacrawler.crawl.BinaryCatalogFormat.CHARACTER_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.COLUMN_DATA_TYPES_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.DOUBLE_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.FALSE_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.FLOAT_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.FOREIGN_KEY;
+import static schemacrawler.crawl.BinaryCatalogFormat.FOREIGN_KEY_CONSTRAINT;
+import static schemacrawler.crawl.BinaryCatalogFormat.INTEGER_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.LIST_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.LONG_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.MAGIC;
+import static schemacrawler.crawl.BinaryCatalogFormat.NOT_IN_CATALOG;
+import static schemacrawler.crawl.BinaryCatalogFormat.NO_TABLE;
+import static schemacrawler.crawl.BinaryCatalogFormat.NULL_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.PARTIAL_TABLE;
+import static schemacrawler.crawl.BinaryCatalogFormat.PRIMARY_KEY_CONSTRAINT;
+import static schemacrawler.crawl.BinaryCatalogFormat.PROCEDURE;
+import static schemacrawler.crawl.BinaryCatalogFormat.ROUTINES_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.ROUTINE_OBJECT;
+import static schemacrawler.crawl.BinaryCatalogFormat.SCHEMAS_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.SECTION_COUNT;
+import static schemacrawler.crawl.BinaryCatalogFormat.SEQUENCES_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.SERIALIZED_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.SHORT_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.STRINGS_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.STRING_ARRAY_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.STRING_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.SYNONYMS_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.TABLES_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.TABLE_CONSTRAINT;
+import static schemacrawler.crawl.BinaryCatalogFormat.TABLE_OBJECT;
+import static schemacrawler.crawl.BinaryCatalogFormat.TABLE_REFERENCES_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.TRUE_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.UNKNOWN_OBJECT;
+import static schemacrawler.crawl.BinaryCatalogFormat.VERSION;
+import static schemacrawler.crawl.BinaryCatalogFormat.VIEW;
+import static schemacrawler.filter.FilterFactory.sequenceFilter;
+import static schemacrawler.filter.FilterFactory.synonymFilter;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForRoutineInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.DriverPropertyInfo;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import schemacrawler.BaseProductVersion;
+import schemacrawler.ProductVersion;
+import schemacrawler.filter.DatabaseObjectFilter;
+import schemacrawler.filter.RoutineTypesFilter;
+import schemacrawler.schema.ActionOrientationType;
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CheckOptionType;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ConditionTimingType;
+import schemacrawler.schema.DataTypeType;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.EventManipulationType;
+import schemacrawler.schema.ForeignKeyDeferrability;
+import schemacrawler.schema.ForeignKeyUpdateRule;
+import schemacrawler.schema.FunctionReturnType;
+import schemacrawler.schema.IndexColumnSortSequence;
+import schemacrawler.schema.IndexType;
+import schemacrawler.schema.ParameterModeType;
+import schemacrawler.schema.ProcedureReturnType;
+import schemacrawler.schema.RoutineBodyType;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SearchableType;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraintType;
+import schemacrawler.schema.TableType;
+import schemacrawler.schema.TableTypes;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.utility.JavaSqlTypes;
+
+/**
+ * Reads a catalog in the SchemaCrawler binary catalog format, as written by {@link
+ * BinaryCatalogWriter}. Strings are decoded only when they are first needed, and each distinct
+ * string is decoded only once, so identifiers are shared between all the objects that use them.
+ */
+public final class BinaryCatalogReader {
+
+  private static final class SafeObjectInputStream extends ObjectInputStream {
+
+    private static final List<Pattern> acceptPatterns =
+        Arrays.asList(
+            Pattern.compile("schemacrawler\\.(schema(crawler)?|crawl)\\.[A-Z].*"),
+            Pattern.compile("schemacrawler\\.[A-Z].*"),
+            Pattern.compile("(\\[L)?java\\.(lang|util)\\..*"),
+            Pattern.compile("java\\.(sql|math|time|net)\\..*"),
+            Pattern.compile("\\[[BCI]"));
+
+    SafeObjectInputStream(final InputStream input) throws IOException {
+      super(input);
+    }
+
+    @Override
+    protected Class<?> resolveClass(final ObjectStreamClass objectStreamClass)
+        throws IOException, ClassNotFoundException {
+      final String className = objectStreamClass.getName();
+      for (final Pattern pattern : acceptPatterns) {
+        if (pattern.matcher(className).matches()) {
+          return super.resolveClass(objectStreamClass);
+        }
+      }
+      throw new InvalidClassException(String.format("Not deserializing class <%s>", className));
+    }
+  }
+
+  /**
+   * Checks whether a file is in the SchemaCrawler binary catalog format, by looking at the magic
+   * number at the start of the file.
+   *
+   * @param path Path to the file
+   * @return True if the file is a binary catalog
+   * @throws IOException On an exception reading the file
+   */
+  public static boolean isBinaryCatalog(final Path path) throws IOException {
+    requireNonNull(path, "No path provided");
+    if (Files.size(path) < 4) {
+      return false;
+    }
+    try (final DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+      return in.readInt() == MAGIC;
+    }
+  }
+
+  /**
+   * Memory-maps a binary catalog file for reading. Files that are too large for a single mapped
+   * buffer are mapped in several regions.
+   *
+   * @param path Path to the binary catalog file
+   * @return Reader for the file
+   * @throws IOException On an exception reading the file
+   */
+  public static BinaryCatalogReader open(final Path path) throws IOException {
+    return open(path, DEFAULT_REGION_SIZE);
+  }
+
+  static BinaryCatalogReader open(final Path path, final long regionSize) throws IOException {
+    requireNonNull(path, "No path provided");
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return new BinaryCatalogReader(BinaryCatalogBuffer.map(channel, regionSize));
+    }
+  }
+
+  private final BinaryCatalogBuffer buffer;
+  private final JavaSqlTypes javaSqlTypes;
+  private final Map<List<String>, SchemaReference> schemas;
+  private final List<MutableColumn> referencingColumns;
+  private final List<Long> referencedColumnPositions;
+  private final List<MutableTable> foreignKeyTables;
+  private final List<Integer> foreignKeyIds;
+  private long[] sectionOffsets;
+  private long[] stringOffsets;
+  private String[] strings;
+  private MutableColumnDataType[] columnDataTypes;
+  private MutableCatalog targetCatalog;
+  private MutableTable[] tables;
+  private Schema[] tableSchemas;
+  private String[] tableNames;
+  private AbstractTableReference[] tableReferences;
+  private MutableRoutine[] routines;
+  private Schema[] routineSchemas;
+  private String[] routineNames;
+
+  public BinaryCatalogReader(final ByteBuffer buffer) {
+    this(new BinaryCatalogBuffer(buffer));
+  }
+
+  BinaryCatalogReader(final BinaryCatalogBuffer buffer) {
+    this.buffer = requireNonNull(buffer, "No buffer provided");
+    javaSqlTypes = new JavaSqlTypes();
+    schemas = new HashMap<>();
+    referencingColumns = new ArrayList<>();
+    referencedColumnPositions = new ArrayList<>();
+    foreignKeyTables = new ArrayList<>();
+    foreignKeyIds = new ArrayList<>();
+  }
+
+  /**
+   * Reads the catalog.
+   *
+   * @return Catalog
+   * @throws IOException On a corrupt or unsupported binary catalog
+   */
+  public Catalog read() throws IOException {
+    return doRead(null);
+  }
+
+  /**
+   * Reads only the parts of the catalog that are included by the limit options, without
+   * deserializing the rest. Tables that are related to included tables by foreign keys are also
+   * read, up to the table filter depths in the filter options. Other tables that are referenced by
+   * foreign keys are read as partial tables, as they are when crawling a database. Grep options are
+   * not applied, since they need the full details of each table.
+   *
+   * @param options Options with the limit options and filter options to apply
+   * @return Catalog
+   * @throws IOException On a corrupt or unsupported binary catalog
+   */
+  public Catalog read(final SchemaCrawlerOptions options) throws IOException {
+    return doRead(requireNonNull(options, "No SchemaCrawler options provided"));
+  }
+
+  /**
+   * Reads a copy of the catalog, for tables to be moved from the copy into another catalog. Schemas
+   * and column data types that are also in the other catalog are shared with it, instead of being
+   * read again.
+   *
+   * @param targetCatalog Catalog that tables from the copy will be moved into
+   * @return Copy of the catalog
+   * @throws IOException On a corrupt or unsupported binary catalog
+   */
+  MutableCatalog readCopyFor(final MutableCatalog targetCatalog) throws IOException {
+    this.targetCatalog = requireNonNull(targetCatalog, "No target catalog provided");
+    for (final Schema schema : targetCatalog.getSchemas()) {
+      if (schema instanceof SchemaReference) {
+        schemas.put(
+            Arrays.asList(schema.getCatalogName(), schema.getName()), (SchemaReference) schema);
+      }
+    }
+    return (MutableCatalog) doRead(null);
+  }
+
+  private long checkedOffset(final long offset) throws IOException {
+    if (offset < 0 || offset >= buffer.limit()) {
+      throw new IOException(String.format("Bad offset <%d> in binary catalog", offset));
+    }
+    return offset;
+  }
+
+  private Catalog doRead(final SchemaCrawlerOptions options) throws IOException {
+    readHeaderAndTrailer();
+    readStringTable();
+
+    seek(CATALOG_SECTION);
+    final MutableCatalog catalog = readCatalogInfo();
+
+    seek(SCHEMAS_SECTION);
+    final int schemaCount = readVarint();
+    for (int i = 0; i < schemaCount; i++) {
+      final SchemaReference schema = readSchema();
+      readAttributes(schema);
+      catalog.addSchema(schema);
+    }
+
+    seek(COLUMN_DATA_TYPES_SECTION);
+    readColumnDataTypes(catalog);
+
+    readTables(catalog, options);
+
+    readRoutines(catalog, options);
+
+    seek(SEQUENCES_SECTION);
+    final int sequenceCount = readVarint();
+    for (int i = 0; i < sequenceCount; i++) {
+      final MutableSequence sequence = new MutableSequence(readSchema(), readString());
+      readAttributes(sequence);
+      sequence.setCycle(readBoolean());
+      sequence.setIncrement(readSignedVarlong());
+      sequence.setStartValue(readBigInteger());
+      sequence.setMaximumValue(readBigInteger());
+      sequence.setMinimumValue(readBigInteger());
+      if (options == null || sequenceFilter(options).test(sequence)) {
+        catalog.addSequence(sequence);
+      }
+    }
+
+    seek(SYNONYMS_SECTION);
+    final int synonymCount = readVarint();
+    for (int i = 0; i < synonymCount; i++) {
+      final MutableSynonym synonym = new MutableSynonym(readSchema(), readString());
+      readAttributes(synonym);
+      synonym.setReferencedObject(readSynonymReferencedObject());
+      if (options == null || synonymFilter(options).test(synonym)) {
+        catalog.addSynonym(synonym);
+      }
+    }
+
+    return catalog;
+  }
+
+  /**
+   * Includes tables related by foreign keys, up to the given depth, in the same way as the table
+   * reducer does with loaded tables.
+   *
+   * @param includedTables Tables that are included by the limit options
+   * @param depth Depth of relationships to follow
+   * @param tableReferenceKinds Kinds of table references, from the directory
+   * @param fromTableIds Table ids on the side of the foreign key to follow from
+   * @param toTableIds Table ids on the side of the foreign key to follow to
+   * @return Included tables, together with the related tables
+   */
+  private boolean[] includeRelatedTables(
+      final boolean[] includedTables,
+      final int depth,
+      final int[] tableReferenceKinds,
+      final int[] fromTableIds,
+      final int[] toTableIds) {
+    final boolean[] relatedTables = Arrays.copyOf(includedTables, includedTables.length);
+    for (int level = 0; level < depth; level++) {
+      final boolean[] previousLevel = Arrays.copyOf(relatedTables, relatedTables.length);
+      for (int i = 0; i < tableReferenceKinds.length; i++) {
+        if (tableReferenceKinds[i] != FOREIGN_KEY
+            || fromTableIds[i] == NOT_IN_CATALOG
+            || toTableIds[i] == NOT_IN_CATALOG) {
+          continue;
+        }
+        if (previousLevel[fromTableIds[i] - 1]) {
+          relatedTables[toTableIds[i] - 1] = true;
+        }
+      }
+    }
+    return relatedTables;
+  }
+
+  /** Checks whether a table id from the table references directory is for a loaded table. */
+  private boolean isLoadedTable(final int directoryTableId) {
+    return directoryTableId != NOT_IN_CATALOG && tables[directoryTableId - 1] != null;
+  }
+
+  private Column lookupOrCreateColumn(final MutableTable table, final String columnName) {
+    final Optional<MutableColumn> optionalColumn = table.lookupColumn(columnName);
+    if (optionalColumn.isPresent()) {
+      return optionalColumn.get();
+    } else {
+      return new ColumnPartial(table, columnName);
+    }
+  }
+
+  /** Creates a column in a partial table, for a table that was not loaded into the catalog. */
+  private Column newPartialColumn(
+      final Schema schema, final String tableName, final String columnName) {
+    final TablePartial tablePartial = new TablePartial(schema, tableName);
+    final ColumnPartial columnPartial = new ColumnPartial(tablePartial, columnName);
+    tablePartial.addColumn(columnPartial);
+    return columnPartial;
+  }
+
+  private void readAttributes(final AttributedObject attributedObject) throws IOException {
+    final int attributeCount = readVarint();
+    for (int i = 0; i < attributeCount; i++) {
+      attributedObject.setAttribute(readString(), readValue());
+    }
+  }
+
+  private BigInteger readBigInteger() throws IOException {
+    final String value = readString();
+    return value == null ? null : new BigInteger(value);
+  }
+
+  private boolean readBoolean() {
+    return buffer.get() != 0;
+  }
+
+  private MutableCatalog readCatalogInfo() throws IOException {
+    final String catalogName = readString();
+
+    final MutableDatabaseInfo databaseInfo =
+        new MutableDatabaseInfo(readString(), readString(), readString());
+    final int serverInfoCount = readVarint();
+    for (int i = 0; i < serverInfoCount; i++) {
+      databaseInfo.addServerInfo(
+          new ImmutableServerInfoProperty(readString(), readString(), readString()));
+    }
+    final int databasePropertyCount = readVarint();
+    final Collection<ImmutableDatabaseProperty> databaseProperties =
+        new ArrayList<>(databasePropertyCount);
+    for (int i = 0; i < databasePropertyCount; i++) {
+      databaseProperties.add(new ImmutableDatabaseProperty(readString(), readValue()));
+    }
+    databaseInfo.addAll(databaseProperties);
+
+    final MutableJdbcDriverInfo jdbcDriverInfo =
+        new MutableJdbcDriverInfo(
+            readString(),
+            readString(),
+            readString(),
+            readSignedVarint(),
+            readSignedVarint(),
+            readSignedVarint(),
+            readSignedVarint(),
+            readBoolean(),
+            readString());
+    final int driverPropertyCount = readVarint();
+    for (int i = 0; i < driverPropertyCount; i++) {
+      final DriverPropertyInfo driverPropertyInfo = new DriverPropertyInfo(readString(), null);
+      driverPropertyInfo.value = readString();
+      driverPropertyInfo.description = readString();
+      driverPropertyInfo.required = readBoolean();
+      final List<String> choices = readStrings();
+      if (!choices.isEmpty()) {
+        driverPropertyInfo.choices = choices.toArray(new String[choices.size()]);
+      }
+      jdbcDriverInfo.addJdbcDriverProperty(new ImmutableJdbcDriverProperty(driverPropertyInfo));
+    }
+
+    final MutableCrawlInfo crawlInfo =
+        new MutableCrawlInfo(
+            readProductVersion(),
+            readProductVersion(),
+            readProductVersion(),
+            readProductVersion(),
+            readProductVersion(),
+            Instant.ofEpochSecond(readSignedVarlong(), readVarint()),
+            new UUID(buffer.getLong(), buffer.getLong()));
+
+    final MutableCatalog catalog =
+        new MutableCatalog(catalogName, databaseInfo, jdbcDriverInfo, crawlInfo);
+    readAttributes(catalog);
+
+    final int databaseUserCount = readVarint();
+    for (int i = 0; i < databaseUserCount; i++) {
+      final ImmutableDatabaseUser databaseUser = new ImmutableDatabaseUser(readString());
+      readAttributes(databaseUser);
+      catalog.addDatabaseUser(databaseUser);
+    }
+
+    return catalog;
+  }
+
+  private MutableColumn readColumn(final MutableTable table) throws IOException {
+    final MutableColumn column = new MutableColumn(table, readString());
+    readAttributes(column);
+    column.setColumnDataType(readColumnDataType());
+    column.setDecimalDigits(readSignedVarint());
+    column.setNullable(readBoolean());
+    column.setOrdinalPosition(readSignedVarint());
+    column.setSize(readSignedVarint());
+    column.setDefaultValue(readString());
+    final int flags = buffer.get();
+    column.setAutoIncremented((flags & 1) != 0);
+    column.setGenerated((flags & 1 << 1) != 0);
+    column.setHidden((flags & 1 << 2) != 0);
+    if ((flags & 1 << 3) != 0) {
+      column.markAsPartOfIndex();
+    }
+    if ((flags & 1 << 4) != 0) {
+      column.markAsPartOfPrimaryKey();
+    }
+    if ((flags & 1 << 5) != 0) {
+      column.markAsPartOfUniqueIndex();
+    }
+
+    // Referenced columns may be in tables that have not been read yet, so come back to them
+    final long referencedColumnPosition = buffer.position();
+    if (skipColumnReference()) {
+      referencingColumns.add(column);
+      referencedColumnPositions.add(referencedColumnPosition);
+    }
+
+    final int privilegeCount = readVarint();
+    for (int i = 0; i < privilegeCount; i++) {
+      column.addPrivilege(readPrivilege(new ColumnPointer(column)));
+    }
+
+    return column;
+  }
+
+  private MutableColumnDataType readColumnDataType() throws IOException {
+    final int id = readVarint();
+    return id == 0 ? null : columnDataTypes[id - 1];
+  }
+
+  private void readColumnDataTypes(final MutableCatalog catalog) throws IOException {
+    final int columnDataTypeCount = readVarint();
+    columnDataTypes = new MutableColumnDataType[columnDataTypeCount];
+    final boolean[] isInCatalog = new boolean[columnDataTypeCount];
+    final int[] baseTypeIds = new int[columnDataTypeCount];
+    for (int i = 0; i < columnDataTypeCount; i++) {
+      final MutableColumnDataType columnDataType =
+          new MutableColumnDataType(readSchema(), readString(), readEnum(DataTypeType.class));
+      isInCatalog[i] = readBoolean();
+      readAttributes(columnDataType);
+      baseTypeIds[i] = readVarint();
+      columnDataType.setAutoIncrementable(readBoolean());
+      columnDataType.setCaseSensitive(readBoolean());
+      columnDataType.setCreateParameters(readString());
+      columnDataType.setFixedPrecisionScale(readBoolean());
+      columnDataType.setJavaSqlType(javaSqlTypes.valueOf(readSignedVarint()));
+      columnDataType.setTypeMappedClass(readString());
+      columnDataType.setLiteralPrefix(readString());
+      columnDataType.setLiteralSuffix(readString());
+      columnDataType.setLocalTypeName(readString());
+      columnDataType.setMaximumScale(readSignedVarint());
+      columnDataType.setMinimumScale(readSignedVarint());
+      columnDataType.setNullable(readBoolean());
+      columnDataType.setNumPrecisionRadix(readSignedVarint());
+      columnDataType.setPrecision(readSignedVarlong());
+      columnDataType.setSearchable(readEnum(SearchableType.class));
+      columnDataType.setUnsigned(readBoolean());
+      columnDataType.setEnumValues(readStrings());
+      columnDataTypes[i] = columnDataType;
+    }
+
+    // Base types can be anywhere in the list, so resolve them after all types are read
+    for (int i = 0; i < columnDataTypeCount; i++) {
+      if (baseTypeIds[i] > 0) {
+        columnDataTypes[i].setBaseType(columnDataTypes[baseTypeIds[i] - 1]);
+      }
+      if (isInCatalog[i]) {
+        catalog.addColumnDataType(columnDataTypes[i]);
+      }
+    }
+
+    if (targetCatalog != null) {
+      for (int i = 0; i < columnDataTypeCount; i++) {
+        final MutableColumnDataType columnDataType = columnDataTypes[i];
+        final Optional<MutableColumnDataType> targetColumnDataType =
+            targetCatalog.lookupColumnDataType(
+                columnDataType.getSchema(), columnDataType.getName());
+        if (targetColumnDataType.isPresent()) {
+          columnDataTypes[i] = targetColumnDataType.get();
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads a reference to a column, which may be in a table in the catalog, or in a partial table.
+   * Columns that are not found are created as partial columns.
+   */
+  private Column readColumnReference() throws IOException {
+    final int tableKind = readVarint();
+    switch (tableKind) {
+      case NO_TABLE:
+        return null;
+      case CATALOG_TABLE:
+        final int tableId = readVarint();
+        if (tables[tableId] != null) {
+          return lookupOrCreateColumn(tables[tableId], readString());
+        }
+        return newPartialColumn(tableSchemas[tableId], tableNames[tableId], readString());
+      case PARTIAL_TABLE:
+        return newPartialColumn(readSchema(), readString(), readString());
+      default:
+        throw new IOException(String.format("Unknown table reference type <%d>", tableKind));
+    }
+  }
+
+  private <E extends Enum<E>> E readEnum(final Class<E> enumClass) throws IOException {
+    final String name = readString();
+    if (name == null) {
+      return null;
+    }
+    try {
+      return Enum.valueOf(enumClass, name);
+    } catch (final IllegalArgumentException e) {
+      throw new IOException(
+          String.format("Unknown value <%s> for <%s>", name, enumClass.getSimpleName()), e);
+    }
+  }
+
+  private void readHeaderAndTrailer() throws IOException {
+    final long limit = buffer.limit();
+    if (limit < 16 || buffer.getInt(0) != MAGIC) {
+      throw new IOException("Not a SchemaCrawler binary catalog");
+    }
+    final int version = buffer.getInt(4);
+    if (version != VERSION) {
+      throw new IOException(
+          String.format("Unsupported binary catalog format version <%d>", version));
+    }
+    final int sectionCount = buffer.getInt(limit - 8);
+    if (buffer.getInt(limit - 4) != MAGIC || sectionCount != SECTION_COUNT) {
+      throw new IOException("Binary catalog is truncated or corrupt");
+    }
+    sectionOffsets = new long[sectionCount];
+    final long trailerStart = limit - 8 - sectionCount * 8;
+    for (int i = 0; i < sectionCount; i++) {
+      sectionOffsets[i] = checkedOffset(buffer.getLong(trailerStart + i * 8));
+    }
+  }
+
+  private void readIndexes(final MutableTable table) throws IOException {
+    final int indexCount = readVarint();
+    for (int i = 0; i < indexCount; i++) {
+      final MutableIndex index = new MutableIndex(table, readString());
+      readAttributes(index);
+      index.appendDefinition(readString());
+      index.setCardinality(readSignedVarlong());
+      final IndexType indexType = readEnum(IndexType.class);
+      index.setIndexType(indexType == null ? IndexType.unknown : indexType);
+      index.setUnique(readBoolean());
+      index.setPages(readSignedVarlong());
+      final int columnCount = readVarint();
+      for (int j = 0; j < columnCount; j++) {
+        final Column column = lookupOrCreateColumn(table, readString());
+        final MutableIndexColumn indexColumn = new MutableIndexColumn(index, column);
+        indexColumn.setKeyOrdinalPosition(readSignedVarint());
+        indexColumn.setSortSequence(readEnum(IndexColumnSortSequence.class));
+        index.addColumn(indexColumn);
+      }
+      // Add the index only after its columns, since indexes are sorted by their columns
+      table.addIndex(index);
+    }
+  }
+
+  private void readKey(final MutableTable table, final MutableTableConstraint key)
+      throws IOException {
+    readAttributes(key);
+    key.appendDefinition(readString());
+    final int columnCount = readVarint();
+    for (int i = 0; i < columnCount; i++) {
+      final Column column = lookupOrCreateColumn(table, readString());
+      final MutableTableConstraintColumn keyColumn = new MutableTableConstraintColumn(key, column);
+      keyColumn.setKeyOrdinalPosition(readSignedVarint());
+      key.addColumn(keyColumn);
+    }
+  }
+
+  private <D extends DatabaseObject> MutablePrivilege<D> readPrivilege(
+      final DatabaseObjectReference<D> parent) throws IOException {
+    final MutablePrivilege<D> privilege = new MutablePrivilege<>(parent, readString());
+    readAttributes(privilege);
+    final int grantCount = readVarint();
+    for (int i = 0; i < grantCount; i++) {
+      privilege.addGrant(readString(), readString(), readBoolean());
+    }
+    return privilege;
+  }
+
+  private ProductVersion readProductVersion() throws IOException {
+    return new BaseProductVersion(readString(), readString());
+  }
+
+  private void readRoutine(final MutableRoutine routine) throws IOException {
+    readAttributes(routine);
+    routine.appendDefinition(readString());
+    routine.setRoutineBodyType(readEnum(RoutineBodyType.class));
+    if (routine instanceof MutableProcedure) {
+      ((MutableProcedure) routine).setReturnType(readEnum(ProcedureReturnType.class));
+    } else {
+      ((MutableFunction) routine).setReturnType(readEnum(FunctionReturnType.class));
+    }
+
+    final int parameterCount = readVarint();
+    for (int i = 0; i < parameterCount; i++) {
+      final String parameterName = readString();
+      final MutableRoutineParameter<?> parameter;
+      if (routine instanceof MutableProcedure) {
+        parameter = new MutableProcedureParameter((MutableProcedure) routine, parameterName);
+      } else {
+        parameter = new MutableFunctionParameter((MutableFunction) routine, parameterName);
+      }
+      readAttributes(parameter);
+      parameter.setColumnDataType(readColumnDataType());
+      parameter.setDecimalDigits(readSignedVarint());
+      parameter.setNullable(readBoolean());
+      parameter.setOrdinalPosition(readSignedVarint());
+      parameter.setSize(readSignedVarint());
+      parameter.setParameterMode(readEnum(ParameterModeType.class));
+      if (routine instanceof MutableProcedure) {
+        ((MutableProcedure) routine).addParameter((MutableProcedureParameter) parameter);
+      } else {
+        ((MutableFunction) routine).addParameter((MutableFunctionParameter) parameter);
+      }
+    }
+  }
+
+  /** Reads the routines directory, and then the records of the routines that are included. */
+  private void readRoutines(final MutableCatalog catalog, final SchemaCrawlerOptions options)
+      throws IOException {
+    final Predicate<Routine> routineFilter;
+    if (options != null) {
+      final LimitOptions limitOptions = options.getLimitOptions();
+      routineFilter =
+          new RoutineTypesFilter(limitOptions)
+              .and(new DatabaseObjectFilter<>(limitOptions, ruleForRoutineInclusion));
+    } else {
+      routineFilter = routine -> true;
+    }
+
+    seek(ROUTINES_SECTION);
+    final int routineCount = readVarint();
+    routines = new MutableRoutine[routineCount];
+    routineSchemas = new Schema[routineCount];
+    routineNames = new String[routineCount];
+    final long[] routineOffsets = new long[routineCount];
+    for (int i = 0; i < routineCount; i++) {
+      final int routineKind = readVarint();
+      routineSchemas[i] = readSchema();
+      routineNames[i] = readString();
+      final String specificName = readString();
+      routineOffsets[i] = checkedOffset(readVarlong());
+
+      final MutableRoutine routine;
+      if (routineKind == PROCEDURE) {
+        routine = new MutableProcedure(routineSchemas[i], routineNames[i], specificName);
+      } else {
+        routine = new MutableFunction(routineSchemas[i], routineNames[i], specificName);
+      }
+      if (routineFilter.test(routine)) {
+        routines[i] = routine;
+      }
+    }
+
+    for (int i = 0; i < routineCount; i++) {
+      if (routines[i] != null) {
+        buffer.position(routineOffsets[i]);
+        readRoutine(routines[i]);
+        catalog.addRoutine(routines[i]);
+      }
+    }
+  }
+
+  private SchemaReference readSchema() throws IOException {
+    final String catalogName = readString();
+    final String schemaName = readString();
+    final List<String> key = Arrays.asList(catalogName, schemaName);
+    SchemaReference schema = schemas.get(key);
+    if (schema == null) {
+      schema = new SchemaReference(catalogName, schemaName);
+      schemas.put(key, schema);
+    }
+    return schema;
+  }
+
+  private int readSignedVarint() throws IOException {
+    return (int) readSignedVarlong();
+  }
+
+  private long readSignedVarlong() throws IOException {
+    final long value = readVarlong();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private String readString() throws IOException {
+    final int id = readVarint();
+    if (id == 0) {
+      return null;
+    }
+    if (id > strings.length) {
+      throw new IOException(String.format("Bad string reference <%d>", id));
+    }
+    String string = strings[id - 1];
+    if (string == null) {
+      final long position = buffer.position();
+      buffer.position(stringOffsets[id - 1]);
+      final int length = readVarint();
+      final byte[] bytes = new byte[length];
+      buffer.get(bytes);
+      buffer.position(position);
+      string = new String(bytes, UTF_8);
+      strings[id - 1] = string;
+    }
+    return string;
+  }
+
+  private List<String> readStrings() throws IOException {
+    final int count = readVarint();
+    final List<String> values = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      values.add(readString());
+    }
+    return values;
+  }
+
+  private void readStringTable() throws IOException {
+    seek(STRINGS_SECTION);
+    final int stringCount = readVarint();
+    stringOffsets = new long[stringCount];
+    strings = new String[stringCount];
+    for (int i = 0; i < stringCount; i++) {
+      stringOffsets[i] = buffer.position();
+      final int length = readVarint();
+      buffer.position(buffer.position() + length);
+    }
+  }
+
+  private DatabaseObject readSynonymReferencedObject() throws IOException {
+    final int objectKind = readVarint();
+    switch (objectKind) {
+      case TABLE_OBJECT:
+        final int tableId = readVarint();
+        if (tables[tableId] != null) {
+          return tables[tableId];
+        }
+        return new SynonymRetriever.UnknownDatabaseObject(
+            tableSchemas[tableId], tableNames[tableId]);
+      case ROUTINE_OBJECT:
+        final int routineId = readVarint();
+        if (routines[routineId] != null) {
+          return routines[routineId];
+        }
+        return new SynonymRetriever.UnknownDatabaseObject(
+            routineSchemas[routineId], routineNames[routineId]);
+      case UNKNOWN_OBJECT:
+        return new SynonymRetriever.UnknownDatabaseObject(readSchema(), readString());
+      default:
+        throw new IOException(String.format("Unknown synonym object type <%d>", objectKind));
+    }
+  }
+
+  private void readTable(final MutableTable table) throws IOException {
+    readAttributes(table);
+    table.appendDefinition(readString());
+
+    if (table instanceof MutableView) {
+      final MutableView view = (MutableView) table;
+      view.setCheckOption(readEnum(CheckOptionType.class));
+      view.setUpdatable(readBoolean());
+      final int tableUsageCount = readVarint();
+      for (int i = 0; i < tableUsageCount; i++) {
+        // As when crawling, only usage of tables in the catalog is recorded
+        final int tableId = readVarint();
+        if (tables[tableId] != null) {
+          view.addTableUsage(tables[tableId]);
+        }
+      }
+    }
+
+    final int columnCount = readVarint();
+    for (int i = 0; i < columnCount; i++) {
+      table.addColumn(readColumn(table));
+    }
+    final int hiddenColumnCount = readVarint();
+    for (int i = 0; i < hiddenColumnCount; i++) {
+      table.addHiddenColumn(readColumn(table));
+    }
+
+    if (readBoolean()) {
+      final MutablePrimaryKey primaryKey = MutablePrimaryKey.newPrimaryKey(table, readString());
+      readKey(table, primaryKey);
+      table.setPrimaryKey(primaryKey);
+    }
+    final int alternateKeyCount = readVarint();
+    for (int i = 0; i < alternateKeyCount; i++) {
+      final MutablePrimaryKey alternateKey = MutablePrimaryKey.newAlternateKey(table, readString());
+      readKey(table, alternateKey);
+      table.addAlternateKey(alternateKey);
+    }
+
+    readIndexes(table);
+
+    final int tableConstraintCount = readVarint();
+    for (int i = 0; i < tableConstraintCount; i++) {
+      final int constraintKind = readVarint();
+      switch (constraintKind) {
+        case PRIMARY_KEY_CONSTRAINT:
+          table.addTableConstraint(table.getPrimaryKey());
+          break;
+        case FOREIGN_KEY_CONSTRAINT:
+          // Foreign keys are read after all tables
+          foreignKeyTables.add(table);
+          foreignKeyIds.add(readVarint());
+          break;
+        case TABLE_CONSTRAINT:
+          final TableConstraintType tableConstraintType = readEnum(TableConstraintType.class);
+          final boolean deferrable = readBoolean();
+          final boolean initiallyDeferred = readBoolean();
+          final MutableTableConstraint tableConstraint =
+              new MutableTableConstraint(table, readString());
+          tableConstraint.setTableConstraintType(tableConstraintType);
+          tableConstraint.setDeferrable(deferrable);
+          tableConstraint.setInitiallyDeferred(initiallyDeferred);
+          readKey(table, tableConstraint);
+          table.addTableConstraint(tableConstraint);
+          break;
+        default:
+          throw new IOException(
+              String.format("Unknown table constraint type <%d>", constraintKind));
+      }
+    }
+
+    final int privilegeCount = readVarint();
+    for (int i = 0; i < privilegeCount; i++) {
+      table.addPrivilege(readPrivilege(new TablePointer(table)));
+    }
+
+    final int triggerCount = readVarint();
+    for (int i = 0; i < triggerCount; i++) {
+      final MutableTrigger trigger = new MutableTrigger(table, readString());
+      readAttributes(trigger);
+      trigger.appendActionCondition(readString());
+      trigger.appendActionStatement(readString());
+      trigger.setActionOrder(readSignedVarint());
+      trigger.setActionOrientation(readEnum(ActionOrientationType.class));
+      trigger.setConditionTiming(readEnum(ConditionTimingType.class));
+      trigger.setEventManipulationType(readEnum(EventManipulationType.class));
+      table.addTrigger(trigger);
+    }
+  }
+
+  /**
+   * Reads a table reference record. Tables that are in the catalog, but that were not loaded, are
+   * referenced as partial tables.
+   */
+  private AbstractTableReference readTableReference(final int tableReferenceKind)
+      throws IOException {
+    final String name = readString();
+
+    AbstractTableReference tableReference = null;
+    final int columnReferenceCount = readVarint();
+    for (int j = 0; j < columnReferenceCount; j++) {
+      final int keySequence = readSignedVarint();
+      final Column fkColumn = readColumnReference();
+      final Column pkColumn = readColumnReference();
+      if (fkColumn == null || pkColumn == null) {
+        continue;
+      }
+      final ColumnReference columnReference =
+          new ImmutableColumnReference(keySequence, fkColumn, pkColumn);
+      if (tableReference != null) {
+        tableReference.addColumnReference(columnReference);
+      } else if (tableReferenceKind == FOREIGN_KEY) {
+        tableReference = new MutableForeignKey(name, columnReference);
+      } else {
+        tableReference = new MutableWeakAssociation(name, columnReference);
+      }
+    }
+    if (tableReference == null) {
+      throw new IOException(String.format("No column references for <%s>", name));
+    }
+    readAttributes(tableReference);
+
+    if (tableReference instanceof MutableForeignKey) {
+      final MutableForeignKey foreignKey = (MutableForeignKey) tableReference;
+      foreignKey.appendDefinition(readString());
+      foreignKey.setDeferrability(readEnum(ForeignKeyDeferrability.class));
+      foreignKey.setDeleteRule(readEnum(ForeignKeyUpdateRule.class));
+      foreignKey.setUpdateRule(readEnum(ForeignKeyUpdateRule.class));
+
+      for (final ColumnReference columnReference : foreignKey) {
+        final Column fkColumn = columnReference.getForeignKeyColumn();
+        if (fkColumn instanceof ColumnPartial) {
+          ((ColumnPartial) fkColumn).setReferencedColumn(columnReference.getPrimaryKeyColumn());
+        }
+      }
+      for (final Table table :
+          Arrays.asList(foreignKey.getForeignKeyTable(), foreignKey.getPrimaryKeyTable())) {
+        if (table instanceof MutableTable) {
+          ((MutableTable) table).addForeignKey(foreignKey);
+        } else if (table instanceof TablePartial) {
+          ((TablePartial) table).addForeignKey(foreignKey);
+        }
+      }
+    } else {
+      final MutableWeakAssociation weakAssociation = (MutableWeakAssociation) tableReference;
+      for (final Table table :
+          Arrays.asList(
+              weakAssociation.getForeignKeyTable(), weakAssociation.getPrimaryKeyTable())) {
+        if (table instanceof MutableTable) {
+          ((MutableTable) table).addWeakAssociation(weakAssociation);
+        }
+      }
+    }
+    return tableReference;
+  }
+
+  /**
+   * Reads the tables directory and the table references directory, and then the records of the
+   * tables that are included, along with the table references that involve them.
+   */
+  private void readTables(final MutableCatalog catalog, final SchemaCrawlerOptions options)
+      throws IOException {
+
+    seek(TABLES_SECTION);
+    final int tableCount = readVarint();
+    tables = new MutableTable[tableCount];
+    tableSchemas = new Schema[tableCount];
+    tableNames = new String[tableCount];
+    final int[] tableKinds = new int[tableCount];
+    final String[] tableTypes = new String[tableCount];
+    final int[] sortIndexes = new int[tableCount];
+    final long[] tableOffsets = new long[tableCount];
+    final boolean[] includedTables = new boolean[tableCount];
+    final Predicate<DatabaseObject> tableFilter;
+    final TableTypes tableTypesFilter;
+    if (options != null) {
+      final LimitOptions limitOptions = options.getLimitOptions();
+      tableFilter = new DatabaseObjectFilter<>(limitOptions, ruleForTableInclusion);
+      tableTypesFilter = limitOptions.getTableTypes();
+    } else {
+      tableFilter = databaseObject -> true;
+      tableTypesFilter = TableTypes.includeAll();
+    }
+    for (int i = 0; i < tableCount; i++) {
+      tableKinds[i] = readVarint();
+      tableSchemas[i] = readSchema();
+      tableNames[i] = readString();
+      tableTypes[i] = readString();
+      sortIndexes[i] = readSignedVarint();
+      tableOffsets[i] = checkedOffset(readVarlong());
+      // Only the names are needed to apply inclusion rules, so test a partial table
+      includedTables[i] =
+          tableTypesFilter.lookupTableType(tableTypes[i]).isPresent()
+              && tableFilter.test(new TablePartial(tableSchemas[i], tableNames[i]));
+    }
+
+    seek(TABLE_REFERENCES_SECTION);
+    final int tableReferenceCount = readVarint();
+    final int[] tableReferenceKinds = new int[tableReferenceCount];
+    final int[] fkTableIds = new int[tableReferenceCount];
+    final int[] pkTableIds = new int[tableReferenceCount];
+    final long[] tableReferenceOffsets = new long[tableReferenceCount];
+    for (int i = 0; i < tableReferenceCount; i++) {
+      tableReferenceKinds[i] = readVarint();
+      fkTableIds[i] = readVarint();
+      pkTableIds[i] = readVarint();
+      tableReferenceOffsets[i] = checkedOffset(readVarlong());
+    }
+
+    if (options != null) {
+      final FilterOptions filterOptions = options.getFilterOptions();
+      final boolean[] parentTables =
+          includeRelatedTables(
+              includedTables,
+              filterOptions.getParentTableFilterDepth(),
+              tableReferenceKinds,
+              fkTableIds,
+              pkTableIds);
+      final boolean[] childTables =
+          includeRelatedTables(
+              includedTables,
+              filterOptions.getChildTableFilterDepth(),
+              tableReferenceKinds,
+              pkTableIds,
+              fkTableIds);
+      for (int i = 0; i < tableCount; i++) {
+        includedTables[i] = parentTables[i] || childTables[i];
+      }
+    }
+
+    for (int i = 0; i < tableCount; i++) {
+      if (!includedTables[i]) {
+        continue;
+      }
+      final MutableTable table;
+      if (tableKinds[i] == VIEW) {
+        table = new MutableView(tableSchemas[i], tableNames[i]);
+      } else {
+        table = new MutableTable(tableSchemas[i], tableNames[i]);
+      }
+      table.setTableType(new TableType(tableTypes[i]));
+      // Set the sort index before adding the table, since tables are sorted by it
+      table.setSortIndex(sortIndexes[i]);
+      tables[i] = table;
+      catalog.addTable(table);
+    }
+    for (int i = 0; i < tableCount; i++) {
+      if (tables[i] != null) {
+        buffer.position(tableOffsets[i]);
+        readTable(tables[i]);
+      }
+    }
+    resolveReferencedColumns();
+
+    tableReferences = new AbstractTableReference[tableReferenceCount];
+    for (int i = 0; i < tableReferenceCount; i++) {
+      // Table references between tables that were not loaded are not needed
+      if (!isLoadedTable(fkTableIds[i]) && !isLoadedTable(pkTableIds[i])) {
+        continue;
+      }
+      buffer.position(tableReferenceOffsets[i]);
+      tableReferences[i] = readTableReference(tableReferenceKinds[i]);
+    }
+    for (int i = 0; i < foreignKeyTables.size(); i++) {
+      final AbstractTableReference foreignKey = tableReferences[foreignKeyIds.get(i)];
+      if (foreignKey != null) {
+        foreignKeyTables.get(i).addTableConstraint(foreignKey);
+      }
+    }
+  }
+
+  private Object readValue() throws IOException {
+    final int valueType = readVarint();
+    switch (valueType) {
+      case NULL_VALUE:
+        return null;
+      case STRING_VALUE:
+        return readString();
+      case TRUE_VALUE:
+        return Boolean.TRUE;
+      case FALSE_VALUE:
+        return Boolean.FALSE;
+      case INTEGER_VALUE:
+        return readSignedVarint();
+      case LONG_VALUE:
+        return readSignedVarlong();
+      case SHORT_VALUE:
+        return (short) readSignedVarint();
+      case BYTE_VALUE:
+        return (byte) readSignedVarint();
+      case DOUBLE_VALUE:
+        return Double.longBitsToDouble(buffer.getLong());
+      case FLOAT_VALUE:
+        return Float.intBitsToFloat(buffer.getInt());
+      case BIG_INTEGER_VALUE:
+        return new BigInteger(readString());
+      case BIG_DECIMAL_VALUE:
+        return new BigDecimal(readString());
+      case CHARACTER_VALUE:
+        return (char) readVarint();
+      case STRING_ARRAY_VALUE:
+        final List<String> values = readStrings();
+        return values.toArray(new String[values.size()]);
+      case LIST_VALUE:
+        final int count = readVarint();
+        final List<Object> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+          list.add(readValue());
+        }
+        return list;
+      case SERIALIZED_VALUE:
+        final byte[] bytes = new byte[readVarint()];
+        buffer.get(bytes);
+        try (final ObjectInputStream in =
+            new SafeObjectInputStream(new ByteArrayInputStream(bytes))) {
+          return in.readObject();
+        } catch (final ClassNotFoundException e) {
+          throw new IOException("Cannot deserialize value", e);
+        }
+      default:
+        throw new IOException(String.format("Unknown value type <%d>", valueType));
+    }
+  }
+
+  private int readVarint() throws IOException {
+    final long value = readVarlong();
+    if (value > Integer.MAX_VALUE) {
+      throw new IOException(String.format("Value <%d> is too large", value));
+    }
+    return (int) value;
+  }
+
+  private long readVarlong() throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift = shift + 7) {
+      final byte b = buffer.get();
+      value = value | (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed variable-length integer");
+  }
+
+  private void resolveReferencedColumns() throws IOException {
+    for (int i = 0; i < referencingColumns.size(); i++) {
+      buffer.position(referencedColumnPositions.get(i));
+      referencingColumns.get(i).setReferencedColumn(readColumnReference());
+    }
+  }
+
+  private void seek(final int section) {
+    buffer.position(sectionOffsets[section]);
+  }
+
+  /**
+   * Skips over a column reference.
+   *
+   * @return True if there was a reference to a column
+   */
+  private boolean skipColumnReference() throws IOException {
+    final int tableKind = readVarint();
+    switch (tableKind) {
+      case NO_TABLE:
+        return false;
+      case CATALOG_TABLE:
+        readVarint();
+        readVarint();
+        return true;
+      case PARTIAL_TABLE:
+        // Schema, table and column names
+        for (int i = 0; i < 4; i++) {
+          readVarint();
+        }
+        return true;
+      default:
+        throw new IOException(String.format("Unknown table reference type <%d>", tableKind));
+    }
+  }
+}
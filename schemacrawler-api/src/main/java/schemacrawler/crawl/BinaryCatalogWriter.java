@@ -0,0 +1,843 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.BinaryCatalogFormat.BIG_DECIMAL_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.BIG_INTEGER_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.BYTE_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.CATALOG_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.CATALOG_TABLE;
+import static schemacrawler.crawl.BinaryCatalogFormat.CHARACTER_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.COLUMN_DATA_TYPES_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.DOUBLE_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.FALSE_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.FLOAT_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.FOREIGN_KEY;
+import static schemacrawler.crawl.BinaryCatalogFormat.FOREIGN_KEY_CONSTRAINT;
+import static schemacrawler.crawl.BinaryCatalogFormat.FUNCTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.INTEGER_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.LIST_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.LONG_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.MAGIC;
+import static schemacrawler.crawl.BinaryCatalogFormat.NOT_IN_CATALOG;
+import static schemacrawler.crawl.BinaryCatalogFormat.NO_TABLE;
+import static schemacrawler.crawl.BinaryCatalogFormat.NULL_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.PARTIAL_TABLE;
+import static schemacrawler.crawl.BinaryCatalogFormat.PRIMARY_KEY_CONSTRAINT;
+import static schemacrawler.crawl.BinaryCatalogFormat.PROCEDURE;
+import static schemacrawler.crawl.BinaryCatalogFormat.ROUTINES_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.ROUTINE_OBJECT;
+import static schemacrawler.crawl.BinaryCatalogFormat.SCHEMAS_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.SECTION_COUNT;
+import static schemacrawler.crawl.BinaryCatalogFormat.SEQUENCES_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.SERIALIZED_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.SHORT_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.STRINGS_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.STRING_ARRAY_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.STRING_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.SYNONYMS_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.TABLE;
+import static schemacrawler.crawl.BinaryCatalogFormat.TABLES_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.TABLE_CONSTRAINT;
+import static schemacrawler.crawl.BinaryCatalogFormat.TABLE_OBJECT;
+import static schemacrawler.crawl.BinaryCatalogFormat.TABLE_REFERENCES_SECTION;
+import static schemacrawler.crawl.BinaryCatalogFormat.TRUE_VALUE;
+import static schemacrawler.crawl.BinaryCatalogFormat.UNKNOWN_OBJECT;
+import static schemacrawler.crawl.BinaryCatalogFormat.VERSION;
+import static schemacrawler.crawl.BinaryCatalogFormat.VIEW;
+import static schemacrawler.crawl.BinaryCatalogFormat.WEAK_ASSOCIATION;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+
+import schemacrawler.ProductVersion;
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.DatabaseProperty;
+import schemacrawler.schema.DatabaseUser;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Grant;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.JdbcDriverProperty;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Procedure;
+import schemacrawler.schema.Property;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.TableReference;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.View;
+import schemacrawler.schema.WeakAssociation;
+
+/**
+ * Writes a catalog in the SchemaCrawler binary catalog format, which can be read back with {@link
+ * BinaryCatalogReader}. Tables that are referenced by foreign keys, weak associations or columns,
+ * but that are not part of the catalog, are written as references to partial tables.
+ */
+public final class BinaryCatalogWriter {
+
+  private final Catalog catalog;
+  private final Map<String, Integer> stringIds;
+  private final List<String> strings;
+  private final Map<Table, Integer> tableIds;
+  private final List<Table> tables;
+  private final Map<ColumnDataType, Integer> columnDataTypeIds;
+  private final List<ColumnDataType> columnDataTypes;
+  private final Map<TableReference, Integer> tableReferenceIds;
+  private final List<TableReference> tableReferences;
+  private final Map<Routine, Integer> routineIds;
+  private final List<Routine> routines;
+  private OutputStream out;
+  private long position;
+
+  public BinaryCatalogWriter(final Catalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+
+    stringIds = new HashMap<>();
+    strings = new ArrayList<>();
+
+    tables = new ArrayList<>(catalog.getTables());
+    tableIds = new IdentityHashMap<>();
+    for (final Table table : tables) {
+      tableIds.put(table, tableIds.size());
+    }
+
+    routines = new ArrayList<>(catalog.getRoutines());
+    routineIds = new IdentityHashMap<>();
+    for (final Routine routine : routines) {
+      routineIds.put(routine, routineIds.size());
+    }
+
+    columnDataTypes = new ArrayList<>();
+    columnDataTypeIds = new IdentityHashMap<>();
+    for (final ColumnDataType columnDataType : catalog.getColumnDataTypes()) {
+      registerColumnDataType(columnDataType);
+    }
+
+    tableReferences = new ArrayList<>();
+    tableReferenceIds = new IdentityHashMap<>();
+    for (final Table table : tables) {
+      for (final Column column : table.getColumns()) {
+        registerColumnDataType(column.getColumnDataType());
+      }
+      for (final Column column : table.getHiddenColumns()) {
+        registerColumnDataType(column.getColumnDataType());
+      }
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        registerTableReference(foreignKey);
+      }
+      for (final WeakAssociation weakAssociation : table.getWeakAssociations()) {
+        registerTableReference(weakAssociation);
+      }
+    }
+    for (final Routine routine : routines) {
+      final List<RoutineParameter<? extends Routine>> parameters = routine.getParameters();
+      for (final RoutineParameter<? extends Routine> parameter : parameters) {
+        registerColumnDataType(parameter.getColumnDataType());
+      }
+    }
+  }
+
+  /**
+   * Writes the catalog to the output stream. The output stream is flushed, but not closed.
+   *
+   * @param outputStream Output stream to write to
+   * @throws IOException On an exception writing to the output stream
+   */
+  public void write(final OutputStream outputStream) throws IOException {
+    requireNonNull(outputStream, "No output stream provided");
+    out = new BufferedOutputStream(outputStream, 64 * 1024);
+    position = 0;
+
+    final long[] sectionOffsets = new long[SECTION_COUNT];
+
+    writeFixedInt(MAGIC);
+    writeFixedInt(VERSION);
+
+    sectionOffsets[CATALOG_SECTION] = position;
+    writeCatalogInfo();
+
+    sectionOffsets[SCHEMAS_SECTION] = position;
+    final Collection<Schema> schemas = catalog.getSchemas();
+    writeVarint(schemas.size());
+    for (final Schema schema : schemas) {
+      writeSchema(schema);
+      writeAttributes(schema);
+    }
+
+    sectionOffsets[COLUMN_DATA_TYPES_SECTION] = position;
+    writeColumnDataTypes();
+
+    // Records come before the directories, which have their offsets
+    final long[] tableOffsets = new long[tables.size()];
+    for (int i = 0; i < tables.size(); i++) {
+      tableOffsets[i] = position;
+      writeTable(tables.get(i));
+    }
+    sectionOffsets[TABLES_SECTION] = position;
+    writeVarint(tables.size());
+    for (int i = 0; i < tables.size(); i++) {
+      final Table table = tables.get(i);
+      writeVarint(table instanceof View ? VIEW : TABLE);
+      writeSchema(table.getSchema());
+      writeString(table.getName());
+      writeString(table.getTableType().getTableType());
+      writeSignedVarint(table instanceof MutableTable ? ((MutableTable) table).getSortIndex() : 0);
+      writeVarint(tableOffsets[i]);
+    }
+
+    final long[] tableReferenceOffsets = new long[tableReferences.size()];
+    for (int i = 0; i < tableReferences.size(); i++) {
+      tableReferenceOffsets[i] = position;
+      writeTableReference(tableReferences.get(i));
+    }
+    sectionOffsets[TABLE_REFERENCES_SECTION] = position;
+    writeVarint(tableReferences.size());
+    for (int i = 0; i < tableReferences.size(); i++) {
+      final TableReference tableReference = tableReferences.get(i);
+      writeVarint(tableReference instanceof ForeignKey ? FOREIGN_KEY : WEAK_ASSOCIATION);
+      writeDirectoryTableId(tableReference.getForeignKeyTable());
+      writeDirectoryTableId(tableReference.getPrimaryKeyTable());
+      writeVarint(tableReferenceOffsets[i]);
+    }
+
+    final long[] routineOffsets = new long[routines.size()];
+    for (int i = 0; i < routines.size(); i++) {
+      routineOffsets[i] = position;
+      writeRoutine(routines.get(i));
+    }
+    sectionOffsets[ROUTINES_SECTION] = position;
+    writeVarint(routines.size());
+    for (int i = 0; i < routines.size(); i++) {
+      final Routine routine = routines.get(i);
+      writeVarint(routine instanceof Procedure ? PROCEDURE : FUNCTION);
+      writeSchema(routine.getSchema());
+      writeString(routine.getName());
+      writeString(routine.getSpecificName());
+      writeVarint(routineOffsets[i]);
+    }
+
+    sectionOffsets[SEQUENCES_SECTION] = position;
+    final Collection<Sequence> sequences = catalog.getSequences();
+    writeVarint(sequences.size());
+    for (final Sequence sequence : sequences) {
+      writeSchema(sequence.getSchema());
+      writeString(sequence.getName());
+      writeAttributes(sequence);
+      writeBoolean(sequence.isCycle());
+      writeSignedVarint(sequence.getIncrement());
+      writeBigInteger(sequence.getStartValue());
+      writeBigInteger(sequence.getMaximumValue());
+      writeBigInteger(sequence.getMinimumValue());
+    }
+
+    sectionOffsets[SYNONYMS_SECTION] = position;
+    final Collection<Synonym> synonyms = catalog.getSynonyms();
+    writeVarint(synonyms.size());
+    for (final Synonym synonym : synonyms) {
+      writeSynonym(synonym);
+    }
+
+    // The string table is written last, since strings are collected while writing
+    sectionOffsets[STRINGS_SECTION] = position;
+    writeVarint(strings.size());
+    for (final String string : strings) {
+      final byte[] bytes = string.getBytes(UTF_8);
+      writeVarint(bytes.length);
+      writeBytes(bytes);
+    }
+
+    for (final long sectionOffset : sectionOffsets) {
+      writeFixedLong(sectionOffset);
+    }
+    writeFixedInt(SECTION_COUNT);
+    writeFixedInt(MAGIC);
+
+    out.flush();
+  }
+
+  private void registerColumnDataType(final ColumnDataType columnDataType) {
+    if (columnDataType == null || columnDataTypeIds.containsKey(columnDataType)) {
+      return;
+    }
+    columnDataTypeIds.put(columnDataType, columnDataTypes.size());
+    columnDataTypes.add(columnDataType);
+    registerColumnDataType(columnDataType.getBaseType());
+  }
+
+  private void registerTableReference(final TableReference tableReference) {
+    if (tableReference == null || tableReferenceIds.containsKey(tableReference)) {
+      return;
+    }
+    tableReferenceIds.put(tableReference, tableReferences.size());
+    tableReferences.add(tableReference);
+  }
+
+  private void writeAttributes(final AttributedObject attributedObject) throws IOException {
+    final Map<String, Object> attributes = attributedObject.getAttributes();
+    writeVarint(attributes.size());
+    for (final Entry<String, Object> attribute : attributes.entrySet()) {
+      writeString(attribute.getKey());
+      writeValue(attribute.getValue());
+    }
+  }
+
+  private void writeBigInteger(final BigInteger value) throws IOException {
+    writeString(value == null ? null : value.toString());
+  }
+
+  private void writeBoolean(final boolean value) throws IOException {
+    writeByte(value ? 1 : 0);
+  }
+
+  private void writeByte(final int value) throws IOException {
+    out.write(value);
+    position = position + 1;
+  }
+
+  private void writeBytes(final byte[] bytes) throws IOException {
+    out.write(bytes);
+    position = position + bytes.length;
+  }
+
+  private void writeCatalogInfo() throws IOException {
+    writeString(catalog.getName());
+
+    final DatabaseInfo databaseInfo = catalog.getDatabaseInfo();
+    writeString(databaseInfo.getProductName());
+    writeString(databaseInfo.getProductVersion());
+    writeString(databaseInfo.getUserName());
+    final Collection<Property> serverInfo = databaseInfo.getServerInfo();
+    writeVarint(serverInfo.size());
+    for (final Property property : serverInfo) {
+      writeString(property.getName());
+      final Object value = property.getValue();
+      writeString(value == null ? null : String.valueOf(value));
+      writeString(property.getDescription());
+    }
+    final Collection<DatabaseProperty> databaseProperties = databaseInfo.getProperties();
+    writeVarint(databaseProperties.size());
+    for (final DatabaseProperty property : databaseProperties) {
+      writeString(property.getName());
+      writeValue(property.getValue());
+    }
+
+    final JdbcDriverInfo jdbcDriverInfo = catalog.getJdbcDriverInfo();
+    writeString(jdbcDriverInfo.getProductName());
+    writeString(jdbcDriverInfo.getDriverClassName());
+    writeString(jdbcDriverInfo.getProductVersion());
+    writeSignedVarint(jdbcDriverInfo.getDriverMajorVersion());
+    writeSignedVarint(jdbcDriverInfo.getDriverMinorVersion());
+    writeSignedVarint(jdbcDriverInfo.getJdbcMajorVersion());
+    writeSignedVarint(jdbcDriverInfo.getJdbcMinorVersion());
+    writeBoolean(jdbcDriverInfo.isJdbcCompliant());
+    writeString(jdbcDriverInfo.getConnectionUrl());
+    final Collection<JdbcDriverProperty> driverProperties = jdbcDriverInfo.getDriverProperties();
+    writeVarint(driverProperties.size());
+    for (final JdbcDriverProperty property : driverProperties) {
+      writeString(property.getName());
+      writeString(property.getValue());
+      writeString(property.getDescription());
+      writeBoolean(property.isRequired());
+      writeStrings(property.getChoices());
+    }
+
+    final CrawlInfo crawlInfo = catalog.getCrawlInfo();
+    writeProductVersion(crawlInfo.getSchemaCrawlerVersion());
+    writeProductVersion(crawlInfo.getJvmVersion());
+    writeProductVersion(crawlInfo.getOperatingSystemVersion());
+    writeProductVersion(crawlInfo.getDatabaseVersion());
+    writeProductVersion(crawlInfo.getJdbcDriverVersion());
+    writeSignedVarint(crawlInfo.getCrawlTimestampInstant().getEpochSecond());
+    writeVarint(crawlInfo.getCrawlTimestampInstant().getNano());
+    final UUID runId = UUID.fromString(crawlInfo.getRunId());
+    writeFixedLong(runId.getMostSignificantBits());
+    writeFixedLong(runId.getLeastSignificantBits());
+
+    writeAttributes(catalog);
+
+    final Collection<DatabaseUser> databaseUsers = catalog.getDatabaseUsers();
+    writeVarint(databaseUsers.size());
+    for (final DatabaseUser databaseUser : databaseUsers) {
+      writeString(databaseUser.getName());
+      writeAttributes(databaseUser);
+    }
+  }
+
+  private void writeColumn(final Column column) throws IOException {
+    writeString(column.getName());
+    writeAttributes(column);
+    writeColumnDataTypeId(column.getColumnDataType());
+    writeSignedVarint(column.getDecimalDigits());
+    writeBoolean(column.isNullable());
+    writeSignedVarint(column.getOrdinalPosition());
+    writeSignedVarint(column.getSize());
+    writeString(column.getDefaultValue());
+    int flags = 0;
+    flags = flags | (column.isAutoIncremented() ? 1 : 0);
+    flags = flags | (column.isGenerated() ? 1 << 1 : 0);
+    flags = flags | (column.isHidden() ? 1 << 2 : 0);
+    flags = flags | (column.isPartOfIndex() ? 1 << 3 : 0);
+    flags = flags | (column.isPartOfPrimaryKey() ? 1 << 4 : 0);
+    flags = flags | (column.isPartOfUniqueIndex() ? 1 << 5 : 0);
+    writeByte(flags);
+    writeColumnReference(column.getReferencedColumn());
+    writePrivileges(column.getPrivileges());
+  }
+
+  private void writeColumnDataTypeId(final ColumnDataType columnDataType) throws IOException {
+    final Integer id = columnDataType == null ? null : columnDataTypeIds.get(columnDataType);
+    writeVarint(id == null ? 0 : id + 1);
+  }
+
+  private void writeColumnDataTypes() throws IOException {
+    final Map<ColumnDataType, Boolean> catalogColumnDataTypes = new IdentityHashMap<>();
+    for (final ColumnDataType columnDataType : catalog.getColumnDataTypes()) {
+      catalogColumnDataTypes.put(columnDataType, Boolean.TRUE);
+    }
+
+    writeVarint(columnDataTypes.size());
+    for (final ColumnDataType columnDataType : columnDataTypes) {
+      writeSchema(columnDataType.getSchema());
+      writeString(columnDataType.getName());
+      writeEnum(columnDataType.getType());
+      writeBoolean(catalogColumnDataTypes.containsKey(columnDataType));
+      writeAttributes(columnDataType);
+      writeColumnDataTypeId(columnDataType.getBaseType());
+      writeBoolean(columnDataType.isAutoIncrementable());
+      writeBoolean(columnDataType.isCaseSensitive());
+      writeString(columnDataType.getCreateParameters());
+      writeBoolean(columnDataType.isFixedPrecisionScale());
+      writeSignedVarint(columnDataType.getJavaSqlType().getVendorTypeNumber());
+      final Class<?> typeMappedClass = columnDataType.getTypeMappedClass();
+      writeString(typeMappedClass == null ? null : typeMappedClass.getName());
+      writeString(columnDataType.getLiteralPrefix());
+      writeString(columnDataType.getLiteralSuffix());
+      writeString(columnDataType.getLocalTypeName());
+      writeSignedVarint(columnDataType.getMaximumScale());
+      writeSignedVarint(columnDataType.getMinimumScale());
+      writeBoolean(columnDataType.isNullable());
+      writeSignedVarint(columnDataType.getNumPrecisionRadix());
+      writeSignedVarint(columnDataType.getPrecision());
+      writeEnum(columnDataType.getSearchable());
+      writeBoolean(columnDataType.isUnsigned());
+      writeStrings(columnDataType.getEnumValues());
+    }
+  }
+
+  /** Writes a reference to a column as a reference to its table, and the column name. */
+  private void writeColumnReference(final Column column) throws IOException {
+    if (column == null) {
+      writeVarint(NO_TABLE);
+      return;
+    }
+    writeTableId(column.getParent());
+    writeString(column.getName());
+  }
+
+  /** Writes the id of a table in the catalog, offset by one, or zero for any other table. */
+  private void writeDirectoryTableId(final Table table) throws IOException {
+    final Integer tableId = tableIds.get(table);
+    writeVarint(tableId == null ? NOT_IN_CATALOG : tableId + 1);
+  }
+
+  private void writeEnum(final Enum<?> value) throws IOException {
+    writeString(value == null ? null : value.name());
+  }
+
+  private void writeFixedInt(final int value) throws IOException {
+    out.write(value >>> 24);
+    out.write(value >>> 16);
+    out.write(value >>> 8);
+    out.write(value);
+    position = position + 4;
+  }
+
+  private void writeFixedLong(final long value) throws IOException {
+    writeFixedInt((int) (value >>> 32));
+    writeFixedInt((int) value);
+  }
+
+  private void writeIndex(final Index index) throws IOException {
+    writeString(index.getName());
+    writeAttributes(index);
+    writeString(index.hasDefinition() ? index.getDefinition() : null);
+    writeSignedVarint(index.getCardinality());
+    writeEnum(index.getIndexType());
+    writeBoolean(index.isUnique());
+    writeSignedVarint(index.getPages());
+    final List<IndexColumn> columns = index.getColumns();
+    writeVarint(columns.size());
+    for (final IndexColumn column : columns) {
+      writeString(column.getName());
+      writeSignedVarint(column.getIndexOrdinalPosition());
+      writeEnum(column.getSortSequence());
+    }
+  }
+
+  private void writeKey(final TableConstraint key) throws IOException {
+    writeString(key.getName());
+    writeAttributes(key);
+    writeString(key.hasDefinition() ? key.getDefinition() : null);
+    final List<TableConstraintColumn> columns = key.getConstrainedColumns();
+    writeVarint(columns.size());
+    for (final TableConstraintColumn column : columns) {
+      writeString(column.getName());
+      writeSignedVarint(column.getTableConstraintOrdinalPosition());
+    }
+  }
+
+  private <D extends DatabaseObject> void writePrivileges(
+      final Collection<Privilege<D>> privileges) throws IOException {
+    writeVarint(privileges.size());
+    for (final Privilege<D> privilege : privileges) {
+      writeString(privilege.getName());
+      writeAttributes(privilege);
+      final Collection<Grant<D>> grants = privilege.getGrants();
+      writeVarint(grants.size());
+      for (final Grant<D> grant : grants) {
+        writeString(grant.getGrantor());
+        writeString(grant.getGrantee());
+        writeBoolean(grant.isGrantable());
+      }
+    }
+  }
+
+  private void writeProductVersion(final ProductVersion productVersion) throws IOException {
+    writeString(productVersion.getProductName());
+    writeString(productVersion.getProductVersion());
+  }
+
+  private void writeRoutine(final Routine routine) throws IOException {
+    writeAttributes(routine);
+    writeString(routine.hasDefinition() ? routine.getDefinition() : null);
+    writeEnum(routine.getRoutineBodyType());
+    writeEnum((Enum<?>) routine.getReturnType());
+
+    final List<RoutineParameter<? extends Routine>> parameters = routine.getParameters();
+    writeVarint(parameters.size());
+    for (final RoutineParameter<? extends Routine> parameter : parameters) {
+      writeString(parameter.getName());
+      writeAttributes(parameter);
+      writeColumnDataTypeId(parameter.getColumnDataType());
+      writeSignedVarint(parameter.getDecimalDigits());
+      writeBoolean(parameter.isNullable());
+      writeSignedVarint(parameter.getOrdinalPosition());
+      writeSignedVarint(parameter.getSize());
+      writeEnum(parameter.getParameterMode());
+    }
+  }
+
+  /** Writes a reference to a schema as its catalog name and schema name. */
+  private void writeSchema(final Schema schema) throws IOException {
+    writeString(schema.getCatalogName());
+    writeString(schema.getName());
+  }
+
+  private void writeSignedVarint(final long value) throws IOException {
+    // Zig-zag encoding, so that small negative values take up few bytes
+    writeVarint((value << 1) ^ (value >> 63));
+  }
+
+  private void writeString(final String string) throws IOException {
+    if (string == null) {
+      writeVarint(0);
+      return;
+    }
+    Integer id = stringIds.get(string);
+    if (id == null) {
+      id = strings.size();
+      stringIds.put(string, id);
+      strings.add(string);
+    }
+    writeVarint(id + 1);
+  }
+
+  private void writeStrings(final Collection<String> values) throws IOException {
+    writeVarint(values.size());
+    for (final String value : values) {
+      writeString(value);
+    }
+  }
+
+  private void writeSynonym(final Synonym synonym) throws IOException {
+    writeSchema(synonym.getSchema());
+    writeString(synonym.getName());
+    writeAttributes(synonym);
+
+    final DatabaseObject referencedObject = synonym.getReferencedObject();
+    final Integer tableId = tableIds.get(referencedObject);
+    final Integer routineId = routineIds.get(referencedObject);
+    if (tableId != null) {
+      writeVarint(TABLE_OBJECT);
+      writeVarint(tableId);
+    } else if (routineId != null) {
+      writeVarint(ROUTINE_OBJECT);
+      writeVarint(routineId);
+    } else {
+      writeVarint(UNKNOWN_OBJECT);
+      writeSchema(referencedObject.getSchema());
+      writeString(referencedObject.getName());
+    }
+  }
+
+  private void writeTable(final Table table) throws IOException {
+    writeAttributes(table);
+    writeString(table.hasDefinition() ? table.getDefinition() : null);
+
+    if (table instanceof View) {
+      final View view = (View) table;
+      writeEnum(view.getCheckOption());
+      writeBoolean(view.isUpdatable());
+      final List<Integer> tableUsageIds = new ArrayList<>();
+      for (final Table usedTable : view.getTableUsage()) {
+        final Integer tableId = tableIds.get(usedTable);
+        if (tableId != null) {
+          tableUsageIds.add(tableId);
+        }
+      }
+      writeVarint(tableUsageIds.size());
+      for (final int tableId : tableUsageIds) {
+        writeVarint(tableId);
+      }
+    }
+
+    final List<Column> columns = table.getColumns();
+    writeVarint(columns.size());
+    for (final Column column : columns) {
+      writeColumn(column);
+    }
+    final Collection<Column> hiddenColumns = table.getHiddenColumns();
+    writeVarint(hiddenColumns.size());
+    for (final Column column : hiddenColumns) {
+      writeColumn(column);
+    }
+
+    final PrimaryKey primaryKey = table.getPrimaryKey();
+    writeBoolean(primaryKey != null);
+    if (primaryKey != null) {
+      writeKey(primaryKey);
+    }
+    final Collection<PrimaryKey> alternateKeys = table.getAlternateKeys();
+    writeVarint(alternateKeys.size());
+    for (final PrimaryKey alternateKey : alternateKeys) {
+      writeKey(alternateKey);
+    }
+
+    final Collection<Index> indexes = table.getIndexes();
+    writeVarint(indexes.size());
+    for (final Index index : indexes) {
+      writeIndex(index);
+    }
+
+    // Primary keys and foreign keys are written only once, and referenced from table constraints
+    final List<TableConstraint> tableConstraints = new ArrayList<>();
+    for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+      if (tableConstraint == primaryKey
+          || tableConstraint instanceof ForeignKey
+              && tableReferenceIds.containsKey(tableConstraint)
+          || tableConstraint instanceof MutableTableConstraint
+              && !(tableConstraint instanceof TableReference)) {
+        tableConstraints.add(tableConstraint);
+      }
+    }
+    writeVarint(tableConstraints.size());
+    for (final TableConstraint tableConstraint : tableConstraints) {
+      if (tableConstraint == primaryKey) {
+        writeVarint(PRIMARY_KEY_CONSTRAINT);
+      } else if (tableConstraint instanceof ForeignKey) {
+        writeVarint(FOREIGN_KEY_CONSTRAINT);
+        writeVarint(tableReferenceIds.get(tableConstraint));
+      } else {
+        writeVarint(TABLE_CONSTRAINT);
+        writeEnum(tableConstraint.getType());
+        writeBoolean(tableConstraint.isDeferrable());
+        writeBoolean(tableConstraint.isInitiallyDeferred());
+        writeKey(tableConstraint);
+      }
+    }
+
+    writePrivileges(table.getPrivileges());
+
+    final Collection<Trigger> triggers = table.getTriggers();
+    writeVarint(triggers.size());
+    for (final Trigger trigger : triggers) {
+      writeString(trigger.getName());
+      writeAttributes(trigger);
+      writeString(trigger.getActionCondition());
+      writeString(trigger.getActionStatement());
+      writeSignedVarint(trigger.getActionOrder());
+      writeEnum(trigger.getActionOrientation());
+      writeEnum(trigger.getConditionTiming());
+      writeEnum(trigger.getEventManipulationType());
+    }
+  }
+
+  /**
+   * Writes a reference to a table, either as the id of a table in the catalog, or as the schema and
+   * name of a partial table.
+   */
+  private void writeTableId(final Table table) throws IOException {
+    final Integer tableId = tableIds.get(table);
+    if (tableId != null) {
+      writeVarint(CATALOG_TABLE);
+      writeVarint(tableId);
+    } else {
+      writeVarint(PARTIAL_TABLE);
+      writeSchema(table.getSchema());
+      writeString(table.getName());
+    }
+  }
+
+  private void writeTableReference(final TableReference tableReference) throws IOException {
+    final boolean isForeignKey = tableReference instanceof ForeignKey;
+    writeString(tableReference.getName());
+
+    final List<ColumnReference> columnReferences = tableReference.getColumnReferences();
+    writeVarint(columnReferences.size());
+    for (final ColumnReference columnReference : columnReferences) {
+      writeSignedVarint(columnReference.getKeySequence());
+      writeColumnReference(columnReference.getForeignKeyColumn());
+      writeColumnReference(columnReference.getPrimaryKeyColumn());
+    }
+    writeAttributes(tableReference);
+
+    if (isForeignKey) {
+      final ForeignKey foreignKey = (ForeignKey) tableReference;
+      writeString(foreignKey.hasDefinition() ? foreignKey.getDefinition() : null);
+      writeEnum(foreignKey.getDeferrability());
+      writeEnum(foreignKey.getDeleteRule());
+      writeEnum(foreignKey.getUpdateRule());
+    }
+  }
+
+  private void writeValue(final Object value) throws IOException {
+    if (value == null) {
+      writeVarint(NULL_VALUE);
+    } else if (value instanceof String) {
+      writeVarint(STRING_VALUE);
+      writeString((String) value);
+    } else if (value instanceof Boolean) {
+      writeVarint((Boolean) value ? TRUE_VALUE : FALSE_VALUE);
+    } else if (value instanceof Integer) {
+      writeVarint(INTEGER_VALUE);
+      writeSignedVarint((Integer) value);
+    } else if (value instanceof Long) {
+      writeVarint(LONG_VALUE);
+      writeSignedVarint((Long) value);
+    } else if (value instanceof Short) {
+      writeVarint(SHORT_VALUE);
+      writeSignedVarint((Short) value);
+    } else if (value instanceof Byte) {
+      writeVarint(BYTE_VALUE);
+      writeSignedVarint((Byte) value);
+    } else if (value instanceof Double) {
+      writeVarint(DOUBLE_VALUE);
+      writeFixedLong(Double.doubleToLongBits((Double) value));
+    } else if (value instanceof Float) {
+      writeVarint(FLOAT_VALUE);
+      writeFixedInt(Float.floatToIntBits((Float) value));
+    } else if (value instanceof BigInteger) {
+      writeVarint(BIG_INTEGER_VALUE);
+      writeString(value.toString());
+    } else if (value instanceof BigDecimal) {
+      writeVarint(BIG_DECIMAL_VALUE);
+      writeString(value.toString());
+    } else if (value instanceof Character) {
+      writeVarint(CHARACTER_VALUE);
+      writeVarint((Character) value);
+    } else if (value instanceof String[]) {
+      final String[] values = (String[]) value;
+      writeVarint(STRING_ARRAY_VALUE);
+      writeVarint(values.length);
+      for (final String arrayValue : values) {
+        writeString(arrayValue);
+      }
+    } else if (value instanceof List) {
+      final List<?> values = (List<?>) value;
+      writeVarint(LIST_VALUE);
+      writeVarint(values.size());
+      for (final Object listValue : values) {
+        writeValue(listValue);
+      }
+    } else if (value instanceof Serializable) {
+      // Values of other types are rare, so fall back to Java serialization for them
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (final ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+        objectOut.writeObject(value);
+      }
+      writeVarint(SERIALIZED_VALUE);
+      writeVarint(bytes.size());
+      writeBytes(bytes.toByteArray());
+    } else {
+      writeVarint(STRING_VALUE);
+      writeString(String.valueOf(value));
+    }
+  }
+
+  private void writeVarint(final long value) throws IOException {
+    long remaining = value;
+    while ((remaining & ~0x7FL) != 0) {
+      writeByte((int) (remaining & 0x7F) | 0x80);
+      remaining = remaining >>> 7;
+    }
+    writeByte((int) remaining);
+  }
+}
@@ -146,7 +146,7 @@ final class DataTypeRetriever extends AbstractRetriever {
     columnDataType.setMaximumScale(maximumScale);
     columnDataType.setNumPrecisionRadix(numPrecisionRadix);
 
-    columnDataType.addAttributes(results.getAttributes());
+    columnDataType.addAttributes(getAttributes(results));
 
     catalog.addColumnDataType(columnDataType);
   }
@@ -160,7 +160,7 @@ final class DataTypeRetriever extends AbstractRetriever {
     }
     final Query typeInfoSql = informationSchemaViews.getQuery(TYPE_INFO);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
             new MetadataResultSet(typeInfoSql, statement, getSchemaInclusionRule()); ) {
       int numSystemColumnDataTypes = 0;
@@ -239,7 +239,7 @@ final class DataTypeRetriever extends AbstractRetriever {
         columnDataType.setBaseType(baseType);
         columnDataType.setRemarks(remarks);
 
-        columnDataType.addAttributes(results.getAttributes());
+        columnDataType.addAttributes(getAttributes(results));
 
         catalog.addColumnDataType(columnDataType);
       }
@@ -50,6 +50,7 @@ import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.View;
 import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.exceptions.WrappedSQLException;
@@ -70,7 +71,10 @@ final class ForeignKeyRetriever extends AbstractRetriever {
   void retrieveForeignKeys(final NamedObjectList<MutableTable> allTables) throws SQLException {
     requireNonNull(allTables, "No tables provided");
 
-    switch (getRetrieverConnection().get(foreignKeysRetrievalStrategy)) {
+    final MetadataRetrievalStrategy strategy =
+        getRetrieverConnection().get(foreignKeysRetrievalStrategy, allTables.size());
+    final long startTime = System.nanoTime();
+    switch (strategy) {
       case data_dictionary_all:
         LOGGER.log(Level.INFO, "Retrieving foreign keys, using fast data dictionary retrieval");
         retrieveForeignKeysFromDataDictionary();
@@ -85,6 +89,9 @@ final class ForeignKeyRetriever extends AbstractRetriever {
         LOGGER.log(Level.INFO, "Not retrieving foreign keys");
         break;
     }
+    getRetrieverConnection()
+        .recordRetrievalTime(
+            foreignKeysRetrievalStrategy, strategy, allTables.size(), System.nanoTime() - startTime);
   }
 
   private void createForeignKeys(
@@ -163,7 +170,7 @@ final class ForeignKeyRetriever extends AbstractRetriever {
       foreignKey.setUpdateRule(updateRule);
       foreignKey.setDeleteRule(deleteRule);
       foreignKey.setDeferrability(deferrability);
-      foreignKey.addAttributes(results.getAttributes());
+      foreignKey.addAttributes(getAttributes(results));
 
       if (fkColumn instanceof MutableColumn) {
         ((MutableColumn) fkColumn).setReferencedColumn(pkColumn);
@@ -206,9 +213,9 @@ final class ForeignKeyRetriever extends AbstractRetriever {
     final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new HashMap<>();
     final Query fkSql = informationSchemaViews.getQuery(FOREIGN_KEYS);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
-            new MetadataResultSet(fkSql, statement, getSchemaInclusionRule()); ) {
+            new MetadataResultSet(fkSql, statement, getLimitOptions()); ) {
       createForeignKeys(results, foreignKeys);
     } catch (final SQLException e) {
       throw new WrappedSQLException(
@@ -0,0 +1,157 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact, read-only map, that holds its keys in an array sorted by their hash codes, and its
+ * values in a parallel array. Lookups are made by a binary search on the hash codes, which are
+ * computed once, when the map is built. Used to hold the contents of concurrent maps once a crawl
+ * is complete, since a frozen map takes a fraction of the memory of a concurrent map, and can be
+ * read without locking.
+ */
+class FrozenMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+  private static final long serialVersionUID = -2651632874813447914L;
+
+  private final int[] hashes;
+  private final Object[] keys;
+  private final Object[] values;
+
+  FrozenMap(final Map<K, V> map) {
+    final List<Entry<K, V>> entries = new ArrayList<>(map.entrySet());
+    entries.sort(Comparator.comparingInt(entry -> entry.getKey().hashCode()));
+
+    final int size = entries.size();
+    hashes = new int[size];
+    keys = new Object[size];
+    values = new Object[size];
+    for (int i = 0; i < size; i++) {
+      final Entry<K, V> entry = entries.get(i);
+      keys[i] = entry.getKey();
+      hashes[i] = keys[i].hashCode();
+      values[i] = entry.getValue();
+    }
+  }
+
+  @Override
+  public final boolean containsKey(final Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public final Set<Entry<K, V>> entrySet() {
+    return new AbstractSet<Entry<K, V>>() {
+
+      @Override
+      public Iterator<Entry<K, V>> iterator() {
+        return new Iterator<Entry<K, V>>() {
+
+          private int index;
+
+          @Override
+          public boolean hasNext() {
+            return index < keys.length;
+          }
+
+          @Override
+          public Entry<K, V> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            final Entry<K, V> entry = new SimpleImmutableEntry<>(key(index), value(index));
+            index++;
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return keys.length;
+      }
+    };
+  }
+
+  @Override
+  public final V get(final Object key) {
+    final int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    return value(index);
+  }
+
+  @Override
+  public final int size() {
+    return keys.length;
+  }
+
+  private int indexOf(final Object key) {
+    if (key == null) {
+      return -1;
+    }
+    final int hash = key.hashCode();
+    int index = Arrays.binarySearch(hashes, hash);
+    if (index < 0) {
+      return -1;
+    }
+    // Step back to the first key with the same hash code
+    while (index > 0 && hashes[index - 1] == hash) {
+      index--;
+    }
+    for (; index < hashes.length && hashes[index] == hash; index++) {
+      if (keys[index].equals(key)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  @SuppressWarnings("unchecked")
+  private K key(final int index) {
+    return (K) keys[index];
+  }
+
+  @SuppressWarnings("unchecked")
+  private V value(final int index) {
+    return (V) values[index];
+  }
+}
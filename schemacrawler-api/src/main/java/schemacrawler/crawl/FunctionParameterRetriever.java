@@ -101,7 +101,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
     final String columnCatalogName = normalizeCatalogName(results.getString("FUNCTION_CAT"));
     final String schemaName = normalizeSchemaName(results.getString("FUNCTION_SCHEM"));
     final String functionName = results.getString("FUNCTION_NAME");
-    String columnName = results.getString("COLUMN_NAME");
+    String columnName = intern(results.getString("COLUMN_NAME"));
     final String specificName = results.getString("SPECIFIC_NAME");
 
     final ParameterModeType parameterMode =
@@ -156,7 +156,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
       parameter.setNullable(isNullable);
       parameter.setRemarks(remarks);
 
-      parameter.addAttributes(results.getAttributes());
+      parameter.addAttributes(getAttributes(results));
 
       LOGGER.log(Level.FINER, new StringFormat("Adding parameter to function <%s>", parameter));
       function.addParameter(parameter);
@@ -197,7 +197,7 @@ final class FunctionParameterRetriever extends AbstractRetriever {
     }
     final Query functionColumnsSql = informationSchemaViews.getQuery(FUNCTION_COLUMNS);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
             new MetadataResultSet(functionColumnsSql, statement, getSchemaInclusionRule()); ) {
       while (results.next()) {
@@ -0,0 +1,75 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A pool of identifiers for a single crawl. Catalog, schema, table, column and attribute names are
+ * repeated across many rows of database metadata, and the JDBC driver returns a new string for
+ * every row. Strings that are kept in the catalog are passed through the pool, so that repeated
+ * identifiers share a single instance. The pool is discarded at the end of the crawl, and is safe
+ * for retrievals that run at the same time.
+ */
+final class IdentifierPool {
+
+  private final Map<String, String> identifiers;
+
+  IdentifierPool() {
+    identifiers = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Gets the pooled instance of an identifier, adding it to the pool if it has not been seen
+   * before.
+   *
+   * @param identifier Identifier, which may be null
+   * @return Pooled identifier, or null if the identifier is null
+   */
+  String intern(final String identifier) {
+    if (identifier == null) {
+      return null;
+    }
+    final String pooledIdentifier = identifiers.putIfAbsent(identifier, identifier);
+    if (pooledIdentifier == null) {
+      return identifier;
+    }
+    return pooledIdentifier;
+  }
+
+  /**
+   * Number of distinct identifiers in the pool.
+   *
+   * @return Number of identifiers
+   */
+  int size() {
+    return identifiers.size();
+  }
+}
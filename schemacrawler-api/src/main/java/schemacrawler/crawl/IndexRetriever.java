@@ -43,6 +43,7 @@ import schemacrawler.schema.IndexColumnSortSequence;
 import schemacrawler.schema.IndexType;
 import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.exceptions.WrappedSQLException;
@@ -63,7 +64,10 @@ final class IndexRetriever extends AbstractRetriever {
   void retrieveIndexes(final NamedObjectList<MutableTable> allTables) throws SQLException {
     requireNonNull(allTables, "No tables provided");
 
-    switch (getRetrieverConnection().get(indexesRetrievalStrategy)) {
+    final MetadataRetrievalStrategy strategy =
+        getRetrieverConnection().get(indexesRetrievalStrategy, allTables.size());
+    final long startTime = System.nanoTime();
+    switch (strategy) {
       case data_dictionary_all:
         LOGGER.log(Level.INFO, "Retrieving indexes, using fast data dictionary retrieval");
         retrieveIndexesFromDataDictionary();
@@ -78,6 +82,9 @@ final class IndexRetriever extends AbstractRetriever {
         LOGGER.log(Level.INFO, "Not retrieving indexes");
         break;
     }
+    getRetrieverConnection()
+        .recordRetrievalTime(
+            indexesRetrievalStrategy, strategy, allTables.size(), System.nanoTime() - startTime);
   }
 
   private void createIndexes(final MutableTable table, final MetadataResultSet results)
@@ -142,7 +149,6 @@ final class IndexRetriever extends AbstractRetriever {
       index = indexOptional.get();
     } else {
       index = new MutableIndex(table, indexName);
-      table.addIndex(index);
     }
     index.withQuoting(getRetrieverConnection().getIdentifiers());
 
@@ -155,7 +161,10 @@ final class IndexRetriever extends AbstractRetriever {
     index.setIndexType(type);
     index.setCardinality(cardinality);
     index.setPages(pages);
-    index.addAttributes(results.getAttributes());
+    index.addAttributes(getAttributes(results));
+    // Add the index after every column, since the sort order of indexes
+    // depends on the columns, which are only known at this point
+    table.addIndex(index);
   }
 
   private void retrieveIndexesFromDataDictionary() throws WrappedSQLException {
@@ -169,9 +178,9 @@ final class IndexRetriever extends AbstractRetriever {
 
     final Query indexesSql = informationSchemaViews.getQuery(INDEXES);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
-            new MetadataResultSet(indexesSql, statement, getSchemaInclusionRule()); ) {
+            new MetadataResultSet(indexesSql, statement, getLimitOptions()); ) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
         final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
@@ -41,19 +41,20 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.UnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.IdentifiedEnum;
 import schemacrawler.schema.ResultsColumn;
 import schemacrawler.schema.ResultsColumns;
+import schemacrawler.schemacrawler.LimitOptions;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.utility.BinaryData;
 import us.fatehi.utility.UtilityLogger;
@@ -68,33 +69,66 @@ public final class MetadataResultSet implements AutoCloseable {
 
   private static final Logger LOGGER = Logger.getLogger(MetadataResultSet.class.getName());
 
-  private static final int FETCHSIZE = 20;
+  private static final int DEFAULT_FETCH_SIZE = 20;
 
   private final ResultsColumns resultsColumns;
+  private final ResultsColumn[] columns;
+  private final String[] attributeNames;
+  private final Map<String, Integer> columnIndexes;
+  private final BitSet readColumns;
   private final ResultSet results;
   private final String description;
-  private Set<ResultsColumn> readColumns;
   private int rowCount;
   private boolean showLobs;
 
   public MetadataResultSet(
       final Query query, final Statement statement, final InclusionRule schemaInclusionRule)
       throws SQLException {
-    this(executeAgainstSchema(query, statement, schemaInclusionRule), query.getName());
+    this(executeAgainstSchema(query, statement, schemaInclusionRule), query.getName(), 0);
+  }
+
+  public MetadataResultSet(
+      final Query query, final Statement statement, final LimitOptions limitOptions)
+      throws SQLException {
+    this(executeAgainstSchema(query, statement, limitOptions), query.getName(), 0);
   }
 
   public MetadataResultSet(final ResultSet resultSet, final String description)
       throws SQLException {
+    this(resultSet, description, DEFAULT_FETCH_SIZE);
+  }
+
+  /**
+   * Wraps a result-set, and sets the number of rows to fetch at a time.
+   *
+   * @param resultSet Result-set to wrap
+   * @param description Description of the result-set, for logging
+   * @param fetchSize Fetch size, or 0 to keep the fetch size of the statement that created the
+   *     result-set
+   * @throws SQLException On an exception
+   */
+  public MetadataResultSet(final ResultSet resultSet, final String description, final int fetchSize)
+      throws SQLException {
     results = requireNonNull(resultSet, "Cannot use null results");
-    try {
-      results.setFetchSize(FETCHSIZE);
-    } catch (final NullPointerException | SQLException e) {
-      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    if (fetchSize > 0) {
+      try {
+        results.setFetchSize(fetchSize);
+      } catch (final NullPointerException | SQLException e) {
+        LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+      }
     }
     this.description = requireNotBlank(description, "No result-set description provided");
 
     resultsColumns = new ResultsCrawler(results).crawl();
-    readColumns = new HashSet<>();
+    // Column lookups are resolved once for the result-set, and not for every row
+    final List<ResultsColumn> columnsList = resultsColumns.getColumns();
+    columns = columnsList.toArray(new ResultsColumn[columnsList.size()]);
+    attributeNames = new String[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      attributeNames[i] = columns[i].getLabel().toUpperCase();
+    }
+    columnIndexes = new HashMap<>();
+    readColumns = new BitSet(columns.length);
     showLobs = true;
   }
 
@@ -117,27 +151,19 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return Map of additional attributes to the database object
    */
   public Map<String, Object> getAttributes() {
-    final Map<String, Object> attributes = new HashMap<>();
-    for (final ResultsColumn resultsColumn : resultsColumns) {
-      if (!readColumns.contains(resultsColumn)) {
-        try {
-          final String key = resultsColumn.getLabel().toUpperCase();
-          final Object value = getColumnData(resultsColumn);
-          attributes.put(key, value);
-        } catch (final SQLException | ArrayIndexOutOfBoundsException e) {
-          /*
-           * MySQL connector is broken and can cause ArrayIndexOutOfBoundsExceptions for no good
-           * reason (tested with connector 5.1.26 and server version 5.0.95). Ignoring the
-           * exception, we can still get some useful data out of the database.
-           */
-          LOGGER.log(
-              Level.WARNING,
-              e,
-              new StringFormat("Could not read value for column <%s>", resultsColumn));
-        }
-      }
-    }
-    return attributes;
+    return readAttributes(UnaryOperator.identity());
+  }
+
+  /**
+   * Gets unread columns as additional attributes, with attribute names and string values shared
+   * through the identifier pool for the crawl.
+   *
+   * @param identifierPool Identifier pool
+   * @return Map of additional attributes to the database object
+   */
+  Map<String, Object> getAttributes(final IdentifierPool identifierPool) {
+    requireNonNull(identifierPool, "No identifier pool provided");
+    return readAttributes(identifierPool::intern);
   }
 
   public BigInteger getBigInteger(final String columnName) {
@@ -163,9 +189,10 @@ public final class MetadataResultSet implements AutoCloseable {
    * @return Whether the string evaluates to true
    */
   public boolean getBoolean(final String columnName) {
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        final Object booleanValue = results.getObject(columnName);
+        final Object booleanValue = results.getObject(columnIndex);
         final String stringBooleanValue;
         if (results.wasNull() || booleanValue == null) {
           LOGGER.log(
@@ -193,9 +220,11 @@ public final class MetadataResultSet implements AutoCloseable {
   }
 
   public String[] getColumnNames() {
-    final List<String> columnNames = new ArrayList<>();
-    resultsColumns.forEach(resultsColumn -> columnNames.add(resultsColumn.getName()));
-    return columnNames.toArray(new String[columnNames.size()]);
+    final String[] columnNames = new String[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      columnNames[i] = columns[i].getName();
+    }
+    return columnNames;
   }
 
   /**
@@ -251,9 +280,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public int getInt(final String columnName, final int defaultValue) {
     int value = defaultValue;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getInt(columnName);
+        value = results.getInt(columnIndex);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -281,9 +311,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public long getLong(final String columnName, final long defaultValue) {
     long value = defaultValue;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getLong(columnName);
+        value = results.getLong(columnIndex);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -312,9 +343,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public short getShort(final String columnName, final short defaultValue) {
     short value = defaultValue;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getShort(columnName);
+        value = results.getShort(columnIndex);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -341,9 +373,10 @@ public final class MetadataResultSet implements AutoCloseable {
    */
   public String getString(final String columnName) {
     String value = null;
-    if (useColumn(columnName)) {
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0) {
       try {
-        value = results.getString(columnName);
+        value = results.getString(columnIndex);
         if (results.wasNull()) {
           value = null;
         }
@@ -371,7 +404,7 @@ public final class MetadataResultSet implements AutoCloseable {
    * @throws SQLException On a database access error
    */
   public boolean next() throws SQLException {
-    readColumns = new HashSet<>();
+    readColumns.clear();
 
     final boolean next = results.next();
     new UtilityLogger(LOGGER).logSQLWarnings(results);
@@ -382,8 +415,8 @@ public final class MetadataResultSet implements AutoCloseable {
   }
 
   public List<Object> row() throws SQLException {
-    final List<Object> currentRow = new ArrayList<>();
-    for (final ResultsColumn resultsColumn : resultsColumns) {
+    final List<Object> currentRow = new ArrayList<>(columns.length);
+    for (final ResultsColumn resultsColumn : columns) {
       currentRow.add(getColumnData(resultsColumn));
     }
 
@@ -433,6 +466,33 @@ public final class MetadataResultSet implements AutoCloseable {
     return columnData;
   }
 
+  private Map<String, Object> readAttributes(final UnaryOperator<String> intern) {
+    final Map<String, Object> attributes = new HashMap<>();
+    for (int index = readColumns.nextClearBit(0);
+        index < columns.length;
+        index = readColumns.nextClearBit(index + 1)) {
+      final ResultsColumn resultsColumn = columns[index];
+      try {
+        Object value = getColumnData(resultsColumn);
+        if (value instanceof String) {
+          value = intern.apply((String) value);
+        }
+        attributes.put(intern.apply(attributeNames[index]), value);
+      } catch (final SQLException | ArrayIndexOutOfBoundsException e) {
+        /*
+         * MySQL connector is broken and can cause ArrayIndexOutOfBoundsExceptions for no good
+         * reason (tested with connector 5.1.26 and server version 5.0.95). Ignoring the
+         * exception, we can still get some useful data out of the database.
+         */
+        LOGGER.log(
+            Level.WARNING,
+            e,
+            new StringFormat("Could not read value for column <%s>", resultsColumn));
+      }
+    }
+    return attributes;
+  }
+
   private Object readCharacterData(final Reader reader) {
     try {
       if (reader != null && showLobs) {
@@ -446,9 +506,42 @@ public final class MetadataResultSet implements AutoCloseable {
     return new BinaryData();
   }
 
-  private boolean useColumn(final String columnName) {
-    final Optional<ResultsColumn> optionalResultsColumn = resultsColumns.lookupColumn(columnName);
-    optionalResultsColumn.ifPresent(readColumns::add);
-    return optionalResultsColumn.isPresent();
+  /**
+   * Looks up a column by label, or failing that, by name, and marks it as read, so that it is not
+   * returned with the additional attributes. Lookups are cached, since the same columns are read
+   * for every row.
+   *
+   * @param columnName Column name
+   * @return Column index in the result-set, or 0 if the column is not present
+   */
+  private int useColumn(final String columnName) {
+    Integer index = columnIndexes.get(columnName);
+    if (index == null) {
+      index = -1;
+      // Labels come first, as they do when JDBC reads a column by name
+      for (int i = 0; i < columns.length; i++) {
+        if (columns[i].getLabel().equalsIgnoreCase(columnName)) {
+          index = i;
+          break;
+        }
+      }
+      final Optional<ResultsColumn> optionalResultsColumn =
+          index < 0 ? resultsColumns.lookupColumn(columnName) : Optional.empty();
+      if (optionalResultsColumn.isPresent()) {
+        final ResultsColumn resultsColumn = optionalResultsColumn.get();
+        for (int i = 0; i < columns.length; i++) {
+          if (columns[i] == resultsColumn) {
+            index = i;
+            break;
+          }
+        }
+      }
+      columnIndexes.put(columnName, index);
+    }
+    if (index < 0) {
+      return 0;
+    }
+    readColumns.set(index);
+    return columns[index].getOrdinalPosition();
   }
 }
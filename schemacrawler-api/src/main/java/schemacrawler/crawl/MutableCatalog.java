@@ -32,13 +32,14 @@ import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.isBlank;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.Set;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnDataType;
 import schemacrawler.schema.CrawlInfo;
-import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.DatabaseUser;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.NamedObjectKey;
@@ -56,20 +57,6 @@ import schemacrawler.schemacrawler.SchemaReference;
  */
 final class MutableCatalog extends AbstractNamedObjectWithAttributes implements Catalog {
 
-  private static final class FilterBySchema implements Predicate<DatabaseObject> {
-
-    private final Schema schema;
-
-    public FilterBySchema(final Schema schema) {
-      this.schema = requireNonNull(schema, "No schema provided");
-    }
-
-    @Override
-    public boolean test(final DatabaseObject databaseObject) {
-      return databaseObject != null && databaseObject.getSchema().equals(schema);
-    }
-  }
-
   private static final long serialVersionUID = 4051323422934251828L;
 
   private final NamedObjectList<MutableColumnDataType> columnDataTypes = new NamedObjectList<>();
@@ -82,16 +69,26 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   private final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
   private final NamedObjectList<ImmutableDatabaseUser> databaseUsers = new NamedObjectList<>();
   private final MutableCrawlInfo crawlInfo;
+  // Tables carried over from an earlier crawl, which are not retrieved again
+  private transient Set<NamedObjectKey> retainedTables = new HashSet<>();
 
   MutableCatalog(
       final String name,
       final MutableDatabaseInfo databaseInfo,
       final MutableJdbcDriverInfo jdbcDriverInfo) {
+    this(name, databaseInfo, jdbcDriverInfo, new MutableCrawlInfo(databaseInfo, jdbcDriverInfo));
+  }
+
+  MutableCatalog(
+      final String name,
+      final MutableDatabaseInfo databaseInfo,
+      final MutableJdbcDriverInfo jdbcDriverInfo,
+      final MutableCrawlInfo crawlInfo) {
     super(name);
 
     this.databaseInfo = requireNonNull(databaseInfo, "No database information provided");
     this.jdbcDriverInfo = requireNonNull(jdbcDriverInfo, "No JDBC driver information provided");
-    crawlInfo = new MutableCrawlInfo(databaseInfo, jdbcDriverInfo);
+    this.crawlInfo = requireNonNull(crawlInfo, "No crawl information provided");
   }
 
   /** {@inheritDoc} */
@@ -103,14 +100,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<ColumnDataType> getColumnDataTypes(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<ColumnDataType> columnDataTypes = new ArrayList<>();
-    for (final ColumnDataType columnDataType : this.columnDataTypes) {
-      if (filter.test(columnDataType)) {
-        columnDataTypes.add(columnDataType);
-      }
-    }
-    return columnDataTypes;
+    return new ArrayList<>(columnDataTypes.values(schema));
   }
 
   @Override
@@ -150,13 +140,13 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Routine> getRoutines(final Schema schema, final String routineName) {
-    Predicate<DatabaseObject> filter = new FilterBySchema(schema);
-    if (!isBlank(routineName)) {
-      filter = filter.and(routine -> routine.getName().equals(routineName));
+    final List<MutableRoutine> routinesInSchema = this.routines.values(schema);
+    if (isBlank(routineName)) {
+      return new ArrayList<>(routinesInSchema);
     }
     final Collection<Routine> routines = new ArrayList<>();
-    for (final Routine routine : this.routines) {
-      if (filter.test(routine)) {
+    for (final Routine routine : routinesInSchema) {
+      if (routine.getName().equals(routineName)) {
         routines.add(routine);
       }
     }
@@ -178,14 +168,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Sequence> getSequences(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Sequence> sequences = new ArrayList<>();
-    for (final Sequence sequence : this.sequences) {
-      if (filter.test(sequence)) {
-        sequences.add(sequence);
-      }
-    }
-    return sequences;
+    return new ArrayList<>(sequences.values(schema));
   }
 
   /** {@inheritDoc} */
@@ -197,14 +180,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Synonym> getSynonyms(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Synonym> synonyms = new ArrayList<>();
-    for (final Synonym synonym : this.synonyms) {
-      if (filter.test(synonym)) {
-        synonyms.add(synonym);
-      }
-    }
-    return synonyms;
+    return new ArrayList<>(synonyms.values(schema));
   }
 
   /** {@inheritDoc} */
@@ -222,14 +198,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Table> getTables(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Table> tables = new ArrayList<>();
-    for (final Table table : this.tables) {
-      if (filter.test(table)) {
-        tables.add(table);
-      }
-    }
-    return tables;
+    return new ArrayList<>(tables.values(schema));
   }
 
   /** {@inheritDoc} */
@@ -345,6 +314,42 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     tables.add(table);
   }
 
+  void clearRetainedTables() {
+    if (retainedTables != null) {
+      retainedTables.clear();
+    }
+  }
+
+  /**
+   * Converts the attributes and named object lists of the catalog, its tables, routines, sequences
+   * and synonyms into a compact, read-optimized form, once the last catalog loader has run. Anything
+   * that is modified later, for example by linters, is transparently made modifiable again.
+   */
+  @Override
+  void freeze() {
+    super.freeze();
+    for (final MutableTable table : tables) {
+      table.freeze();
+    }
+    for (final MutableRoutine routine : routines) {
+      routine.freeze();
+    }
+    for (final MutableSequence sequence : sequences) {
+      sequence.freeze();
+    }
+    for (final MutableSynonym synonym : synonyms) {
+      synonym.freeze();
+    }
+
+    columnDataTypes.freeze();
+    databaseUsers.freeze();
+    routines.freeze();
+    schemas.freeze();
+    sequences.freeze();
+    synonyms.freeze();
+    tables.freeze();
+  }
+
   NamedObjectList<MutableRoutine> getAllRoutines() {
     return routines;
   }
@@ -357,6 +362,17 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
     return tables;
   }
 
+  /**
+   * Checks whether a table was carried over from an earlier crawl by an incremental crawl. The
+   * details of such tables are not retrieved from the database again.
+   *
+   * @param tableLookupKey Table lookup key
+   * @return Whether the table was carried over
+   */
+  boolean isRetainedTable(final NamedObjectKey tableLookupKey) {
+    return retainedTables != null && retainedTables.contains(tableLookupKey);
+  }
+
   MutableColumnDataType lookupBaseColumnDataTypeByType(final int baseType) {
     final SchemaReference systemSchema = new SchemaReference();
     MutableColumnDataType columnDataType = null;
@@ -382,4 +398,15 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   Optional<MutableTable> lookupTable(final NamedObjectKey tableLookupKey) {
     return tables.lookup(tableLookupKey);
   }
+
+  /**
+   * Adds a copy of a table from an earlier crawl to this catalog, replacing any table with the same
+   * name.
+   *
+   * @param table Copy of a table from an earlier crawl
+   */
+  void retainTable(final MutableTable table) {
+    tables.add(table);
+    retainedTables.add(table.key());
+  }
 }
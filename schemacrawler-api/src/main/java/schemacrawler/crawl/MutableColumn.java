@@ -127,6 +127,12 @@ final class MutableColumn extends AbstractColumn<Table> implements Column {
     privileges.add(privilege);
   }
 
+  @Override
+  void freeze() {
+    super.freeze();
+    privileges.freeze();
+  }
+
   void markAsPartOfIndex() {
     isPartOfIndex = true;
   }
@@ -99,6 +99,25 @@ final class MutableCrawlInfo implements CrawlInfo {
     runId = UUID.randomUUID();
   }
 
+  MutableCrawlInfo(
+      final ProductVersion schemaCrawlerVersion,
+      final ProductVersion jvmVersion,
+      final ProductVersion operatingSystemVersion,
+      final ProductVersion databaseVersion,
+      final ProductVersion jdbcDriverVersion,
+      final Instant crawlTimestamp,
+      final UUID runId) {
+    this.schemaCrawlerVersion =
+        requireNonNull(schemaCrawlerVersion, "No SchemaCrawler version provided");
+    this.jvmVersion = requireNonNull(jvmVersion, "No JVM version provided");
+    this.operatingSystemVersion =
+        requireNonNull(operatingSystemVersion, "No operating system version provided");
+    this.databaseVersion = requireNonNull(databaseVersion, "No database version provided");
+    this.jdbcDriverVersion = requireNonNull(jdbcDriverVersion, "No JDBC driver version provided");
+    this.crawlTimestamp = requireNonNull(crawlTimestamp, "No crawl timestamp provided");
+    this.runId = requireNonNull(runId, "No run id provided");
+  }
+
   @Override
   public String getCrawlTimestamp() {
     final ZonedDateTime dateTime = getCrawlTimestampUTC();
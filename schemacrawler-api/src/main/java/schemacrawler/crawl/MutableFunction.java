@@ -81,6 +81,15 @@ final class MutableFunction extends MutableRoutine implements Function {
     columns.add(column);
   }
 
+  @Override
+  void freeze() {
+    super.freeze();
+    for (final MutableFunctionParameter parameter : columns) {
+      parameter.freeze();
+    }
+    columns.freeze();
+  }
+
   void setReturnType(final FunctionReturnType returnType) {
     this.returnType = requireNonNull(returnType, "Null function return type");
   }
@@ -171,6 +171,12 @@ class MutableIndex extends AbstractDependantObject<Table> implements Index {
     }
   }
 
+  @Override
+  final void freeze() {
+    super.freeze();
+    columns.freeze();
+  }
+
   final void setCardinality(final long cardinality) {
     this.cardinality = cardinality;
   }
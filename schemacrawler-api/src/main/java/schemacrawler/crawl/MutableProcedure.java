@@ -80,6 +80,15 @@ final class MutableProcedure extends MutableRoutine implements Procedure {
     columns.add(column);
   }
 
+  @Override
+  void freeze() {
+    super.freeze();
+    for (final MutableProcedureParameter parameter : columns) {
+      parameter.freeze();
+    }
+    columns.freeze();
+  }
+
   void setReturnType(final ProcedureReturnType returnType) {
     this.returnType = requireNonNull(returnType, "Null procedure return type");
   }
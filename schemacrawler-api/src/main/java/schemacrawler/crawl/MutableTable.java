@@ -79,6 +79,8 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   private MutablePrimaryKey primaryKey;
   private int sortIndex;
   private TableType tableType = TableType.UNKNOWN; // Default value
+  // Shared by the table pointers of all the columns, indexes and constraints of this table
+  private transient volatile TablePartial partial;
 
   MutableTable(final Schema schema, final String name) {
     super(schema, name);
@@ -174,8 +176,7 @@ class MutableTable extends AbstractDatabaseObject implements Table {
   public Collection<Table> getRelatedTables(final TableRelationshipType tableRelationshipType) {
     final Set<Table> relatedTables = new HashSet<>();
     if (tableRelationshipType != null && tableRelationshipType != TableRelationshipType.none) {
-      final List<MutableForeignKey> foreignKeysList = new ArrayList<>(foreignKeys.values());
-      for (final ForeignKey foreignKey : foreignKeysList) {
+      for (final ForeignKey foreignKey : foreignKeys) {
         for (final ColumnReference columnReference : foreignKey) {
           final Table parentTable = columnReference.getPrimaryKeyColumn().getParent();
           final Table childTable = columnReference.getForeignKeyColumn().getParent();
@@ -342,14 +343,85 @@ class MutableTable extends AbstractDatabaseObject implements Table {
     }
   }
 
+  /**
+   * Freezes the attributes and named object lists of the table, and of its columns, indexes, keys
+   * and triggers, once the crawl is complete.
+   */
+  @Override
+  void freeze() {
+    super.freeze();
+    for (final MutableColumn column : columns) {
+      column.freeze();
+    }
+    for (final MutableColumn column : hiddenColumns) {
+      column.freeze();
+    }
+    for (final MutableIndex index : indexes) {
+      index.freeze();
+    }
+    for (final TableConstraint constraint : constraints) {
+      if (constraint instanceof MutableTableConstraint) {
+        ((MutableTableConstraint) constraint).freeze();
+      }
+    }
+    for (final MutablePrimaryKey alternateKey : alternateKeys) {
+      alternateKey.freeze();
+    }
+    if (primaryKey != null) {
+      primaryKey.freeze();
+    }
+    for (final MutableForeignKey foreignKey : foreignKeys) {
+      foreignKey.freeze();
+    }
+    for (final MutableTrigger trigger : triggers) {
+      trigger.freeze();
+    }
+
+    alternateKeys.freeze();
+    columns.freeze();
+    constraints.freeze();
+    foreignKeys.freeze();
+    hiddenColumns.freeze();
+    indexes.freeze();
+    privileges.freeze();
+    triggers.freeze();
+    weakAssociations.freeze();
+  }
+
   NamedObjectList<MutableColumn> getAllColumns() {
     return columns;
   }
 
+  TablePartial getPartial() {
+    TablePartial tablePartial = partial;
+    if (tablePartial == null) {
+      synchronized (this) {
+        tablePartial = partial;
+        if (tablePartial == null) {
+          tablePartial = new TablePartial(this);
+          partial = tablePartial;
+        }
+      }
+    }
+    return tablePartial;
+  }
+
+  int getSortIndex() {
+    return sortIndex;
+  }
+
+  void removeForeignKey(final MutableForeignKey foreignKey) {
+    foreignKeys.remove(foreignKey);
+  }
+
   void removeTableConstraint(final TableConstraint tableConstraint) {
     constraints.remove(tableConstraint);
   }
 
+  void removeWeakAssociation(final MutableWeakAssociation weakAssociation) {
+    weakAssociations.remove(weakAssociation);
+  }
+
   final void setPrimaryKey(final MutablePrimaryKey primaryKey) {
     if (primaryKey != null) {
       this.primaryKey = primaryKey;
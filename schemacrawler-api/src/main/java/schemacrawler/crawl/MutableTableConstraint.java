@@ -101,6 +101,12 @@ class MutableTableConstraint extends AbstractDependantObject<Table> implements T
     }
   }
 
+  @Override
+  void freeze() {
+    super.freeze();
+    columns.freeze();
+  }
+
   void setDeferrable(final boolean deferrable) {
     this.deferrable = deferrable;
   }
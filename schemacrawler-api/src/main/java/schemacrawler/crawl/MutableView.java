@@ -79,6 +79,12 @@ class MutableView extends MutableTable implements View {
     }
   }
 
+  @Override
+  void freeze() {
+    super.freeze();
+    tableUsage.freeze();
+  }
+
   void setCheckOption(final CheckOptionType checkOption) {
     this.checkOption = checkOption;
   }
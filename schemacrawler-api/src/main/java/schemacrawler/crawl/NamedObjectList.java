@@ -32,6 +32,8 @@ import static java.util.Comparator.naturalOrder;
 import static java.util.Objects.requireNonNull;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -41,9 +43,11 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.ReducibleCollection;
+import schemacrawler.schema.Schema;
 import us.fatehi.utility.ObjectToString;
 
 /**
@@ -51,11 +55,74 @@ import us.fatehi.utility.ObjectToString;
  * ability to look up by dependent object which is not created yet. That is, by NamedObject +
  * String. Returns values sorted in natural sort order, and is iterable. The iterator does not allow
  * modifications to the underlying data structure.
+ *
+ * <p>The sorted values are cached as an unmodifiable snapshot, which is discarded when the list is
+ * modified. Objects whose natural sort order changes after they are added need to be added again,
+ * so that the snapshot is rebuilt. The snapshot also holds an index of the values by schema, so that
+ * catalog lookups by schema do not need to scan all values.
+ *
+ * <p>Many lists, such as the privileges of a column, stay empty, so the backing map is only
+ * created when the first object is added.
+ *
+ * <p>Once a crawl is complete, the list can be frozen. Frozen lists hold their objects in arrays,
+ * sorted by the hash codes of their lookup keys, along with the sorted values, so that they can be
+ * read without locking or sorting, and take less memory than a concurrent map. A frozen list that
+ * is modified again, for example by a catalog loader, is transparently turned back into a
+ * concurrent map.
  */
 final class NamedObjectList<N extends NamedObject> implements Serializable, ReducibleCollection<N> {
 
   private static final long serialVersionUID = 3257847666804142128L;
 
+  /** Frozen map of named objects, which also holds the values in natural sort order. */
+  private static final class Frozen<N> extends FrozenMap<NamedObjectKey, N> {
+
+    private static final long serialVersionUID = 3386472306468271380L;
+
+    private final List<N> sortedValues;
+
+    Frozen(final Map<NamedObjectKey, N> namedObjects, final List<N> sortedValues) {
+      super(namedObjects);
+      this.sortedValues = sortedValues;
+    }
+  }
+
+  /**
+   * Sorted values, tagged with the modification count at the time they were read, along with an
+   * index of the values by schema, which is built when it is first needed.
+   */
+  private static final class Snapshot<N> {
+
+    private final int modCount;
+    private final List<N> values;
+    private volatile Map<Schema, List<N>> valuesBySchema;
+
+    Snapshot(final int modCount, final List<N> values) {
+      this.modCount = modCount;
+      this.values = values;
+    }
+
+    List<N> values(final Schema schema) {
+      Map<Schema, List<N>> index = valuesBySchema;
+      if (index == null) {
+        // Values are added in sorted order, so the values for each schema stay sorted
+        final Map<Schema, List<N>> bySchema = new HashMap<>();
+        for (final N value : values) {
+          if (value instanceof DatabaseObject) {
+            final Schema valueSchema = ((DatabaseObject) value).getSchema();
+            bySchema.computeIfAbsent(valueSchema, key -> new ArrayList<>()).add(value);
+          }
+        }
+        for (final Entry<Schema, List<N>> entry : bySchema.entrySet()) {
+          entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        index = bySchema;
+        valuesBySchema = index;
+      }
+      return index.getOrDefault(schema, Collections.emptyList());
+    }
+  }
+
   private static NamedObjectKey makeLookupKey(final NamedObject namedObject) {
     final NamedObjectKey key;
     if (namedObject == null) {
@@ -74,7 +141,9 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
     return key;
   }
 
-  private final Map<NamedObjectKey, N> objects = new ConcurrentHashMap<>();
+  private volatile Map<NamedObjectKey, N> objects;
+  private transient volatile int modCount;
+  private transient volatile Snapshot<N> snapshot;
 
   @Override
   public void filter(final Predicate<? super N> predicate) {
@@ -82,7 +151,8 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
       return;
     }
 
-    final Set<Entry<NamedObjectKey, N>> entrySet = objects.entrySet();
+    thaw();
+    final Set<Entry<NamedObjectKey, N>> entrySet = objects().entrySet();
     for (final Iterator<Entry<NamedObjectKey, N>> iterator = entrySet.iterator();
         iterator.hasNext(); ) {
       final Entry<NamedObjectKey, N> entry = iterator.next();
@@ -95,6 +165,8 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
         }
       }
     }
+    // Filter is also used to re-sort objects after their sort order has changed
+    modified();
   }
 
   /** {@inheritDoc} */
@@ -141,16 +213,36 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   boolean add(final N namedObject) {
     requireNonNull(namedObject, "Cannot add a null object to the list");
     final NamedObjectKey key = makeLookupKey(namedObject);
-    objects.put(key, namedObject);
+    modifiableObjects().put(key, namedObject);
+    modified();
     return true;
   }
 
   boolean contains(final NamedObject namedObject) {
-    return objects.containsKey(makeLookupKey(namedObject));
+    return objects().containsKey(makeLookupKey(namedObject));
+  }
+
+  /**
+   * Replaces the backing concurrent map with arrays sorted by the hash codes of the lookup keys,
+   * and keeps the sorted values. Lookups are then made by a binary search, and values are returned
+   * without copying or sorting.
+   */
+  void freeze() {
+    synchronized (this) {
+      final Map<NamedObjectKey, N> namedObjects = objects;
+      if (namedObjects == null || namedObjects instanceof Frozen) {
+        return;
+      }
+      if (namedObjects.isEmpty()) {
+        objects = null;
+      } else {
+        objects = new Frozen<>(namedObjects, values());
+      }
+    }
   }
 
   boolean isEmpty() {
-    return objects.isEmpty();
+    return objects().isEmpty();
   }
 
   Optional<N> lookup(final NamedObject namedObject, final String name) {
@@ -169,7 +261,19 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   }
 
   N remove(final N namedObject) {
-    return objects.remove(makeLookupKey(namedObject));
+    thaw();
+    final N removed = objects().remove(makeLookupKey(namedObject));
+    modified();
+    return removed;
+  }
+
+  /**
+   * Discards the sorted snapshot, so that values are sorted again when they are next requested.
+   * Needs to be called when the natural sort order of objects already in the list changes.
+   */
+  void sortOrderChanged() {
+    thaw();
+    modified();
   }
 
   /**
@@ -178,21 +282,100 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
    * @return Number of elements in this list.
    */
   int size() {
-    return objects.size();
+    return objects().size();
   }
 
   /**
-   * Gets all named objects in the list, in sorted order.
+   * Gets all named objects in the list, in sorted order. The returned list is an unmodifiable
+   * snapshot that is shared between callers, so it needs to be copied before it is handed out
+   * through the public API.
    *
    * @return All named objects
    */
   List<N> values() {
-    final List<N> all = new ArrayList<>(objects.values());
-    all.sort(naturalOrder());
-    return all;
+    return snapshot().values;
+  }
+
+  /**
+   * Gets the named objects in a schema, in sorted order. Objects are indexed by schema when this
+   * is first called after the list is modified, so that each call takes time in proportion to the
+   * number of objects returned. The returned list is shared between callers, like {@link
+   * #values()}.
+   *
+   * @param schema Schema to get objects for
+   * @return Named objects in the schema
+   */
+  List<N> values(final Schema schema) {
+    requireNonNull(schema, "No schema provided");
+    return snapshot().values(schema);
   }
 
   private Optional<N> internalGet(final NamedObjectKey key) {
-    return Optional.ofNullable(objects.get(key));
+    return Optional.ofNullable(objects().get(key));
+  }
+
+  private Map<NamedObjectKey, N> modifiableObjects() {
+    Map<NamedObjectKey, N> namedObjects = objects;
+    if (namedObjects == null || namedObjects instanceof Frozen) {
+      synchronized (this) {
+        namedObjects = objects;
+        if (namedObjects == null) {
+          namedObjects = new ConcurrentHashMap<>();
+          objects = namedObjects;
+        } else if (namedObjects instanceof Frozen) {
+          namedObjects = new ConcurrentHashMap<>(namedObjects);
+          objects = namedObjects;
+        }
+      }
+    }
+    return namedObjects;
+  }
+
+  private void modified() {
+    synchronized (this) {
+      modCount++;
+    }
+  }
+
+  private Map<NamedObjectKey, N> objects() {
+    final Map<NamedObjectKey, N> namedObjects = objects;
+    if (namedObjects == null) {
+      return Collections.emptyMap();
+    }
+    return namedObjects;
+  }
+
+  private Snapshot<N> snapshot() {
+    final Snapshot<N> current = snapshot;
+    final int currentModCount = modCount;
+    if (current != null && current.modCount == currentModCount) {
+      return current;
+    }
+
+    final Map<NamedObjectKey, N> namedObjects = objects;
+    if (namedObjects == null) {
+      // Many lists stay empty, so their snapshots are not kept
+      return new Snapshot<>(currentModCount, Collections.emptyList());
+    }
+
+    final List<N> values;
+    if (namedObjects instanceof Frozen) {
+      values = ((Frozen<N>) namedObjects).sortedValues;
+    } else {
+      // Read the modification count before copying, so that a concurrent
+      // modification will cause the snapshot to be discarded on next use
+      final List<N> all = new ArrayList<>(namedObjects.values());
+      all.sort(naturalOrder());
+      values = Collections.unmodifiableList(all);
+    }
+    final Snapshot<N> newSnapshot = new Snapshot<>(currentModCount, values);
+    snapshot = newSnapshot;
+    return newSnapshot;
+  }
+
+  private void thaw() {
+    if (objects instanceof Frozen) {
+      modifiableObjects();
+    }
   }
 }
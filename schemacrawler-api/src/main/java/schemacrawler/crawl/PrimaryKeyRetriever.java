@@ -42,6 +42,7 @@ import java.util.logging.Logger;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.View;
 import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.exceptions.WrappedSQLException;
@@ -63,7 +64,10 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
   void retrievePrimaryKeys(final NamedObjectList<MutableTable> allTables) throws SQLException {
     requireNonNull(allTables, "No tables provided");
 
-    switch (getRetrieverConnection().get(primaryKeysRetrievalStrategy)) {
+    final MetadataRetrievalStrategy strategy =
+        getRetrieverConnection().get(primaryKeysRetrievalStrategy, allTables.size());
+    final long startTime = System.nanoTime();
+    switch (strategy) {
       case data_dictionary_all:
         LOGGER.log(Level.INFO, "Retrieving primary keys, using fast data dictionary retrieval");
         retrievePrimaryKeysFromDataDictionary(allTables);
@@ -78,6 +82,9 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
         LOGGER.log(Level.INFO, "Not retrieving primary keys");
         break;
     }
+    getRetrieverConnection()
+        .recordRetrievalTime(
+            primaryKeysRetrievalStrategy, strategy, allTables.size(), System.nanoTime() - startTime);
   }
 
   private void createPrimaryKeyForTable(final MutableTable table, final MetadataResultSet results) {
@@ -122,9 +129,9 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
 
     final Query pkSql = informationSchemaViews.getQuery(PRIMARY_KEYS);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
-            new MetadataResultSet(pkSql, statement, getSchemaInclusionRule()); ) {
+            new MetadataResultSet(pkSql, statement, getLimitOptions()); ) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
         final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
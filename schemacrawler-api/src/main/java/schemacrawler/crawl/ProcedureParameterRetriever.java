@@ -105,7 +105,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
     final String columnCatalogName = normalizeCatalogName(results.getString("PROCEDURE_CAT"));
     final String schemaName = normalizeSchemaName(results.getString("PROCEDURE_SCHEM"));
     final String procedureName = results.getString("PROCEDURE_NAME");
-    String columnName = results.getString("COLUMN_NAME");
+    String columnName = intern(results.getString("COLUMN_NAME"));
     final String specificName = results.getString("SPECIFIC_NAME");
 
     final ParameterModeType parameterMode =
@@ -160,7 +160,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
       parameter.setNullable(isNullable);
       parameter.setRemarks(remarks);
 
-      parameter.addAttributes(results.getAttributes());
+      parameter.addAttributes(getAttributes(results));
 
       LOGGER.log(Level.FINER, new StringFormat("Adding parameter to procedure <%s>", parameter));
       procedure.addParameter(parameter);
@@ -202,7 +202,7 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
     }
     final Query procedureColumnsSql = informationSchemaViews.getQuery(PROCEDURE_COLUMNS);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
             new MetadataResultSet(procedureColumnsSql, statement, getSchemaInclusionRule()); ) {
       while (results.next()) {
@@ -31,6 +31,9 @@ package schemacrawler.crawl;
 import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.requireNotBlank;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -41,15 +44,32 @@ import us.fatehi.utility.scheduler.TaskRunner;
 import us.fatehi.utility.scheduler.TaskRunners;
 
 /**
- * Builds a list of task definitions that can be run in parallel. These are then submitted to be run
- * (in parallel) in a blocked way until all are complete.
+ * Builds a list of task definitions that can be run in parallel. Retrievals can depend on other
+ * retrievals in the same list, and are started as soon as the retrievals that they depend on are
+ * complete. Submitting the list blocks until all are complete.
  */
 public final class RetrievalTaskRunner {
 
+  private static final class Retrieval {
+    private final String name;
+    private final boolean shouldRun;
+    private final TaskDefinition.TaskRunnable function;
+    private final Collection<String> dependencies;
+
+    Retrieval(
+        final String name, final boolean shouldRun, final TaskDefinition.TaskRunnable function) {
+      this.name = name;
+      this.shouldRun = shouldRun;
+      this.function = function;
+      dependencies = new ArrayList<>();
+    }
+  }
+
   private static final Logger LOGGER = Logger.getLogger(RetrievalTaskRunner.class.getName());
 
   private final TaskRunner taskRunner;
   private final SchemaInfoLevel infoLevel;
+  private final List<Retrieval> retrievals;
 
   public RetrievalTaskRunner(
       final String runId, final SchemaInfoLevel infoLevel, final int maxThreads) {
@@ -58,6 +78,7 @@ public final class RetrievalTaskRunner {
     this.infoLevel = requireNonNull(infoLevel, "No info-level provided");
 
     taskRunner = TaskRunners.getTaskRunner(runId, maxThreads);
+    retrievals = new ArrayList<>();
   }
 
   public RetrievalTaskRunner add(
@@ -80,6 +101,41 @@ public final class RetrievalTaskRunner {
     return this;
   }
 
+  /**
+   * Makes the retrieval that was added last wait for other retrievals, so that it does not start
+   * until they are complete. It is not run if any of them fail.
+   *
+   * @param retrievals Retrievals that need to complete first
+   * @return This task runner, for chaining
+   */
+  public RetrievalTaskRunner dependsOn(final SchemaInfoRetrieval... retrievals) {
+    requireNonNull(retrievals, "No retrievals provided");
+    final String[] retrievalNames = new String[retrievals.length];
+    for (int i = 0; i < retrievals.length; i++) {
+      retrievalNames[i] = retrievals[i].name();
+    }
+    return dependsOn(retrievalNames);
+  }
+
+  /**
+   * Makes the retrieval that was added last wait for other retrievals, so that it does not start
+   * until they are complete. It is not run if any of them fail.
+   *
+   * @param retrievalNames Names of retrievals that need to complete first
+   * @return This task runner, for chaining
+   */
+  public RetrievalTaskRunner dependsOn(final String... retrievalNames) {
+    requireNonNull(retrievalNames, "No retrievals provided");
+    if (retrievals.isEmpty()) {
+      throw new IllegalStateException("No retrieval added to depend on others");
+    }
+    final Retrieval retrieval = retrievals.get(retrievals.size() - 1);
+    for (final String retrievalName : retrievalNames) {
+      retrieval.dependencies.add(requireNotBlank(retrievalName, "No retrieval name provided"));
+    }
+    return this;
+  }
+
   /**
    * Allows for a deferred conversion to a string. Useful in logging.
    *
@@ -94,19 +150,28 @@ public final class RetrievalTaskRunner {
   }
 
   public void submit() throws Exception {
+    try {
+      for (final Retrieval retrieval : retrievals) {
+        if (retrieval.shouldRun) {
+          taskRunner.add(
+              new TaskDefinition(retrieval.name, retrieval.function, retrieval.dependencies));
+        } else {
+          taskRunner.add(new TaskDefinition(retrieval.name, retrieval.dependencies));
+        }
+      }
+    } finally {
+      retrievals.clear();
+    }
     taskRunner.submit();
   }
 
   private void add(
       final String retrievalName,
       final boolean shouldRun,
-      final TaskDefinition.TaskRunnable function)
-      throws Exception {
-    if (shouldRun) {
-      taskRunner.add(new TaskDefinition(retrievalName, function));
-    } else {
-      taskRunner.add(new TaskDefinition(retrievalName));
-    }
+      final TaskDefinition.TaskRunnable function) {
+    requireNotBlank(retrievalName, "No retrieval name provided");
+    requireNonNull(function, "No retrieval provided");
+    retrievals.add(new Retrieval(retrievalName, shouldRun, function));
   }
 
   private boolean shouldRun(final SchemaInfoRetrieval... additionalRetrievals) {
@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
 import schemacrawler.plugin.EnumDataTypeHelper;
@@ -48,6 +49,8 @@ final class RetrieverConnection {
   private final DatabaseConnectionSource dataSource;
   private final JavaSqlTypes javaSqlTypes;
   private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final RetrievalStrategySelector retrievalStrategySelector;
+  private final IdentifierPool identifierPool;
 
   RetrieverConnection(
       final DatabaseConnectionSource dataSource,
@@ -60,6 +63,14 @@ final class RetrieverConnection {
         requireNonNull(schemaRetrievalOptions, "No database specific overrides provided");
 
     javaSqlTypes = new JavaSqlTypes();
+    identifierPool = new IdentifierPool();
+    final Path retrievalHistoryFile =
+        schemaRetrievalOptions.getRetrievalHistoryFile().orElse(null);
+    retrievalStrategySelector =
+        new RetrievalStrategySelector(
+            schemaRetrievalOptions.getCrossoverTableCount(),
+            retrievalHistoryFile,
+            retrievalHistoryFile == null ? "" : lookupDatabaseKey());
   }
 
   public MetadataRetrievalStrategy get(
@@ -67,6 +78,22 @@ final class RetrieverConnection {
     return schemaRetrievalOptions.get(schemaInfoMetadataRetrievalStrategy);
   }
 
+  /**
+   * Gets the metadata retrieval strategy to use for a retrieval that makes metadata calls one
+   * table at a time. The configured strategy may be switched, depending on the number of tables
+   * that are crawled.
+   *
+   * @param schemaInfoMetadataRetrievalStrategy Retrieval to run
+   * @param tableCount Number of tables being crawled
+   * @return Strategy to use for the retrieval
+   */
+  MetadataRetrievalStrategy get(
+      final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy,
+      final int tableCount) {
+    return retrievalStrategySelector.select(
+        schemaInfoMetadataRetrievalStrategy, get(schemaInfoMetadataRetrievalStrategy), tableCount);
+  }
+
   Connection getConnection() {
     return dataSource.get();
   }
@@ -75,10 +102,33 @@ final class RetrieverConnection {
     return schemaRetrievalOptions.getEnumDataTypeHelper();
   }
 
+  int getFetchSize() {
+    return schemaRetrievalOptions.getFetchSize();
+  }
+
+  /**
+   * Gets the pool of identifiers for this crawl, so that repeated identifiers share a single
+   * instance in the catalog.
+   *
+   * @return Identifier pool
+   */
+  IdentifierPool getIdentifierPool() {
+    return identifierPool;
+  }
+
   Identifiers getIdentifiers() {
     return schemaRetrievalOptions.getIdentifiers();
   }
 
+  /**
+   * Gets the maximum number of connections that retrievals can use at the same time.
+   *
+   * @return Maximum number of connections
+   */
+  int getMaxConnections() {
+    return dataSource.getMaxConnections();
+  }
+
   /**
    * Gets the INFORMATION_SCHEMA views select SQL statements.
    *
@@ -107,4 +157,32 @@ final class RetrieverConnection {
   boolean isSupportsSchemas() {
     return schemaRetrievalOptions.isSupportsSchemas();
   }
+
+  /**
+   * Records the time taken for a retrieval, to help pick strategies for later crawls.
+   *
+   * @param schemaInfoMetadataRetrievalStrategy Retrieval that was run
+   * @param metadataRetrievalStrategy Strategy that was used for the retrieval
+   * @param tableCount Number of tables that were crawled
+   * @param elapsedNanos Time taken, in nanoseconds
+   */
+  void recordRetrievalTime(
+      final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy,
+      final MetadataRetrievalStrategy metadataRetrievalStrategy,
+      final int tableCount,
+      final long elapsedNanos) {
+    retrievalStrategySelector.record(
+        schemaInfoMetadataRetrievalStrategy, metadataRetrievalStrategy, tableCount, elapsedNanos);
+  }
+
+  /** Saves the times taken for retrievals, if a retrieval history file was configured. */
+  void saveRetrievalHistory() {
+    retrievalStrategySelector.saveHistory();
+  }
+
+  private String lookupDatabaseKey() throws SQLException {
+    try (final Connection connection = getConnection()) {
+      return RetrievalStrategySelector.databaseKey(connection.getMetaData().getURL());
+    }
+  }
 }
@@ -46,6 +46,18 @@ public final class RetrieverUtility {
 
   private static final Logger LOGGER = Logger.getLogger(RetrieverUtility.class.getName());
 
+  /**
+   * Freezes a catalog into a compact, read-optimized form. This should be called once, after the
+   * last catalog loader has run, since anything modified later is made modifiable again.
+   *
+   * @param catalog Catalog to freeze
+   */
+  public static void freezeCatalog(final Catalog catalog) {
+    if (catalog instanceof MutableCatalog) {
+      ((MutableCatalog) catalog).freeze();
+    }
+  }
+
   static String constructForeignKeyName(final Table pkTable, final Table fkTable) {
     requireNonNull(pkTable, "No referenced table provided");
     requireNonNull(fkTable, "No referencing table provided");
@@ -76,7 +76,7 @@ final class RoutineExtRetriever extends AbstractRetriever {
 
     final Query routineDefinitionsSql = informationSchemaViews.getQuery(ROUTINES);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
             new MetadataResultSet(routineDefinitionsSql, statement, getSchemaInclusionRule()); ) {
       while (results.next()) {
@@ -99,7 +99,7 @@ final class RoutineExtRetriever extends AbstractRetriever {
           routine.setRoutineBodyType(routineBodyType);
           routine.appendDefinition(definition);
 
-          routine.addAttributes(results.getAttributes());
+          routine.addAttributes(getAttributes(results));
         }
       }
     } catch (final Exception e) {
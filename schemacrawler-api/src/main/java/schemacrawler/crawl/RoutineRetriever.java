@@ -119,7 +119,7 @@ final class RoutineRetriever extends AbstractRetriever {
     if (functionFilter.test(function)) {
       function.setReturnType(functionType);
       function.setRemarks(remarks);
-      function.addAttributes(results.getAttributes());
+      function.addAttributes(getAttributes(results));
 
       catalog.addRoutine(function);
     }
@@ -155,7 +155,7 @@ final class RoutineRetriever extends AbstractRetriever {
     if (procedureFilter.test(procedure)) {
       procedure.setReturnType(procedureType);
       procedure.setRemarks(remarks);
-      procedure.addAttributes(results.getAttributes());
+      procedure.addAttributes(getAttributes(results));
 
       catalog.addRoutine(procedure);
     }
@@ -200,7 +200,7 @@ final class RoutineRetriever extends AbstractRetriever {
     }
     final Query functionsSql = informationSchemaViews.getQuery(FUNCTIONS);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
             new MetadataResultSet(functionsSql, statement, getSchemaInclusionRule()); ) {
       int numFunctions = 0;
@@ -278,7 +278,7 @@ final class RoutineRetriever extends AbstractRetriever {
     }
     final Query proceduresSql = informationSchemaViews.getQuery(PROCEDURES);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
             new MetadataResultSet(proceduresSql, statement, getSchemaInclusionRule()); ) {
       int numProcedures = 0;
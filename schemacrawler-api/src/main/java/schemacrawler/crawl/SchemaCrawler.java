@@ -107,6 +107,7 @@ public final class SchemaCrawler {
   private final int maxThreads;
   private RetrievalTaskRunner taskRunner;
   private MutableCatalog catalog;
+  private Catalog previousCatalog;
 
   /**
    * Constructs a SchemaCrawler object, from a database connection source.
@@ -138,6 +139,32 @@ public final class SchemaCrawler {
    * @return Database metadata
    */
   public Catalog crawl() {
+    return crawlCatalog(null);
+  }
+
+  /**
+   * Crawls the database incrementally, reusing tables from the catalog of an earlier crawl of the
+   * same database. Change markers for tables are read from the database using a query supplied by
+   * the database plugin, and tables with the same change marker as in the earlier catalog are
+   * carried over, without retrieving their columns, keys, indexes, triggers and other details
+   * again. All other database objects are retrieved as usual.
+   *
+   * <p>Change markers are recorded in the new catalog, so that it can be used for the next
+   * incremental crawl. Tables from a catalog without change markers, such as one from a regular
+   * crawl, are all retrieved again, as they are when the database plugin does not supply a change
+   * marker query. Tables are moved rather than copied from the earlier catalog, which should not be
+   * used after an incremental crawl.
+   *
+   * @param previousCatalog Catalog from an earlier crawl
+   * @return Database metadata
+   */
+  public Catalog crawl(final Catalog previousCatalog) {
+    requireNonNull(previousCatalog, "No previous catalog provided");
+    return crawlCatalog(previousCatalog);
+  }
+
+  private Catalog crawlCatalog(final Catalog previousCatalog) {
+    this.previousCatalog = previousCatalog;
     try {
       try (final Connection connection = retrieverConnection.getConnection(); ) {
         final ConnectionInfoBuilder connectionInfoBuilder =
@@ -168,6 +195,8 @@ public final class SchemaCrawler {
       crawlSynonyms();
       crawlSequences();
 
+      retrieverConnection.saveRetrievalHistory();
+
       return catalog;
     } catch (final RuntimeException e) {
       throw e;
@@ -370,6 +399,8 @@ public final class SchemaCrawler {
     final TablePrivilegeRetriever retrieverPrivilege =
         new TablePrivilegeRetriever(retrieverConnection, catalog, options);
     final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection, catalog, options);
+    final TableChangeRetriever changeRetriever =
+        new TableChangeRetriever(retrieverConnection, catalog, options);
 
     taskRunner
         .add(
@@ -389,36 +420,49 @@ public final class SchemaCrawler {
       return;
     }
 
+    // For an incremental crawl, only retrieve details of tables that have changed
+    final NamedObjectList<MutableTable> changedTables;
+    if (previousCatalog == null) {
+      changedTables = allTables;
+    } else {
+      taskRunner
+          .add("retrieveTableChangeMarkers", changeRetriever::retrieveTableChangeMarkers)
+          .submit();
+      changedTables = changeRetriever.retainUnchangedTables(previousCatalog);
+    }
+
+    // Retrievals are started as soon as the retrievals that they depend on are done
     taskRunner
         .add(
             retrieveTableColumns,
             () -> {
               if (!limitOptions.isExcludeAll(ruleForColumnInclusion)) {
                 columnRetriever.retrieveTableColumns(
-                    allTables, limitOptions.get(ruleForColumnInclusion));
+                    changedTables, limitOptions.get(ruleForColumnInclusion));
               }
             })
-        .submit();
-
-    taskRunner
         .add(
             retrievePrimaryKeys,
-            () -> pkRetriever.retrievePrimaryKeys(allTables),
+            () -> pkRetriever.retrievePrimaryKeys(changedTables),
             retrieveTableColumns)
+        .dependsOn(retrieveTableColumns)
         .add(
             retrieveForeignKeys,
-            () -> fkRetriever.retrieveForeignKeys(allTables),
+            () -> fkRetriever.retrieveForeignKeys(changedTables),
+            retrieveTableColumns)
+        .dependsOn(retrieveTableColumns)
+        .add(
+            retrieveIndexes,
+            () -> indexRetriever.retrieveIndexes(changedTables),
             retrieveTableColumns)
-        .add(retrieveIndexes, () -> indexRetriever.retrieveIndexes(allTables), retrieveTableColumns)
+        .dependsOn(retrieveTableColumns)
         .add(
             retrieveTableConstraints,
             constraintRetriever::retrieveTableConstraints,
             retrieveTableColumns)
+        .dependsOn(retrieveTableColumns)
         .add(retrieveTriggerInformation, retrieverExtra::retrieveTriggerInformation)
-        .submit();
-
-    // Should be run independently, since filter and sort modifies the tables collection
-    taskRunner
+        // Should be run on its own, since filter and sort modifies the tables collection
         .add(
             "filterAndSortTables",
             () -> {
@@ -429,59 +473,72 @@ public final class SchemaCrawler {
               // Sort the remaining tables
               final TablesGraph tablesGraph = new TablesGraph(allTables);
               tablesGraph.setTablesSortIndexes();
+              allTables.sortOrderChanged();
             })
-        .submit();
-
-    // Should be run independently, since table constraints are modified
-    taskRunner
+        .dependsOn(
+            retrievePrimaryKeys,
+            retrieveForeignKeys,
+            retrieveIndexes,
+            retrieveTableConstraints,
+            retrieveTriggerInformation)
+        // Should be run on its own, since table constraints are modified
         .add(
             "matchTableConstraints",
             () -> constraintRetriever.matchTableConstraints(allTables),
             retrieveTableColumns)
-        .submit();
-
-    taskRunner
+        .dependsOn("filterAndSortTables")
         .add(
             retrieveTableConstraintDefinitions,
             constraintRetriever::retrieveTableConstraintDefinitions,
             retrieveTableConstraints)
+        .dependsOn("matchTableConstraints")
         .add(
             retrieveTableConstraintInformation,
             constraintRetriever::retrieveTableConstraintInformation,
             retrieveTableConstraints)
+        .dependsOn("matchTableConstraints")
         .add(retrieveViewInformation, retrieverExtra::retrieveViewInformation, retrieveTables)
+        .dependsOn("filterAndSortTables")
         .add(retrieveViewTableUsage, retrieverExtra::retrieveViewTableUsage, retrieveTables)
+        .dependsOn("filterAndSortTables")
         .add(
             retrieveTableDefinitionsInformation,
             retrieverExtra::retrieveTableDefinitions,
             retrieveTables)
+        .dependsOn("filterAndSortTables")
         .add(
             retrieveIndexInformation,
             () -> retrieverExtra.retrieveIndexInformation(),
             retrieveIndexes)
+        .dependsOn("filterAndSortTables")
         .add(
             retrieveAdditionalTableAttributes,
             () -> retrieverExtra.retrieveAdditionalTableAttributes(),
             retrieveTables)
+        .dependsOn("filterAndSortTables")
         .add(
             retrieveTablePrivileges,
             () -> retrieverPrivilege.retrieveTablePrivileges(),
             retrieveTables)
+        .dependsOn("filterAndSortTables")
         .add(
             retrieveTableColumnPrivileges,
             retrieverPrivilege::retrieveTableColumnPrivileges,
             retrieveTableColumns)
+        .dependsOn("filterAndSortTables")
         .add(
             retrieveAdditionalColumnAttributes,
             retrieverExtra::retrieveAdditionalColumnAttributes,
             retrieveTableColumns)
-        .submit();
-
-    taskRunner
+        .dependsOn("filterAndSortTables")
         .add(
             retrieveAdditionalColumnMetadata,
             retrieverExtra::retrieveAdditionalColumnMetadata,
             retrieveTableColumns)
+        .dependsOn(retrieveAdditionalColumnAttributes)
         .submit();
+
+    // Tables carried over from an earlier crawl can be looked up by other retrievers again
+    catalog.clearRetainedTables();
   }
 }
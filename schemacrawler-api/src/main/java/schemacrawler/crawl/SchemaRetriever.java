@@ -198,7 +198,7 @@ final class SchemaRetriever extends AbstractRetriever {
     final Query schemataSql = informationSchemaViews.getQuery(SCHEMATA);
 
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
             new MetadataResultSet(schemataSql, statement, getSchemaInclusionRule()); ) {
       int numSchemas = 0;
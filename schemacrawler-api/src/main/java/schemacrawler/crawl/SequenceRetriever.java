@@ -88,7 +88,7 @@ final class SequenceRetriever extends AbstractRetriever {
 
     final Query sequencesDefinitionSql = informationSchemaViews.getQuery(SEQUENCES);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
             new MetadataResultSet(sequencesDefinitionSql, statement, getSchemaInclusionRule()); ) {
       while (results.next()) {
@@ -122,7 +122,7 @@ final class SequenceRetriever extends AbstractRetriever {
         sequence.setIncrement(longIncrement);
         sequence.setCycle(cycle);
 
-        sequence.addAttributes(results.getAttributes());
+        sequence.addAttributes(getAttributes(results));
       }
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve sequences", e);
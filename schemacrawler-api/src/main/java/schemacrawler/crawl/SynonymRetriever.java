@@ -54,7 +54,7 @@ import us.fatehi.utility.string.StringFormat;
  */
 final class SynonymRetriever extends AbstractRetriever {
 
-  private static final class UnknownDatabaseObject extends AbstractDatabaseObject {
+  static final class UnknownDatabaseObject extends AbstractDatabaseObject {
 
     private static final long serialVersionUID = -2212843304418302122L;
 
@@ -100,7 +100,7 @@ final class SynonymRetriever extends AbstractRetriever {
 
     final Query synonymsDefinitionSql = informationSchemaViews.getQuery(EXT_SYNONYMS);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
             new MetadataResultSet(synonymsDefinitionSql, statement, getSchemaInclusionRule()); ) {
       while (results.next()) {
@@ -153,7 +153,7 @@ final class SynonymRetriever extends AbstractRetriever {
 
         synonym.setReferencedObject(referencedObject);
 
-        synonym.addAttributes(results.getAttributes());
+        synonym.addAttributes(getAttributes(results));
       }
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve synonyms", e);
@@ -0,0 +1,288 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_CHANGE_MARKERS;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.PartialDatabaseObject;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableReference;
+import schemacrawler.schema.View;
+import schemacrawler.schema.WeakAssociation;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * A retriever for incremental crawls. Change markers for tables are read from the database, and
+ * tables that have not changed since an earlier crawl are carried over from the catalog of that
+ * crawl, so that only changed tables need to be retrieved again.
+ */
+final class TableChangeRetriever extends AbstractRetriever {
+
+  /** Table attribute that holds the change marker read from the database. */
+  static final String CHANGE_MARKER = "schemacrawler.change_marker";
+
+  private static final Logger LOGGER = Logger.getLogger(TableChangeRetriever.class.getName());
+
+  TableChangeRetriever(
+      final RetrieverConnection retrieverConnection,
+      final MutableCatalog catalog,
+      final SchemaCrawlerOptions options) {
+    super(retrieverConnection, catalog, options);
+  }
+
+  /**
+   * Carries over tables from the catalog of an earlier crawl, if their change markers have not
+   * changed, and if all the tables that they depend on are also carried over. Tables are carried
+   * over from a copy of the earlier catalog, which shares schemas and column data types with this
+   * catalog, so the earlier catalog is not modified. Carried over tables replace the tables in this
+   * catalog, and lose any foreign keys and weak associations to tables that are retrieved again,
+   * since those will be retrieved afresh.
+   *
+   * @param previousCatalog Catalog from an earlier crawl
+   * @return Tables that need to be retrieved again
+   */
+  NamedObjectList<MutableTable> retainUnchangedTables(final Catalog previousCatalog) {
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+
+    final Map<NamedObjectKey, MutableTable> unchangedTables = new HashMap<>();
+    for (final MutableTable table : allTables) {
+      final Optional<MutableTable> previousTableOptional =
+          lookupUnchangedTable(previousCatalog, table);
+      if (previousTableOptional.isPresent()) {
+        unchangedTables.put(table.key(), previousTableOptional.get());
+      }
+    }
+    removeViewsOnChangedTables(unchangedTables);
+
+    if (!unchangedTables.isEmpty()) {
+      final Optional<MutableCatalog> catalogCopy = copyForRetaining(previousCatalog);
+      if (catalogCopy.isPresent()) {
+        for (final Iterator<Map.Entry<NamedObjectKey, MutableTable>> iterator =
+                unchangedTables.entrySet().iterator();
+            iterator.hasNext(); ) {
+          final Map.Entry<NamedObjectKey, MutableTable> entry = iterator.next();
+          final Optional<MutableTable> tableCopy = catalogCopy.get().lookupTable(entry.getKey());
+          if (tableCopy.isPresent()) {
+            entry.setValue(tableCopy.get());
+          } else {
+            iterator.remove();
+          }
+        }
+      } else {
+        unchangedTables.clear();
+      }
+    }
+
+    for (final MutableTable table : unchangedTables.values()) {
+      detachChangedTables(table, unchangedTables);
+      catalog.retainTable(table);
+    }
+
+    final NamedObjectList<MutableTable> changedTables = new NamedObjectList<>();
+    for (final MutableTable table : allTables) {
+      if (!unchangedTables.containsKey(table.key())) {
+        changedTables.add(table);
+      }
+    }
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Carried over %d unchanged tables from an earlier crawl, and retrieving %d tables",
+            unchangedTables.size(), changedTables.size()));
+    return changedTables;
+  }
+
+  /**
+   * Retrieves change markers for tables from the database. The change marker is a value that is
+   * different every time the definition of a table changes, such as a last modified timestamp.
+   *
+   * @throws SQLException On a SQL exception
+   */
+  void retrieveTableChangeMarkers() throws SQLException {
+    final InformationSchemaViews informationSchemaViews =
+        getRetrieverConnection().getInformationSchemaViews();
+    if (!informationSchemaViews.hasQuery(TABLE_CHANGE_MARKERS)) {
+      LOGGER.log(
+          Level.INFO,
+          "Not retrieving table change markers, so all tables will be retrieved again");
+      LOGGER.log(Level.FINE, "Table change markers SQL statement was not provided");
+      return;
+    }
+    final Query tableChangeMarkersSql = informationSchemaViews.getQuery(TABLE_CHANGE_MARKERS);
+
+    try (final Connection connection = getRetrieverConnection().getConnection();
+        final Statement statement = createStatement(connection);
+        final MetadataResultSet results =
+            new MetadataResultSet(tableChangeMarkersSql, statement, getLimitOptions()); ) {
+
+      while (results.next()) {
+        final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
+        final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEMA"));
+        final String tableName = results.getString("TABLE_NAME");
+        LOGGER.log(Level.FINER, "Retrieving table change marker: " + tableName);
+
+        final Optional<MutableTable> tableOptional =
+            lookupTable(catalogName, schemaName, tableName);
+        if (!tableOptional.isPresent()) {
+          LOGGER.log(
+              Level.FINE,
+              new StringFormat("Cannot find table <%s.%s.%s>", catalogName, schemaName, tableName));
+          continue;
+        }
+
+        final MutableTable table = tableOptional.get();
+        final String changeMarker = results.getString("CHANGE_MARKER");
+        if (changeMarker != null) {
+          table.setAttribute(CHANGE_MARKER, changeMarker);
+        }
+      }
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Could not retrieve table change markers", e);
+    }
+  }
+
+  private Optional<MutableCatalog> copyForRetaining(final Catalog previousCatalog) {
+    try {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      new BinaryCatalogWriter(previousCatalog).write(out);
+      return Optional.of(
+          new BinaryCatalogReader(ByteBuffer.wrap(out.toByteArray())).readCopyFor(catalog));
+    } catch (final IOException e) {
+      LOGGER.log(
+          Level.WARNING,
+          "Could not copy the earlier catalog, so all tables will be retrieved again",
+          e);
+      return Optional.empty();
+    }
+  }
+
+  private void detachChangedTables(
+      final MutableTable table, final Map<NamedObjectKey, MutableTable> unchangedTables) {
+
+    for (final ForeignKey foreignKey : table.getForeignKeys()) {
+      if (referencesUnchangedTables(foreignKey, unchangedTables)) {
+        continue;
+      }
+      table.removeForeignKey((MutableForeignKey) foreignKey);
+      if (table.equals(foreignKey.getForeignKeyTable())) {
+        table.removeTableConstraint(foreignKey);
+        for (final ColumnReference columnReference : foreignKey) {
+          if (columnReference.getForeignKeyColumn() instanceof MutableColumn) {
+            ((MutableColumn) columnReference.getForeignKeyColumn()).setReferencedColumn(null);
+          }
+        }
+      }
+    }
+
+    for (final WeakAssociation weakAssociation : table.getWeakAssociations()) {
+      if (!referencesUnchangedTables(weakAssociation, unchangedTables)) {
+        table.removeWeakAssociation((MutableWeakAssociation) weakAssociation);
+      }
+    }
+  }
+
+  private boolean isUnchangedOrPartial(
+      final Table table, final Map<NamedObjectKey, MutableTable> unchangedTables) {
+    return table instanceof PartialDatabaseObject || unchangedTables.containsKey(table.key());
+  }
+
+  private Optional<MutableTable> lookupUnchangedTable(
+      final Catalog previousCatalog, final MutableTable table) {
+    final String changeMarker = table.getAttribute(CHANGE_MARKER, null);
+    if (changeMarker == null) {
+      return Optional.empty();
+    }
+
+    final Optional<? extends Table> previousTableOptional =
+        previousCatalog.lookupTable(table.getSchema(), table.getName());
+    if (!previousTableOptional.isPresent()) {
+      return Optional.empty();
+    }
+    final Table previousTable = previousTableOptional.get();
+    if (previousTable.getClass() != table.getClass()
+        || !previousTable.getTableType().equals(table.getTableType())
+        || !Objects.equals(changeMarker, previousTable.getAttribute(CHANGE_MARKER, null))) {
+      return Optional.empty();
+    }
+    return Optional.of((MutableTable) previousTable);
+  }
+
+  private boolean referencesUnchangedTables(
+      final TableReference tableReference,
+      final Map<NamedObjectKey, MutableTable> unchangedTables) {
+    return isUnchangedOrPartial(tableReference.getPrimaryKeyTable(), unchangedTables)
+        && isUnchangedOrPartial(tableReference.getForeignKeyTable(), unchangedTables);
+  }
+
+  /**
+   * Views refer to the tables they use, so a view can only be carried over if all of the tables
+   * that it uses are carried over too. This is repeated until no more views are removed, since
+   * views can use other views.
+   */
+  private void removeViewsOnChangedTables(final Map<NamedObjectKey, MutableTable> unchangedTables) {
+    boolean removed;
+    do {
+      removed = false;
+      for (final Iterator<MutableTable> iterator = unchangedTables.values().iterator();
+          iterator.hasNext(); ) {
+        final MutableTable table = iterator.next();
+        if (!(table instanceof View)) {
+          continue;
+        }
+        for (final Table usedTable : ((View) table).getTableUsage()) {
+          if (!unchangedTables.containsKey(usedTable.key())) {
+            iterator.remove();
+            removed = true;
+            break;
+          }
+        }
+      }
+    } while (removed);
+  }
+}
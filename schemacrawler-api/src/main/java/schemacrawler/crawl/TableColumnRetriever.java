@@ -49,6 +49,7 @@ import schemacrawler.schema.Column;
 import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
@@ -86,7 +87,10 @@ final class TableColumnRetriever extends AbstractRetriever {
 
     final Set<NamedObjectKey> hiddenTableColumnsLookupKeys = retrieveHiddenTableColumnsLookupKeys();
 
-    switch (getRetrieverConnection().get(tableColumnsRetrievalStrategy)) {
+    final MetadataRetrievalStrategy strategy =
+        getRetrieverConnection().get(tableColumnsRetrievalStrategy, allTables.size());
+    final long startTime = System.nanoTime();
+    switch (strategy) {
       case data_dictionary_all:
         LOGGER.log(Level.INFO, "Retrieving table columns, using fast data dictionary retrieval");
         retrieveTableColumnsFromDataDictionary(
@@ -102,6 +106,9 @@ final class TableColumnRetriever extends AbstractRetriever {
         LOGGER.log(Level.INFO, "Not retrieving table columns");
         break;
     }
+    getRetrieverConnection()
+        .recordRetrievalTime(
+            tableColumnsRetrievalStrategy, strategy, allTables.size(), System.nanoTime() - startTime);
   }
 
   private void createTableColumn(
@@ -113,12 +120,12 @@ final class TableColumnRetriever extends AbstractRetriever {
     // Get the "COLUMN_DEF" value first as it the Oracle driver
     // don't handle it properly otherwise.
     // https://github.com/schemacrawler/SchemaCrawler/issues/835
-    final String defaultValue = results.getString("COLUMN_DEF");
+    final String defaultValue = intern(results.getString("COLUMN_DEF"));
 
     final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
     final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
     final String tableName = results.getString("TABLE_NAME");
-    final String columnName = results.getString("COLUMN_NAME");
+    final String columnName = intern(results.getString("COLUMN_NAME"));
     LOGGER.log(
         Level.FINE,
         new StringFormat(
@@ -167,7 +174,7 @@ final class TableColumnRetriever extends AbstractRetriever {
         column.setDefaultValue(defaultValue);
       }
 
-      column.addAttributes(results.getAttributes());
+      column.addAttributes(getAttributes(results));
 
       LOGGER.log(
           Level.FINER,
@@ -216,9 +223,9 @@ final class TableColumnRetriever extends AbstractRetriever {
     }
     final Query hiddenColumnsSql = informationSchemaViews.getQuery(EXT_HIDDEN_TABLE_COLUMNS);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
-            new MetadataResultSet(hiddenColumnsSql, statement, getSchemaInclusionRule()); ) {
+            new MetadataResultSet(hiddenColumnsSql, statement, getLimitOptions()); ) {
       while (results.next()) {
         // NOTE: The column names in the extension table are different
         // than the database metadata column names
@@ -254,9 +261,9 @@ final class TableColumnRetriever extends AbstractRetriever {
     }
     final Query tableColumnsSql = informationSchemaViews.getQuery(TABLE_COLUMNS);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
-            new MetadataResultSet(tableColumnsSql, statement, getSchemaInclusionRule()); ) {
+            new MetadataResultSet(tableColumnsSql, statement, getLimitOptions()); ) {
       while (results.next()) {
         createTableColumn(results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
       }
@@ -268,8 +275,11 @@ final class TableColumnRetriever extends AbstractRetriever {
       final InclusionRuleFilter<Column> columnFilter,
       final Set<NamedObjectKey> hiddenTableColumnsLookupKeys)
       throws SQLException {
+    // Each table needs a round-trip to the database, so run as many at a time as there are
+    // connections
+    final int maxConnections = getRetrieverConnection().getMaxConnections();
     try (final TaskRunner taskRunner =
-        TaskRunners.getTaskRunner("retrieve-table-columns-from-metadata", 5); ) {
+        TaskRunners.getIOBoundTaskRunner("retrieve-table-columns-from-metadata", maxConnections); ) {
       for (final MutableTable table : allTables) {
         taskRunner.add(
             new TaskDefinition(
@@ -103,10 +103,10 @@ final class TableConstraintRetriever extends AbstractRetriever {
 
     // Get check constraint definitions
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
             new MetadataResultSet(
-                extTableConstraintInformationSql, statement, getSchemaInclusionRule()); ) {
+                extTableConstraintInformationSql, statement, getLimitOptions()); ) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("CONSTRAINT_SCHEMA"));
@@ -126,7 +126,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
         }
         tableConstraint.appendDefinition(definition);
 
-        tableConstraint.addAttributes(results.getAttributes());
+        tableConstraint.addAttributes(getAttributes(results));
       }
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve check constraints", e);
@@ -157,10 +157,10 @@ final class TableConstraintRetriever extends AbstractRetriever {
     final Query extTableConstraintsInformationSql =
         informationSchemaViews.getQuery(EXT_TABLE_CONSTRAINTS);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
             new MetadataResultSet(
-                extTableConstraintsInformationSql, statement, getSchemaInclusionRule()); ) {
+                extTableConstraintsInformationSql, statement, getLimitOptions()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
@@ -200,7 +200,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
 
         tableConstraint.setRemarks(remarks);
 
-        final Map<String, Object> attributes = results.getAttributes();
+        final Map<String, Object> attributes = getAttributes(results);
         final Set<Entry<String, Object>> entrySet = attributes.entrySet();
         for (final Entry<String, Object> entry : entrySet) {
           tableConstraint.setAttribute(entry.getKey(), entry.getValue());
@@ -272,10 +272,10 @@ final class TableConstraintRetriever extends AbstractRetriever {
 
     final Query tableConstraintsInformationSql = informationSchemaViews.getQuery(TABLE_CONSTRAINTS);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
             new MetadataResultSet(
-                tableConstraintsInformationSql, statement, getSchemaInclusionRule()); ) {
+                tableConstraintsInformationSql, statement, getLimitOptions()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
@@ -306,7 +306,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
         tableConstraint.setDeferrable(deferrable);
         tableConstraint.setInitiallyDeferred(initiallyDeferred);
 
-        tableConstraint.addAttributes(results.getAttributes());
+        tableConstraint.addAttributes(getAttributes(results));
 
         // Add constraint to table
         table.addTableConstraint(tableConstraint);
@@ -354,10 +354,10 @@ final class TableConstraintRetriever extends AbstractRetriever {
         informationSchemaViews.getQuery(CONSTRAINT_COLUMN_USAGE);
 
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
             new MetadataResultSet(
-                tableConstraintsColumnsInformationSql, statement, getSchemaInclusionRule()); ) {
+                tableConstraintsColumnsInformationSql, statement, getLimitOptions()); ) {
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("CONSTRAINT_CATALOG"));
         final String schemaName = normalizeSchemaName(results.getString("CONSTRAINT_SCHEMA"));
@@ -82,9 +82,9 @@ final class TableExtRetriever extends AbstractRetriever {
     final Query columnAttributesSql = informationSchemaViews.getQuery(ADDITIONAL_COLUMN_ATTRIBUTES);
 
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
-            new MetadataResultSet(columnAttributesSql, statement, getSchemaInclusionRule()); ) {
+            new MetadataResultSet(columnAttributesSql, statement, getLimitOptions()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -112,7 +112,7 @@ final class TableExtRetriever extends AbstractRetriever {
                   catalogName, schemaName, tableName, columnName));
         } else {
           final MutableColumn column = columnOptional.get();
-          column.addAttributes(results.getAttributes());
+          column.addAttributes(getAttributes(results));
         }
       }
     } catch (final Exception e) {
@@ -129,6 +129,9 @@ final class TableExtRetriever extends AbstractRetriever {
 
       final NamedObjectList<MutableTable> tables = catalog.getAllTables();
       for (final MutableTable table : tables) {
+        if (catalog.isRetainedTable(table.key())) {
+          continue;
+        }
         final NamedObjectList<MutableColumn> columns = table.getAllColumns();
         for (final MutableColumn column : columns) {
           MutableColumnDataType columnDataType = (MutableColumnDataType) column.getColumnDataType();
@@ -177,9 +180,9 @@ final class TableExtRetriever extends AbstractRetriever {
     final Query tableAttributesSql = informationSchemaViews.getQuery(ADDITIONAL_TABLE_ATTRIBUTES);
 
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
-            new MetadataResultSet(tableAttributesSql, statement, getSchemaInclusionRule()); ) {
+            new MetadataResultSet(tableAttributesSql, statement, getLimitOptions()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -197,7 +200,7 @@ final class TableExtRetriever extends AbstractRetriever {
         }
 
         final MutableTable table = tableOptional.get();
-        table.addAttributes(results.getAttributes());
+        table.addAttributes(getAttributes(results));
       }
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve additional table attributes", e);
@@ -224,10 +227,10 @@ final class TableExtRetriever extends AbstractRetriever {
 
     final Query extIndexesInformationSql = informationSchemaViews.getQuery(EXT_INDEXES);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
             new MetadataResultSet(
-                extIndexesInformationSql, statement, getSchemaInclusionRule()); ) {
+                extIndexesInformationSql, statement, getLimitOptions()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("INDEX_CATALOG"));
@@ -264,7 +267,7 @@ final class TableExtRetriever extends AbstractRetriever {
         index.appendDefinition(definition);
         index.setRemarks(remarks);
 
-        index.addAttributes(results.getAttributes());
+        index.addAttributes(getAttributes(results));
       }
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve index information", e);
@@ -290,10 +293,10 @@ final class TableExtRetriever extends AbstractRetriever {
 
     final Query tableDefinitionsInformationSql = informationSchemaViews.getQuery(EXT_TABLES);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
             new MetadataResultSet(
-                tableDefinitionsInformationSql, statement, getSchemaInclusionRule()); ) {
+                tableDefinitionsInformationSql, statement, getLimitOptions()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
@@ -316,7 +319,7 @@ final class TableExtRetriever extends AbstractRetriever {
 
         table.appendDefinition(definition);
 
-        table.addAttributes(results.getAttributes());
+        table.addAttributes(getAttributes(results));
       }
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve table definitions", e);
@@ -341,9 +344,9 @@ final class TableExtRetriever extends AbstractRetriever {
 
     final Query triggerInformationSql = informationSchemaViews.getQuery(TRIGGERS);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
-            new MetadataResultSet(triggerInformationSql, statement, getSchemaInclusionRule()); ) {
+            new MetadataResultSet(triggerInformationSql, statement, getLimitOptions()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("TRIGGER_CATALOG"));
@@ -390,7 +393,7 @@ final class TableExtRetriever extends AbstractRetriever {
         trigger.setActionOrientation(actionOrientation);
         trigger.setConditionTiming(conditionTiming);
 
-        trigger.addAttributes(results.getAttributes());
+        trigger.addAttributes(getAttributes(results));
 
         // Add trigger to the table
         table.addTrigger(trigger);
@@ -420,9 +423,9 @@ final class TableExtRetriever extends AbstractRetriever {
 
     final Query viewInformationSql = informationSchemaViews.getQuery(VIEWS);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
-            new MetadataResultSet(viewInformationSql, statement, getSchemaInclusionRule()); ) {
+            new MetadataResultSet(viewInformationSql, statement, getLimitOptions()); ) {
 
       while (results.next()) {
 
@@ -454,7 +457,7 @@ final class TableExtRetriever extends AbstractRetriever {
         view.setCheckOption(checkOption);
         view.setUpdatable(updatable);
 
-        view.addAttributes(results.getAttributes());
+        view.addAttributes(getAttributes(results));
       }
     } catch (final Exception e) {
       LOGGER.log(Level.WARNING, "Could not retrieve views", e);
@@ -481,9 +484,9 @@ final class TableExtRetriever extends AbstractRetriever {
 
     final Query viewTableUsageSql = informationSchemaViews.getQuery(VIEW_TABLE_USAGE);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
-            new MetadataResultSet(viewTableUsageSql, statement, getSchemaInclusionRule()); ) {
+            new MetadataResultSet(viewTableUsageSql, statement, getLimitOptions()); ) {
 
       while (results.next()) {
         final String catalogName = normalizeCatalogName(results.getString("VIEW_CATALOG"));
@@ -36,6 +36,13 @@ class TablePointer extends DatabaseObjectReference<Table> {
   private static final long serialVersionUID = 8940800217960888019L;
 
   TablePointer(final Table table) {
-    super(requireNonNull(table, "No table provided"), new TablePartial(table));
+    super(requireNonNull(table, "No table provided"), toPartial(table));
+  }
+
+  private static Table toPartial(final Table table) {
+    if (table instanceof MutableTable) {
+      return ((MutableTable) table).getPartial();
+    }
+    return new TablePartial(table);
   }
 }
@@ -125,9 +125,9 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
         column = null;
       }
 
-      final String privilegeName = results.getString("PRIVILEGE");
-      final String grantor = results.getString("GRANTOR");
-      final String grantee = results.getString("GRANTEE");
+      final String privilegeName = intern(results.getString("PRIVILEGE"));
+      final String grantor = intern(results.getString("GRANTOR"));
+      final String grantee = intern(results.getString("GRANTEE"));
       final boolean isGrantable = results.getBoolean("IS_GRANTABLE");
 
       final MutablePrivilege<?> privilege;
@@ -164,9 +164,9 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
     }
     final Query tablePrivelegesSql = informationSchemaViews.getQuery(TABLE_COLUMN_PRIVILEGES);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
-            new MetadataResultSet(tablePrivelegesSql, statement, getSchemaInclusionRule()); ) {
+            new MetadataResultSet(tablePrivelegesSql, statement, getLimitOptions()); ) {
       createPrivileges(results, true);
     }
   }
@@ -191,9 +191,9 @@ final class TablePrivilegeRetriever extends AbstractRetriever {
     }
     final Query tablePrivelegesSql = informationSchemaViews.getQuery(TABLE_PRIVILEGES);
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
-            new MetadataResultSet(tablePrivelegesSql, statement, getSchemaInclusionRule()); ) {
+            new MetadataResultSet(tablePrivelegesSql, statement, getLimitOptions()); ) {
       createPrivileges(results, false);
     }
   }
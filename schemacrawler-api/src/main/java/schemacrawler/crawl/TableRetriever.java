@@ -104,7 +104,7 @@ final class TableRetriever extends AbstractRetriever {
       final TableTypes filteredTableTypes) {
     final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
     final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
-    final String tableName = results.getString("TABLE_NAME");
+    final String tableName = intern(results.getString("TABLE_NAME"));
     LOGGER.log(
         Level.FINE,
         new StringFormat("Retrieving table <%s.%s.%s>", catalogName, schemaName, tableName));
@@ -140,7 +140,7 @@ final class TableRetriever extends AbstractRetriever {
     if (tableFilter.test(table)) {
       table.setTableType(tableType);
       table.setRemarks(remarks);
-      table.addAttributes(results.getAttributes());
+      table.addAttributes(getAttributes(results));
 
       catalog.addTable(table);
     }
@@ -165,9 +165,9 @@ final class TableRetriever extends AbstractRetriever {
       filteredTableTypes = tableTypes;
     }
     try (final Connection connection = getRetrieverConnection().getConnection();
-        final Statement statement = connection.createStatement();
+        final Statement statement = createStatement(connection);
         final MetadataResultSet results =
-            new MetadataResultSet(tablesSql, statement, getSchemaInclusionRule()); ) {
+            new MetadataResultSet(tablesSql, statement, getLimitOptions()); ) {
       int numTables = 0;
       while (results.next()) {
         numTables = numTables + 1;
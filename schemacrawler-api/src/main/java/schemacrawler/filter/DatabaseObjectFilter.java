@@ -38,12 +38,12 @@ import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion;
 import schemacrawler.schemacrawler.LimitOptions;
 
-final class DatabaseObjectFilter<D extends DatabaseObject> implements Predicate<D> {
+public final class DatabaseObjectFilter<D extends DatabaseObject> implements Predicate<D> {
 
   private final InclusionRule databaseObjectInclusionRule;
   private final InclusionRule schemaInclusionRule;
 
-  DatabaseObjectFilter(
+  public DatabaseObjectFilter(
       final LimitOptions options,
       final DatabaseObjectRuleForInclusion databaseObjectRuleForInclusion) {
     if (options != null) {
@@ -34,7 +34,7 @@ import schemacrawler.schema.Routine;
 import schemacrawler.schema.RoutineType;
 import schemacrawler.schemacrawler.LimitOptions;
 
-class RoutineTypesFilter implements Predicate<Routine> {
+public class RoutineTypesFilter implements Predicate<Routine> {
 
   private final Collection<RoutineType> routineTypes;
 
@@ -38,6 +38,8 @@ public final class NamedObjectKey implements Serializable {
   private static final long serialVersionUID = -5008609072012459037L;
 
   private final String[] key;
+  // Keys are hashed on every lookup, so the hash code is cached once it is computed
+  private transient int hash;
 
   public NamedObjectKey(final String... key) {
     if (key == null || key.length == 0) {
@@ -47,6 +49,11 @@ public final class NamedObjectKey implements Serializable {
     }
   }
 
+  private NamedObjectKey(final String[] key, final int hash) {
+    this.key = key;
+    this.hash = hash;
+  }
+
   @Override
   public boolean equals(final Object obj) {
     if (this == obj) {
@@ -61,7 +68,12 @@ public final class NamedObjectKey implements Serializable {
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(key);
+    int result = hash;
+    if (result == 0) {
+      result = buildHashCode();
+      hash = result;
+    }
+    return result;
   }
 
   public String slug() {
@@ -81,6 +93,17 @@ public final class NamedObjectKey implements Serializable {
     final int currentLength = key.length;
     final String[] newKey = Arrays.copyOf(key, currentLength + 1);
     newKey[currentLength] = name;
-    return new NamedObjectKey(newKey);
+    // Extend the hash code of this key the same way that Arrays.hashCode does, if it is known
+    final int newHash;
+    if (hash == 0) {
+      newHash = 0;
+    } else {
+      newHash = 31 * hash + (name == null ? 0 : name.hashCode());
+    }
+    return new NamedObjectKey(newKey, newHash);
+  }
+
+  private int buildHashCode() {
+    return Arrays.hashCode(key);
   }
 }
@@ -57,10 +57,12 @@ public enum InformationSchemaKey {
   SEQUENCES(INFORMATION_SCHEMA),
   SERVER_INFORMATION(ADDITIONAL_INFO),
   TABLES(DATABASE_METADATA),
+  TABLE_CHANGE_MARKERS(ADDITIONAL_INFO),
   TABLE_COLUMNS(DATABASE_METADATA),
   TABLE_PRIVILEGES(DATABASE_METADATA),
   TABLE_COLUMN_PRIVILEGES(DATABASE_METADATA),
   TABLE_CONSTRAINTS(INFORMATION_SCHEMA),
+  TABLE_ROW_COUNTS(ADDITIONAL_INFO),
   TRIGGERS(INFORMATION_SCHEMA),
   VIEWS(INFORMATION_SCHEMA),
   VIEW_TABLE_USAGE(INFORMATION_SCHEMA),
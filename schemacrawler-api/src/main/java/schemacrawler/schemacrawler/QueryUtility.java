@@ -29,6 +29,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.schemacrawler;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
 import static us.fatehi.utility.TemplatingUtility.expandTemplate;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.database.DatabaseUtility.executeSql;
@@ -41,13 +43,17 @@ import java.sql.Statement;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.inclusionrule.InclusionRuleWithRegularExpression;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
+import schemacrawler.schema.TableType;
+import schemacrawler.schema.TableTypes;
 import schemacrawler.utility.MetaDataUtility;
 import schemacrawler.utility.NamedObjectSort;
 import us.fatehi.utility.UtilityMarker;
@@ -58,11 +64,48 @@ public final class QueryUtility {
 
   private static final Logger LOGGER = Logger.getLogger(QueryUtility.class.getName());
 
+  /**
+   * Table patterns made up only of literal characters, escaped dots, ".*" wildcards, alternation
+   * and groups. Such patterns mean the same in SQL as in Java, and match full table names whether
+   * or not the names are quoted, since quote characters can only be matched by the wildcards.
+   */
+  private static final Pattern PORTABLE_TABLES_PATTERN =
+      Pattern.compile("(?:[A-Za-z0-9_# |()]|\\\\\\.|\\.\\*)*");
+
   public static ResultSet executeAgainstSchema(
       final Query query, final Statement statement, final InclusionRule schemaInclusionRule)
       throws SQLException {
     requireNonNull(query, "No query provided");
-    final String sql = getQuery(query, schemaInclusionRule);
+    final String sql = getQuery(query, schemaInclusionRule, null, TableTypes.includeAll());
+    LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
+    return executeSql(statement, sql);
+  }
+
+  /**
+   * Executes a query with schema and table limits substituted. Besides ${schemas}, the query can
+   * use ${tables} for the regular expression that full table names are matched against, and
+   * ${tabletypes} for a regular expression that matches the table types to include. These allow
+   * data dictionary queries to return rows only for the tables that are crawled. Table inclusion
+   * rules are matched against full names with quoted identifiers, and may use regular expression
+   * syntax that databases do not support, so ${tables} matches all tables unless the rule is a
+   * simple pattern that can safely be matched against unquoted names in SQL.
+   *
+   * @param query Query to execute
+   * @param statement Statement to execute the query with
+   * @param limitOptions Limits on the schemas and tables to crawl
+   * @return Results of the query
+   */
+  public static ResultSet executeAgainstSchema(
+      final Query query, final Statement statement, final LimitOptions limitOptions)
+      throws SQLException {
+    requireNonNull(query, "No query provided");
+    requireNonNull(limitOptions, "No limit options provided");
+    final String sql =
+        getQuery(
+            query,
+            limitOptions.get(ruleForSchemaInclusion),
+            limitOptions.get(ruleForTableInclusion),
+            limitOptions.getTableTypes());
     LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
     return executeSql(statement, sql);
   }
@@ -114,6 +157,22 @@ public final class QueryUtility {
     return executeSqlForScalar(connection, sql);
   }
 
+  /**
+   * Gets a query for a table, with the table and its columns substituted, but does not execute it.
+   * This allows queries for several tables to be combined into a single statement.
+   *
+   * @param query Query for a table
+   * @param table Table to substitute in the query
+   * @param identifiers Identifiers to quote names with
+   * @return Ready-to-execute query
+   */
+  public static String getQueryForTable(
+      final Query query, final Table table, final Identifiers identifiers) {
+    requireNonNull(query, "No query provided");
+    requireNonNull(identifiers, "No identifiers provided");
+    return getQuery(query, table, true, identifiers);
+  }
+
   private static String getQuery(final Query query) {
     return expandTemplate(query.getQuery());
   }
@@ -122,21 +181,20 @@ public final class QueryUtility {
    * Gets the query with parameters substituted.
    *
    * @param schemaInclusionRule Schema inclusion rule
+   * @param tableInclusionRule Table inclusion rule
+   * @param tableTypes Table types to include
    * @return Ready-to-execute query
    */
-  private static String getQuery(final Query query, final InclusionRule schemaInclusionRule) {
+  private static String getQuery(
+      final Query query,
+      final InclusionRule schemaInclusionRule,
+      final InclusionRule tableInclusionRule,
+      final TableTypes tableTypes) {
     final Map<String, String> properties = new HashMap<>();
 
-    properties.put("schemas", ".*");
-    if (schemaInclusionRule instanceof InclusionRuleWithRegularExpression) {
-      final String schemaInclusionPattern =
-          ((InclusionRuleWithRegularExpression) schemaInclusionRule)
-              .getInclusionPattern()
-              .pattern();
-      if (!isBlank(schemaInclusionPattern)) {
-        properties.put("schemas", schemaInclusionPattern);
-      }
-    }
+    properties.put("schemas", inclusionPattern(schemaInclusionRule));
+    properties.put("tables", tablesPattern(tableInclusionRule));
+    properties.put("tabletypes", tableTypesPattern(tableTypes));
 
     String sql = query.getQuery();
     sql = expandTemplate(sql, properties);
@@ -173,6 +231,44 @@ public final class QueryUtility {
     return expandTemplate(sql);
   }
 
+  private static String inclusionPattern(final InclusionRule inclusionRule) {
+    if (inclusionRule instanceof InclusionRuleWithRegularExpression) {
+      final String inclusionPattern =
+          ((InclusionRuleWithRegularExpression) inclusionRule).getInclusionPattern().pattern();
+      if (!isBlank(inclusionPattern)) {
+        return inclusionPattern;
+      }
+    }
+    return ".*";
+  }
+
+  private static String tablesPattern(final InclusionRule tableInclusionRule) {
+    final String tablesPattern = inclusionPattern(tableInclusionRule);
+    if (PORTABLE_TABLES_PATTERN.matcher(tablesPattern).matches()) {
+      return tablesPattern;
+    }
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat(
+            "Not limiting tables in SQL, since the pattern cannot be used in SQL <%s>",
+            tablesPattern));
+    return ".*";
+  }
+
+  private static String tableTypesPattern(final TableTypes tableTypes) {
+    if (tableTypes == null || tableTypes.isIncludeAll() || tableTypes.isIncludeNone()) {
+      return ".*";
+    }
+    final StringJoiner tableTypesPattern = new StringJoiner("|", "^(", ")$");
+    for (final TableType tableType : tableTypes) {
+      // Escape regular expression special characters, without using \Q and \E, which are not
+      // supported by all databases
+      tableTypesPattern.add(
+          tableType.getTableType().replaceAll("[\\\\^$.|?*+()\\[\\]{}]", "\\\\$0"));
+    }
+    return tableTypesPattern.toString();
+  }
+
   private QueryUtility() {
     // Prevent instantiation
   }
@@ -29,9 +29,11 @@ http://www.gnu.org/licenses/
 package schemacrawler.schemacrawler;
 
 import static java.util.Objects.requireNonNull;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 import schemacrawler.plugin.EnumDataTypeHelper;
 import schemacrawler.schema.TableTypes;
@@ -57,6 +59,9 @@ public final class SchemaRetrievalOptions implements Options {
   private final EnumMap<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy>
       metadataRetrievalStrategyMap;
   private final Consumer<Connection> connectionInitializer;
+  private final int crossoverTableCount;
+  private final Path retrievalHistoryFile;
+  private final int fetchSize;
 
   protected SchemaRetrievalOptions(final SchemaRetrievalOptionsBuilder builder) {
     final SchemaRetrievalOptionsBuilder bldr =
@@ -73,6 +78,9 @@ public final class SchemaRetrievalOptions implements Options {
     enumDataTypeHelper = bldr.enumDataTypeHelper;
     metadataRetrievalStrategyMap = new EnumMap<>(bldr.metadataRetrievalStrategyMap);
     connectionInitializer = bldr.connectionInitializer;
+    crossoverTableCount = bldr.crossoverTableCount;
+    retrievalHistoryFile = bldr.retrievalHistoryFile;
+    fetchSize = bldr.fetchSize;
   }
 
   public MetadataRetrievalStrategy get(
@@ -86,6 +94,16 @@ public final class SchemaRetrievalOptions implements Options {
     return connectionInitializer;
   }
 
+  /**
+   * Number of crawled tables at or below which per-table metadata calls are used instead of data
+   * dictionary queries.
+   *
+   * @return Number of tables, or 0 if the configured strategies are always used
+   */
+  public int getCrossoverTableCount() {
+    return crossoverTableCount;
+  }
+
   public DatabaseServerType getDatabaseServerType() {
     return dbServerType;
   }
@@ -94,6 +112,15 @@ public final class SchemaRetrievalOptions implements Options {
     return enumDataTypeHelper;
   }
 
+  /**
+   * Number of rows to fetch from the database at a time, for data dictionary queries.
+   *
+   * @return Fetch size, or 0 to use the JDBC driver default
+   */
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
   public String getIdentifierQuoteString() {
     return identifierQuoteString;
   }
@@ -106,6 +133,10 @@ public final class SchemaRetrievalOptions implements Options {
     return informationSchemaViews;
   }
 
+  public Optional<Path> getRetrievalHistoryFile() {
+    return Optional.ofNullable(retrievalHistoryFile);
+  }
+
   public TableTypes getTableTypes() {
     return tableTypes;
   }
@@ -32,6 +32,7 @@ import static schemacrawler.plugin.EnumDataTypeHelper.NO_OP_ENUM_DATA_TYPE_HELPE
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.trimToEmpty;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
@@ -71,6 +72,9 @@ public final class SchemaRetrievalOptionsBuilder
   EnumDataTypeHelper enumDataTypeHelper;
   Map<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy> metadataRetrievalStrategyMap;
   Consumer<Connection> connectionInitializer;
+  int crossoverTableCount;
+  Path retrievalHistoryFile;
+  int fetchSize;
 
   private SchemaRetrievalOptionsBuilder() {
     dbServerType = DatabaseServerType.UNKNOWN;
@@ -86,6 +90,9 @@ public final class SchemaRetrievalOptionsBuilder
         TableTypes.from("TABLE", "VIEW", "SYSTEM TABLE", "GLOBAL TEMPORARY", "LOCAL TEMPORARY");
     enumDataTypeHelper = NO_OP_ENUM_DATA_TYPE_HELPER;
     connectionInitializer = connection -> {};
+    crossoverTableCount = 0;
+    retrievalHistoryFile = null;
+    fetchSize = 20;
 
     metadataRetrievalStrategyMap = new EnumMap<>(SchemaInfoMetadataRetrievalStrategy.class);
     for (final SchemaInfoMetadataRetrievalStrategy key :
@@ -143,6 +150,9 @@ public final class SchemaRetrievalOptionsBuilder
     overridesTypeMap = Optional.empty();
     metadataRetrievalStrategyMap = options.getMetadataRetrievalStrategyMap();
     connectionInitializer = options.getConnectionInitializer();
+    crossoverTableCount = options.getCrossoverTableCount();
+    retrievalHistoryFile = options.getRetrievalHistoryFile().orElse(null);
+    fetchSize = options.getFetchSize();
 
     return this;
   }
@@ -192,6 +202,19 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the number of crawled tables at or below which per-table metadata calls are used instead
+   * of data dictionary queries for table columns, primary keys, foreign keys and indexes. Data
+   * dictionary queries retrieve information for the whole database, so they can be slower than
+   * metadata calls when only a few tables are crawled.
+   *
+   * @param crossoverTableCount Number of tables, or 0 to always use the configured strategy
+   */
+  public SchemaRetrievalOptionsBuilder withCrossoverTableCount(final int crossoverTableCount) {
+    this.crossoverTableCount = Math.max(crossoverTableCount, 0);
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withDatabaseServerType(
       final DatabaseServerType dbServerType) {
     if (dbServerType == null) {
@@ -227,6 +250,17 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the number of rows to fetch from the database at a time, for data dictionary queries.
+   * Larger values mean fewer round-trips to the database when there are many rows.
+   *
+   * @param fetchSize Fetch size, or 0 to use the JDBC driver default
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(final int fetchSize) {
+    this.fetchSize = Math.max(fetchSize, 0);
+    return this;
+  }
+
   /**
    * Overrides the JDBC driver provided information about the identifier quote string.
    *
@@ -264,6 +298,18 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets a file to keep the times taken by earlier retrievals in. When there are times for both
+   * metadata calls and data dictionary queries, these are used instead of the crossover table count
+   * to pick the faster strategy.
+   *
+   * @param retrievalHistoryFile History file, or null to not keep a history
+   */
+  public SchemaRetrievalOptionsBuilder withRetrievalHistoryFile(final Path retrievalHistoryFile) {
+    this.retrievalHistoryFile = retrievalHistoryFile;
+    return this;
+  }
+
   /**
    * Overrides the JDBC driver provided information about whether the database supports catalogs.
    */
@@ -0,0 +1,134 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+
+import java.io.DataOutputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Table;
+import schemacrawler.test.utility.WithTestDatabase;
+import us.fatehi.utility.IOUtility;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+public class BinaryCatalogBufferTest {
+
+  @Test
+  @DisplayName("Read values that cross from one mapped region into the next")
+  public void mappedRegions() throws Exception {
+    final Path file = IOUtility.createTempFilePath("binary-catalog-buffer", "dat");
+    try (final DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+      out.writeInt(0x01020304);
+      out.writeLong(0x1122334455667788L);
+      out.write("hello".getBytes(UTF_8));
+      out.writeInt(-2);
+    }
+
+    final BinaryCatalogBuffer buffer;
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      buffer = BinaryCatalogBuffer.map(channel, 3);
+    }
+
+    assertThat(buffer.limit(), is(21L));
+    assertThat(buffer.getInt(), is(0x01020304));
+    assertThat(buffer.getLong(), is(0x1122334455667788L));
+    final byte[] bytes = new byte[5];
+    buffer.get(bytes);
+    assertThat(new String(bytes, UTF_8), is("hello"));
+    assertThat(buffer.position(), is(17L));
+    assertThat(buffer.getInt(), is(-2));
+
+    assertThat(buffer.getInt(0), is(0x01020304));
+    assertThat(buffer.getLong(4), is(0x1122334455667788L));
+    buffer.position(10);
+    assertThat(buffer.get(), is((byte) 0x77));
+
+    buffer.position(buffer.limit());
+    assertThrows(BufferUnderflowException.class, () -> buffer.get());
+    assertThrows(BufferUnderflowException.class, () -> buffer.getInt(18));
+    assertThrows(IllegalArgumentException.class, () -> buffer.position(22));
+  }
+
+  @Test
+  @DisplayName("Read a binary catalog file that is mapped in several regions")
+  public void readCatalogInRegions(final DatabaseConnectionSource dataSource) throws Exception {
+    final Catalog catalog =
+        new SchemaCrawler(
+                dataSource,
+                schemaRetrievalOptionsDefault,
+                schemaCrawlerOptionsWithMaximumSchemaInfoLevel)
+            .crawl();
+
+    final Path file = IOUtility.createTempFilePath("binary-catalog", "dat");
+    try (final OutputStream out = Files.newOutputStream(file)) {
+      new BinaryCatalogWriter(catalog).write(out);
+    }
+
+    final Catalog catalogInRegions = BinaryCatalogReader.open(file, 7).read();
+    final Catalog catalogInBuffer =
+        new BinaryCatalogReader(ByteBuffer.wrap(Files.readAllBytes(file))).read();
+
+    assertThat(describe(catalogInRegions), is(describe(catalog)));
+    assertThat(describe(catalogInBuffer), is(describe(catalog)));
+  }
+
+  private List<String> describe(final Catalog catalog) {
+    final List<String> description = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      description.add(table.getFullName() + " " + table.getRemarks());
+      for (final Column column : table.getColumns()) {
+        description.add(
+            column.getFullName() + " " + column.getColumnDataType() + " " + column.getSize());
+      }
+      description.add(table.getForeignKeys().toString());
+      description.add(table.getIndexes().toString());
+    }
+    return description;
+  }
+}
@@ -28,6 +28,9 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.crawl;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
 import org.junit.jupiter.api.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -71,9 +74,14 @@ public class EqualsTest {
       }
     }
 
+    final TestDatabaseObject example =
+        new TestDatabaseObject(new SchemaReference("catalog", "schema"), "name");
+    example.hashCode();
+
     EqualsVerifier.forClass(TestDatabaseObject.class)
         .suppress(Warning.STRICT_INHERITANCE)
         .withIgnoredFields("key", "attributeMap")
+        .withCachedHashCode("hashCode", "buildHashCode", example)
         .verify();
   }
 
@@ -113,7 +121,28 @@ public class EqualsTest {
 
   @Test
   public void namedObjectKey() {
-    EqualsVerifier.forClass(NamedObjectKey.class).withNonnullFields("key").verify();
+    final NamedObjectKey example = new NamedObjectKey("catalog", "schema", "table");
+    example.hashCode();
+
+    EqualsVerifier.forClass(NamedObjectKey.class)
+        .withNonnullFields("key")
+        .withCachedHashCode("hash", "buildHashCode", example)
+        .verify();
+  }
+
+  @Test
+  public void namedObjectKeyWith() {
+    final NamedObjectKey expectedKey = new NamedObjectKey("catalog", "schema", "table");
+
+    final NamedObjectKey key = new NamedObjectKey("catalog", "schema");
+    assertThat(key.with("table"), is(expectedKey));
+    assertThat(key.with("table").hashCode(), is(expectedKey.hashCode()));
+    // Extend a key that has already been hashed
+    key.hashCode();
+    assertThat(key.with("table"), is(expectedKey));
+    assertThat(key.with("table").hashCode(), is(expectedKey.hashCode()));
+    assertThat(
+        key.with(null).hashCode(), is(new NamedObjectKey("catalog", "schema", null).hashCode()));
   }
 
   @Test
@@ -129,8 +158,13 @@ public class EqualsTest {
     final Table table1 = new MutableTable(new SchemaReference("catalog", "schema"), "table1");
     final Table table2 = new MutableTable(new SchemaReference("catalog", "schema"), "table2");
 
+    final MutablePrivilege<Table> example =
+        new MutablePrivilege<>(new TablePointer(table1), "privilege");
+    example.hashCode();
+
     EqualsVerifier.forClass(MutablePrivilege.class)
         .withIgnoredFields("key", "grants", "parent", "attributeMap")
+        .withCachedHashCode("hashCode", "buildHashCode", example)
         .withPrefabValues(
             DatabaseObjectReference.class, new TablePointer(table1), new TablePointer(table2))
         .suppress(Warning.STRICT_INHERITANCE)
@@ -0,0 +1,109 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.test.utility.WithTestDatabase;
+import us.fatehi.utility.database.DatabaseUtility;
+
+@WithTestDatabase
+public class IdentifierPoolTest {
+
+  @Test
+  @DisplayName("Share one instance of an identifier")
+  public void intern() {
+    final IdentifierPool identifierPool = new IdentifierPool();
+
+    final String identifier1 = new String("IDENTIFIER");
+    final String identifier2 = new String("IDENTIFIER");
+    assertThat(identifier2, is(not(sameInstance(identifier1))));
+
+    assertThat(identifierPool.intern(identifier1), is(sameInstance(identifier1)));
+    assertThat(identifierPool.intern(identifier2), is(sameInstance(identifier1)));
+    assertThat(identifierPool.intern(null), is(nullValue()));
+    assertThat(identifierPool.size(), is(1));
+  }
+
+  @Test
+  @DisplayName("Share attribute names and values read from results")
+  public void internAttributes(final Connection connection) throws Exception {
+    final IdentifierPool identifierPool = new IdentifierPool();
+
+    try (final Statement statement = connection.createStatement(); ) {
+      final String sql = "SELECT * FROM (VALUES(1, 'A'), (2, 'A')) AS T(COLUMN1, COLUMN2)";
+      // Return a new string instance for every value, as most JDBC drivers do
+      final ResultSet resultSet = spy(DatabaseUtility.executeSql(statement, sql));
+      doAnswer(
+              invocation -> {
+                final Object value = invocation.callRealMethod();
+                if (value instanceof String) {
+                  return new String((String) value);
+                }
+                return value;
+              })
+          .when(resultSet)
+          .getObject(anyInt());
+
+      final List<Map<String, Object>> rowAttributes = new ArrayList<>();
+      try (final MetadataResultSet results =
+          new MetadataResultSet(resultSet, "internAttributes")) {
+        while (results.next()) {
+          results.getInt("COLUMN1", 0);
+          rowAttributes.add(results.getAttributes(identifierPool));
+        }
+      }
+
+      assertThat(rowAttributes.size(), is(2));
+      final Object value1 = rowAttributes.get(0).get("COLUMN2");
+      final Object value2 = rowAttributes.get(1).get("COLUMN2");
+      assertThat(value1, is("A"));
+      assertThat(value2, is(sameInstance(value1)));
+      // The attribute name and the attribute value
+      assertThat(identifierPool.size(), is(2));
+    }
+  }
+}
@@ -0,0 +1,280 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_CHANGE_MARKERS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.VIEW_TABLE_USAGE;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.ResolveTestContext;
+import schemacrawler.test.utility.WithTestDatabase;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+@ResolveTestContext
+public class IncrementalCrawlTest {
+
+  private static final Schema BOOKS = new SchemaReference("PUBLIC", "BOOKS");
+
+  @Test
+  @DisplayName("Carry over unchanged tables from an earlier crawl")
+  public void incrementalCrawl(final DatabaseConnectionSource dataSource) throws Exception {
+
+    final Catalog regularCatalog =
+        new SchemaCrawler(
+                dataSource,
+                schemaRetrievalOptions("'1'"),
+                schemaCrawlerOptionsWithMaximumSchemaInfoLevel)
+            .crawl();
+
+    // Catalog from a regular crawl has no change markers, so all tables are retrieved again
+    final Catalog baselineCatalog = crawlIncrementally(dataSource, "'1'", regularCatalog);
+    for (final Table table : baselineCatalog.getTables()) {
+      final Table regularTable = lookupTable(regularCatalog, table.getSchema(), table.getName());
+      assertThat(regularTable.getAttribute(TableChangeRetriever.CHANGE_MARKER), is(nullValue()));
+      assertThat(table.getAttribute(TableChangeRetriever.CHANGE_MARKER), is("1"));
+      assertThat(table, is(not(sameInstance(regularTable))));
+    }
+
+    // AUTHORS has changed since the baseline crawl
+    final Catalog catalog =
+        crawlIncrementally(
+            dataSource,
+            "CASE WHEN TABLE_NAME = 'AUTHORS' THEN '2' ELSE '1' END",
+            baselineCatalog);
+
+    final Table authors = lookupTable(catalog, BOOKS, "AUTHORS");
+    assertThat(authors.getAttribute(TableChangeRetriever.CHANGE_MARKER), is("2"));
+    assertThat(authors, is(not(sameInstance(lookupTable(baselineCatalog, BOOKS, "AUTHORS")))));
+    // Views on a changed table are retrieved again
+    assertThat(
+        lookupTable(catalog, BOOKS, "AUTHORSLIST"),
+        is(not(sameInstance(lookupTable(baselineCatalog, BOOKS, "AUTHORSLIST")))));
+    // Unchanged tables are carried over as copies, which belong to the new catalog
+    final Table books = lookupTable(catalog, BOOKS, "BOOKS");
+    final Table baselineBooks = lookupTable(baselineCatalog, BOOKS, "BOOKS");
+    assertThat(books, is(not(sameInstance(baselineBooks))));
+    assertThat(books.getAttribute(TableChangeRetriever.CHANGE_MARKER), is("1"));
+    assertThat(books.getSchema(), is(sameInstance(catalog.lookupSchema("PUBLIC.BOOKS").get())));
+    for (final Column column : books.getColumns()) {
+      final ColumnDataType columnDataType = column.getColumnDataType();
+      assertThat(
+          columnDataType,
+          is(
+              sameInstance(
+                  catalog
+                      .lookupColumnDataType(columnDataType.getSchema(), columnDataType.getName())
+                      .get())));
+    }
+    final Table bookAuthors = lookupTable(catalog, BOOKS, "BOOKAUTHORS");
+
+    // Foreign keys from unchanged tables refer to the changed table
+    final ForeignKey foreignKey =
+        bookAuthors.lookupForeignKey("Z_FK_AUTHOR").orElseThrow(IllegalAccessException::new);
+    assertThat(foreignKey.getPrimaryKeyTable(), is(sameInstance(authors)));
+    final Column authorId =
+        bookAuthors.lookupColumn("AUTHORID").orElseThrow(IllegalAccessException::new);
+    assertThat(authorId.getReferencedColumn().getParent(), is(sameInstance(authors)));
+    assertThat(authors.getForeignKeys().contains(foreignKey), is(true));
+
+    // The merged catalog has the same details as a full crawl
+    final Catalog fullCatalog =
+        new SchemaCrawler(
+                dataSource,
+                schemaRetrievalOptions("'2'"),
+                schemaCrawlerOptionsWithMaximumSchemaInfoLevel)
+            .crawl();
+    assertThat(describe(catalog), is(describe(fullCatalog)));
+  }
+
+  @Test
+  @DisplayName("Leave the earlier catalog unchanged after an incremental crawl")
+  public void incrementalCrawlKeepsPreviousCatalog(final DatabaseConnectionSource dataSource)
+      throws Exception {
+
+    final Catalog baselineCatalog =
+        crawlIncrementally(
+            dataSource,
+            "'1'",
+            new SchemaCrawler(
+                    dataSource,
+                    schemaRetrievalOptions("'1'"),
+                    schemaCrawlerOptionsWithMaximumSchemaInfoLevel)
+                .crawl());
+    final List<String> baselineDescription = describe(baselineCatalog);
+    final Table baselineAuthors = lookupTable(baselineCatalog, BOOKS, "AUTHORS");
+    final Table baselineBookAuthors = lookupTable(baselineCatalog, BOOKS, "BOOKAUTHORS");
+
+    // AUTHORS has changed, so foreign keys to it are retrieved again
+    final Catalog catalog =
+        crawlIncrementally(
+            dataSource,
+            "CASE WHEN TABLE_NAME = 'AUTHORS' THEN '2' ELSE '1' END",
+            baselineCatalog);
+    final Table bookAuthors = lookupTable(catalog, BOOKS, "BOOKAUTHORS");
+    assertThat(
+        bookAuthors.lookupForeignKey("Z_FK_AUTHOR").get().getPrimaryKeyTable(),
+        is(sameInstance(lookupTable(catalog, BOOKS, "AUTHORS"))));
+
+    assertThat(describe(baselineCatalog), is(baselineDescription));
+    assertThat(
+        lookupTable(baselineCatalog, BOOKS, "BOOKAUTHORS"), is(sameInstance(baselineBookAuthors)));
+    final ForeignKey baselineForeignKey =
+        baselineBookAuthors
+            .lookupForeignKey("Z_FK_AUTHOR")
+            .orElseThrow(IllegalAccessException::new);
+    assertThat(baselineForeignKey.getPrimaryKeyTable(), is(sameInstance(baselineAuthors)));
+    assertThat(
+        baselineBookAuthors
+            .lookupColumn("AUTHORID")
+            .orElseThrow(IllegalAccessException::new)
+            .getReferencedColumn()
+            .getParent(),
+        is(sameInstance(baselineAuthors)));
+  }
+
+  @Test
+  @DisplayName("Retrieve all tables when there are no change markers")
+  public void incrementalCrawlWithoutChangeMarkers(final DatabaseConnectionSource dataSource)
+      throws Exception {
+
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            dataSource,
+            schemaRetrievalOptionsDefault,
+            schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    final Catalog previousCatalog = schemaCrawler.crawl();
+    final Catalog catalog = schemaCrawler.crawl(previousCatalog);
+
+    for (final Table table : catalog.getTables()) {
+      final Table previousTable = lookupTable(previousCatalog, table.getSchema(), table.getName());
+      assertThat(table.getAttribute(TableChangeRetriever.CHANGE_MARKER), is(nullValue()));
+      assertThat(table, is(not(sameInstance(previousTable))));
+    }
+    assertThat(describe(catalog), is(describe(previousCatalog)));
+  }
+
+  private Catalog crawlIncrementally(
+      final DatabaseConnectionSource dataSource,
+      final String changeMarkerExpression,
+      final Catalog previousCatalog) {
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            dataSource,
+            schemaRetrievalOptions(changeMarkerExpression),
+            schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+    return schemaCrawler.crawl(previousCatalog);
+  }
+
+  private List<String> describe(final Catalog catalog) {
+    final List<String> description = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      description.add(table.getFullName() + " " + table.getTableType());
+      for (final Column column : table.getColumns()) {
+        description.add(
+            String.format(
+                "  %s %s %s",
+                column.getName(),
+                column.getColumnDataType().getName(),
+                column.isPartOfForeignKey()));
+      }
+      if (table.hasPrimaryKey()) {
+        description.add("  PK " + table.getPrimaryKey().getConstrainedColumns());
+      }
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        description.add("  FK " + foreignKey.getName() + " " + foreignKey.getColumnReferences());
+      }
+      for (final Index index : table.getIndexes()) {
+        description.add("  INDEX " + index.getName() + " " + index.getColumns());
+      }
+      for (final TableConstraint tableConstraint : table.getTableConstraints()) {
+        description.add("  CONSTRAINT " + tableConstraint.getName());
+      }
+      for (final Trigger trigger : table.getTriggers()) {
+        description.add("  TRIGGER " + trigger.getName());
+      }
+      if (table instanceof View) {
+        description.add("  USES " + ((View) table).getTableUsage());
+      }
+      description.add("  SORT " + ((MutableTable) table).getSortIndex());
+    }
+    return description;
+  }
+
+  private Table lookupTable(final Catalog catalog, final Schema schema, final String name)
+      throws IllegalAccessException {
+    return catalog.lookupTable(schema, name).orElseThrow(IllegalAccessException::new);
+  }
+
+  private SchemaRetrievalOptions schemaRetrievalOptions(final String changeMarkerExpression) {
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .withSql(
+                TABLE_CHANGE_MARKERS,
+                String.format(
+                    "SELECT TABLE_CAT AS TABLE_CATALOG, TABLE_SCHEM AS TABLE_SCHEMA, TABLE_NAME, "
+                        + "%s AS CHANGE_MARKER FROM INFORMATION_SCHEMA.SYSTEM_TABLES",
+                    changeMarkerExpression))
+            .withSql(
+                VIEW_TABLE_USAGE,
+                "SELECT VIEW_CATALOG, VIEW_SCHEMA, VIEW_NAME, TABLE_CATALOG, TABLE_SCHEMA, "
+                    + "TABLE_NAME FROM INFORMATION_SCHEMA.VIEW_TABLE_USAGE")
+            .toOptions();
+    return SchemaRetrievalOptionsBuilder.builder()
+        .withInformationSchemaViews(informationSchemaViews)
+        .toOptions();
+  }
+}
@@ -32,9 +32,14 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayInputStream;
 import java.math.BigInteger;
@@ -46,6 +51,7 @@ import java.sql.Statement;
 import java.time.DayOfWeek;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 
 import org.junit.jupiter.api.DisplayName;
@@ -64,6 +70,31 @@ import us.fatehi.utility.database.DatabaseUtility;
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class MetadataResultSetTest {
 
+  @Test
+  @DisplayName("Retrieve unread values as attributes")
+  public void attributes(final Connection connection) throws Exception {
+
+    try (final Statement statement = connection.createStatement(); ) {
+      final String sql =
+          "SELECT * FROM (VALUES(1, 'A', 'B'), (2, 'C', 'D')) AS T(COLUMN1, COLUMN2, column3)";
+      try (final MetadataResultSet results =
+          new MetadataResultSet(DatabaseUtility.executeSql(statement, sql), "attributes")) {
+        int rowCount = 0;
+        while (results.next()) {
+          rowCount = rowCount + 1;
+          assertThat(results.getInt("column1", 0), is(rowCount));
+          assertThat(results.getInt("COLUMN1", 0), is(rowCount));
+
+          final Map<String, Object> attributes = results.getAttributes();
+          assertThat(attributes.size(), is(2));
+          assertThat(attributes, hasEntry("COLUMN2", rowCount == 1 ? "A" : "C"));
+          assertThat(attributes, hasEntry("COLUMN3", rowCount == 1 ? "B" : "D"));
+        }
+        assertThat(rowCount, is(2));
+      }
+    }
+  }
+
   @Test
   @DisplayName("Retrieve bad values from results")
   public void badValues(final Connection connection) throws Exception {
@@ -148,6 +179,55 @@ public class MetadataResultSetTest {
     }
   }
 
+  @Test
+  @DisplayName("Set fetch size for results")
+  public void fetchSize(final Connection connection) throws Exception {
+
+    try (final Statement statement = connection.createStatement(); ) {
+      final String sql = "SELECT * FROM (VALUES(0)) AS T(COLUMN1)";
+
+      final ResultSet resultSet1 = spy(DatabaseUtility.executeSql(statement, sql));
+      try (final MetadataResultSet results = new MetadataResultSet(resultSet1, "fetchSize", 7)) {
+        verify(resultSet1).setFetchSize(7);
+        while (results.next()) {
+          assertThat(results.getInt("COLUMN1", -1), is(0));
+        }
+      }
+
+      // Keep the fetch size of the statement
+      final ResultSet resultSet2 = spy(DatabaseUtility.executeSql(statement, sql));
+      try (final MetadataResultSet results = new MetadataResultSet(resultSet2, "fetchSize", 0)) {
+        verify(resultSet2, never()).setFetchSize(anyInt());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Read columns by label before name")
+  public void labelBeforeName(final Connection connection) throws Exception {
+
+    try (final Statement statement = connection.createStatement(); ) {
+
+      statement.execute("DROP TABLE IF EXISTS TABLE2");
+      statement.execute("CREATE TABLE TABLE2(COLUMN1 INT, COLUMN2 INT)");
+      statement.execute("INSERT INTO TABLE2(COLUMN1, COLUMN2) VALUES(1, 2)");
+
+      // The name of the first column is the label of the second column
+      final String sql = "SELECT COLUMN1 AS COLUMN3, COLUMN2 AS COLUMN1 FROM TABLE2";
+      try (final MetadataResultSet results =
+          new MetadataResultSet(DatabaseUtility.executeSql(statement, sql), "labelBeforeName")) {
+        assertThat(results.getColumnNames()[0], is("COLUMN1"));
+        while (results.next()) {
+          assertThat(results.getInt("COLUMN1", 0), is(2));
+
+          final Map<String, Object> attributes = results.getAttributes();
+          assertThat(attributes.size(), is(1));
+          assertThat(attributes, hasEntry("COLUMN3", 1));
+        }
+      }
+    }
+  }
+
   @Test
   @DisplayName("Retrieve large object values from results")
   public void largeObjectValues(final Connection connection) throws Exception {
@@ -29,7 +29,14 @@ http://www.gnu.org/licenses/
 package schemacrawler.crawl;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -42,6 +49,94 @@ public class NamedObjectTest {
 
   public static final TableType TABLE = new TableType("TABLE");
 
+  @Test
+  public void frozen() {
+    final Schema schema = new SchemaReference("CATALOG", "PUBLIC");
+    // Table names with the same hash code
+    final MutableTable table1 = new MutableTable(schema, "Aa");
+    final MutableTable table2 = new MutableTable(schema, "BB");
+    final MutableTable table3 = new MutableTable(schema, "TABLE3");
+
+    final NamedObjectList<Table> tables = new NamedObjectList<>();
+    tables.freeze();
+    assertThat(tables.isEmpty(), is(true));
+
+    tables.add(table3);
+    tables.add(table2);
+    tables.add(table1);
+    tables.freeze();
+
+    final List<Table> values = tables.values();
+    assertThat(values, contains(table1, table2, table3));
+    assertThat(tables.values(), is(sameInstance(values)));
+    assertThat(tables.size(), is(3));
+    assertThat(tables.contains(table2), is(true));
+    assertThat(tables.lookup(schema, "Aa").orElse(null), is(sameInstance(table1)));
+    assertThat(tables.lookup(schema, "BB").orElse(null), is(sameInstance(table2)));
+    assertThat(tables.lookup(schema, "TABLE3").orElse(null), is(sameInstance(table3)));
+    assertThat(tables.lookup(schema, "TABLE4").isPresent(), is(false));
+    assertThat(tables.lookup(null, "TABLE3").isPresent(), is(false));
+
+    // Frozen lists can still be modified
+    tables.remove(table2);
+    assertThat(tables.values(), contains(table1, table3));
+    assertThat(tables.lookup(schema, "BB").isPresent(), is(false));
+
+    tables.freeze();
+    tables.filter(table -> !table.equals(table3));
+    assertThat(tables.values(), contains(table1));
+    assertThat(tables.size(), is(1));
+  }
+
+  @Test
+  public void frozenAttributes() {
+    final Schema schema = new SchemaReference("CATALOG", "PUBLIC");
+    final MutableTable table = new MutableTable(schema, "TABLE1");
+    table.setAttribute("Aa", 1);
+    table.setAttribute("BB", 2);
+    table.setRemarks("Remarks");
+    table.freeze();
+
+    assertThat(table.getAttribute("Aa"), is(1));
+    assertThat(table.getAttribute("BB"), is(2));
+    assertThat(table.getAttribute("CC", 3), is(3));
+    assertThat(table.getRemarks(), is("Remarks"));
+    assertThat(table.getAttributes().keySet(), contains("Aa", "BB", "REMARKS"));
+
+    // Frozen attributes can still be modified
+    table.setAttribute("CC", 3);
+    table.removeAttribute("Aa");
+    table.setAttribute("BB", null);
+    assertThat(table.getAttributes().keySet(), contains("CC", "REMARKS"));
+  }
+
+  @Test
+  public void sortedSnapshot() {
+    final Schema schema = new SchemaReference("CATALOG", "PUBLIC");
+    final MutableTable table1 = new MutableTable(schema, "TABLE1");
+    final MutableTable table2 = new MutableTable(schema, "TABLE2");
+    final MutableTable table3 = new MutableTable(schema, "TABLE3");
+
+    final NamedObjectList<Table> tables = new NamedObjectList<>();
+    tables.add(table3);
+    tables.add(table1);
+
+    final List<Table> values = tables.values();
+    assertThat(values, contains(table1, table3));
+    assertThat(tables.values(), is(sameInstance(values)));
+    assertThrows(UnsupportedOperationException.class, () -> values.add(table2));
+
+    tables.add(table2);
+    assertThat(tables.values(), is(not(sameInstance(values))));
+    assertThat(tables.values(), contains(table1, table2, table3));
+
+    tables.remove(table1);
+    assertThat(tables.values(), contains(table2, table3));
+
+    tables.filter(table -> !table.equals(table3));
+    assertThat(tables.values(), contains(table2));
+  }
+
   @Test
   public void tableNames() {
     final String[] schemaNames = new String[] {"DBO", "PUBLIC"};
@@ -62,4 +157,34 @@ public class NamedObjectTest {
     }
     assertThat(tables.size(), is(schemaNames.length * tableNames.length));
   }
+
+  @Test
+  public void valuesBySchema() {
+    final Schema schema1 = new SchemaReference("CATALOG", "SCHEMA1");
+    final Schema schema2 = new SchemaReference("CATALOG", "SCHEMA2");
+    final MutableTable table1 = new MutableTable(schema1, "TABLE1");
+    final MutableTable table2 = new MutableTable(schema2, "TABLE2");
+    final MutableTable table3 = new MutableTable(schema1, "TABLE3");
+
+    final NamedObjectList<Table> tables = new NamedObjectList<>();
+    assertThat(tables.values(schema1), is(empty()));
+
+    tables.add(table3);
+    tables.add(table2);
+    assertThat(tables.values(schema1), contains(table3));
+    assertThat(tables.values(schema1), is(sameInstance(tables.values(schema1))));
+
+    tables.add(table1);
+    assertThat(tables.values(schema1), contains(table1, table3));
+    assertThat(tables.values(schema2), contains(table2));
+    assertThat(tables.values(new SchemaReference("CATALOG", "SCHEMA1")), contains(table1, table3));
+    assertThat(tables.values(new SchemaReference("CATALOG", "SCHEMA3")), is(empty()));
+
+    tables.freeze();
+    assertThat(tables.values(schema1), contains(table1, table3));
+
+    tables.remove(table1);
+    assertThat(tables.values(schema1), contains(table3));
+    assertThrows(NullPointerException.class, () -> tables.values(null));
+  }
 }
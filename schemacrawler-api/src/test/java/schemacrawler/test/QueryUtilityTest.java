@@ -29,6 +29,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -41,11 +43,16 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
 
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.QueryUtility;
 import schemacrawler.test.utility.ResolveTestContext;
@@ -103,6 +110,71 @@ public class QueryUtilityTest {
     executeAgainstSchemaTest(testContext, cxn, query, schemaInclusionRule);
   }
 
+  @Test
+  public void executeAgainstTables(final TestContext testContext, final Connection cxn)
+      throws Exception {
+    final Query query =
+        new Query(
+            "Tables for limits",
+            "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE REGEXP_MATCHES(TABLE_SCHEMA, '${schemas}') "
+                + "AND REGEXP_MATCHES(TABLE_CATALOG || '.' || TABLE_SCHEMA || '.' || TABLE_NAME, "
+                + "'${tables}') "
+                + "AND REGEXP_MATCHES(TABLE_TYPE, '${tabletypes}') "
+                + "ORDER BY TABLE_NAME");
+
+    final LimitOptions limitOptions =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(Pattern.compile("BOOKS"))
+            .includeTables(Pattern.compile(".*\\.AUTHOR.*"))
+            .tableTypes("BASE TABLE")
+            .toOptions();
+    assertThat(executeAgainstTables(cxn, query, limitOptions), contains("AUTHORS"));
+
+    final LimitOptions allTypesLimitOptions =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(Pattern.compile("BOOKS"))
+            .includeTables(Pattern.compile(".*\\.AUTHOR.*"))
+            .toOptions();
+    assertThat(
+        executeAgainstTables(cxn, query, allTypesLimitOptions),
+        contains("AUTHORS", "AUTHORSLIST"));
+  }
+
+  @Test
+  public void executeAgainstTablesWithQuotedNames(final Connection cxn) throws Exception {
+    final Query query =
+        new Query(
+            "Tables for limits",
+            "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE REGEXP_MATCHES(TABLE_CATALOG || '.' || TABLE_SCHEMA || '.' || TABLE_NAME, "
+                + "'${tables}') "
+                + "ORDER BY TABLE_NAME");
+
+    // Simple patterns limit tables in SQL
+    final LimitOptions limitOptions =
+        LimitOptionsBuilder.builder()
+            .includeTables(Pattern.compile(".*\\.BOOKS\\..*Celebrit.*"))
+            .toOptions();
+    assertThat(
+        executeAgainstTables(cxn, query, limitOptions),
+        contains("Celebrities", "Celebrity Updates"));
+
+    // Patterns for quoted names, or with syntax that databases may not support, match all tables
+    for (final String tablesPattern :
+        new String[] {
+          ".*\\.BOOKS\\.\"Celebrity Updates\"",
+          "(?i).*\\.books\\.celebrit.*",
+          "\\QPUBLIC.BOOKS\\E.*"
+        }) {
+      final LimitOptions quotedNamesLimitOptions =
+          LimitOptionsBuilder.builder().includeTables(Pattern.compile(tablesPattern)).toOptions();
+      assertThat(
+          executeAgainstTables(cxn, query, quotedNamesLimitOptions),
+          hasItems("AUTHORS", "Celebrities", "Celebrity Updates"));
+    }
+  }
+
   @Test
   public void executeForScalar(final TestContext testContext, final Connection cxn)
       throws Exception {
@@ -150,4 +222,18 @@ public class QueryUtilityTest {
     assertThat(
         outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
   }
+
+  private List<String> executeAgainstTables(
+      final Connection connection, final Query query, final LimitOptions limitOptions)
+      throws SQLException {
+    final List<String> tableNames = new ArrayList<>();
+    try (final Statement statement = connection.createStatement();
+        final ResultSet resultSet =
+            QueryUtility.executeAgainstSchema(query, statement, limitOptions)) {
+      while (resultSet.next()) {
+        tableNames.add(resultSet.getString("TABLE_NAME"));
+      }
+    }
+    return tableNames;
+  }
 }
@@ -0,0 +1,63 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.Main;
+
+import schemacrawler.Version;
+
+/**
+ * Runs JMH benchmarks, with results written in JSON format to a file named for the SchemaCrawler
+ * version, so that results can be compared between releases. Any JMH command-line options can be
+ * passed in, and an explicit "-rf" or "-rff" takes precedence.
+ */
+public final class BenchmarkRunner {
+
+  public static void main(final String[] args) throws Exception {
+    final List<String> arguments = new ArrayList<>(Arrays.asList(args));
+    if (!arguments.contains("-rf")) {
+      arguments.add("-rf");
+      arguments.add("json");
+    }
+    if (!arguments.contains("-rff")) {
+      arguments.add("-rff");
+      arguments.add(
+          String.format("target/jmh-result-%s.json", Version.version().getProductVersion()));
+    }
+    Main.main(arguments.toArray(new String[0]));
+  }
+
+  private BenchmarkRunner() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,65 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmark;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+
+/**
+ * A catalog crawled once per trial from the synthetic database, for benchmarks of code that runs
+ * after the crawl, such as serialization and formatting.
+ */
+@State(Scope.Benchmark)
+public class CatalogState extends SyntheticDatabaseState {
+
+  private Catalog catalog;
+  private SchemaCrawlerOptions schemaCrawlerOptions;
+
+  @Override
+  protected void prepare() {
+    schemaCrawlerOptions = schemaCrawlerOptions(SchemaInfoLevelBuilder.maximum());
+    catalog =
+        SchemaCrawlerUtility.getCatalog(
+            getDataSource(), getSchemaRetrievalOptions(), schemaCrawlerOptions, new Config());
+  }
+
+  Catalog getCatalog() {
+    return catalog;
+  }
+
+  SchemaCrawlerOptions getSchemaCrawlerOptions() {
+    return schemaCrawlerOptions;
+  }
+}
@@ -0,0 +1,104 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmark;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.fatehi.utility.graph.DirectedGraph;
+import us.fatehi.utility.graph.GraphException;
+import us.fatehi.utility.graph.SimpleCycleDetector;
+import us.fatehi.utility.graph.SimpleTopologicalSort;
+import us.fatehi.utility.graph.TarjanStronglyConnectedComponentFinder;
+
+/**
+ * Times the graph algorithms used to sort tables and to find cycles in table relationships, on an
+ * acyclic graph shaped like a schema with the given number of tables and foreign keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DirectedGraphBenchmark {
+
+  @Param({"30000"})
+  public int vertices;
+
+  @Param({"80000"})
+  public int edges;
+
+  private DirectedGraph<Integer> graph;
+
+  @Setup(Level.Trial)
+  public void buildGraph() {
+    final Random random = new Random(vertices);
+    graph = new DirectedGraph<>("benchmark");
+    for (int i = 0; i < vertices; i++) {
+      graph.addVertex(i);
+    }
+    // Edges always go from a lower to a higher vertex, so there are no cycles
+    for (int i = 0; i < edges; i++) {
+      final int from = random.nextInt(vertices - 1);
+      final int to = from + 1 + random.nextInt(vertices - from - 1);
+      graph.addEdge(from, to);
+    }
+  }
+
+  @Benchmark
+  public boolean simpleCycleDetector() {
+    return new SimpleCycleDetector<>(graph).containsCycle();
+  }
+
+  @Benchmark
+  public Collection<List<Integer>> tarjan() {
+    return new TarjanStronglyConnectedComponentFinder<>(graph).detectCycles();
+  }
+
+  @Benchmark
+  public List<Integer> topologicalSort() throws GraphException {
+    return new SimpleTopologicalSort<>(graph).topologicalSort();
+  }
+}
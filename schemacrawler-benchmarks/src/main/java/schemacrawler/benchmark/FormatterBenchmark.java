@@ -0,0 +1,99 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+
+/**
+ * Times the text and diagram formatters on a catalog that has already been crawled. Diagrams are
+ * produced in the "scdot" format, which is SchemaCrawler's own DOT output, so that the time taken
+ * by Graphviz is not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FormatterBenchmark {
+
+  @Param({"brief", "schema", "details"})
+  public String command;
+
+  @Param({"text", "html", "scdot"})
+  public String outputFormat;
+
+  private Path outputFile;
+
+  @Setup(Level.Trial)
+  public void createOutputFile() throws IOException {
+    outputFile = Files.createTempFile("schemacrawler.benchmark.", "." + outputFormat);
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteOutputFile() throws IOException {
+    Files.deleteIfExists(outputFile);
+  }
+
+  @Benchmark
+  public long format(final CatalogState state) throws IOException {
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(command);
+    executable.setDataSource(state.getDataSource());
+    executable.setSchemaRetrievalOptions(state.getSchemaRetrievalOptions());
+    executable.setSchemaCrawlerOptions(state.getSchemaCrawlerOptions());
+    executable.setCatalog(state.getCatalog());
+    executable.setOutputOptions(
+        OutputOptionsBuilder.builder()
+            .withOutputFormatValue(outputFormat)
+            .withOutputFile(outputFile)
+            .toOptions());
+    executable.execute();
+    return Files.size(outputFile);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmark;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import schemacrawler.crawl.MetadataResultSet;
+
+/**
+ * Times reading the columns of the synthetic schema from the data dictionary through a metadata
+ * result-set, the way the table column retriever does, with a few values read by name for every
+ * row and the rest returned as attributes. This isolates the per-row cost of the result-set wrapper
+ * from the rest of the crawl.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MetadataResultSetBenchmark {
+
+  // HyperSQL system table with the same column labels as DatabaseMetaData.getColumns()
+  private static final String COLUMNS_SQL =
+      "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_COLUMNS WHERE TABLE_SCHEM = '"
+          + SyntheticDatabaseState.SCHEMA_NAME
+          + "'";
+
+  @Param({"20", "500"})
+  public int fetchSize;
+
+  @Benchmark
+  public int readColumns(final SyntheticDatabaseState state, final Blackhole blackhole)
+      throws SQLException {
+    int rowCount = 0;
+    try (final Connection connection = state.getDataSource().get();
+        final Statement statement = connection.createStatement();
+        final MetadataResultSet results =
+            new MetadataResultSet(
+                statement.executeQuery(COLUMNS_SQL), "MetadataResultSetBenchmark", fetchSize)) {
+      while (results.next()) {
+        rowCount = rowCount + 1;
+        blackhole.consume(results.getString("TABLE_CAT"));
+        blackhole.consume(results.getString("TABLE_SCHEM"));
+        blackhole.consume(results.getString("TABLE_NAME"));
+        blackhole.consume(results.getString("COLUMN_NAME"));
+        blackhole.consume(results.getInt("DATA_TYPE", 0));
+        blackhole.consume(results.getString("TYPE_NAME"));
+        blackhole.consume(results.getInt("COLUMN_SIZE", 0));
+        blackhole.consume(results.getInt("DECIMAL_DIGITS", 0));
+        blackhole.consume(results.getInt("ORDINAL_POSITION", 0));
+        blackhole.consume(results.getString("IS_NULLABLE"));
+        blackhole.consume(results.getString("COLUMN_DEF"));
+        blackhole.consume(results.getString("REMARKS"));
+        blackhole.consume(results.getAttributes());
+      }
+    }
+    return rowCount;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.fatehi.utility.PrefixMatches;
+
+/**
+ * Times the discovery of table name prefixes used to infer weak associations, on synthetic table
+ * names. Names are either grouped under a few application and module prefixes, as in large
+ * enterprise schemas, or are random words with no shared prefixes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PrefixMatchesBenchmark {
+
+  private static final String[] APPLICATIONS = {"app", "crm", "erp", "hr", "gl", "inv"};
+  private static final String[] ENTITIES = {
+    "customers", "orders", "order_items", "invoices", "addresses", "products", "accounts"
+  };
+
+  @Param({"1000", "40000"})
+  public int tables;
+
+  @Param({"prefixed", "random"})
+  public String names;
+
+  private List<String> tableNames;
+
+  @Setup(Level.Trial)
+  public void createTableNames() {
+    final Random random = new Random(tables);
+    tableNames = new ArrayList<>(tables);
+    for (int i = 0; i < tables; i++) {
+      final String tableName;
+      if ("random".equals(names)) {
+        final StringBuilder buffer = new StringBuilder();
+        final int length = 6 + random.nextInt(10);
+        for (int j = 0; j < length; j++) {
+          buffer.append((char) ('a' + random.nextInt(26)));
+        }
+        tableName = buffer.toString();
+      } else {
+        tableName =
+            String.format(
+                "%s_mod%d_%s_%d",
+                APPLICATIONS[random.nextInt(APPLICATIONS.length)],
+                random.nextInt(100),
+                ENTITIES[random.nextInt(ENTITIES.length)],
+                i);
+      }
+      tableNames.add(tableName);
+    }
+  }
+
+  @Benchmark
+  public PrefixMatches prefixMatches() {
+    return new PrefixMatches(tableNames, "_");
+  }
+}
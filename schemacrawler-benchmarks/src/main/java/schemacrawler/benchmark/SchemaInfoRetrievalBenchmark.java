@@ -0,0 +1,127 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.InfoLevel;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+
+/**
+ * Times a crawl with a single retrieval stage switched on, in addition to the stages it depends on.
+ * The "tables" stage only retrieves tables, and the "columns" stage retrieves tables and columns,
+ * so these are the baselines to subtract from the other stages. Catalog loaders such as weak
+ * associations are not run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SchemaInfoRetrievalBenchmark {
+
+  public enum Stage {
+    tables(builder -> {}),
+    columns(builder -> builder.setRetrieveTableColumns(true)),
+    columnDataTypes(builder -> builder.setRetrieveColumnDataTypes(true)),
+    primaryKeys(columns.andThen(builder -> builder.setRetrievePrimaryKeys(true))),
+    foreignKeys(columns.andThen(builder -> builder.setRetrieveForeignKeys(true))),
+    indexes(columns.andThen(builder -> builder.setRetrieveIndexes(true))),
+    indexInformation(indexes.andThen(builder -> builder.setRetrieveIndexInformation(true))),
+    tableConstraints(columns.andThen(builder -> builder.setRetrieveTableConstraints(true))),
+    tableConstraintInformation(
+        tableConstraints.andThen(
+            builder ->
+                builder
+                    .setRetrieveTableConstraintDefinitions(true)
+                    .setRetrieveTableConstraintInformation(true))),
+    triggers(builder -> builder.setRetrieveTriggerInformation(true)),
+    viewInformation(
+        builder -> builder.setRetrieveViewInformation(true).setRetrieveViewViewTableUsage(true)),
+    tableDefinitions(builder -> builder.setRetrieveTableDefinitionsInformation(true)),
+    additionalTableAttributes(builder -> builder.setRetrieveAdditionalTableAttributes(true)),
+    additionalColumnAttributes(
+        columns.andThen(
+            builder ->
+                builder
+                    .setRetrieveAdditionalColumnAttributes(true)
+                    .setRetrieveAdditionalColumnMetadata(true))),
+    tablePrivileges(builder -> builder.setRetrieveTablePrivileges(true)),
+    tableColumnPrivileges(columns.andThen(builder -> builder.setRetrieveTableColumnPrivileges(true)));
+
+    private final Consumer<SchemaInfoLevelBuilder> retrievals;
+
+    Stage(final Consumer<SchemaInfoLevelBuilder> retrievals) {
+      this.retrievals = retrievals;
+    }
+
+    private Consumer<SchemaInfoLevelBuilder> andThen(final Consumer<SchemaInfoLevelBuilder> next) {
+      return retrievals.andThen(next);
+    }
+
+    SchemaInfoLevel toSchemaInfoLevel() {
+      final SchemaInfoLevelBuilder builder =
+          SchemaInfoLevelBuilder.builder()
+              .withInfoLevel(InfoLevel.minimum)
+              .withoutRoutines()
+              .setRetrieveTables(true)
+              .withTag(name());
+      retrievals.accept(builder);
+      return builder.toOptions();
+    }
+  }
+
+  @Param public Stage stage;
+
+  @Benchmark
+  public Catalog crawl(final SyntheticDatabaseState state) {
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            state.getDataSource(),
+            state.getSchemaRetrievalOptions(),
+            state.schemaCrawlerOptions(stage.toSchemaInfoLevel()));
+    return schemaCrawler.crawl();
+  }
+}
@@ -0,0 +1,129 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.crawl.BinaryCatalogReader;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.tools.formatter.serialize.BinarySerializedCatalog;
+import schemacrawler.tools.formatter.serialize.JavaSerializedCatalog;
+import schemacrawler.tools.formatter.serialize.JsonSerializedCatalog;
+
+/** Times serialization and deserialization of a crawled catalog, in each supported format. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SerializationBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class SerializedCatalogState extends CatalogState {
+
+    private byte[] binarySerializedCatalog;
+    private byte[] javaSerializedCatalog;
+
+    @Override
+    protected void prepare() {
+      super.prepare();
+      final ByteArrayOutputStream javaOut = new ByteArrayOutputStream();
+      new JavaSerializedCatalog(getCatalog()).save(javaOut);
+      javaSerializedCatalog = javaOut.toByteArray();
+
+      final ByteArrayOutputStream binaryOut = new ByteArrayOutputStream();
+      new BinarySerializedCatalog(getCatalog()).save(binaryOut);
+      binarySerializedCatalog = binaryOut.toByteArray();
+    }
+  }
+
+  @Benchmark
+  public Catalog binaryDeserialize(final SerializedCatalogState state) {
+    return new BinarySerializedCatalog(new ByteArrayInputStream(state.binarySerializedCatalog))
+        .getCatalog();
+  }
+
+  /** Loads only ten tables, to show the cost of loading a small part of a large snapshot. */
+  @Benchmark
+  public Catalog binaryDeserializeWithLimits(final SerializedCatalogState state)
+      throws IOException {
+    final SchemaCrawlerOptions options =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeTables(Pattern.compile(".*\\.T_([1-9]|10)"))
+                    .toOptions());
+    return new BinaryCatalogReader(ByteBuffer.wrap(state.binarySerializedCatalog)).read(options);
+  }
+
+  @Benchmark
+  public int binarySerialize(final CatalogState state) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new BinarySerializedCatalog(state.getCatalog()).save(out);
+    return out.size();
+  }
+
+  @Benchmark
+  public Catalog javaDeserialize(final SerializedCatalogState state) {
+    return new JavaSerializedCatalog(new ByteArrayInputStream(state.javaSerializedCatalog))
+        .getCatalog();
+  }
+
+  @Benchmark
+  public int javaSerialize(final CatalogState state) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new JavaSerializedCatalog(state.getCatalog()).save(out);
+    return out.size();
+  }
+
+  @Benchmark
+  public int jsonSerialize(final CatalogState state) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new JsonSerializedCatalog(state.getCatalog()).save(out);
+    return out.size();
+  }
+}
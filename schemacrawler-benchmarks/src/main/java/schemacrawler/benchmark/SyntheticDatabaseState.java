@@ -0,0 +1,149 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmark;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.testdb.SyntheticSchemaCreator;
+import schemacrawler.tools.utility.SchemaCrawlerUtility;
+import us.fatehi.utility.LoggingConfig;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.datasource.DatabaseConnectionSources;
+import us.fatehi.utility.datasource.MultiUseUserCredentials;
+
+/**
+ * An in-memory HyperSQL database with a generated schema, shared by all the benchmarks. The size
+ * of the schema is controlled by JMH parameters, which can be overridden from the command-line,
+ * for example, "-p tables=40000 -p columnsPerTable=20".
+ */
+@State(Scope.Benchmark)
+public class SyntheticDatabaseState {
+
+  static final String SCHEMA_NAME = "SYNTHETIC";
+
+  @Param({"1000"})
+  public int tables;
+
+  @Param({"10"})
+  public int columnsPerTable;
+
+  @Param({"1.0"})
+  public double foreignKeysPerTable;
+
+  @Param({"2"})
+  public int indexesPerTable;
+
+  private DatabaseConnectionSource dataSource;
+  private SchemaRetrievalOptions schemaRetrievalOptions;
+
+  @Setup(Level.Trial)
+  public void createDatabase() throws SQLException {
+    new LoggingConfig(java.util.logging.Level.OFF);
+
+    final String connectionUrl = String.format("jdbc:hsqldb:mem:synthetic%d", System.nanoTime());
+    dataSource =
+        DatabaseConnectionSources.newDatabaseConnectionSource(
+            connectionUrl, new MultiUseUserCredentials("sa", ""));
+    try (final Connection connection = dataSource.get()) {
+      new SyntheticSchemaCreator(
+              connection,
+              SCHEMA_NAME,
+              tables,
+              columnsPerTable,
+              foreignKeysPerTable,
+              indexesPerTable)
+          .run();
+    }
+
+    schemaRetrievalOptions = SchemaCrawlerUtility.matchSchemaRetrievalOptions(dataSource);
+    SchemaCrawlerUtility.updateConnectionDataSource(dataSource, schemaRetrievalOptions);
+
+    prepare();
+  }
+
+  /**
+   * Prepares additional state once the database is available. JMH does not guarantee the order of
+   * setup methods in a state class hierarchy, so subclasses override this method instead of
+   * declaring their own setup.
+   */
+  protected void prepare() {
+    // Default implementation - NO-OP
+  }
+
+  @TearDown(Level.Trial)
+  public void shutdownDatabase() throws Exception {
+    try (final Connection connection = dataSource.get();
+        final Statement statement = connection.createStatement()) {
+      statement.execute("SHUTDOWN");
+    } finally {
+      dataSource.close();
+    }
+  }
+
+  DatabaseConnectionSource getDataSource() {
+    return dataSource;
+  }
+
+  SchemaRetrievalOptions getSchemaRetrievalOptions() {
+    return schemaRetrievalOptions;
+  }
+
+  /**
+   * Options that restrict the crawl to the synthetic schema, with the given level of detail.
+   *
+   * @param schemaInfoLevel Level of detail to retrieve
+   * @return SchemaCrawler options
+   */
+  SchemaCrawlerOptions schemaCrawlerOptions(final SchemaInfoLevel schemaInfoLevel) {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionInclusionRule(".*\\." + SCHEMA_NAME));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(schemaInfoLevel);
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLimitOptions(limitOptionsBuilder.toOptions())
+        .withLoadOptions(loadOptionsBuilder.toOptions());
+  }
+}
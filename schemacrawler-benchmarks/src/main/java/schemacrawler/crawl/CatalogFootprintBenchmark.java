@@ -0,0 +1,136 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.schema.DataTypeType;
+import schemacrawler.schema.TableType;
+import schemacrawler.schemacrawler.SchemaReference;
+
+/**
+ * Reports the heap retained by a large catalog, with the default of one million columns, so that
+ * the memory footprint of catalog objects can be tracked between releases. The catalog is built in
+ * memory the way a crawl builds it, with remarks and a few attributes on each column, so no
+ * database is needed. The retained size is in the "retainedBytes" secondary result, and is
+ * measured as the used heap after garbage collection, before and after the catalog is built. The
+ * catalog is optionally frozen, as it is at the end of a crawl, to show the memory released by
+ * freezing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CatalogFootprintBenchmark {
+
+  /** Secondary results, reported with the benchmark. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Footprint {
+
+    public long retainedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      retainedBytes = 0;
+    }
+  }
+
+  private static long usedHeapAfterGc() {
+    final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    for (int i = 0; i < 3; i++) {
+      memoryBean.gc();
+    }
+    return memoryBean.getHeapMemoryUsage().getUsed();
+  }
+
+  @Param({"50000"})
+  public int tables;
+
+  @Param({"20"})
+  public int columnsPerTable;
+
+  @Param({"false", "true"})
+  public boolean frozen;
+
+  @Benchmark
+  public MutableCatalog buildCatalog(final Footprint footprint) {
+    final long usedBefore = usedHeapAfterGc();
+
+    final MutableCatalog catalog =
+        new MutableCatalog(
+            "benchmark",
+            new MutableDatabaseInfo("Benchmark", "1.0", "sa"),
+            new MutableJdbcDriverInfo(
+                "Benchmark", "benchmark.Driver", "1.0", 1, 0, 4, 2, false, "jdbc:benchmark"));
+    final TableType tableType = new TableType("TABLE");
+    final SchemaReference schema = new SchemaReference("CATALOG", "SCHEMA");
+    final MutableColumnDataType columnDataType =
+        new MutableColumnDataType(schema, "VARCHAR", DataTypeType.system);
+    catalog.addColumnDataType(columnDataType);
+    for (int i = 0; i < tables; i++) {
+      final MutableTable table = new MutableTable(schema, "T_" + i);
+      table.setTableType(tableType);
+      table.setRemarks("");
+      for (int j = 0; j < columnsPerTable; j++) {
+        final MutableColumn column = new MutableColumn(table, "C_" + j);
+        column.setOrdinalPosition(j + 1);
+        column.setColumnDataType(columnDataType);
+        column.setRemarks("");
+        column.setAttribute("IS_NULLABLE", "YES");
+        table.addColumn(column);
+      }
+      catalog.addTable(table);
+    }
+    if (frozen) {
+      catalog.freeze();
+    }
+
+    footprint.retainedBytes = usedHeapAfterGc() - usedBefore;
+    return catalog;
+  }
+}
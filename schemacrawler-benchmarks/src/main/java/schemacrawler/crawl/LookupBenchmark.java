@@ -0,0 +1,146 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.DataTypeType;
+import schemacrawler.schema.TableType;
+import schemacrawler.schemacrawler.SchemaReference;
+
+/**
+ * Times lookup-heavy reads of a catalog, which hash lookup keys and catalog objects over and over,
+ * the way catalog loaders, filters and linters do. The catalog is built in memory, so no database
+ * is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LookupBenchmark {
+
+  @Param({"2000"})
+  public int tables;
+
+  @Param({"20"})
+  public int columnsPerTable;
+
+  private MutableCatalog catalog;
+  private SchemaReference schema;
+  private String[] tableNames;
+  private String[] columnNames;
+  private List<Column> allColumns;
+  private Set<Column> columnSet;
+
+  @Setup(Level.Trial)
+  public void buildCatalog() {
+    catalog =
+        new MutableCatalog(
+            "benchmark",
+            new MutableDatabaseInfo("Benchmark", "1.0", "sa"),
+            new MutableJdbcDriverInfo(
+                "Benchmark", "benchmark.Driver", "1.0", 1, 0, 4, 2, false, "jdbc:benchmark"));
+    final TableType tableType = new TableType("TABLE");
+    schema = new SchemaReference("CATALOG", "SCHEMA");
+    final MutableColumnDataType columnDataType =
+        new MutableColumnDataType(schema, "VARCHAR", DataTypeType.system);
+
+    tableNames = new String[tables];
+    columnNames = new String[columnsPerTable];
+    for (int j = 0; j < columnsPerTable; j++) {
+      columnNames[j] = "C_" + j;
+    }
+    for (int i = 0; i < tables; i++) {
+      tableNames[i] = "T_" + i;
+      final MutableTable table = new MutableTable(schema, tableNames[i]);
+      table.setTableType(tableType);
+      for (int j = 0; j < columnsPerTable; j++) {
+        final MutableColumn column = new MutableColumn(table, columnNames[j]);
+        column.setOrdinalPosition(j + 1);
+        column.setColumnDataType(columnDataType);
+        table.addColumn(column);
+      }
+      catalog.addTable(table);
+    }
+
+    allColumns = new ArrayList<>();
+    for (final MutableTable table : catalog.getAllTables()) {
+      allColumns.addAll(table.getColumns());
+    }
+    columnSet = new HashSet<>(allColumns);
+  }
+
+  @Benchmark
+  public int containsColumns() {
+    int found = 0;
+    for (final Column column : allColumns) {
+      if (columnSet.contains(column)) {
+        found++;
+      }
+    }
+    return found;
+  }
+
+  @Benchmark
+  public void lookupColumns(final Blackhole blackhole) {
+    for (final String tableName : tableNames) {
+      for (final String columnName : columnNames) {
+        blackhole.consume(catalog.lookupColumn(schema, tableName, columnName));
+      }
+    }
+  }
+
+  @Benchmark
+  public void lookupTables(final Blackhole blackhole) {
+    for (final String tableName : tableNames) {
+      blackhole.consume(catalog.lookupTable(schema, tableName));
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+import static java.util.Comparator.naturalOrder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableType;
+import schemacrawler.schemacrawler.SchemaReference;
+
+/**
+ * Compares reads of a large catalog through the cached sorted snapshot in {@link NamedObjectList},
+ * against copying and sorting the values on every read. The catalog is built in memory, so no
+ * database is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NamedObjectListBenchmark {
+
+  @Param({"50000"})
+  public int tables;
+
+  private MutableCatalog catalog;
+  private NamedObjectList<MutableTable> allTables;
+  private Map<NamedObjectKey, MutableTable> unsortedTables;
+
+  @Setup(Level.Trial)
+  public void buildCatalog() {
+    catalog =
+        new MutableCatalog(
+            "benchmark",
+            new MutableDatabaseInfo("Benchmark", "1.0", "sa"),
+            new MutableJdbcDriverInfo(
+                "Benchmark", "benchmark.Driver", "1.0", 1, 0, 4, 2, false, "jdbc:benchmark"));
+    final TableType tableType = new TableType("TABLE");
+    final SchemaReference[] schemas = {
+      new SchemaReference("CATALOG", "SCHEMA1"), new SchemaReference("CATALOG", "SCHEMA2")
+    };
+    for (int i = 0; i < tables; i++) {
+      final MutableTable table = new MutableTable(schemas[i % schemas.length], "T_" + i);
+      table.setTableType(tableType);
+      table.setSortIndex(tables - i);
+      catalog.addTable(table);
+    }
+    allTables = catalog.getAllTables();
+
+    unsortedTables = new ConcurrentHashMap<>();
+    for (final MutableTable table : allTables) {
+      unsortedTables.put(table.key(), table);
+    }
+  }
+
+  /** Previous behavior, where every read copied the backing map and sorted all values. */
+  @Benchmark
+  public List<MutableTable> copyAndSort() {
+    final List<MutableTable> values = new ArrayList<>(unsortedTables.values());
+    values.sort(naturalOrder());
+    return values;
+  }
+
+  @Benchmark
+  public Collection<Table> getTables() {
+    return catalog.getTables();
+  }
+
+  @Benchmark
+  public void iterate(final Blackhole blackhole) {
+    for (final MutableTable table : allTables) {
+      blackhole.consume(table);
+    }
+  }
+
+  @Benchmark
+  public void iterateAfterModification(final Blackhole blackhole) {
+    allTables.sortOrderChanged();
+    for (final MutableTable table : allTables) {
+      blackhole.consume(table);
+    }
+  }
+}
@@ -28,6 +28,10 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.tools.commandline.utility;
 
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.nio.file.Paths;
+
 import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
 import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
@@ -103,6 +107,22 @@ public final class SchemaRetrievalOptionsConfig {
       builder.with(metadataRetrievalStrategy, configValue);
     }
 
+    final String crossoverTableCountKey =
+        "schemacrawler.schema.retrieval.strategy.crossover_table_count";
+    if (configProperties.containsKey(crossoverTableCountKey)) {
+      builder.withCrossoverTableCount(configProperties.getIntegerValue(crossoverTableCountKey, 0));
+    }
+    final String historyFile =
+        configProperties.getStringValue("schemacrawler.schema.retrieval.strategy.history_file", "");
+    if (!isBlank(historyFile)) {
+      builder.withRetrievalHistoryFile(Paths.get(historyFile));
+    }
+
+    final String fetchSizeKey = "schemacrawler.schema.retrieval.fetch_size";
+    if (configProperties.containsKey(fetchSizeKey)) {
+      builder.withFetchSize(configProperties.getIntegerValue(fetchSizeKey, 0));
+    }
+
     return builder;
   }
 }
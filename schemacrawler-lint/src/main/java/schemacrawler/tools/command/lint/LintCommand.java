@@ -29,11 +29,15 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.command.lint;
 
 import static schemacrawler.tools.lint.config.LinterConfigUtility.readLinterConfigs;
+import static us.fatehi.utility.Utility.isBlank;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.tools.command.lint.options.LintOptions;
 import schemacrawler.tools.command.lint.options.LintReportOutputFormat;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
+import schemacrawler.tools.lint.LintCache;
 import schemacrawler.tools.lint.LintDispatch;
 import schemacrawler.tools.lint.LintReport;
 import schemacrawler.tools.lint.Linters;
@@ -69,7 +73,15 @@ public class LintCommand extends BaseSchemaCrawlerCommand<LintOptions> {
       final LinterConfigs linterConfigs = readLinterConfigs(commandOptions);
       LOGGER.log(Level.FINEST, new ObjectToStringFormat(linterConfigs));
       final Linters linters = new Linters(linterConfigs, commandOptions.isRunAllLinters());
-      linters.lint(catalog, connection);
+      final LintCache lintCache = loadLintCache();
+      linters.setLintCache(lintCache);
+      final int lintThreads = commandOptions.getLintThreads();
+      if (lintThreads > 1 && dataSource != null) {
+        linters.lint(catalog, dataSource, lintThreads);
+      } else {
+        linters.lint(catalog, connection);
+      }
+      saveLintCache(lintCache);
 
       // Produce the lint report
       final LintReport lintReport =
@@ -130,4 +142,23 @@ public class LintCommand extends BaseSchemaCrawlerCommand<LintOptions> {
 
     return lintReportBuilder;
   }
+
+  private LintCache loadLintCache() {
+    final String lintCacheFile = commandOptions.getLintCache();
+    if (isBlank(lintCacheFile)) {
+      return null;
+    }
+    return LintCache.load(Paths.get(lintCacheFile));
+  }
+
+  private void saveLintCache(final LintCache lintCache) {
+    if (lintCache == null) {
+      return;
+    }
+    try {
+      lintCache.save();
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, "Could not save lint cache", e);
+    }
+  }
 }
@@ -66,12 +66,25 @@ public class LintCommandProvider extends BaseCommandProvider {
     pluginCommand
         .addOption(
             "linter-configs", Path.class, "Path to the SchemaCrawler linter configuration file")
+        .addOption(
+            "lint-cache",
+            Path.class,
+            "Path to a file that caches lints for tables between runs, "
+                + "so that tables that have not changed are not linted again%n"
+                + "Optional, defaults to no cache%n"
+                + "Corresponds to the configuration file setting: schemacrawler.lint.lint-cache")
         .addOption(
             "lint-dispatch",
             LintDispatch.class,
             "Specifies how to fail if a linter threshold is exceeded%n"
                 + "Optional, defaults to none%n"
                 + "Corresponds to the configuration file setting: schemacrawler.lint.lintdispatch")
+        .addOption(
+            "lint-threads",
+            int.class,
+            "Number of threads to run linters in parallel with%n"
+                + "Optional, defaults to 1, which runs linters in sequence%n"
+                + "Corresponds to the configuration file setting: schemacrawler.lint.lint-threads")
         .addOption(
             "run-all-linters",
             boolean.class,
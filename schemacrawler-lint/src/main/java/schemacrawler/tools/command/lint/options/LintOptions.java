@@ -39,6 +39,8 @@ public class LintOptions extends BaseTextOptions {
   private final String linterConfigs;
   private final LintDispatch lintDispatch;
   private final boolean runAllLinters;
+  private final int lintThreads;
+  private final String lintCache;
   private final Config config;
 
   public LintOptions(final LintOptionsBuilder builder) {
@@ -46,6 +48,8 @@ public class LintOptions extends BaseTextOptions {
     linterConfigs = builder.linterConfigs;
     lintDispatch = requireNonNull(builder.lintDispatch, "No dispatch provided");
     runAllLinters = builder.runAllLinters;
+    lintThreads = builder.lintThreads;
+    lintCache = builder.lintCache;
     requireNonNull(builder.config, "No properties provided");
     this.config = new Config(builder.config);
   }
@@ -59,6 +63,15 @@ public class LintOptions extends BaseTextOptions {
     return new Config(config);
   }
 
+  /**
+   * Gets the path to the lint cache file, which is blank if lints are not cached.
+   *
+   * @return Path to the lint cache file.
+   */
+  public String getLintCache() {
+    return lintCache;
+  }
+
   /**
    * Gets the dispatch strategy.
    *
@@ -77,6 +90,15 @@ public class LintOptions extends BaseTextOptions {
     return linterConfigs;
   }
 
+  /**
+   * Gets the number of threads to run linters with. Linters are run in sequence with one thread.
+   *
+   * @return Number of threads to run linters with.
+   */
+  public int getLintThreads() {
+    return lintThreads;
+  }
+
   /**
    * Whether to run all linters, including the ones that are not explicitly configured.
    *
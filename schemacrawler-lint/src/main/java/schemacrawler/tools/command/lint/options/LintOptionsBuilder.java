@@ -39,11 +39,15 @@ public final class LintOptionsBuilder
     extends BaseTextOptionsBuilder<LintOptionsBuilder, LintOptions> {
 
   private static final String CLI_LINTER_CONFIGS = "linter-configs";
+  private static final String CLI_LINT_CACHE = "lint-cache";
   private static final String CLI_LINT_DISPATCH = "lint-dispatch";
+  private static final String CLI_LINT_THREADS = "lint-threads";
   private static final String CLI_RUN_ALL_LINTERS = "run-all-linters";
   private static final String SCHEMACRAWLER_LINT_PREFIX = "schemacrawler.lint.";
   private static final String LINTER_CONFIGS = SCHEMACRAWLER_LINT_PREFIX + CLI_LINTER_CONFIGS;
+  private static final String LINT_CACHE = SCHEMACRAWLER_LINT_PREFIX + CLI_LINT_CACHE;
   private static final String LINT_DISPATCH = SCHEMACRAWLER_LINT_PREFIX + CLI_LINT_DISPATCH;
+  private static final String LINT_THREADS = SCHEMACRAWLER_LINT_PREFIX + CLI_LINT_THREADS;
   private static final String RUN_ALL_LINTERS = SCHEMACRAWLER_LINT_PREFIX + CLI_RUN_ALL_LINTERS;
 
   public static LintOptionsBuilder builder() {
@@ -57,12 +61,16 @@ public final class LintOptionsBuilder
   LintDispatch lintDispatch;
   String linterConfigs;
   boolean runAllLinters;
+  int lintThreads;
+  String lintCache;
   Config config;
 
   private LintOptionsBuilder() {
     linterConfigs = "";
     lintDispatch = LintDispatch.none;
     runAllLinters = true;
+    lintThreads = 1;
+    lintCache = "";
     config = new Config();
   }
 
@@ -103,6 +111,26 @@ public final class LintOptionsBuilder
     }
     runAllLinters = config.getBooleanValue(runAllLintersKey, true);
 
+    final String lintThreadsKey;
+    if (config.containsKey(CLI_LINT_THREADS)) {
+      // Honor command-line option first
+      lintThreadsKey = CLI_LINT_THREADS;
+    } else {
+      // Otherwise, take option from SchemaCrawler configuration file
+      lintThreadsKey = LINT_THREADS;
+    }
+    withLintThreads(config.getIntegerValue(lintThreadsKey, 1));
+
+    final String lintCacheKey;
+    if (config.containsKey(CLI_LINT_CACHE)) {
+      // Honor command-line option first
+      lintCacheKey = CLI_LINT_CACHE;
+    } else {
+      // Otherwise, take option from SchemaCrawler configuration file
+      lintCacheKey = LINT_CACHE;
+    }
+    withLintCache(config.getStringValue(lintCacheKey, ""));
+
     // Save config
     this.config.merge(config);
 
@@ -119,6 +147,8 @@ public final class LintOptionsBuilder
     linterConfigs = options.getLinterConfigs();
     lintDispatch = options.getLintDispatch();
     runAllLinters = options.isRunAllLinters();
+    lintThreads = options.getLintThreads();
+    lintCache = options.getLintCache();
 
     return this;
   }
@@ -136,6 +166,8 @@ public final class LintOptionsBuilder
     config.put(LINTER_CONFIGS, linterConfigs);
     config.put(LINT_DISPATCH, lintDispatch);
     config.put(RUN_ALL_LINTERS, runAllLinters);
+    config.put(LINT_THREADS, lintThreads);
+    config.put(LINT_CACHE, lintCache);
     // Lint report output format is not written to the config
     return config;
   }
@@ -145,6 +177,12 @@ public final class LintOptionsBuilder
     return new LintOptions(this);
   }
 
+  /** With the path to a lint cache file, or blank to not cache lints. */
+  public LintOptionsBuilder withLintCache(final String lintCache) {
+    this.lintCache = trimToEmpty(lintCache);
+    return this;
+  }
+
   /** With a lint dispatch strategy. */
   public LintOptionsBuilder withLintDispatch(final LintDispatch lintDispatch) {
     if (lintDispatch == null) {
@@ -155,6 +193,16 @@ public final class LintOptionsBuilder
     return this;
   }
 
+  /** With the number of threads to run linters with, where one thread runs linters in sequence. */
+  public LintOptionsBuilder withLintThreads(final int lintThreads) {
+    if (lintThreads < 1) {
+      this.lintThreads = 1;
+    } else {
+      this.lintThreads = lintThreads;
+    }
+    return this;
+  }
+
   /** With the name of a linter configs file. */
   public LintOptionsBuilder withLinterConfigs(final String linterConfigs) {
     this.linterConfigs = trimToEmpty(linterConfigs);
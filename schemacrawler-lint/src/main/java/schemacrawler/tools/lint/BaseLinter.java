@@ -32,6 +32,7 @@ import static java.util.Objects.requireNonNull;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -43,6 +44,8 @@ import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
 import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.config.LinterConfig;
 import us.fatehi.utility.string.StringFormat;
@@ -51,6 +54,12 @@ import us.fatehi.utility.string.StringFormat;
  * Evaluates a catalog and creates lints. This base class has core for visiting a catalog, and
  * creating states.Also contains utility methods for subclasses. Needs to be overridden by custom
  * linters.
+ *
+ * <p>Linters do not walk the catalog on their own. Instead, the catalog is walked once for all
+ * linters, and each table is visited by every linter, along with views of the table's columns,
+ * indexes and foreign keys that are shared by all linters. Linters should use the helper methods
+ * in this class to get these views. When linters are run in parallel, tables are visited on several
+ * threads by linters that can lint tables in parallel.
  */
 public abstract class BaseLinter extends Linter {
 
@@ -60,8 +69,11 @@ public abstract class BaseLinter extends Linter {
   private InclusionRule tableInclusionRule;
   private InclusionRule columnInclusionRule;
   private TableTypesFilter tableTypesFilter;
+  private final ThreadLocal<LintedTable> lintedTable;
+  private LintCache lintCache;
 
   protected BaseLinter() {
+    lintedTable = new ThreadLocal<>();
     setTableTypesFilter(null);
     setTableInclusionRule(null);
     setColumnInclusionRule(null);
@@ -85,6 +97,29 @@ public abstract class BaseLinter extends Linter {
     addLint(LintObjectType.table, table, message, value);
   }
 
+  /**
+   * Whether lints for a table can be cached, and replayed when the table definition has not
+   * changed. Only linters whose lints depend on nothing but the definition of the table, and of the
+   * columns that its foreign keys reference, can be cached. By default, linters that can lint
+   * tables in parallel can be cached. Can be overridden.
+   *
+   * @return Whether lints for a table can be cached
+   */
+  protected boolean canCacheTableLints() {
+    return canLintTablesInParallel();
+  }
+
+  /**
+   * Whether tables can be linted in parallel. Linters that keep state across tables, or that use a
+   * database connection, cannot lint tables in parallel. Linters that lint tables in parallel are
+   * not given a database connection. Can be overridden.
+   *
+   * @return Whether tables can be linted in parallel
+   */
+  protected boolean canLintTablesInParallel() {
+    return false;
+  }
+
   protected void end(final Connection connection) {
     // Default implementation - NO-OP
   }
@@ -94,7 +129,7 @@ public abstract class BaseLinter extends Linter {
       return Collections.emptyList();
     }
 
-    final List<Column> columns = new ArrayList<>(table.getColumns());
+    final List<Column> columns = new ArrayList<>(lintedTable(table).getColumns());
     for (final Iterator<Column> iterator = columns.iterator(); iterator.hasNext(); ) {
       final Column column = iterator.next();
       if (!includeColumn(column)) {
@@ -108,6 +143,27 @@ public abstract class BaseLinter extends Linter {
     return catalog.getCrawlInfo();
   }
 
+  protected final Collection<ForeignKey> getForeignKeys(final Table table) {
+    if (table == null) {
+      return Collections.emptyList();
+    }
+    return lintedTable(table).getForeignKeys();
+  }
+
+  protected final Collection<ForeignKey> getImportedForeignKeys(final Table table) {
+    if (table == null) {
+      return Collections.emptyList();
+    }
+    return lintedTable(table).getImportedForeignKeys();
+  }
+
+  protected final Collection<Index> getIndexes(final Table table) {
+    if (table == null) {
+      return Collections.emptyList();
+    }
+    return lintedTable(table).getIndexes();
+  }
+
   protected final TableTypesFilter getTableTypesFilter() {
     return tableTypesFilter;
   }
@@ -134,6 +190,11 @@ public abstract class BaseLinter extends Linter {
     // Default implementation - NO-OP
   }
 
+  @Override
+  protected boolean usesConnection() {
+    return !canLintTablesInParallel();
+  }
+
   @Override
   final void configure(final LinterConfig linterConfig) {
     super.configure(linterConfig);
@@ -143,22 +204,89 @@ public abstract class BaseLinter extends Linter {
     }
   }
 
+  final void endLint(final Connection connection) {
+    end(connection);
+    catalog = null;
+  }
+
+  @Override
+  final LintCollector getLintCollector() {
+    final LintedTable table = lintedTable.get();
+    if (table != null && table.getLintCollector() != null) {
+      return table.getLintCollector();
+    }
+    return super.getLintCollector();
+  }
+
   @Override
   final void lint(final Catalog catalog, final Connection connection) {
-    this.catalog = requireNonNull(catalog, "No catalog provided");
+    startLint(catalog, connection);
+    for (final Table table : catalog.getTables()) {
+      visit(new LintedTable(table), connection);
+    }
+    endLint(connection);
+  }
+
+  @Override
+  final void lintAdded(final Lint<?> lint) {
+    final LintedTable table = lintedTable.get();
+    if (table != null) {
+      table.recordLint(lint);
+    }
+  }
+
+  /**
+   * Sets a cache of lints for tables, which is used if lints for tables can be cached.
+   *
+   * @param lintCache Lint cache, or null to not use a cache
+   */
+  final void setLintCache(final LintCache lintCache) {
+    this.lintCache = lintCache;
+  }
 
+  final void startLint(final Catalog catalog, final Connection connection) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
     start(connection);
-    for (final Table table : catalog.getTables()) {
-      if (tableInclusionRule.test(table.getFullName()) && tableTypesFilter.test(table)) {
-        lint(table, connection);
+  }
+
+  /**
+   * Lints a table, if it is included for this linter. The views of the linted table are used by
+   * the helper methods of this class, while the table is linted.
+   *
+   * @param table Linted table
+   * @param connection Database connection, or null if the linter does not use a connection
+   */
+  final void visit(final LintedTable table, final Connection connection) {
+    if (!isLintTable(table.getTable())) {
+      return;
+    }
+    lintedTable.set(table);
+    try {
+      if (lintCache != null && canCacheTableLints()) {
+        lintCache.lint(this, table, () -> lint(table.getTable(), connection));
       } else {
-        LOGGER.log(
-            Level.FINE,
-            new StringFormat("Excluding table <%s> for lint <%s>", table, getLinterId()));
+        lint(table.getTable(), connection);
       }
+    } finally {
+      lintedTable.remove();
     }
-    end(connection);
-    this.catalog = null;
+  }
+
+  private boolean isLintTable(final Table table) {
+    if (tableInclusionRule.test(table.getFullName()) && tableTypesFilter.test(table)) {
+      return true;
+    }
+    LOGGER.log(
+        Level.FINE, new StringFormat("Excluding table <%s> for lint <%s>", table, getLinterId()));
+    return false;
+  }
+
+  private LintedTable lintedTable(final Table table) {
+    final LintedTable currentTable = lintedTable.get();
+    if (currentTable != null && currentTable.getTable() == table) {
+      return currentTable;
+    }
+    return new LintedTable(table);
   }
 
   private final void setColumnInclusionRule(final InclusionRule columnInclusionRule) {
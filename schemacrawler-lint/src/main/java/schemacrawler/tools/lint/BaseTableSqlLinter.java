@@ -0,0 +1,355 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+import static schemacrawler.schemacrawler.QueryUtility.getQueryForTable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Identifiers;
+import schemacrawler.schemacrawler.IdentifiersBuilder;
+import schemacrawler.schemacrawler.Query;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Evaluates each table with a query that returns a single value, and creates lints from the
+ * values. Tables are not queried as they are visited. Instead, queries are run once all tables
+ * have been visited, with tables in the same schema queried in batches, so that a large schema
+ * does not take a round-trip to the database for every table. Batches are run over the connection
+ * that the linter is given, and when linters are run in parallel, over other free connections
+ * from the connection pool as well.
+ */
+public abstract class BaseTableSqlLinter extends BaseLinter {
+
+  private static final Logger LOGGER = Logger.getLogger(BaseTableSqlLinter.class.getName());
+
+  private final List<Table> tables;
+  private DatabaseConnectionSource dataSource;
+  private Semaphore connections;
+  private int threads;
+
+  protected BaseTableSqlLinter() {
+    tables = new ArrayList<>();
+    threads = 1;
+  }
+
+  @Override
+  protected final void end(final Connection connection) {
+    try {
+      final Map<Table, Object> values = queryTables(connection);
+      for (final Table table : tables) {
+        // Tables that could not be queried are not linted
+        if (values.containsKey(table)) {
+          lint(table, values.get(table));
+        }
+      }
+    } finally {
+      tables.clear();
+    }
+  }
+
+  /**
+   * Gets the maximum number of tables in a batch. Can be overridden.
+   *
+   * @return Number of tables in a batch
+   */
+  protected int getBatchSize() {
+    return 50;
+  }
+
+  /**
+   * Gets a query that evaluates a table as part of a batch of tables, or null if the query for a
+   * table cannot be batched. Queries for the tables in a batch are combined with UNION ALL. The
+   * query needs to return two columns - the index of the table in the batch, which is substituted
+   * for ${tableindex}, and the value for the table. Can be overridden.
+   *
+   * @return Query for a table in a batch, or null
+   */
+  protected Query getBatchTableQuery() {
+    return null;
+  }
+
+  /**
+   * Gets a query that evaluates a single table, and returns a single value, or no rows. Tables are
+   * not linted if there is no query, or if the query returns more than one column or row.
+   *
+   * @return Query for a table, or null
+   */
+  protected abstract Query getTableQuery();
+
+  @Override
+  protected final void lint(final Table table, final Connection connection) {
+    tables.add(table);
+  }
+
+  /**
+   * Lints a table with the value returned by the query for the table.
+   *
+   * @param table Table to lint
+   * @param value Value returned by the query, or null if the query returned no rows
+   */
+  protected abstract void lint(Table table, Object value);
+
+  @Override
+  protected final void start(final Connection connection) {
+    tables.clear();
+  }
+
+  /**
+   * Allows batches to be run over connections from a connection source, as well as over the
+   * connection that the linter is given. Connections are only taken if permits for them are free.
+   *
+   * @param dataSource Source of database connections, or null to use only the given connection
+   * @param connections Permits for connections from the connection source
+   * @param threads Maximum number of connections to run batches over
+   */
+  final void setConnectionSource(
+      final DatabaseConnectionSource dataSource, final Semaphore connections, final int threads) {
+    this.dataSource = dataSource;
+    this.connections = connections;
+    this.threads = Math.max(1, threads);
+  }
+
+  private void applyQueryTimeout(final Statement statement) {
+    final int queryTimeout = getQueryTimeout();
+    if (queryTimeout <= 0) {
+      return;
+    }
+    try {
+      statement.setQueryTimeout(queryTimeout);
+    } catch (final SQLException e) {
+      LOGGER.log(
+          Level.WARNING,
+          e,
+          new StringFormat("Could not set query timeout of <%d> seconds", queryTimeout));
+    }
+  }
+
+  private List<List<Table>> batchTablesBySchema() {
+    final Map<Schema, List<Table>> tablesBySchema = new LinkedHashMap<>();
+    for (final Table table : tables) {
+      tablesBySchema.computeIfAbsent(table.getSchema(), schema -> new ArrayList<>()).add(table);
+    }
+
+    final int batchSize = getBatchTableQuery() == null ? 1 : Math.max(1, getBatchSize());
+    final List<List<Table>> batches = new ArrayList<>();
+    for (final List<Table> schemaTables : tablesBySchema.values()) {
+      for (int i = 0; i < schemaTables.size(); i = i + batchSize) {
+        batches.add(schemaTables.subList(i, Math.min(i + batchSize, schemaTables.size())));
+      }
+    }
+    return batches;
+  }
+
+  private String batchTablesSql(
+      final Query batchTableQuery, final List<Table> batch, final Identifiers identifiers) {
+    final StringBuilder buffer = new StringBuilder();
+    for (int i = 0; i < batch.size(); i++) {
+      if (i > 0) {
+        buffer.append(" UNION ALL ");
+      }
+      final Query query =
+          new Query(
+              batchTableQuery.getName(),
+              batchTableQuery.getQuery().replace("${tableindex}", String.valueOf(i)));
+      buffer.append(getQueryForTable(query, batch.get(i), identifiers));
+    }
+    return buffer.toString();
+  }
+
+  private void queryBatch(
+      final Statement statement,
+      final List<Table> batch,
+      final Identifiers identifiers,
+      final Map<Table, Object> values)
+      throws SQLException {
+    final String sql = batchTablesSql(getBatchTableQuery(), batch, identifiers);
+    LOGGER.log(Level.FINE, new StringFormat("Executing batch of table lints: %n%s", sql));
+    final Map<Table, Object> batchValues = new HashMap<>();
+    for (final Table table : batch) {
+      batchValues.put(table, null);
+    }
+    // Batches that return unexpected results are linted again one table at a time, where the
+    // results are validated for each table
+    try (final ResultSet results = statement.executeQuery(sql)) {
+      if (results.getMetaData().getColumnCount() != 2) {
+        throw new SQLException("Batch query needs to return the table index, and a value");
+      }
+      final Set<Integer> tableIndexes = new HashSet<>();
+      while (results.next()) {
+        final int tableIndex = results.getInt(1);
+        if (tableIndex < 0 || tableIndex >= batch.size() || !tableIndexes.add(tableIndex)) {
+          throw new SQLException(
+              String.format("Unexpected table index <%d> returned by batch query", tableIndex));
+        }
+        final Object value = results.getObject(2);
+        batchValues.put(batch.get(tableIndex), results.wasNull() ? null : value);
+      }
+    }
+    values.putAll(batchValues);
+  }
+
+  /**
+   * Takes batches of tables off the shared queue, and queries them over a single connection until
+   * the queue is empty.
+   */
+  private void queryBatches(
+      final Connection connection,
+      final Queue<List<Table>> batches,
+      final Identifiers identifiers,
+      final Map<Table, Object> values)
+      throws SQLException {
+    try (final Statement statement = connection.createStatement()) {
+      applyQueryTimeout(statement);
+      List<Table> batch;
+      while ((batch = batches.poll()) != null) {
+        if (batch.size() > 1) {
+          try {
+            queryBatch(statement, batch, identifiers, values);
+            continue;
+          } catch (final SQLException e) {
+            LOGGER.log(
+                Level.FINE,
+                e,
+                new StringFormat(
+                    "Could not lint a batch of %d tables, so linting one at a time",
+                    batch.size()));
+          }
+        }
+        for (final Table table : batch) {
+          try {
+            values.put(table, queryTable(statement, table, identifiers));
+          } catch (final SQLException e) {
+            LOGGER.log(
+                Level.WARNING,
+                e,
+                new StringFormat("Could not execute SQL for table lints, for table <%s>", table));
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Takes a connection from the connection source, and queries batches of tables over it. The
+   * connection is only taken if it is not needed by other linters.
+   */
+  private void queryBatchesOnPooledConnection(
+      final Queue<List<Table>> batches,
+      final Identifiers identifiers,
+      final Map<Table, Object> values)
+      throws SQLException {
+    if (!connections.tryAcquire()) {
+      return;
+    }
+    try (final Connection connection = dataSource.get()) {
+      queryBatches(connection, batches, identifiers, values);
+    } finally {
+      connections.release();
+    }
+  }
+
+  private Object queryTable(
+      final Statement statement, final Table table, final Identifiers identifiers)
+      throws SQLException {
+    final Query query = getTableQuery();
+    final String sql = getQueryForTable(query, table, identifiers);
+    LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.getName(), sql));
+    try (final ResultSet results = statement.executeQuery(sql)) {
+      if (results.getMetaData().getColumnCount() != 1) {
+        throw new SQLException("Too many columns of data returned");
+      }
+      if (!results.next()) {
+        return null;
+      }
+      Object value = results.getObject(1);
+      if (results.wasNull()) {
+        value = null;
+      }
+      if (results.next()) {
+        throw new SQLException("Too many rows of data returned");
+      }
+      return value;
+    } catch (final SQLException e) {
+      throw new SQLException(String.format("%s%n%s", e.getMessage(), sql), e);
+    }
+  }
+
+  private Map<Table, Object> queryTables(final Connection connection) {
+    if (tables.isEmpty() || connection == null || getTableQuery() == null) {
+      return Collections.emptyMap();
+    }
+
+    final Identifiers identifiers =
+        IdentifiersBuilder.builder().fromConnection(connection).toOptions();
+
+    final Queue<List<Table>> batches = new ConcurrentLinkedQueue<>(batchTablesBySchema());
+    // Null values are allowed, for tables where the query returned no rows
+    final Map<Table, Object> values = Collections.synchronizedMap(new HashMap<>());
+    final int workers = Math.min(threads, batches.size());
+    try (final TaskRunner taskRunner = TaskRunners.getIOBoundTaskRunner("lintTables", workers)) {
+      taskRunner.add(
+          new TaskDefinition(
+              "lintTables1", () -> queryBatches(connection, batches, identifiers, values)));
+      for (int i = 2; dataSource != null && i <= workers; i++) {
+        taskRunner.add(
+            new TaskDefinition(
+                "lintTables" + i,
+                () -> queryBatchesOnPooledConnection(batches, identifiers, values)));
+      }
+      taskRunner.submit();
+    } catch (final Exception e) {
+      LOGGER.log(
+          Level.WARNING,
+          e,
+          new StringFormat("Could not run SQL for table lints <%s>", getLinterInstanceId()));
+    }
+    return values;
+  }
+}
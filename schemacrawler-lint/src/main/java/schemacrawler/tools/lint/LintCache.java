@@ -0,0 +1,525 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.requireNonNull;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Serializable;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import schemacrawler.Version;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Table;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Cache of the lints that linters found for each table, which is kept in a local file between
+ * runs. Lints are cached by linter, the settings of the linter and a fingerprint of the table
+ * definition, which covers the columns and their data types, keys, indexes and remarks. When a
+ * table has not changed since the last run, the linter is not run for the table, and the cached
+ * lints are added again instead. Only lints for the table with values that can be looked up again
+ * in the table, such as strings and columns, are cached. Entries that are not used in a run are
+ * dropped when the cache is saved, and the whole cache is discarded when the SchemaCrawler version
+ * changes.
+ */
+public final class LintCache {
+
+  private static final Logger LOGGER = Logger.getLogger(LintCache.class.getName());
+
+  private static final String TABLES = "tables";
+  private static final String MESSAGE = "message";
+  private static final String VALUE = "value";
+  private static final String VALUE_TYPE = "value-type";
+  private static final String VERSION = "schemacrawler-version";
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  /** Marks a cached value that cannot be looked up in the table. */
+  private static final Object NOT_FOUND = new Object();
+
+  /** Contents of the lint cache file, with cached lints by table fingerprint and linter. */
+  @JsonPropertyOrder({VERSION, TABLES})
+  private static final class CacheFile {
+
+    @JsonProperty(VERSION)
+    private String version;
+
+    @JsonProperty(TABLES)
+    private Map<String, Map<String, List<Map<String, Object>>>> tables;
+  }
+
+  /**
+   * Loads the lint cache from a file. The cache is empty if the file does not exist, cannot be
+   * read, or was written by another version of SchemaCrawler.
+   *
+   * @param cacheFile Lint cache file
+   * @return Lint cache
+   */
+  public static LintCache load(final Path cacheFile) {
+    requireNonNull(cacheFile, "No lint cache file provided");
+
+    final Map<String, Map<String, List<Map<String, Object>>>> cachedLints = new HashMap<>();
+    if (Files.isRegularFile(cacheFile)) {
+      try (final Reader reader = Files.newBufferedReader(cacheFile, UTF_8)) {
+        final CacheFile cache = new ObjectMapper().readValue(reader, CacheFile.class);
+        if (version().equals(cache.version) && cache.tables != null) {
+          cachedLints.putAll(cache.tables);
+        } else {
+          LOGGER.log(
+              Level.CONFIG,
+              new StringFormat("Discarding lint cache from another version <%s>", cacheFile));
+        }
+      } catch (final Exception e) {
+        LOGGER.log(Level.WARNING, e, new StringFormat("Could not read lint cache <%s>", cacheFile));
+      }
+    }
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat(
+            "Loaded cached lints for <%d> tables from <%s>", cachedLints.size(), cacheFile));
+    return new LintCache(cacheFile, cachedLints);
+  }
+
+  /**
+   * Computes a fingerprint of the definition of a table, which is the same from one run to the
+   * next if the table has not changed. The fingerprint covers the table, its columns and their data
+   * types, its primary key, indexes and foreign keys, including the data types of the columns at
+   * both ends of each foreign key, and remarks.
+   *
+   * @param table Table
+   * @return Fingerprint of the table definition
+   */
+  static String fingerprint(final Table table) {
+    final StringBuilder buffer = new StringBuilder(1024);
+    append(buffer, "table", table.getFullName(), table.getTableType(), table.getRemarks());
+    append(buffer, "definition", table.getDefinition());
+    for (final Column column : table.getColumns()) {
+      append(
+          buffer,
+          "column",
+          column.getName(),
+          column.getOrdinalPosition(),
+          column.getColumnDataType().getName(),
+          column.getColumnDataType().getJavaSqlType().getName(),
+          column.getSize(),
+          column.getDecimalDigits(),
+          column.isNullable(),
+          column.isAutoIncremented(),
+          column.isGenerated(),
+          column.isHidden(),
+          column.getDefaultValue(),
+          column.getRemarks());
+    }
+    if (table.hasPrimaryKey()) {
+      final PrimaryKey primaryKey = table.getPrimaryKey();
+      append(buffer, "primary-key", primaryKey.getName());
+      for (final Column column : primaryKey.getConstrainedColumns()) {
+        append(buffer, "primary-key-column", column.getName());
+      }
+    }
+    for (final Index index : table.getIndexes()) {
+      append(buffer, "index", index.getName(), index.getIndexType(), index.isUnique());
+      for (final IndexColumn indexColumn : index.getColumns()) {
+        append(buffer, "index-column", indexColumn.getName(), indexColumn.getSortSequence());
+      }
+    }
+    for (final ForeignKey foreignKey : table.getForeignKeys()) {
+      append(
+          buffer,
+          "foreign-key",
+          foreignKey.getName(),
+          foreignKey.getUpdateRule(),
+          foreignKey.getDeleteRule(),
+          foreignKey.getDeferrability());
+      for (final ColumnReference columnReference : foreignKey.getColumnReferences()) {
+        final Column foreignKeyColumn = columnReference.getForeignKeyColumn();
+        final Column primaryKeyColumn = columnReference.getPrimaryKeyColumn();
+        append(
+            buffer,
+            "foreign-key-column",
+            foreignKeyColumn.getFullName(),
+            foreignKeyColumn.getColumnDataType().getName(),
+            foreignKeyColumn.getSize(),
+            foreignKeyColumn.isNullable(),
+            primaryKeyColumn.getFullName(),
+            primaryKeyColumn.getColumnDataType().getName(),
+            primaryKeyColumn.getSize(),
+            primaryKeyColumn.isNullable());
+      }
+    }
+    return sha256(buffer.toString());
+  }
+
+  private static void append(final StringBuilder buffer, final String kind, final Object... parts) {
+    buffer.append(kind);
+    for (final Object part : parts) {
+      // Separators cannot be confused with the contents of names
+      buffer.append('\u0000').append(part);
+    }
+    buffer.append('\n');
+  }
+
+  private static String sha256(final String text) {
+    try {
+      final byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(UTF_8));
+      final char[] hex = new char[digest.length * 2];
+      for (int i = 0; i < digest.length; i++) {
+        hex[2 * i] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+        hex[2 * i + 1] = HEX_DIGITS[digest[i] & 0xF];
+      }
+      return new String(hex);
+    } catch (final NoSuchAlgorithmException e) {
+      // Every Java platform supports SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String version() {
+    return Version.version().getProductVersion();
+  }
+
+  private final Path cacheFile;
+  private final Map<String, Map<String, List<Map<String, Object>>>> cachedLints;
+  private final Map<String, Map<String, List<Map<String, Object>>>> usedLints;
+  private final Map<Linter, String> linterKeys;
+  private final AtomicInteger hits;
+  private final AtomicInteger misses;
+
+  private LintCache(
+      final Path cacheFile,
+      final Map<String, Map<String, List<Map<String, Object>>>> cachedLints) {
+    this.cacheFile = cacheFile;
+    this.cachedLints = cachedLints;
+    usedLints = new ConcurrentHashMap<>();
+    linterKeys = new ConcurrentHashMap<>();
+    hits = new AtomicInteger();
+    misses = new AtomicInteger();
+  }
+
+  /**
+   * Gets the number of times that cached lints were replayed for a table.
+   *
+   * @return Number of cache hits
+   */
+  public int getHits() {
+    return hits.get();
+  }
+
+  /**
+   * Gets the number of times that a linter had to be run for a table.
+   *
+   * @return Number of cache misses
+   */
+  public int getMisses() {
+    return misses.get();
+  }
+
+  /**
+   * Saves the lints that were found or replayed in this run to the cache file. Lints from earlier
+   * runs that were not used are dropped.
+   *
+   * @throws IOException On an exception writing the cache file
+   */
+  public void save() throws IOException {
+    final CacheFile cache = new CacheFile();
+    cache.version = version();
+    cache.tables = new TreeMap<>();
+    for (final Map.Entry<String, Map<String, List<Map<String, Object>>>> entry :
+        usedLints.entrySet()) {
+      cache.tables.put(entry.getKey(), new TreeMap<>(entry.getValue()));
+    }
+
+    final Path parent = cacheFile.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    // Write to a temporary file first, so that an interrupted run does not leave a broken cache
+    final Path tempFile = Files.createTempFile(parent, "lint-cache", ".tmp");
+    try (final Writer writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+      new ObjectMapper().disable(SerializationFeature.INDENT_OUTPUT).writeValue(writer, cache);
+    }
+    Files.move(tempFile, cacheFile, REPLACE_EXISTING);
+    LOGGER.log(
+        Level.CONFIG,
+        new StringFormat(
+            "Saved cached lints for <%d> tables to <%s>, with <%d> hits and <%d> misses",
+            usedLints.size(), cacheFile, hits.get(), misses.get()));
+  }
+
+  /**
+   * Replays cached lints for a table, or if there are none, runs the linter on the table and
+   * caches the lints that it finds.
+   *
+   * @param linter Linter
+   * @param table Linted table
+   * @param lint Runs the linter on the table
+   */
+  void lint(final BaseLinter linter, final LintedTable table, final Runnable lint) {
+    final String fingerprint = table.getFingerprint();
+    final String linterKey = linterKey(linter);
+    final List<Map<String, Object>> cachedTableLints =
+        cachedLints.getOrDefault(fingerprint, Collections.emptyMap()).get(linterKey);
+    if (cachedTableLints != null && replay(linter, table.getTable(), cachedTableLints)) {
+      usedTableLints(fingerprint).put(linterKey, cachedTableLints);
+      hits.incrementAndGet();
+      return;
+    }
+
+    misses.incrementAndGet();
+    final List<Lint<?>> recordedLints;
+    table.startRecording();
+    try {
+      lint.run();
+    } finally {
+      recordedLints = table.stopRecording();
+    }
+
+    // Lints are only cached when the linter completes, so that a failure is not replayed
+    final List<Map<String, Object>> tableLints = toCachedLints(table, recordedLints);
+    if (tableLints != null) {
+      usedTableLints(fingerprint).put(linterKey, tableLints);
+    }
+  }
+
+  private boolean isInTable(final Table table, final Column column) {
+    return table.equals(column.getParent());
+  }
+
+  /**
+   * Gets a key for a linter and its settings. The key is short, since it is repeated for every
+   * table in the cache file, but long enough to tell apart the linters in a run.
+   */
+  private String linterKey(final BaseLinter linter) {
+    return linterKeys.computeIfAbsent(
+        linter,
+        key ->
+            sha256(
+                    String.join(
+                        "\n",
+                        linter.getLinterId(),
+                        String.valueOf(linter.getLintSettingsKey()),
+                        linter.getSeverity().name()))
+                .substring(0, 16));
+  }
+
+  /**
+   * Puts the value of a lint in a form that can be cached. Values that are objects in the table
+   * are cached by name, so that they can be looked up again.
+   *
+   * @return Whether the value can be cached
+   */
+  private boolean putValue(
+      final Map<String, Object> tableLint, final Table table, final Object value) {
+    if (value == null) {
+      return true;
+    }
+    final String valueType;
+    final Object cachedValue;
+    if (value instanceof String) {
+      valueType = "string";
+      cachedValue = value;
+    } else if (value instanceof Boolean) {
+      valueType = "boolean";
+      cachedValue = value;
+    } else if (value instanceof Integer) {
+      valueType = "int";
+      cachedValue = value;
+    } else if (value instanceof Long) {
+      valueType = "long";
+      cachedValue = value;
+    } else if (value instanceof Column && isInTable(table, (Column) value)) {
+      valueType = "column";
+      cachedValue = ((Column) value).getName();
+    } else if (value instanceof Index && table.equals(((Index) value).getParent())) {
+      valueType = "index";
+      cachedValue = ((Index) value).getName();
+    } else if (value instanceof ForeignKey
+        && table.lookupForeignKey(((ForeignKey) value).getName()).orElse(null) == value) {
+      valueType = "foreign-key";
+      cachedValue = ((ForeignKey) value).getName();
+    } else if (value instanceof Collection) {
+      final List<String> names = new ArrayList<>();
+      boolean isColumns = true;
+      boolean isStrings = true;
+      for (final Object part : (Collection<?>) value) {
+        if (part instanceof Column && isInTable(table, (Column) part)) {
+          isStrings = false;
+          names.add(((Column) part).getName());
+        } else if (part instanceof String) {
+          isColumns = false;
+          names.add((String) part);
+        } else {
+          return false;
+        }
+      }
+      if (!isColumns && !isStrings) {
+        // Columns and strings cannot be told apart once they are cached by name
+        return false;
+      }
+      valueType = isColumns ? "columns" : "strings";
+      cachedValue = names;
+    } else {
+      return false;
+    }
+    tableLint.put(VALUE_TYPE, valueType);
+    tableLint.put(VALUE, cachedValue);
+    return true;
+  }
+
+  /**
+   * Adds cached lints for a table, if the values of all the lints can be looked up in the table.
+   *
+   * @return Whether the cached lints were added
+   */
+  private boolean replay(
+      final BaseLinter linter, final Table table, final List<Map<String, Object>> tableLints) {
+    final List<Object> values = new ArrayList<>(tableLints.size());
+    for (final Map<String, Object> tableLint : tableLints) {
+      final Object value = toValue(table, tableLint);
+      if (value == NOT_FOUND) {
+        return false;
+      }
+      values.add(value);
+    }
+    for (int i = 0; i < tableLints.size(); i++) {
+      final String message = String.valueOf(tableLints.get(i).get(MESSAGE));
+      linter.addTableLint(table, message, (Serializable) values.get(i));
+    }
+    return true;
+  }
+
+  /**
+   * Converts the lints that a linter found for a table into a form that can be cached.
+   *
+   * @return Cached lints, or null if the lints cannot be cached
+   */
+  private List<Map<String, Object>> toCachedLints(
+      final LintedTable table, final List<Lint<?>> lints) {
+    if (lints == null) {
+      return null;
+    }
+    final String tableName = table.getTable().getFullName();
+    final List<Map<String, Object>> tableLints = new ArrayList<>(lints.size());
+    for (final Lint<?> lint : lints) {
+      if (lint.getObjectType() != LintObjectType.table
+          || !tableName.equals(lint.getObjectName())) {
+        return null;
+      }
+      final Map<String, Object> tableLint = new LinkedHashMap<>();
+      tableLint.put(MESSAGE, lint.getMessage());
+      if (!putValue(tableLint, table.getTable(), lint.getValue())) {
+        return null;
+      }
+      tableLints.add(tableLint);
+    }
+    return tableLints;
+  }
+
+  /**
+   * Looks up the value of a cached lint in the table.
+   *
+   * @return Value, which may be null, or {@link #NOT_FOUND} if the value cannot be looked up
+   */
+  private Object toValue(final Table table, final Map<String, Object> tableLint) {
+    final Object valueType = tableLint.get(VALUE_TYPE);
+    final Object value = tableLint.get(VALUE);
+    if (valueType == null) {
+      return null;
+    }
+    switch (String.valueOf(valueType)) {
+      case "string":
+        return String.valueOf(value);
+      case "boolean":
+        return Boolean.valueOf(String.valueOf(value));
+      case "int":
+        return value instanceof Number ? ((Number) value).intValue() : NOT_FOUND;
+      case "long":
+        return value instanceof Number ? ((Number) value).longValue() : NOT_FOUND;
+      case "column":
+        return table.lookupColumn(String.valueOf(value)).map(Object.class::cast).orElse(NOT_FOUND);
+      case "index":
+        return table.lookupIndex(String.valueOf(value)).map(Object.class::cast).orElse(NOT_FOUND);
+      case "foreign-key":
+        return table
+            .lookupForeignKey(String.valueOf(value))
+            .map(Object.class::cast)
+            .orElse(NOT_FOUND);
+      case "columns":
+      case "strings":
+        if (!(value instanceof List)) {
+          return NOT_FOUND;
+        }
+        final ArrayList<Object> values = new ArrayList<>();
+        for (final Object name : (List<?>) value) {
+          if ("strings".equals(valueType)) {
+            values.add(String.valueOf(name));
+          } else {
+            final Optional<Column> column = table.lookupColumn(String.valueOf(name));
+            if (!column.isPresent()) {
+              return NOT_FOUND;
+            }
+            values.add(column.get());
+          }
+        }
+        return values;
+      default:
+        return NOT_FOUND;
+    }
+  }
+
+  private Map<String, List<Map<String, Object>>> usedTableLints(final String fingerprint) {
+    return usedLints.computeIfAbsent(fingerprint, key -> new ConcurrentHashMap<>());
+  }
+}
@@ -38,35 +38,73 @@ import java.util.List;
 import schemacrawler.schema.AttributedObject;
 import schemacrawler.schema.NamedObject;
 
+/**
+ * Collects lints, and adds each lint to the object that it is for. Lints can be added from several
+ * threads. Lints that are found in parallel can be held back in a deferred collector, and then
+ * added to this collector in the same order as they would be found in sequence, so that the lint
+ * report does not depend on how work is scheduled.
+ */
 public final class LintCollector {
 
   private static final String LINT_KEY = "schemacrawler.lint";
 
   private final List<Lint<? extends Serializable>> lints;
+  private final LintCollector parent;
+  private final List<Runnable> deferredLints;
 
   public LintCollector() {
+    this(null);
+  }
+
+  private LintCollector(final LintCollector parent) {
     lints = new ArrayList<>();
+    this.parent = parent;
+    deferredLints = new ArrayList<>();
   }
 
-  public <N extends NamedObject & AttributedObject> void addLint(
+  public synchronized <N extends NamedObject & AttributedObject> void addLint(
       final N namedObject, final Lint<?> lint) {
     if (namedObject != null
         && lint != null
         && namedObject.getFullName().equals(lint.getObjectName())) {
       lints.add(lint);
 
+      if (parent != null) {
+        deferredLints.add(() -> parent.addLint(namedObject, lint));
+        return;
+      }
+
       final Collection<Lint<?>> columnLints = namedObject.getAttribute(LINT_KEY, new ArrayList<>());
       columnLints.add(lint);
       namedObject.setAttribute(LINT_KEY, columnLints);
     }
   }
 
-  public Collection<Lint<? extends Serializable>> getLints() {
+  public synchronized Collection<Lint<? extends Serializable>> getLints() {
     lints.sort(naturalOrder());
     return new ArrayList<>(lints);
   }
 
-  public int size() {
+  public synchronized int size() {
     return lints.size();
   }
+
+  /**
+   * Creates a collector that holds lints back, until they are added to this collector with {@link
+   * #flush()}.
+   *
+   * @return Deferred lint collector
+   */
+  LintCollector deferred() {
+    return new LintCollector(this);
+  }
+
+  /** Adds lints that were held back to the parent collector, in the order they were found. */
+  synchronized void flush() {
+    for (final Runnable deferredLint : deferredLints) {
+      deferredLint.run();
+    }
+    deferredLints.clear();
+    lints.clear();
+  }
 }
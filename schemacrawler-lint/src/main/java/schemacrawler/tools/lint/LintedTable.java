@@ -0,0 +1,147 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Table;
+
+/**
+ * A table that is being linted, along with the views of the table that linters use. Tables copy,
+ * and for foreign keys also sort, these views each time they are asked for them, so the views are
+ * computed when they are first needed, and then shared by all linters that lint the table. A
+ * linted table is only used by one thread at a time, so it can also record the lints that a linter
+ * adds for the table, for the lint cache.
+ */
+final class LintedTable {
+
+  private final Table table;
+  private final LintCollector lintCollector;
+  private List<Column> columns;
+  private Collection<ForeignKey> foreignKeys;
+  private Collection<ForeignKey> importedForeignKeys;
+  private Collection<Index> indexes;
+  private String fingerprint;
+  private List<Lint<?>> recordedLints;
+
+  LintedTable(final Table table) {
+    this(table, null);
+  }
+
+  /**
+   * Table that is linted on a thread of its own, with lints for the table held back in a deferred
+   * collector.
+   *
+   * @param table Table to lint
+   * @param lintCollector Collector for lints for the table, or null to use the linter's collector
+   */
+  LintedTable(final Table table, final LintCollector lintCollector) {
+    this.table = requireNonNull(table, "No table provided");
+    this.lintCollector = lintCollector;
+  }
+
+  List<Column> getColumns() {
+    if (columns == null) {
+      columns = unmodifiableList(table.getColumns());
+    }
+    return columns;
+  }
+
+  /**
+   * Gets a fingerprint of the table definition, which is computed when it is first needed.
+   *
+   * @return Fingerprint of the table definition
+   */
+  String getFingerprint() {
+    if (fingerprint == null) {
+      fingerprint = LintCache.fingerprint(table);
+    }
+    return fingerprint;
+  }
+
+  Collection<ForeignKey> getForeignKeys() {
+    if (foreignKeys == null) {
+      foreignKeys = unmodifiableCollection(table.getForeignKeys());
+    }
+    return foreignKeys;
+  }
+
+  Collection<ForeignKey> getImportedForeignKeys() {
+    if (importedForeignKeys == null) {
+      importedForeignKeys = unmodifiableCollection(table.getImportedForeignKeys());
+    }
+    return importedForeignKeys;
+  }
+
+  Collection<Index> getIndexes() {
+    if (indexes == null) {
+      indexes = unmodifiableCollection(table.getIndexes());
+    }
+    return indexes;
+  }
+
+  LintCollector getLintCollector() {
+    return lintCollector;
+  }
+
+  Table getTable() {
+    return table;
+  }
+
+  void recordLint(final Lint<?> lint) {
+    if (recordedLints != null) {
+      recordedLints.add(lint);
+    }
+  }
+
+  /** Starts recording the lints that are added for the table, until recording is stopped. */
+  void startRecording() {
+    recordedLints = new ArrayList<>();
+  }
+
+  /**
+   * Stops recording lints for the table.
+   *
+   * @return Lints that were added since recording started, in the order they were added
+   */
+  List<Lint<?>> stopRecording() {
+    final List<Lint<?>> lints = recordedLints;
+    recordedLints = null;
+    return lints;
+  }
+}
@@ -31,6 +31,7 @@ package schemacrawler.tools.lint;
 import static us.fatehi.utility.IOUtility.readResourceFully;
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.AttributedObject;
@@ -51,15 +52,18 @@ public abstract class Linter {
   private LintCollector collector;
   private LintSeverity severity;
   private int threshold;
-  private int lintCount;
+  private int queryTimeout;
+  private String lintSettingsKey;
+  private final AtomicInteger lintCount;
 
   protected Linter() {
     severity = LintSeverity.medium; // default value
     threshold = Integer.MAX_VALUE; // default value
+    lintCount = new AtomicInteger();
   }
 
   public final boolean exceedsThreshold() {
-    return lintCount > threshold;
+    return lintCount.get() > threshold;
   }
 
   /**
@@ -86,7 +90,7 @@ public abstract class Linter {
    * @return Lint counts
    */
   public final int getLintCount() {
-    return lintCount;
+    return lintCount.get();
   }
 
   /**
@@ -132,7 +136,8 @@ public abstract class Linter {
       final LintObjectType objectType, final N namedObject, final String message, final V value) {
     LOGGER.log(
         Level.FINE, new StringFormat("Found lint for %s: %s --> %s", namedObject, message, value));
-    if (collector != null) {
+    final LintCollector lintCollector = getLintCollector();
+    if (lintCollector != null) {
       final Lint<V> lint =
           new Lint<>(
               getLinterId(),
@@ -142,8 +147,9 @@ public abstract class Linter {
               getSeverity(),
               message,
               value);
-      collector.addLint(namedObject, lint);
-      lintCount = lintCount + 1;
+      lintCollector.addLint(namedObject, lint);
+      lintCount.incrementAndGet();
+      lintAdded(lint);
     }
   }
 
@@ -156,6 +162,16 @@ public abstract class Linter {
     // To be overridden by subclass if they need custom parameters
   }
 
+  /**
+   * Gets the timeout for each query that the linter runs, in seconds. A timeout of 0 means that
+   * there is no timeout.
+   *
+   * @return Query timeout in seconds
+   */
+  protected final int getQueryTimeout() {
+    return queryTimeout;
+  }
+
   /**
    * Set the severity of the lints created by this linter.
    *
@@ -167,16 +183,51 @@ public abstract class Linter {
     }
   }
 
+  /**
+   * Whether this linter needs a database connection. When linters are run in parallel, each linter
+   * that needs a connection gets its own connection from the connection pool, and other linters
+   * are not given a connection. Can be overridden.
+   *
+   * @return Whether this linter needs a database connection
+   */
+  protected boolean usesConnection() {
+    return true;
+  }
+
   void configure(final LinterConfig linterConfig) {
     if (linterConfig != null) {
       setSeverity(linterConfig.getSeverity());
       setThreshold(linterConfig.getThreshold());
+      queryTimeout = linterConfig.getQueryTimeout();
+      lintSettingsKey = linterConfig.getLintSettingsKey();
       configure(linterConfig.getConfig());
     }
   }
 
+  LintCollector getLintCollector() {
+    return collector;
+  }
+
+  /**
+   * Gets a key for the configured settings that affect the lints that this linter finds.
+   *
+   * @return Key for the lint settings, or null if the linter was not configured
+   */
+  String getLintSettingsKey() {
+    return lintSettingsKey;
+  }
+
   abstract void lint(Catalog catalog, Connection connection);
 
+  /**
+   * Called after a lint is added, so that lints can be recorded. Does nothing by default.
+   *
+   * @param lint Lint that was added
+   */
+  void lintAdded(final Lint<?> lint) {
+    // Default implementation - NO-OP
+  }
+
   final void setLintCollector(final LintCollector lintCollector) {
     collector = lintCollector;
   }
@@ -33,15 +33,23 @@ import static java.util.Objects.requireNonNull;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
 import schemacrawler.tools.lint.config.LinterConfig;
 import schemacrawler.tools.lint.config.LinterConfigs;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 import us.fatehi.utility.string.StringFormat;
 
 public final class Linters implements Iterable<Linter> {
@@ -168,16 +176,143 @@ public final class Linters implements Iterable<Linter> {
     return linters.iterator();
   }
 
+  /**
+   * Lints the catalog, with linters running in sequence. The catalog is walked once, and each table
+   * is visited by every linter in turn. Lints are held back for each linter, and then added in the
+   * order of the linters, so that the lints are the same as when each linter walks the catalog on
+   * its own.
+   *
+   * @param catalog Catalog to lint
+   * @param connection Database connection
+   */
   public void lint(final Catalog catalog, final Connection connection) {
+    requireNonNull(catalog, "No catalog provided");
+
+    final LintCollector[] linterLintCollectors = new LintCollector[linters.size()];
+    final List<BaseLinter> tableLinters = new ArrayList<>();
+    final Set<Linter> failedLinters = new HashSet<>();
+    try {
+      for (int index = 0; index < linters.size(); index++) {
+        final Linter linter = linters.get(index);
+        linterLintCollectors[index] = collector.deferred();
+        linter.setLintCollector(linterLintCollectors[index]);
+        if (linter instanceof BaseLinter) {
+          tableLinters.add((BaseLinter) linter);
+        } else {
+          lint(linter, catalog, connection);
+        }
+      }
+
+      startLint(tableLinters, catalog, connection, failedLinters);
+      for (final Table table : catalog.getTables()) {
+        visit(new LintedTable(table), tableLinters, connection, failedLinters);
+      }
+      endLint(tableLinters, connection, failedLinters);
+    } finally {
+      for (final Linter linter : linters) {
+        linter.setLintCollector(collector);
+      }
+    }
+
+    flush(linterLintCollectors);
+  }
+
+  /**
+   * Lints the catalog with linters running in parallel, on a fork-join pool. Linters that can lint
+   * tables in parallel visit each table together, and tables are visited in parallel. Other
+   * linters walk the catalog on their own, alongside the tables. Of these, linters that need a
+   * database connection get their own connection from the connection source, and other linters are
+   * run without a connection. Linters that query tables in batches also run batches over other
+   * connections, while they are free. Lints are held back for each table and each linter, and then
+   * added in order, so that the lints are the same as when linters are run in sequence.
+   *
+   * @param catalog Catalog to lint
+   * @param dataSource Source of database connections for linters that need a connection
+   * @param threads Number of threads to lint with
+   */
+  public void lint(
+      final Catalog catalog, final DatabaseConnectionSource dataSource, final int threads) {
+    requireNonNull(catalog, "No catalog provided");
+    requireNonNull(dataSource, "No database connection source provided");
+    if (threads < 1) {
+      throw new IllegalArgumentException("Number of threads must be at least 1");
+    }
+
+    final LintCollector[] linterLintCollectors = new LintCollector[linters.size()];
+    final List<BaseLinter> tableLinters = new ArrayList<>();
+    final List<Linter> otherLinters = new ArrayList<>();
+    final Set<Linter> failedLinters = ConcurrentHashMap.newKeySet();
+    final List<Table> tables = new ArrayList<>(catalog.getTables());
+    final LintCollector[] tableLintCollectors = new LintCollector[tables.size()];
+    // One connection is already in use by the command that runs the linters
+    final Semaphore connections = new Semaphore(Math.max(1, dataSource.getMaxConnections() - 1));
+    final ForkJoinPool pool = new ForkJoinPool(threads);
+    try {
+      for (int index = 0; index < linters.size(); index++) {
+        final Linter linter = linters.get(index);
+        linterLintCollectors[index] = collector.deferred();
+        linter.setLintCollector(linterLintCollectors[index]);
+        if (linter instanceof BaseLinter && ((BaseLinter) linter).canLintTablesInParallel()) {
+          tableLinters.add((BaseLinter) linter);
+        } else {
+          otherLinters.add(linter);
+        }
+      }
+
+      startLint(tableLinters, catalog, null, failedLinters);
+      final int otherLintersCount = otherLinters.size();
+      pool.submit(
+              () ->
+                  IntStream.range(0, otherLintersCount + tables.size())
+                      .parallel()
+                      .forEach(
+                          index -> {
+                            if (index < otherLintersCount) {
+                              lintInParallel(
+                                  otherLinters.get(index),
+                                  catalog,
+                                  dataSource,
+                                  connections,
+                                  threads);
+                              return;
+                            }
+                            final int tableIndex = index - otherLintersCount;
+                            final LintCollector tableLints = collector.deferred();
+                            final LintedTable table =
+                                new LintedTable(tables.get(tableIndex), tableLints);
+                            visit(table, tableLinters, null, failedLinters);
+                            tableLintCollectors[tableIndex] = tableLints;
+                          }))
+          .get();
+      endLint(tableLinters, null, failedLinters);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOGGER.log(Level.WARNING, "Interrupted while linting", e);
+    } catch (final ExecutionException e) {
+      LOGGER.log(Level.WARNING, "Could not run linters", e);
+    } finally {
+      pool.shutdown();
+      for (final Linter linter : linters) {
+        linter.setLintCollector(collector);
+      }
+    }
+
+    // Table lints and catalog lints are never for the same object, so adding all table lints first
+    // keeps lints in the same order as when linters are run in sequence
+    flush(tableLintCollectors);
+    flush(linterLintCollectors);
+  }
+
+  /**
+   * Sets a cache of lints for tables, so that linters that can cache their lints are not run again
+   * for tables that have not changed.
+   *
+   * @param lintCache Lint cache, or null to not use a cache
+   */
+  public void setLintCache(final LintCache lintCache) {
     for (final Linter linter : linters) {
-      LOGGER.log(Level.CONFIG, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
-      try {
-        linter.lint(catalog, connection);
-      } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat("Could not run linter <%s>", linter.getLinterInstanceId()));
+      if (linter instanceof BaseLinter) {
+        ((BaseLinter) linter).setLintCache(lintCache);
       }
     }
   }
@@ -196,6 +331,76 @@ public final class Linters implements Iterable<Linter> {
     return linters.toString();
   }
 
+  private void endLint(
+      final List<BaseLinter> tableLinters,
+      final Connection connection,
+      final Set<Linter> failedLinters) {
+    for (final BaseLinter linter : tableLinters) {
+      if (failedLinters.contains(linter)) {
+        continue;
+      }
+      try {
+        linter.endLint(connection);
+      } catch (final Exception e) {
+        logLinterFailure(linter, e);
+      }
+    }
+  }
+
+  private void flush(final LintCollector[] lintCollectors) {
+    for (final LintCollector lintCollector : lintCollectors) {
+      if (lintCollector != null) {
+        lintCollector.flush();
+      }
+    }
+  }
+
+  private void lint(final Linter linter, final Catalog catalog, final Connection connection) {
+    LOGGER.log(Level.CONFIG, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
+    try {
+      linter.lint(catalog, connection);
+    } catch (final Exception e) {
+      logLinterFailure(linter, e);
+    }
+  }
+
+  private void lintInParallel(
+      final Linter linter,
+      final Catalog catalog,
+      final DatabaseConnectionSource dataSource,
+      final Semaphore connections,
+      final int threads) {
+    if (!linter.usesConnection()) {
+      lint(linter, catalog, null);
+      return;
+    }
+
+    // Linters that query tables in batches can also use connections that are free
+    final BaseTableSqlLinter tableSqlLinter =
+        linter instanceof BaseTableSqlLinter ? (BaseTableSqlLinter) linter : null;
+    connections.acquireUninterruptibly();
+    try (final Connection connection = dataSource.get()) {
+      if (tableSqlLinter != null) {
+        tableSqlLinter.setConnectionSource(dataSource, connections, threads);
+      }
+      lint(linter, catalog, connection);
+    } catch (final Exception e) {
+      logLinterFailure(linter, e);
+    } finally {
+      if (tableSqlLinter != null) {
+        tableSqlLinter.setConnectionSource(null, null, 1);
+      }
+      connections.release();
+    }
+  }
+
+  private void logLinterFailure(final Linter linter, final Exception e) {
+    LOGGER.log(
+        Level.WARNING,
+        e,
+        new StringFormat("Could not run linter <%s>", linter.getLinterInstanceId()));
+  }
+
   private Linter newLinter(final String linterId) {
     final Linter linter = registry.newLinter(linterId);
     if (linter != null) {
@@ -205,4 +410,43 @@ public final class Linters implements Iterable<Linter> {
     }
     return linter;
   }
+
+  private void startLint(
+      final List<BaseLinter> tableLinters,
+      final Catalog catalog,
+      final Connection connection,
+      final Set<Linter> failedLinters) {
+    for (final BaseLinter linter : tableLinters) {
+      LOGGER.log(
+          Level.CONFIG, new StringFormat("Linting with <%s>", linter.getLinterInstanceId()));
+      try {
+        linter.startLint(catalog, connection);
+      } catch (final Exception e) {
+        failedLinters.add(linter);
+        logLinterFailure(linter, e);
+      }
+    }
+  }
+
+  /**
+   * Visits a table with each linter that has not failed. A linter that fails is not given any more
+   * tables, as when a linter that walks the catalog on its own fails.
+   */
+  private void visit(
+      final LintedTable table,
+      final List<BaseLinter> tableLinters,
+      final Connection connection,
+      final Set<Linter> failedLinters) {
+    for (final BaseLinter linter : tableLinters) {
+      if (failedLinters.contains(linter)) {
+        continue;
+      }
+      try {
+        linter.visit(table, connection);
+      } catch (final Exception e) {
+        failedLinters.add(linter);
+        logLinterFailure(linter, e);
+      }
+    }
+  }
 }
@@ -35,6 +35,7 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.inclusionrule.RegularExpressionRule;
@@ -51,6 +52,7 @@ public final class LinterConfig implements Serializable, Comparable<LinterConfig
   private final boolean runLinter;
   private final LintSeverity severity;
   private final int threshold;
+  private final int queryTimeout;
 
   private final String tableInclusionPattern;
   private final String tableExclusionPattern;
@@ -62,6 +64,7 @@ public final class LinterConfig implements Serializable, Comparable<LinterConfig
     "run",
     "severity",
     "threshold",
+    "query-timeout",
     "table-inclusion-pattern",
     "table-exclusion-pattern",
     "column-inclusion-pattern",
@@ -73,6 +76,7 @@ public final class LinterConfig implements Serializable, Comparable<LinterConfig
       final Boolean runLinter,
       final LintSeverity severity,
       final Integer threshold,
+      final Integer queryTimeout,
       final String tableInclusionPattern,
       final String tableExclusionPattern,
       final String columnInclusionPattern,
@@ -82,6 +86,7 @@ public final class LinterConfig implements Serializable, Comparable<LinterConfig
     this.runLinter = runLinter == null ? true : runLinter;
     this.severity = severity;
     this.threshold = threshold == null ? Integer.MAX_VALUE : threshold;
+    this.queryTimeout = queryTimeout == null ? 0 : Math.max(0, queryTimeout);
     this.tableInclusionPattern = tableInclusionPattern;
     this.tableExclusionPattern = tableExclusionPattern;
     this.columnInclusionPattern = columnInclusionPattern;
@@ -89,6 +94,29 @@ public final class LinterConfig implements Serializable, Comparable<LinterConfig
     this.config = config == null ? new HashMap<>() : new HashMap<>(config);
   }
 
+  public LinterConfig(
+      final String linterId,
+      final Boolean runLinter,
+      final LintSeverity severity,
+      final Integer threshold,
+      final String tableInclusionPattern,
+      final String tableExclusionPattern,
+      final String columnInclusionPattern,
+      final String columnExclusionPattern,
+      final Map<String, Object> config) {
+    this(
+        linterId,
+        runLinter,
+        severity,
+        threshold,
+        null,
+        tableInclusionPattern,
+        tableExclusionPattern,
+        columnInclusionPattern,
+        columnExclusionPattern,
+        config);
+  }
+
   @Override
   public int compareTo(final LinterConfig other) {
     if (other == null) {
@@ -144,6 +172,35 @@ public final class LinterConfig implements Serializable, Comparable<LinterConfig
     return linterId;
   }
 
+  /**
+   * Timeout for each query that the linter runs, in seconds. The default of 0 means that there is
+   * no timeout.
+   *
+   * @return Query timeout in seconds
+   */
+  public int getQueryTimeout() {
+    return queryTimeout;
+  }
+
+  /**
+   * Gets a key for the settings that affect the lints that a linter finds, which is the same for
+   * the same settings from one run to the next. Whether the linter runs, the threshold and the
+   * query timeout do not affect the lints, so they are not part of the key.
+   *
+   * @return Key for the lint settings
+   */
+  public String getLintSettingsKey() {
+    return String.join(
+        "\n",
+        linterId,
+        String.valueOf(severity),
+        String.valueOf(tableInclusionPattern),
+        String.valueOf(tableExclusionPattern),
+        String.valueOf(columnInclusionPattern),
+        String.valueOf(columnExclusionPattern),
+        new TreeMap<>(config).toString());
+  }
+
   public LintSeverity getSeverity() {
     return severity;
   }
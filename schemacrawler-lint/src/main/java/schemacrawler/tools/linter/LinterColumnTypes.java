@@ -86,4 +86,9 @@ public class LinterColumnTypes extends BaseLinter {
 
     columnTypes = new Multimap<>();
   }
+
+  @Override
+  protected boolean usesConnection() {
+    return false;
+  }
 }
@@ -53,6 +53,11 @@ public class LinterForeignKeyMismatch extends BaseLinter {
     return "foreign key data type different from primary key";
   }
 
+  @Override
+  protected boolean canLintTablesInParallel() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connections) {
     requireNonNull(table, "No table provided");
@@ -66,7 +71,7 @@ public class LinterForeignKeyMismatch extends BaseLinter {
   private List<ForeignKey> findMismatchedForeignKeys(final Table table) {
     final List<ForeignKey> mismatchedForeignKeys = new ArrayList<>();
     if (table != null && !(table instanceof View)) {
-      for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+      for (final ForeignKey foreignKey : getImportedForeignKeys(table)) {
         for (final ColumnReference columnReference : foreignKey) {
           final Column pkColumn = columnReference.getPrimaryKeyColumn();
           if (!pkColumn.isColumnDataTypeKnown()) {
@@ -53,6 +53,11 @@ public class LinterForeignKeySelfReference extends BaseLinter {
     return "foreign key self-references primary key";
   }
 
+  @Override
+  protected boolean canLintTablesInParallel() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connections) {
     requireNonNull(table, "No table provided");
@@ -66,7 +71,7 @@ public class LinterForeignKeySelfReference extends BaseLinter {
   private List<ForeignKey> findSelfReferencingForeignKeys(final Table table) {
     final List<ForeignKey> selfReferencingForeignKeys = new ArrayList<>();
     if (table != null && !(table instanceof View)) {
-      for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+      for (final ForeignKey foreignKey : getImportedForeignKeys(table)) {
         for (final ColumnReference columnReference : foreignKey) {
           final Column pkColumn = columnReference.getPrimaryKeyColumn();
           final Column fkColumn = columnReference.getForeignKeyColumn();
@@ -55,6 +55,11 @@ public class LinterForeignKeyWithNoIndexes extends BaseLinter {
     return "foreign key with no index";
   }
 
+  @Override
+  protected boolean canLintTablesInParallel() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
@@ -69,7 +74,7 @@ public class LinterForeignKeyWithNoIndexes extends BaseLinter {
     final List<ForeignKey> foreignKeysWithoutIndexes = new ArrayList<>();
     if (!(table instanceof View)) {
       final Collection<List<String>> allIndexCoumns = allIndexCoumnNames(table);
-      for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+      for (final ForeignKey foreignKey : getImportedForeignKeys(table)) {
         final List<String> foreignKeyColumns = foreignKeyColumnNames(foreignKey);
         boolean hasIndex = false;
         for (final List<String> indexColumns : allIndexCoumns) {
@@ -48,12 +48,17 @@ public class LinterNullColumnsInIndex extends BaseLinter {
     return "unique index with nullable columns";
   }
 
+  @Override
+  protected boolean canLintTablesInParallel() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
 
     final List<Index> nullableColumnsInUniqueIndex =
-        findNullableColumnsInUniqueIndex(table.getIndexes());
+        findNullableColumnsInUniqueIndex(getIndexes(table));
     for (final Index index : nullableColumnsInUniqueIndex) {
       addTableLint(table, getSummary(), index);
     }
@@ -49,6 +49,11 @@ public class LinterNullIntendedColumns extends BaseLinter {
     return "column where NULL may be intended";
   }
 
+  @Override
+  protected boolean canLintTablesInParallel() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
@@ -57,11 +57,16 @@ public class LinterRedundantIndexes extends BaseLinter {
     return "redundant index";
   }
 
+  @Override
+  protected boolean canLintTablesInParallel() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
 
-    final Set<Index> redundantIndexes = findRedundantIndexes(table.getIndexes());
+    final Set<Index> redundantIndexes = findRedundantIndexes(getIndexes(table));
     for (final Index index : redundantIndexes) {
       addTableLint(table, getSummary(), index);
     }
@@ -74,7 +74,7 @@ public class LinterTableCycles extends BaseLinter {
     requireNonNull(tablesGraph, "Not initialized");
 
     tablesGraph.addVertex(table);
-    for (final ForeignKey foreignKey : table.getForeignKeys()) {
+    for (final ForeignKey foreignKey : getForeignKeys(table)) {
       // Add edges for tables that are limited using limit options
       // That is, do not consider partial tables which are excluded by the limit
       final Table pkTable = foreignKey.getPrimaryKeyTable();
@@ -92,4 +92,9 @@ public class LinterTableCycles extends BaseLinter {
 
     tablesGraph = new DirectedGraph<>(getLinterId());
   }
+
+  @Override
+  protected boolean usesConnection() {
+    return false;
+  }
 }
@@ -28,24 +28,13 @@ http://www.gnu.org/licenses/
 
 package schemacrawler.tools.linter;
 
-import static java.util.Objects.requireNonNull;
-import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
-import java.sql.Connection;
-import java.sql.SQLException;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Table;
-import schemacrawler.schemacrawler.Identifiers;
-import schemacrawler.schemacrawler.IdentifiersBuilder;
 import schemacrawler.schemacrawler.Query;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseTableSqlLinter;
 import schemacrawler.tools.lint.LintSeverity;
-import us.fatehi.utility.string.StringFormat;
 
-public class LinterTableEmpty extends BaseLinter {
-
-  private static final Logger LOGGER = Logger.getLogger(LinterTableEmpty.class.getName());
+public class LinterTableEmpty extends BaseTableSqlLinter {
 
   public LinterTableEmpty() {
     setSeverity(LintSeverity.low);
@@ -58,20 +47,20 @@ public class LinterTableEmpty extends BaseLinter {
   }
 
   @Override
-  protected void lint(final Table table, final Connection connection) {
-    requireNonNull(table, "No table provided");
-    requireNonNull(connection, "No connection provided");
+  protected Query getBatchTableQuery() {
+    return new Query(
+        "Count", "SELECT ${tableindex} AS TABLE_INDEX, COUNT(*) AS ROW_COUNT FROM ${table}");
+  }
+
+  @Override
+  protected Query getTableQuery() {
+    return new Query("Count", "SELECT COUNT(*) FROM ${table}");
+  }
 
-    final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
-    try {
-      final Identifiers identifiers =
-          IdentifiersBuilder.builder().fromConnection(connection).toOptions();
-      final long count = executeForLong(query, connection, table, identifiers);
-      if (count == 0) {
-        addTableLint(table, getSummary());
-      }
-    } catch (final SQLException e) {
-      LOGGER.log(Level.WARNING, e, new StringFormat("Could not get count for table, ", table));
+  @Override
+  protected void lint(final Table table, final Object value) {
+    if (value instanceof Number && ((Number) value).longValue() == 0) {
+      addTableLint(table, getSummary());
     }
   }
 }
@@ -29,29 +29,25 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.linter;
 
 import static java.util.Objects.requireNonNull;
-import static schemacrawler.schemacrawler.QueryUtility.executeForScalar;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.requireNotBlank;
 
-import java.sql.Connection;
-import java.sql.SQLException;
-import java.util.logging.Level;
-import java.util.logging.Logger;
-
 import schemacrawler.schema.Table;
-import schemacrawler.schemacrawler.Identifiers;
-import schemacrawler.schemacrawler.IdentifiersBuilder;
 import schemacrawler.schemacrawler.Query;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.tools.lint.BaseTableSqlLinter;
 import schemacrawler.tools.options.Config;
-import us.fatehi.utility.string.StringFormat;
-
-public class LinterTableSql extends BaseLinter {
 
-  private static final Logger LOGGER = Logger.getLogger(LinterTableSql.class.getName());
+/**
+ * Lints tables with a configured SQL statement, which returns a single value for a table, or no
+ * rows. A table is linted if the statement returns a value. An optional batch SQL statement
+ * returns the index of the table in a batch, substituted for ${tableindex}, and the value, so that
+ * tables can be queried in batches.
+ */
+public class LinterTableSql extends BaseTableSqlLinter {
 
   private String message;
   private String sql;
+  private String batchSql;
 
   @Override
   public String getSummary() {
@@ -72,30 +68,30 @@ public class LinterTableSql extends BaseLinter {
 
     sql = config.getStringValue("sql", "");
     requireNotBlank(sql, "No SQL provided");
+
+    batchSql = config.getStringValue("batch-sql", "");
   }
 
   @Override
-  protected void lint(final Table table, final Connection connection) {
+  protected Query getBatchTableQuery() {
+    if (isBlank(batchSql)) {
+      return null;
+    }
+    return new Query(message, batchSql);
+  }
+
+  @Override
+  protected Query getTableQuery() {
     if (isBlank(sql)) {
-      return;
+      return null;
     }
+    return new Query(message, sql);
+  }
 
-    requireNonNull(table, "No table provided");
-    requireNonNull(connection, "No connection provided");
-
-    final Query query = new Query(message, sql);
-    try {
-      final Identifiers identifiers =
-          IdentifiersBuilder.builder().fromConnection(connection).toOptions();
-      final Object queryResult = executeForScalar(query, connection, table, identifiers);
-      if (queryResult != null) {
-        addTableLint(table, getSummary() + " " + queryResult);
-      }
-    } catch (final SQLException e) {
-      LOGGER.log(
-          Level.WARNING,
-          e,
-          new StringFormat("Could not execute SQL for table lints, for table", table));
+  @Override
+  protected void lint(final Table table, final Object value) {
+    if (value != null) {
+      addTableLint(table, getSummary() + " " + value);
     }
   }
 }
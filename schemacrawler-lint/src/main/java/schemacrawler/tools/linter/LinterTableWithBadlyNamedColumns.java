@@ -51,6 +51,11 @@ public class LinterTableWithBadlyNamedColumns extends BaseLinter {
     return "badly named column";
   }
 
+  @Override
+  protected boolean canLintTablesInParallel() {
+    return true;
+  }
+
   @Override
   protected void configure(final Config config) {
     requireNonNull(config, "No configuration provided");
@@ -47,10 +47,15 @@ public class LinterTableWithNoIndexes extends BaseLinter {
     return "no indexes";
   }
 
+  @Override
+  protected boolean canLintTablesInParallel() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     if (table != null) {
-      final Collection<Index> indexes = table.getIndexes();
+      final Collection<Index> indexes = getIndexes(table);
       if (table.getPrimaryKey() == null && indexes.isEmpty()) {
         addTableLint(table, getSummary());
       }
@@ -48,6 +48,11 @@ public class LinterTableWithNoPrimaryKey extends BaseLinter {
     return "no primary key";
   }
 
+  @Override
+  protected boolean canLintTablesInParallel() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
@@ -53,6 +53,11 @@ public class LinterTableWithNoRemarks extends BaseLinter {
     return "should have remarks";
   }
 
+  @Override
+  protected boolean canLintTablesInParallel() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
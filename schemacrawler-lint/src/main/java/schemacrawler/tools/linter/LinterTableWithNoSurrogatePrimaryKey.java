@@ -48,6 +48,11 @@ public class LinterTableWithNoSurrogatePrimaryKey extends BaseLinter {
     return "primary key may not be a surrogate";
   }
 
+  @Override
+  protected boolean canLintTablesInParallel() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
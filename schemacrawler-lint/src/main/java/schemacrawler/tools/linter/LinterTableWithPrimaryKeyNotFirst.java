@@ -51,6 +51,11 @@ public class LinterTableWithPrimaryKeyNotFirst extends BaseLinter {
     return "primary key not first";
   }
 
+  @Override
+  protected boolean canLintTablesInParallel() {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection) {
     requireNonNull(table, "No table provided");
@@ -56,6 +56,11 @@ public class LinterTooManyLobs extends BaseLinter {
     return "too many binary objects";
   }
 
+  @Override
+  protected boolean canLintTablesInParallel() {
+    return true;
+  }
+
   @Override
   protected void configure(final Config config) {
     requireNonNull(config, "No configuration provided");
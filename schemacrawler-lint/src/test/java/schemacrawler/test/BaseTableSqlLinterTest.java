@@ -0,0 +1,186 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.lint.Lint;
+import schemacrawler.tools.lint.LintSeverity;
+import schemacrawler.tools.lint.Linters;
+import schemacrawler.tools.lint.config.LinterConfig;
+import schemacrawler.tools.lint.config.LinterConfigs;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class BaseTableSqlLinterTest {
+
+  private static final String TABLE_SQL = "SELECT TOP 1 1 FROM ${table}";
+
+  private Catalog catalog;
+
+  @Test
+  public void batchFailure(final DatabaseConnectionSource dataSource) throws Exception {
+    final List<String> tableLints = lint(dataSource, TABLE_SQL, null, 0);
+    assertThat(tableLints, is(not(empty())));
+
+    // Batches that fail, or return unexpected results, are linted one table at a time
+    assertThat(
+        lint(dataSource, TABLE_SQL, "SELECT ${tableindex}, NO_SUCH_COLUMN FROM ${table}", 0),
+        is(tableLints));
+    assertThat(lint(dataSource, TABLE_SQL, "SELECT 0, 1 FROM ${table}", 0), is(tableLints));
+    assertThat(
+        lint(dataSource, TABLE_SQL, "SELECT ${tableindex}, 1, 2 FROM ${table}", 0),
+        is(tableLints));
+    assertThat(
+        lint(
+            dataSource,
+            TABLE_SQL,
+            "SELECT ${tableindex}, 1 FROM ${table} HAVING COUNT(*) > 0",
+            0),
+        is(tableLints));
+  }
+
+  @BeforeAll
+  public void loadCatalog(final DatabaseConnectionSource dataSource) throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeSchemas(new RegularExpressionInclusionRule(".*\\.BOOKS"))
+                    .toOptions());
+    catalog =
+        getCatalog(dataSource, schemaRetrievalOptionsDefault, schemaCrawlerOptions, new Config());
+  }
+
+  @Test
+  public void queryTimeout(final DatabaseConnectionSource dataSource) throws Exception {
+    final List<Statement> statements = new ArrayList<>();
+    try (final Connection connection = spy(dataSource.get())) {
+      doAnswer(
+              invocation -> {
+                final Statement statement = spy((Statement) invocation.callRealMethod());
+                statements.add(statement);
+                return statement;
+              })
+          .when(connection)
+          .createStatement();
+
+      final Linters linters = new Linters(linterConfigs(TABLE_SQL, null, 7), false);
+      linters.lint(catalog, connection);
+    }
+
+    assertThat(statements, is(not(empty())));
+    for (final Statement statement : statements) {
+      verify(statement).setQueryTimeout(7);
+    }
+  }
+
+  @Test
+  public void tableQueryValidation(final DatabaseConnectionSource dataSource) throws Exception {
+    // Queries for a table need to return a single value
+    assertThat(lint(dataSource, "SELECT TOP 1 1, 2 FROM ${table}", null, 0), is(empty()));
+    assertThat(
+        lint(
+            dataSource,
+            "SELECT C FROM (VALUES (1), (2)) AS T(C), (SELECT COUNT(*) FROM ${table}) AS U(N)",
+            null,
+            0),
+        is(empty()));
+  }
+
+  private List<String> lint(
+      final DatabaseConnectionSource dataSource,
+      final String sql,
+      final String batchSql,
+      final int queryTimeout)
+      throws Exception {
+    final Linters linters = new Linters(linterConfigs(sql, batchSql, queryTimeout), false);
+    try (final Connection connection = dataSource.get()) {
+      linters.lint(catalog, connection);
+    }
+
+    final List<String> lints = new ArrayList<>();
+    for (final Lint<?> lint : linters.getCollector().getLints()) {
+      lints.add(lint.toString());
+    }
+    return lints;
+  }
+
+  private LinterConfigs linterConfigs(
+      final String sql, final String batchSql, final int queryTimeout) {
+    final Map<String, Object> config = new HashMap<>();
+    config.put("message", "table has rows");
+    config.put("sql", sql);
+    if (batchSql != null) {
+      config.put("batch-sql", batchSql);
+    }
+
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+    linterConfigs.add(
+        new LinterConfig(
+            "schemacrawler.tools.linter.LinterTableSql",
+            true,
+            LintSeverity.medium,
+            null,
+            queryTimeout,
+            null,
+            null,
+            null,
+            null,
+            config));
+    return linterConfigs;
+  }
+}
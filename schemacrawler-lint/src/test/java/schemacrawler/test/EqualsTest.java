@@ -48,6 +48,7 @@ public class EqualsTest {
             "config",
             "runLinter",
             "threshold",
+            "queryTimeout",
             "tableInclusionPattern",
             "tableExclusionPattern",
             "columnInclusionPattern",
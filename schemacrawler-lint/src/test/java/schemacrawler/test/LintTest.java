@@ -29,8 +29,10 @@ http://www.gnu.org/licenses/
 package schemacrawler.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.startsWith;
 import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
@@ -40,8 +42,11 @@ import static schemacrawler.test.utility.FileHasContent.outputOf;
 import static schemacrawler.tools.lint.config.LinterConfigUtility.readLinterConfigs;
 import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
 
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -59,12 +64,14 @@ import schemacrawler.test.utility.WithTestDatabase;
 import schemacrawler.tools.command.lint.options.LintOptions;
 import schemacrawler.tools.command.lint.options.LintOptionsBuilder;
 import schemacrawler.tools.lint.Lint;
+import schemacrawler.tools.lint.LintCache;
 import schemacrawler.tools.lint.LintCollector;
 import schemacrawler.tools.lint.LintSeverity;
 import schemacrawler.tools.lint.Linters;
 import schemacrawler.tools.lint.config.LinterConfig;
 import schemacrawler.tools.lint.config.LinterConfigs;
 import schemacrawler.tools.options.Config;
+import us.fatehi.utility.IOUtility;
 import us.fatehi.utility.datasource.DatabaseConnectionSource;
 
 @WithTestDatabase
@@ -136,6 +143,93 @@ public class LintTest {
     }
   }
 
+  @Test
+  public void lintsInParallel(final DatabaseConnectionSource dataSource) throws Exception {
+    final Catalog catalog = getCatalogForLint(dataSource, limitOptionsForLint());
+    final LinterConfigs linterConfigs = linterConfigsWithBadColumnNames(".*\\.COUNTRY");
+
+    // Lints are the same as when linters are run in sequence
+    final Linters linters = new Linters(linterConfigs, true);
+    linters.lint(catalog, dataSource, 4);
+    assertLints(linters, 51, "schemacrawler.lints.txt");
+    assertLintSummary(linters);
+  }
+
+  @Test
+  public void lintsWithCache(final DatabaseConnectionSource dataSource) throws Exception {
+    final Catalog catalog = getCatalogForLint(dataSource, limitOptionsForLint());
+    final LinterConfigs linterConfigs = linterConfigsWithBadColumnNames(".*\\.COUNTRY");
+
+    final Path lintCacheFile = IOUtility.createTempFilePath("lint-cache", "json");
+
+    // The first run fills the cache, and the second run replays lints from the cache, and the
+    // lints are the same both times
+    for (int run = 1; run <= 2; run++) {
+      final LintCache lintCache = LintCache.load(lintCacheFile);
+      final Linters linters = lintWithCache(dataSource, catalog, linterConfigs, lintCache);
+
+      if (run == 1) {
+        assertThat(lintCache.getHits(), is(0));
+        assertThat(lintCache.getMisses(), is(greaterThan(0)));
+      } else {
+        assertThat(lintCache.getHits(), is(greaterThan(0)));
+        assertThat(lintCache.getMisses(), is(0));
+      }
+      assertLints(linters, 51, "schemacrawler.lints.txt");
+    }
+  }
+
+  @Test
+  public void lintsWithCacheAfterLinterConfigChange(final DatabaseConnectionSource dataSource)
+      throws Exception {
+    final Catalog catalog = getCatalogForLint(dataSource, limitOptionsForLint());
+
+    final Path lintCacheFile = IOUtility.createTempFilePath("lint-cache", "json");
+    final LintCache lintCache1 = LintCache.load(lintCacheFile);
+    lintWithCache(
+        dataSource, catalog, linterConfigsWithBadColumnNames(".*\\.COUNTRY"), lintCache1);
+
+    // Only the linter with changed settings is run again, and the lints are the same as without a
+    // cache
+    final LinterConfigs changedLinterConfigs = linterConfigsWithBadColumnNames(".*\\.ID");
+    final LintCache lintCache2 = LintCache.load(lintCacheFile);
+    final Linters linters = lintWithCache(dataSource, catalog, changedLinterConfigs, lintCache2);
+    assertThat(lintCache2.getHits(), is(greaterThan(0)));
+    assertThat(lintCache2.getMisses(), is(greaterThan(0)));
+    assertThat(lintCache2.getMisses(), is(lessThan(lintCache1.getMisses())));
+
+    final Linters uncachedLinters =
+        lintWithCache(dataSource, catalog, changedLinterConfigs, null);
+    assertThat(lintsOf(linters), is(lintsOf(uncachedLinters)));
+  }
+
+  @Test
+  public void lintsWithCacheAfterTableChange(final DatabaseConnectionSource dataSource)
+      throws Exception {
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+
+    final Path lintCacheFile = IOUtility.createTempFilePath("lint-cache", "json");
+    final LintCache lintCache1 = LintCache.load(lintCacheFile);
+    lintWithCache(
+        dataSource,
+        getCatalogForLint(dataSource, limitOptionsForLint()),
+        linterConfigs,
+        lintCache1);
+
+    // Excluding columns changes the definition of some tables, so they are linted again, and the
+    // lints are the same as without a cache
+    final Catalog changedCatalog =
+        getCatalogForLint(
+            dataSource,
+            limitOptionsForLint()
+                .includeColumns(new RegularExpressionExclusionRule(".*\\..*\\..*[123]")));
+    final LintCache lintCache2 = LintCache.load(lintCacheFile);
+    final Linters linters = lintWithCache(dataSource, changedCatalog, linterConfigs, lintCache2);
+    assertThat(lintCache2.getHits(), is(greaterThan(0)));
+    assertThat(lintCache2.getMisses(), is(greaterThan(0)));
+    assertLints(linters, 40, "schemacrawler.lints.excluded_columns.txt");
+  }
+
   @Test
   public void lintsWithExcludedColumns(final DatabaseConnectionSource dataSource) throws Exception {
     final LimitOptionsBuilder limitOptionsBuilder =
@@ -250,4 +344,95 @@ public class LintTest {
           is(0));
     }
   }
+
+  private void assertLintSummary(final Linters linters) throws Exception {
+    final TestWriter testout = new TestWriter();
+    try (final TestWriter out = testout) {
+      out.println(linters.getLintSummary());
+    }
+    assertThat(
+        outputOf(testout),
+        hasSameContentAs(classpathResource(LINTS_OUTPUT + "schemacrawler.lints.summary.txt")));
+  }
+
+  private void assertLints(final Linters linters, final int lintCount, final String lintsFile)
+      throws Exception {
+    final LintCollector lintCollector = linters.getCollector();
+    assertThat(lintCollector.size(), is(lintCount));
+
+    final TestWriter testout = new TestWriter();
+    try (final TestWriter out = testout) {
+      for (final Lint<?> lint : lintCollector.getLints()) {
+        out.println(lint);
+      }
+    }
+    assertThat(outputOf(testout), hasSameContentAs(classpathResource(LINTS_OUTPUT + lintsFile)));
+  }
+
+  private Catalog getCatalogForLint(
+      final DatabaseConnectionSource dataSource, final LimitOptionsBuilder limitOptionsBuilder)
+      throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    final Catalog catalog =
+        getCatalog(dataSource, schemaRetrievalOptionsDefault, schemaCrawlerOptions, config);
+    assertThat(catalog, notNullValue());
+    return catalog;
+  }
+
+  private LimitOptionsBuilder limitOptionsForLint() {
+    return LimitOptionsBuilder.builder()
+        .tableTypes("TABLE", "VIEW", "GLOBAL TEMPORARY")
+        .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+  }
+
+  private LinterConfigs linterConfigsWithBadColumnNames(final String badColumnNames) {
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+
+    final Map<String, Object> config = new HashMap<>();
+    config.put("bad-column-names", badColumnNames);
+    final LinterConfig linterConfig =
+        new LinterConfig(
+            "schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns",
+            true,
+            LintSeverity.medium,
+            0,
+            null,
+            null,
+            null,
+            null,
+            config);
+
+    linterConfigs.add(linterConfig);
+    return linterConfigs;
+  }
+
+  private List<String> lintsOf(final Linters linters) {
+    final List<String> lints = new ArrayList<>();
+    for (final Lint<?> lint : linters.getCollector().getLints()) {
+      lints.add(lint.toString());
+    }
+    return lints;
+  }
+
+  private Linters lintWithCache(
+      final DatabaseConnectionSource dataSource,
+      final Catalog catalog,
+      final LinterConfigs linterConfigs,
+      final LintCache lintCache)
+      throws Exception {
+    final Linters linters = new Linters(linterConfigs, true);
+    if (lintCache != null) {
+      linters.setLintCache(lintCache);
+    }
+    try (final Connection connection = dataSource.get(); ) {
+      linters.lint(catalog, connection);
+    }
+    if (lintCache != null) {
+      lintCache.save();
+    }
+    return linters;
+  }
 }
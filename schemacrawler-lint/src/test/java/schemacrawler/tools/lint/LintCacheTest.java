@@ -0,0 +1,109 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.lint;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.IOUtility;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+public class LintCacheTest {
+
+  private static final class NumbersLinter extends BaseLinter {
+
+    @Override
+    public String getSummary() {
+      return "numbers";
+    }
+
+    @Override
+    protected boolean canLintTablesInParallel() {
+      return true;
+    }
+
+    @Override
+    protected void lint(final Table table, final Connection connection) {
+      addTableLint(table, "int value", 7);
+      addTableLint(table, "long value", 7L);
+    }
+  }
+
+  @Test
+  public void numberValues(final DatabaseConnectionSource dataSource) throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"))
+                    .toOptions());
+    final Catalog catalog =
+        getCatalog(dataSource, schemaRetrievalOptionsDefault, schemaCrawlerOptions, new Config());
+    final Table table = catalog.getTables().iterator().next();
+
+    final Path lintCacheFile = IOUtility.createTempFilePath("lint-cache", "json");
+
+    // Lint values come back from the cache with the same types that the linter used
+    for (int run = 1; run <= 2; run++) {
+      final LintCache lintCache = LintCache.load(lintCacheFile);
+      final LintCollector lintCollector = new LintCollector();
+      final NumbersLinter linter = new NumbersLinter();
+      linter.setLintCollector(lintCollector);
+      linter.setLintCache(lintCache);
+      linter.visit(new LintedTable(table), null);
+      lintCache.save();
+
+      assertThat(lintCache.getHits(), is(run == 1 ? 0 : 1));
+      final List<Object> values = new ArrayList<>();
+      for (final Lint<?> lint : lintCollector.getLints()) {
+        values.add(lint.getValue());
+      }
+      assertThat(values, contains((Object) Integer.valueOf(7), Long.valueOf(7L)));
+    }
+  }
+}
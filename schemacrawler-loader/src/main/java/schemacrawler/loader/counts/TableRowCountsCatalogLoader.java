@@ -51,6 +51,10 @@ public class TableRowCountsCatalogLoader extends BaseCatalogLoader {
 
   private static final String OPTION_NO_EMPTY_TABLES = "no-empty-tables";
   private static final String OPTION_LOAD_ROW_COUNTS = "load-row-counts";
+  private static final String OPTION_ESTIMATE_ROW_COUNTS = "estimate-row-counts";
+  private static final String OPTION_ROW_COUNTS_THREADS = "row-counts-threads";
+  private static final String OPTION_ROW_COUNTS_BATCH_SIZE = "row-counts-batch-size";
+  private static final String OPTION_ROW_COUNTS_QUERY_TIMEOUT = "row-counts-query-timeout";
 
   public TableRowCountsCatalogLoader() {
     super(new CommandDescription("countsloader", "Loader for table row counts"), 2);
@@ -69,6 +73,27 @@ public class TableRowCountsCatalogLoader extends BaseCatalogLoader {
             "Loads row counts for each table",
             "This can be a time consuming operation",
             "Optional, defaults to false")
+        .addOption(
+            OPTION_ESTIMATE_ROW_COUNTS,
+            Boolean.class,
+            "Loads estimated row counts for each table from database statistics",
+            "Rows are counted if the database plugin does not provide statistics",
+            "Optional, defaults to false")
+        .addOption(
+            OPTION_ROW_COUNTS_THREADS,
+            Integer.class,
+            "Number of database connections used to count rows in parallel",
+            "Optional, defaults to 4")
+        .addOption(
+            OPTION_ROW_COUNTS_BATCH_SIZE,
+            Integer.class,
+            "Number of tables in a schema that are counted with a single query",
+            "Optional, defaults to 1")
+        .addOption(
+            OPTION_ROW_COUNTS_QUERY_TIMEOUT,
+            Integer.class,
+            "Query timeout in seconds for counting rows",
+            "Optional, defaults to no timeout")
         .addOption(
             OPTION_NO_EMPTY_TABLES,
             Boolean.class,
@@ -95,7 +120,24 @@ public class TableRowCountsCatalogLoader extends BaseCatalogLoader {
               "retrieveTableRowCounts",
               () -> {
                 final boolean loadRowCounts = config.getBooleanValue(OPTION_LOAD_ROW_COUNTS, false);
-                if (loadRowCounts) {
+                final boolean estimateRowCounts =
+                    config.getBooleanValue(OPTION_ESTIMATE_ROW_COUNTS, false);
+                if (estimateRowCounts) {
+                  if (rowCountsRetriever.retrieveEstimatedTableRowCounts(
+                      getSchemaRetrievalOptions(), getSchemaCrawlerOptions())) {
+                    return;
+                  }
+                  LOGGER.log(
+                      Level.INFO,
+                      "Counting table rows, since estimated row counts are not available");
+                }
+                if (loadRowCounts || estimateRowCounts) {
+                  rowCountsRetriever.setThreads(
+                      Math.max(1, config.getIntegerValue(OPTION_ROW_COUNTS_THREADS, 4)));
+                  rowCountsRetriever.setBatchSize(
+                      Math.max(1, config.getIntegerValue(OPTION_ROW_COUNTS_BATCH_SIZE, 1)));
+                  rowCountsRetriever.setQueryTimeout(
+                      Math.max(0, config.getIntegerValue(OPTION_ROW_COUNTS_QUERY_TIMEOUT, 0)));
                   rowCountsRetriever.retrieveTableRowCounts();
                 } else {
                   LOGGER.log(
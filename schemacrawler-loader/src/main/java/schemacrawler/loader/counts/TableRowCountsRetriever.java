@@ -30,23 +30,46 @@ package schemacrawler.loader.counts;
 
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.loader.counts.TableRowCountsUtility.addRowCountToTable;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
 import static schemacrawler.schemacrawler.IdentifierQuotingStrategy.quote_all;
-import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_ROW_COUNTS;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import schemacrawler.crawl.MetadataResultSet;
+import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.IdentifiersBuilder;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.Retriever;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Retrieves table row counts, either by counting rows in each table, or by reading estimates from
+ * database statistics. Rows are counted over several connections in parallel, and tables in a
+ * schema may be counted in batches with a single query for each batch.
+ */
 @Retriever
 public final class TableRowCountsRetriever {
 
@@ -54,13 +77,84 @@ public final class TableRowCountsRetriever {
 
   private final DatabaseConnectionSource dataSource;
   private final Catalog catalog;
+  private int threads;
+  private int batchSize;
+  private int queryTimeout;
 
   public TableRowCountsRetriever(final DatabaseConnectionSource dataSource, final Catalog catalog)
       throws SQLException {
     this.dataSource = requireNonNull(dataSource, "No database connection source provided");
     this.catalog = requireNonNull(catalog, "No catalog provided");
+    threads = 1;
+    batchSize = 1;
   }
 
+  /**
+   * Retrieves estimated row counts from database statistics, using the table row counts query
+   * from the database plugin.
+   *
+   * @param schemaRetrievalOptions Schema retrieval options, with the table row counts query
+   * @param schemaCrawlerOptions Options with the schema inclusion rule
+   * @return True if estimated row counts were retrieved, false if there is no query for them, or
+   *     if the query failed, so that rows can be counted instead
+   */
+  public boolean retrieveEstimatedTableRowCounts(
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions schemaCrawlerOptions) {
+    requireNonNull(schemaRetrievalOptions, "No schema retrieval options provided");
+    requireNonNull(schemaCrawlerOptions, "No SchemaCrawler options provided");
+
+    final InformationSchemaViews informationSchemaViews =
+        schemaRetrievalOptions.getInformationSchemaViews();
+    if (!informationSchemaViews.hasQuery(TABLE_ROW_COUNTS)) {
+      LOGGER.log(Level.FINE, "Table row counts SQL statement was not provided");
+      return false;
+    }
+    final Query tableRowCountsSql = informationSchemaViews.getQuery(TABLE_ROW_COUNTS);
+    final InclusionRule schemaInclusionRule =
+        schemaCrawlerOptions.getLimitOptions().get(ruleForSchemaInclusion);
+    final boolean supportsCatalogs = schemaRetrievalOptions.isSupportsCatalogs();
+    final boolean supportsSchemas = schemaRetrievalOptions.isSupportsSchemas();
+
+    final Map<List<String>, Table> tablesMap = new HashMap<>();
+    for (final Table table : catalog.getTables()) {
+      final Schema schema = table.getSchema();
+      tablesMap.put(tableKey(schema.getCatalogName(), schema.getName(), table.getName()), table);
+    }
+
+    try (final Connection connection = dataSource.get();
+        final Statement statement = connection.createStatement(); ) {
+      applyQueryTimeout(statement);
+      try (final MetadataResultSet results =
+          new MetadataResultSet(tableRowCountsSql, statement, schemaInclusionRule); ) {
+        while (results.next()) {
+          final String catalogName = supportsCatalogs ? results.getString("TABLE_CATALOG") : null;
+          final String schemaName = supportsSchemas ? results.getString("TABLE_SCHEMA") : null;
+          final String tableName = results.getString("TABLE_NAME");
+          final long rowCount = results.getLong("ROW_COUNT", -1);
+
+          final Table table = tablesMap.get(tableKey(catalogName, schemaName, tableName));
+          if (table == null) {
+            LOGGER.log(
+                Level.FINE,
+                new StringFormat(
+                    "Cannot find table <%s.%s.%s>", catalogName, schemaName, tableName));
+            continue;
+          }
+          addRowCountToTable(table, rowCount);
+        }
+      }
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Could not retrieve estimated table row counts", e);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Counts rows in each table. Tables are counted over a number of connections in parallel, and
+   * tables in the same schema are counted in batches, if so configured.
+   */
   public void retrieveTableRowCounts() {
 
     Identifiers identifiers;
@@ -77,21 +171,163 @@ public final class TableRowCountsRetriever {
       return;
     }
 
-    try (Connection connection = dataSource.get(); ) {
-      final Query query =
-          new Query("schemacrawler.table.row_counts", "SELECT COUNT(*) FROM ${table}");
-      final List<Table> allTables = new ArrayList<>(catalog.getTables());
-      for (final Table table : allTables) {
-        try {
-          final long count = executeForLong(query, connection, table, identifiers);
-          addRowCountToTable(table, count);
-        } catch (final SQLException e) {
-          LOGGER.log(
-              Level.WARNING, e, new StringFormat("Could not get count for table <%s>", table));
+    final Queue<List<Table>> batches = new ConcurrentLinkedQueue<>(batchTablesBySchema());
+    // Do not use more connections than the connection source allows at the same time
+    final int workers =
+        Math.min(Math.min(threads, dataSource.getMaxConnections()), batches.size());
+    if (workers == 0) {
+      return;
+    }
+
+    try (final TaskRunner taskRunner =
+        TaskRunners.getTaskRunner("retrieveTableRowCounts", workers); ) {
+      for (int i = 1; i <= workers; i++) {
+        taskRunner.add(
+            new TaskDefinition("countTableRows" + i, () -> countTableRows(batches, identifiers)));
+      }
+      taskRunner.submit();
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Could not get table row counts", e);
+    }
+  }
+
+  /**
+   * Number of tables in a schema that are counted with a single query. The default of 1 counts
+   * each table with its own query.
+   *
+   * @param batchSize Number of tables in a batch
+   */
+  public void setBatchSize(final int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be at least 1");
+    }
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Query timeout for counting rows, in seconds. The default of 0 means that there is no timeout.
+   *
+   * @param queryTimeout Query timeout in seconds
+   */
+  public void setQueryTimeout(final int queryTimeout) {
+    if (queryTimeout < 0) {
+      throw new IllegalArgumentException("Query timeout cannot be negative");
+    }
+    this.queryTimeout = queryTimeout;
+  }
+
+  /**
+   * Number of connections used to count rows in parallel. The default is 1. No more connections
+   * are used than the connection source allows.
+   *
+   * @param threads Number of connections
+   */
+  public void setThreads(final int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Number of threads must be at least 1");
+    }
+    this.threads = threads;
+  }
+
+  private List<List<Table>> batchTablesBySchema() {
+    final Map<Schema, List<Table>> tablesBySchema = new LinkedHashMap<>();
+    for (final Table table : catalog.getTables()) {
+      tablesBySchema.computeIfAbsent(table.getSchema(), schema -> new ArrayList<>()).add(table);
+    }
+
+    final List<List<Table>> batches = new ArrayList<>();
+    for (final List<Table> tables : tablesBySchema.values()) {
+      for (int i = 0; i < tables.size(); i = i + batchSize) {
+        batches.add(tables.subList(i, Math.min(i + batchSize, tables.size())));
+      }
+    }
+    return batches;
+  }
+
+  private String countTableRowsSql(final List<Table> tables, final Identifiers identifiers) {
+    final StringBuilder buffer = new StringBuilder();
+    for (int i = 0; i < tables.size(); i++) {
+      if (i > 0) {
+        buffer.append(" UNION ALL ");
+      }
+      buffer
+          .append("SELECT ")
+          .append(i)
+          .append(" AS TABLE_INDEX, COUNT(*) AS ROW_COUNT FROM ")
+          .append(identifiers.quoteFullName(tables.get(i)));
+    }
+    return buffer.toString();
+  }
+
+  /**
+   * Takes batches of tables off the shared queue, and counts rows over a single connection until
+   * the queue is empty.
+   */
+  private void countTableRows(final Queue<List<Table>> batches, final Identifiers identifiers)
+      throws SQLException {
+    try (final Connection connection = dataSource.get();
+        final Statement statement = connection.createStatement(); ) {
+      applyQueryTimeout(statement);
+      List<Table> batch;
+      while ((batch = batches.poll()) != null) {
+        if (batch.size() > 1) {
+          try {
+            countTableRows(statement, batch, identifiers);
+            continue;
+          } catch (final SQLException e) {
+            LOGGER.log(
+                Level.FINE,
+                e,
+                new StringFormat(
+                    "Could not count rows in a batch of %d tables, so counting one at a time",
+                    batch.size()));
+          }
+        }
+        for (final Table table : batch) {
+          try {
+            countTableRows(statement, Arrays.asList(table), identifiers);
+          } catch (final SQLException e) {
+            LOGGER.log(
+                Level.WARNING, e, new StringFormat("Could not get count for table <%s>", table));
+          }
         }
       }
+    }
+  }
+
+  private void countTableRows(
+      final Statement statement, final List<Table> tables, final Identifiers identifiers)
+      throws SQLException {
+    final String sql = countTableRowsSql(tables, identifiers);
+    LOGGER.log(Level.FINE, new StringFormat("Executing table row counts: %n%s", sql));
+    final long[] rowCounts = new long[tables.size()];
+    Arrays.fill(rowCounts, -1);
+    try (final ResultSet results = statement.executeQuery(sql)) {
+      while (results.next()) {
+        rowCounts[results.getInt(1)] = results.getLong(2);
+      }
+    }
+    for (int i = 0; i < tables.size(); i++) {
+      addRowCountToTable(tables.get(i), rowCounts[i]);
+    }
+  }
+
+  private void applyQueryTimeout(final Statement statement) {
+    if (queryTimeout <= 0) {
+      return;
+    }
+    try {
+      statement.setQueryTimeout(queryTimeout);
     } catch (final SQLException e) {
-      LOGGER.log(Level.WARNING, "Could not get table row counts", e);
+      LOGGER.log(
+          Level.WARNING,
+          e,
+          new StringFormat("Could not set query timeout of <%d> seconds", queryTimeout));
     }
   }
+
+  private List<String> tableKey(
+      final String catalogName, final String schemaName, final String tableName) {
+    return Arrays.asList(catalogName, schemaName, tableName);
+  }
 }
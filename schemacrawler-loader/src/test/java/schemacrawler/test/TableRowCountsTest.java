@@ -31,28 +31,36 @@ package schemacrawler.test;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static schemacrawler.loader.counts.TableRowCountsUtility.getRowCountMessage;
 import static schemacrawler.loader.counts.TableRowCountsUtility.hasRowCount;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_ROW_COUNTS;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
 import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
 import static schemacrawler.test.utility.FileHasContent.outputOf;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
 import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.loader.counts.TableRowCountsRetriever;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
 import schemacrawler.test.utility.ResolveTestContext;
 import schemacrawler.test.utility.TestContext;
 import schemacrawler.test.utility.TestUtility;
@@ -62,6 +70,8 @@ import schemacrawler.tools.options.Config;
 import schemacrawler.tools.utility.SchemaCrawlerUtility;
 import schemacrawler.utility.NamedObjectSort;
 import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.datasource.DatabaseConnectionSources;
+import us.fatehi.utility.datasource.MultiUseUserCredentials;
 
 @WithTestDatabase
 @ResolveTestContext
@@ -75,22 +85,87 @@ public class TableRowCountsTest {
 
     final SchemaRetrievalOptions schemaRetrievalOptions = TestUtility.newSchemaRetrievalOptions();
 
-    final LimitOptionsBuilder limitOptionsBuilder =
-        LimitOptionsBuilder.builder()
-            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
-    final LoadOptionsBuilder loadOptionsBuilder =
-        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
-    final SchemaCrawlerOptions schemaCrawlerOptions =
-        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
-            .withLimitOptions(limitOptionsBuilder.toOptions())
-            .withLoadOptions(loadOptionsBuilder.toOptions());
-
     final Config additionalConfig = new Config();
     additionalConfig.put("load-row-counts", true);
 
     catalog =
         SchemaCrawlerUtility.getCatalog(
-            dataSource, schemaRetrievalOptions, schemaCrawlerOptions, additionalConfig);
+            dataSource, schemaRetrievalOptions, schemaCrawlerOptions(), additionalConfig);
+  }
+
+  @Test
+  public void estimatedRowCounts(
+      final TestContext testContext, final DatabaseConnectionSource dataSource) throws Exception {
+    final SchemaRetrievalOptions testSchemaRetrievalOptions =
+        TestUtility.newSchemaRetrievalOptions();
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder(testSchemaRetrievalOptions)
+            .withInformationSchemaViews(
+                InformationSchemaViewsBuilder.builder()
+                    .fromOptions(testSchemaRetrievalOptions.getInformationSchemaViews())
+                    .withSql(
+                        TABLE_ROW_COUNTS,
+                        "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, CARDINALITY AS ROW_COUNT "
+                            + "FROM INFORMATION_SCHEMA.SYSTEM_TABLESTATS")
+                    .toOptions())
+            .toOptions();
+
+    final Config additionalConfig = new Config();
+    additionalConfig.put("estimate-row-counts", true);
+
+    final Catalog catalog =
+        SchemaCrawlerUtility.getCatalog(
+            dataSource, schemaRetrievalOptions, schemaCrawlerOptions(), additionalConfig);
+
+    final TestWriter testout = new TestWriter();
+    try (final TestWriter out = testout) {
+      for (final Schema schema : catalog.getSchemas()) {
+        final Table[] tables = catalog.getTables(schema).toArray(new Table[0]);
+        Arrays.sort(tables, NamedObjectSort.alphabetical);
+        for (final Table table : tables) {
+          // Statistics are only kept for tables, and not for views
+          if (table.getTableType().isView()) {
+            assertThat(
+                String.format("View <%s> should not have row counts", table),
+                hasRowCount(table),
+                is(false));
+            continue;
+          }
+          assertThat(
+              String.format("Table <%s> should have row counts", table),
+              hasRowCount(table),
+              is(true));
+          out.println(String.format("%s [%s]", table.getFullName(), getRowCountMessage(table)));
+        }
+      }
+    }
+    assertThat(
+        outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
+  }
+
+  @Test
+  public void estimatedRowCountsNotAvailable(
+      final TestContext testContext, final DatabaseConnectionSource dataSource) throws Exception {
+    final SchemaRetrievalOptions testSchemaRetrievalOptions =
+        TestUtility.newSchemaRetrievalOptions();
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder(testSchemaRetrievalOptions)
+            .withInformationSchemaViews(
+                InformationSchemaViewsBuilder.builder()
+                    .fromOptions(testSchemaRetrievalOptions.getInformationSchemaViews())
+                    .withSql(TABLE_ROW_COUNTS, "SELECT * FROM NO_SUCH_TABLE_STATISTICS")
+                    .toOptions())
+            .toOptions();
+
+    final Config additionalConfig = new Config();
+    additionalConfig.put("estimate-row-counts", true);
+
+    // Rows are counted when the estimated row counts query fails
+    final Catalog catalog =
+        SchemaCrawlerUtility.getCatalog(
+            dataSource, schemaRetrievalOptions, schemaCrawlerOptions(), additionalConfig);
+
+    assertRowCounts(testContext, catalog);
   }
 
   @Test
@@ -128,8 +203,80 @@ public class TableRowCountsTest {
         outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
   }
 
+  @Test
+  public void parallelRowCountsInBatches(
+      final TestContext testContext, final DatabaseConnectionSource dataSource) throws Exception {
+    final Config additionalConfig = new Config();
+    additionalConfig.put("load-row-counts", true);
+    additionalConfig.put("row-counts-threads", 3);
+    additionalConfig.put("row-counts-batch-size", 4);
+    additionalConfig.put("row-counts-query-timeout", 60);
+
+    final Catalog catalog =
+        SchemaCrawlerUtility.getCatalog(
+            dataSource,
+            TestUtility.newSchemaRetrievalOptions(),
+            schemaCrawlerOptions(),
+            additionalConfig);
+
+    assertRowCounts(testContext, catalog);
+  }
+
+  @Test
+  public void parallelRowCountsWithSingleConnection(
+      final TestContext testContext,
+      final DatabaseConnectionSource dataSource,
+      final DatabaseConnectionInfo connectionInfo)
+      throws Exception {
+    final Catalog catalog =
+        SchemaCrawlerUtility.getCatalog(
+            dataSource,
+            TestUtility.newSchemaRetrievalOptions(),
+            schemaCrawlerOptions(),
+            new Config());
+
+    final DatabaseConnectionSource singleConnectionSource;
+    System.setProperty("SC_SINGLE_THREADED", Boolean.TRUE.toString());
+    try {
+      singleConnectionSource =
+          DatabaseConnectionSources.newDatabaseConnectionSource(
+              connectionInfo.getConnectionUrl(), new MultiUseUserCredentials("sa", ""));
+    } finally {
+      System.clearProperty("SC_SINGLE_THREADED");
+    }
+    assertThat(singleConnectionSource.getMaxConnections(), is(1));
+
+    final AtomicInteger connectionsBorrowed = new AtomicInteger();
+    final DatabaseConnectionSource countingConnectionSource =
+        mock(DatabaseConnectionSource.class);
+    when(countingConnectionSource.getMaxConnections()).thenReturn(1);
+    when(countingConnectionSource.get())
+        .thenAnswer(
+            invocation -> {
+              connectionsBorrowed.incrementAndGet();
+              return singleConnectionSource.get();
+            });
+
+    final TableRowCountsRetriever rowCountsRetriever =
+        new TableRowCountsRetriever(countingConnectionSource, catalog);
+    rowCountsRetriever.setThreads(3);
+    rowCountsRetriever.setBatchSize(4);
+    rowCountsRetriever.retrieveTableRowCounts();
+
+    singleConnectionSource.close();
+
+    // One connection to read identifiers, and a single worker to count rows
+    assertThat(connectionsBorrowed.get(), is(2));
+    assertRowCounts(testContext, catalog);
+  }
+
   @Test
   public void rowCounts(final TestContext testContext) throws Exception {
+    assertRowCounts(testContext, catalog);
+  }
+
+  private void assertRowCounts(final TestContext testContext, final Catalog catalog)
+      throws Exception {
     final TestWriter testout = new TestWriter();
     try (final TestWriter out = testout) {
       final Schema[] schemas = catalog.getSchemas().toArray(new Schema[0]);
@@ -149,4 +296,15 @@ public class TableRowCountsTest {
     assertThat(
         outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
   }
+
+  private SchemaCrawlerOptions schemaCrawlerOptions() {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLimitOptions(limitOptionsBuilder.toOptions())
+        .withLoadOptions(loadOptionsBuilder.toOptions());
+  }
 }
@@ -0,0 +1,46 @@
+-- Not used by default. Used only when foreign key retrieval strategy is
+-- explicitly set to data_dictionary_all
+SELECT
+  KEY_COLUMN_USAGE.REFERENCED_TABLE_SCHEMA AS PKTABLE_CAT,
+  NULL AS PKTABLE_SCHEM,
+  KEY_COLUMN_USAGE.REFERENCED_TABLE_NAME AS PKTABLE_NAME,
+  KEY_COLUMN_USAGE.REFERENCED_COLUMN_NAME AS PKCOLUMN_NAME,
+  KEY_COLUMN_USAGE.TABLE_SCHEMA AS FKTABLE_CAT,
+  NULL AS FKTABLE_SCHEM,
+  KEY_COLUMN_USAGE.TABLE_NAME AS FKTABLE_NAME,
+  KEY_COLUMN_USAGE.COLUMN_NAME AS FKCOLUMN_NAME,
+  KEY_COLUMN_USAGE.ORDINAL_POSITION AS KEY_SEQ,
+  CASE REFERENTIAL_CONSTRAINTS.UPDATE_RULE
+    WHEN 'CASCADE' THEN 0
+    WHEN 'RESTRICT' THEN 1
+    WHEN 'SET NULL' THEN 2
+    WHEN 'NO ACTION' THEN 3
+    WHEN 'SET DEFAULT' THEN 4
+    ELSE NULL
+  END AS UPDATE_RULE,
+  CASE REFERENTIAL_CONSTRAINTS.DELETE_RULE
+    WHEN 'CASCADE' THEN 0
+    WHEN 'RESTRICT' THEN 1
+    WHEN 'SET NULL' THEN 2
+    WHEN 'NO ACTION' THEN 3
+    WHEN 'SET DEFAULT' THEN 4
+    ELSE NULL
+  END AS DELETE_RULE,
+  KEY_COLUMN_USAGE.CONSTRAINT_NAME AS FK_NAME,
+  REFERENTIAL_CONSTRAINTS.UNIQUE_CONSTRAINT_NAME AS PK_NAME,
+  7 AS DEFERRABILITY
+FROM
+  INFORMATION_SCHEMA.KEY_COLUMN_USAGE KEY_COLUMN_USAGE
+  INNER JOIN INFORMATION_SCHEMA.REFERENTIAL_CONSTRAINTS REFERENTIAL_CONSTRAINTS
+    ON KEY_COLUMN_USAGE.CONSTRAINT_SCHEMA = REFERENTIAL_CONSTRAINTS.CONSTRAINT_SCHEMA
+      AND KEY_COLUMN_USAGE.CONSTRAINT_NAME = REFERENTIAL_CONSTRAINTS.CONSTRAINT_NAME
+      AND KEY_COLUMN_USAGE.TABLE_NAME = REFERENTIAL_CONSTRAINTS.TABLE_NAME
+WHERE
+  KEY_COLUMN_USAGE.REFERENCED_TABLE_NAME IS NOT NULL
+  AND KEY_COLUMN_USAGE.TABLE_SCHEMA
+    NOT IN ('information_schema', 'mysql', 'performance_schema', 'sys')
+ORDER BY
+  FKTABLE_CAT,
+  FKTABLE_NAME,
+  FK_NAME,
+  KEY_SEQ
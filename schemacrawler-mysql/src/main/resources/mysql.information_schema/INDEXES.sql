@@ -0,0 +1,27 @@
+-- Not used by default. Used only when index retrieval strategy is
+-- explicitly set to data_dictionary_all
+SELECT
+  STATISTICS.TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  STATISTICS.TABLE_NAME,
+  STATISTICS.NON_UNIQUE,
+  STATISTICS.INDEX_SCHEMA AS INDEX_QUALIFIER,
+  STATISTICS.INDEX_NAME,
+  CASE WHEN STATISTICS.INDEX_TYPE = 'HASH' THEN 2 ELSE 3 END AS TYPE,
+  STATISTICS.SEQ_IN_INDEX AS ORDINAL_POSITION,
+  STATISTICS.COLUMN_NAME,
+  STATISTICS.COLLATION AS ASC_OR_DESC,
+  STATISTICS.CARDINALITY,
+  NULL AS PAGES,
+  NULL AS FILTER_CONDITION
+FROM
+  INFORMATION_SCHEMA.STATISTICS STATISTICS
+WHERE
+  STATISTICS.TABLE_SCHEMA
+    NOT IN ('information_schema', 'mysql', 'performance_schema', 'sys')
+ORDER BY
+  TABLE_CAT,
+  TABLE_NAME,
+  NON_UNIQUE,
+  INDEX_NAME,
+  ORDINAL_POSITION
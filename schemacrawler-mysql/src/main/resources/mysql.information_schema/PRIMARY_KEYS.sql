@@ -0,0 +1,19 @@
+-- Not used by default. Used only when primary key retrieval strategy is
+-- explicitly set to data_dictionary_all
+SELECT
+  KEY_COLUMN_USAGE.TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  KEY_COLUMN_USAGE.TABLE_NAME,
+  KEY_COLUMN_USAGE.COLUMN_NAME,
+  KEY_COLUMN_USAGE.ORDINAL_POSITION AS KEY_SEQ,
+  KEY_COLUMN_USAGE.CONSTRAINT_NAME AS PK_NAME
+FROM
+  INFORMATION_SCHEMA.KEY_COLUMN_USAGE KEY_COLUMN_USAGE
+WHERE
+  KEY_COLUMN_USAGE.CONSTRAINT_NAME = 'PRIMARY'
+  AND KEY_COLUMN_USAGE.TABLE_SCHEMA
+    NOT IN ('information_schema', 'mysql', 'performance_schema', 'sys')
+ORDER BY
+  TABLE_CAT,
+  TABLE_NAME,
+  KEY_SEQ
@@ -0,0 +1,39 @@
+-- Not used by default. Used only when procedure parameter retrieval strategy is
+-- explicitly set to data_dictionary_all
+SELECT
+  PARAMETERS.SPECIFIC_SCHEMA AS PROCEDURE_CAT,
+  NULL AS PROCEDURE_SCHEM,
+  PARAMETERS.SPECIFIC_NAME AS PROCEDURE_NAME,
+  IFNULL(PARAMETERS.PARAMETER_NAME, '') AS COLUMN_NAME,
+  CASE
+    WHEN PARAMETERS.PARAMETER_MODE = 'IN' THEN 1
+    WHEN PARAMETERS.PARAMETER_MODE = 'INOUT' THEN 2
+    WHEN PARAMETERS.PARAMETER_MODE = 'OUT' THEN 4
+    ELSE 0
+  END AS COLUMN_TYPE,
+  UPPER(
+    CASE
+      WHEN LOCATE('unsigned', PARAMETERS.DTD_IDENTIFIER) > 0
+        THEN CONCAT(PARAMETERS.DATA_TYPE, ' UNSIGNED')
+      ELSE PARAMETERS.DATA_TYPE
+    END) AS TYPE_NAME,
+  IFNULL(PARAMETERS.NUMERIC_PRECISION, PARAMETERS.CHARACTER_MAXIMUM_LENGTH) AS `PRECISION`,
+  IFNULL(PARAMETERS.CHARACTER_MAXIMUM_LENGTH, PARAMETERS.NUMERIC_PRECISION) AS LENGTH,
+  PARAMETERS.NUMERIC_SCALE AS SCALE,
+  10 AS RADIX,
+  1 AS NULLABLE,
+  NULL AS REMARKS,
+  PARAMETERS.CHARACTER_OCTET_LENGTH AS CHAR_OCTET_LENGTH,
+  PARAMETERS.ORDINAL_POSITION,
+  'YES' AS IS_NULLABLE,
+  PARAMETERS.SPECIFIC_NAME
+FROM
+  INFORMATION_SCHEMA.PARAMETERS PARAMETERS
+WHERE
+  PARAMETERS.ROUTINE_TYPE = 'PROCEDURE'
+  AND PARAMETERS.SPECIFIC_SCHEMA
+    NOT IN ('information_schema', 'mysql', 'performance_schema', 'sys')
+ORDER BY
+  PROCEDURE_CAT,
+  PROCEDURE_NAME,
+  ORDINAL_POSITION
@@ -1,6 +1,7 @@
 package schemacrawler.tools.offline;
 
 import static java.nio.file.Files.newInputStream;
+import static schemacrawler.crawl.BinaryCatalogReader.isBinaryCatalog;
 import static schemacrawler.filter.ReducerFactory.getRoutineReducer;
 import static schemacrawler.filter.ReducerFactory.getSchemaReducer;
 import static schemacrawler.filter.ReducerFactory.getSequenceReducer;
@@ -26,6 +27,7 @@ import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
 import schemacrawler.schemacrawler.exceptions.IORuntimeException;
 import schemacrawler.tools.catalogloader.BaseCatalogLoader;
 import schemacrawler.tools.executable.CommandDescription;
+import schemacrawler.tools.formatter.serialize.BinarySerializedCatalog;
 import schemacrawler.tools.formatter.serialize.JavaSerializedCatalog;
 import schemacrawler.tools.offline.jdbc.OfflineConnection;
 
@@ -68,11 +70,18 @@ public final class OfflineCatalogLoader extends BaseCatalogLoader {
       }
 
       final Path offlineDatabasePath = dbConnection.getOfflineDatabasePath();
-      try (final InputStream inputFileStream =
-          new GZIPInputStream(newInputStream(offlineDatabasePath)); ) {
-        final JavaSerializedCatalog deserializedCatalog =
-            new JavaSerializedCatalog(inputFileStream);
+      if (isBinaryCatalog(offlineDatabasePath)) {
+        // Only objects included by the limit options are loaded from the binary format
+        final BinarySerializedCatalog deserializedCatalog =
+            new BinarySerializedCatalog(offlineDatabasePath, getSchemaCrawlerOptions());
         catalog = deserializedCatalog.getCatalog();
+      } else {
+        try (final InputStream inputFileStream =
+            new GZIPInputStream(newInputStream(offlineDatabasePath)); ) {
+          final JavaSerializedCatalog deserializedCatalog =
+              new JavaSerializedCatalog(inputFileStream);
+          catalog = deserializedCatalog.getCatalog();
+        }
       }
       reduceCatalog(catalog);
     } catch (final IOException e) {
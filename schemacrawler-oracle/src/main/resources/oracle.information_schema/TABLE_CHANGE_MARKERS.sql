@@ -0,0 +1,32 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  OBJECTS.OWNER AS TABLE_SCHEMA,
+  OBJECTS.OBJECT_NAME AS TABLE_NAME,
+  TO_CHAR(OBJECTS.LAST_DDL_TIME, 'YYYY-MM-DD"T"HH24:MI:SS')
+    || '/' || NVL(TABLE_TRIGGERS.TRIGGER_COUNT, 0)
+    || ':' || TO_CHAR(TABLE_TRIGGERS.LAST_DDL_TIME, 'YYYY-MM-DD"T"HH24:MI:SS')
+    AS CHANGE_MARKER
+FROM
+  ${catalogscope}_OBJECTS OBJECTS
+  LEFT OUTER JOIN (
+    SELECT
+      TRIGGERS.TABLE_OWNER,
+      TRIGGERS.TABLE_NAME,
+      COUNT(*) AS TRIGGER_COUNT,
+      MAX(TRIGGER_OBJECTS.LAST_DDL_TIME) AS LAST_DDL_TIME
+    FROM
+      ${catalogscope}_TRIGGERS TRIGGERS
+      INNER JOIN ${catalogscope}_OBJECTS TRIGGER_OBJECTS
+        ON TRIGGER_OBJECTS.OWNER = TRIGGERS.OWNER
+        AND TRIGGER_OBJECTS.OBJECT_NAME = TRIGGERS.TRIGGER_NAME
+        AND TRIGGER_OBJECTS.OBJECT_TYPE = 'TRIGGER'
+    GROUP BY
+      TRIGGERS.TABLE_OWNER,
+      TRIGGERS.TABLE_NAME
+  ) TABLE_TRIGGERS
+    ON TABLE_TRIGGERS.TABLE_OWNER = OBJECTS.OWNER
+    AND TABLE_TRIGGERS.TABLE_NAME = OBJECTS.OBJECT_NAME
+WHERE
+  REGEXP_LIKE(OBJECTS.OWNER, '${schemas}')
+  AND OBJECTS.OBJECT_TYPE IN ('TABLE', 'VIEW', 'MATERIALIZED VIEW')
+  AND OBJECTS.OBJECT_NAME NOT LIKE 'BIN$%'
@@ -0,0 +1,65 @@
+-- Not used by default. Used only when foreign key retrieval strategy is
+-- explicitly set to data_dictionary_all
+SELECT
+  CURRENT_DATABASE()::INFORMATION_SCHEMA.SQL_IDENTIFIER AS PKTABLE_CAT,
+  PK_NAMESPACES.NSPNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS PKTABLE_SCHEM,
+  PK_TABLES.RELNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS PKTABLE_NAME,
+  PK_ATTRIBUTES.ATTNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS PKCOLUMN_NAME,
+  CURRENT_DATABASE()::INFORMATION_SCHEMA.SQL_IDENTIFIER AS FKTABLE_CAT,
+  FK_NAMESPACES.NSPNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS FKTABLE_SCHEM,
+  FK_TABLES.RELNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS FKTABLE_NAME,
+  FK_ATTRIBUTES.ATTNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS FKCOLUMN_NAME,
+  CONSTRAINT_KEYS.KEY_SEQ,
+  CASE CONSTRAINTS.CONFUPDTYPE
+    WHEN 'c' THEN 0
+    WHEN 'n' THEN 2
+    WHEN 'd' THEN 4
+    WHEN 'r' THEN 1
+    WHEN 'a' THEN 3
+    ELSE NULL
+  END AS UPDATE_RULE,
+  CASE CONSTRAINTS.CONFDELTYPE
+    WHEN 'c' THEN 0
+    WHEN 'n' THEN 2
+    WHEN 'd' THEN 4
+    WHEN 'r' THEN 1
+    WHEN 'a' THEN 3
+    ELSE NULL
+  END AS DELETE_RULE,
+  CONSTRAINTS.CONNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS FK_NAME,
+  PK_INDEXES.RELNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS PK_NAME,
+  CASE
+    WHEN CONSTRAINTS.CONDEFERRABLE AND CONSTRAINTS.CONDEFERRED THEN 5
+    WHEN CONSTRAINTS.CONDEFERRABLE THEN 6
+    ELSE 7
+  END AS DEFERRABILITY
+FROM
+  PG_CATALOG.PG_CONSTRAINT CONSTRAINTS
+  CROSS JOIN LATERAL
+    UNNEST(CONSTRAINTS.CONKEY, CONSTRAINTS.CONFKEY)
+      WITH ORDINALITY AS CONSTRAINT_KEYS(FK_ATTNUM, PK_ATTNUM, KEY_SEQ)
+  INNER JOIN PG_CATALOG.PG_CLASS FK_TABLES
+    ON CONSTRAINTS.CONRELID = FK_TABLES.OID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE FK_NAMESPACES
+    ON FK_TABLES.RELNAMESPACE = FK_NAMESPACES.OID
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE FK_ATTRIBUTES
+    ON FK_ATTRIBUTES.ATTRELID = FK_TABLES.OID
+      AND FK_ATTRIBUTES.ATTNUM = CONSTRAINT_KEYS.FK_ATTNUM
+  INNER JOIN PG_CATALOG.PG_CLASS PK_TABLES
+    ON CONSTRAINTS.CONFRELID = PK_TABLES.OID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE PK_NAMESPACES
+    ON PK_TABLES.RELNAMESPACE = PK_NAMESPACES.OID
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE PK_ATTRIBUTES
+    ON PK_ATTRIBUTES.ATTRELID = PK_TABLES.OID
+      AND PK_ATTRIBUTES.ATTNUM = CONSTRAINT_KEYS.PK_ATTNUM
+  LEFT OUTER JOIN PG_CATALOG.PG_CLASS PK_INDEXES
+    ON CONSTRAINTS.CONINDID = PK_INDEXES.OID
+WHERE
+  CONSTRAINTS.CONTYPE = 'f'
+  AND FK_NAMESPACES.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND FK_NAMESPACES.NSPNAME !~ '^pg_toast'
+ORDER BY
+  FKTABLE_SCHEM,
+  FKTABLE_NAME,
+  FK_NAME,
+  KEY_SEQ
@@ -0,0 +1,54 @@
+-- Not used by default. Used only when index retrieval strategy is
+-- explicitly set to data_dictionary_all
+SELECT
+  CURRENT_DATABASE()::INFORMATION_SCHEMA.SQL_IDENTIFIER AS TABLE_CAT,
+  NAMESPACES.NSPNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS TABLE_SCHEM,
+  TABLES.RELNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS TABLE_NAME,
+  NOT INDEXES.INDISUNIQUE AS NON_UNIQUE,
+  NULL AS INDEX_QUALIFIER,
+  INDEX_CLASSES.RELNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS INDEX_NAME,
+  CASE
+    WHEN INDEXES.INDISCLUSTERED THEN 1
+    WHEN ACCESS_METHODS.AMNAME = 'hash' THEN 2
+    ELSE 3
+  END AS TYPE,
+  INDEX_KEYS.ORDINAL_POSITION,
+  CASE
+    WHEN INDEX_KEYS.ATTNUM = 0
+      THEN PG_CATALOG.PG_GET_INDEXDEF(INDEX_CLASSES.OID, INDEX_KEYS.ORDINAL_POSITION::INTEGER, FALSE)
+    ELSE ATTRIBUTES.ATTNAME::TEXT
+  END AS COLUMN_NAME,
+  CASE
+    WHEN ACCESS_METHODS.AMNAME <> 'btree' THEN NULL
+    WHEN INDEXES.INDOPTION[INDEX_KEYS.ORDINAL_POSITION - 1] & 1 = 1 THEN 'D'
+    ELSE 'A'
+  END AS ASC_OR_DESC,
+  INDEX_CLASSES.RELTUPLES AS CARDINALITY,
+  INDEX_CLASSES.RELPAGES AS PAGES,
+  PG_CATALOG.PG_GET_EXPR(INDEXES.INDPRED, INDEXES.INDRELID) AS FILTER_CONDITION
+FROM
+  PG_CATALOG.PG_INDEX INDEXES
+  CROSS JOIN LATERAL
+    UNNEST(INDEXES.INDKEY::SMALLINT[]) WITH ORDINALITY AS INDEX_KEYS(ATTNUM, ORDINAL_POSITION)
+  INNER JOIN PG_CATALOG.PG_CLASS TABLES
+    ON INDEXES.INDRELID = TABLES.OID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON TABLES.RELNAMESPACE = NAMESPACES.OID
+  INNER JOIN PG_CATALOG.PG_CLASS INDEX_CLASSES
+    ON INDEXES.INDEXRELID = INDEX_CLASSES.OID
+  INNER JOIN PG_CATALOG.PG_AM ACCESS_METHODS
+    ON INDEX_CLASSES.RELAM = ACCESS_METHODS.OID
+  LEFT OUTER JOIN PG_CATALOG.PG_ATTRIBUTE ATTRIBUTES
+    ON ATTRIBUTES.ATTRELID = TABLES.OID
+      AND ATTRIBUTES.ATTNUM = INDEX_KEYS.ATTNUM
+WHERE
+  NAMESPACES.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND NAMESPACES.NSPNAME !~ '^pg_toast'
+  AND NAMESPACES.NSPNAME || '.' || TABLES.RELNAME ~ '${tables}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  NON_UNIQUE,
+  TYPE,
+  INDEX_NAME,
+  ORDINAL_POSITION
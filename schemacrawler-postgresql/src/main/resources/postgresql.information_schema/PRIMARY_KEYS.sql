@@ -0,0 +1,32 @@
+-- Not used by default. Used only when primary key retrieval strategy is
+-- explicitly set to data_dictionary_all
+SELECT
+  CURRENT_DATABASE()::INFORMATION_SCHEMA.SQL_IDENTIFIER AS TABLE_CAT,
+  NAMESPACES.NSPNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS TABLE_SCHEM,
+  TABLES.RELNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS TABLE_NAME,
+  ATTRIBUTES.ATTNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS COLUMN_NAME,
+  INDEX_KEYS.KEY_SEQ,
+  INDEX_CLASSES.RELNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS PK_NAME
+FROM
+  PG_CATALOG.PG_INDEX INDEXES
+  CROSS JOIN LATERAL
+    UNNEST(INDEXES.INDKEY::SMALLINT[]) WITH ORDINALITY AS INDEX_KEYS(ATTNUM, KEY_SEQ)
+  INNER JOIN PG_CATALOG.PG_CLASS TABLES
+    ON INDEXES.INDRELID = TABLES.OID
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON TABLES.RELNAMESPACE = NAMESPACES.OID
+  INNER JOIN PG_CATALOG.PG_CLASS INDEX_CLASSES
+    ON INDEXES.INDEXRELID = INDEX_CLASSES.OID
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE ATTRIBUTES
+    ON ATTRIBUTES.ATTRELID = TABLES.OID
+      AND ATTRIBUTES.ATTNUM = INDEX_KEYS.ATTNUM
+WHERE
+  INDEXES.INDISPRIMARY
+  AND NAMESPACES.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND NAMESPACES.NSPNAME !~ '^pg_toast'
+  AND NAMESPACES.NSPNAME || '.' || TABLES.RELNAME ~ '${tables}'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  PK_NAME,
+  KEY_SEQ
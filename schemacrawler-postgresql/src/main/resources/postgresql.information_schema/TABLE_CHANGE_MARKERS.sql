@@ -0,0 +1,34 @@
+SELECT
+  CURRENT_DATABASE()::INFORMATION_SCHEMA.SQL_IDENTIFIER AS TABLE_CATALOG,
+  NAMESPACES.NSPNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS TABLE_SCHEMA,
+  TABLES.RELNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS TABLE_NAME,
+  TABLES.XMIN::TEXT
+    || '/' || COALESCE(
+      (SELECT MAX(ATTRIBUTES.XMIN::TEXT::BIGINT)
+       FROM PG_CATALOG.PG_ATTRIBUTE ATTRIBUTES
+       WHERE ATTRIBUTES.ATTRELID = TABLES.OID), 0)
+    || '/' || (
+      SELECT COUNT(*) || ':' || COALESCE(MAX(INDEXES.XMIN::TEXT::BIGINT), 0)
+      FROM PG_CATALOG.PG_INDEX INDEXES
+      WHERE INDEXES.INDRELID = TABLES.OID)
+    || '/' || (
+      SELECT COUNT(*) || ':' || COALESCE(MAX(CONSTRAINTS.XMIN::TEXT::BIGINT), 0)
+      FROM PG_CATALOG.PG_CONSTRAINT CONSTRAINTS
+      WHERE CONSTRAINTS.CONRELID = TABLES.OID OR CONSTRAINTS.CONFRELID = TABLES.OID)
+    || '/' || (
+      SELECT COUNT(*) || ':' || COALESCE(MAX(TRIGGERS.XMIN::TEXT::BIGINT), 0)
+      FROM PG_CATALOG.PG_TRIGGER TRIGGERS
+      WHERE TRIGGERS.TGRELID = TABLES.OID)
+    || '/' || (
+      SELECT COUNT(*) || ':' || COALESCE(MAX(DESCRIPTIONS.XMIN::TEXT::BIGINT), 0)
+      FROM PG_CATALOG.PG_DESCRIPTION DESCRIPTIONS
+      WHERE DESCRIPTIONS.OBJOID = TABLES.OID)
+    AS CHANGE_MARKER
+FROM
+  PG_CATALOG.PG_CLASS TABLES
+  INNER JOIN PG_CATALOG.PG_NAMESPACE NAMESPACES
+    ON TABLES.RELNAMESPACE = NAMESPACES.OID
+WHERE
+  NAMESPACES.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND NAMESPACES.NSPNAME !~ '^pg_toast'
+  AND TABLES.RELKIND IN ('r', 'p', 'v', 'm', 'f')
@@ -0,0 +1,169 @@
+-- Not used by default. Used only when table column retrieval strategy is
+-- explicitly set to data_dictionary_all
+-- Needs PostgreSQL 12 or later, for generated columns
+SELECT
+  CURRENT_DATABASE()::INFORMATION_SCHEMA.SQL_IDENTIFIER AS TABLE_CAT,
+  NAMESPACES.NSPNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS TABLE_SCHEM,
+  TABLES.RELNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS TABLE_NAME,
+  ATTRIBUTES.ATTNAME::INFORMATION_SCHEMA.SQL_IDENTIFIER AS COLUMN_NAME,
+  CASE
+    WHEN TYPES.TYPTYPE = 'c' THEN 2002
+    WHEN TYPES.TYPTYPE = 'd' THEN 2001
+    WHEN TYPES.TYPTYPE = 'e' THEN 12
+    WHEN TYPES.TYPCATEGORY = 'A' THEN 2003
+    WHEN TYPES.TYPNAME IN ('bool', 'bit') THEN -7
+    WHEN TYPES.TYPNAME = 'int2' THEN 5
+    WHEN TYPES.TYPNAME = 'int4' THEN 4
+    WHEN TYPES.TYPNAME IN ('int8', 'oid') THEN -5
+    WHEN TYPES.TYPNAME = 'float4' THEN 7
+    WHEN TYPES.TYPNAME IN ('float8', 'money') THEN 8
+    WHEN TYPES.TYPNAME = 'numeric' THEN 2
+    WHEN TYPES.TYPNAME IN ('char', 'bpchar') THEN 1
+    WHEN TYPES.TYPNAME IN ('varchar', 'text', 'name') THEN 12
+    WHEN TYPES.TYPNAME = 'bytea' THEN -2
+    WHEN TYPES.TYPNAME = 'date' THEN 91
+    WHEN TYPES.TYPNAME IN ('time', 'timetz') THEN 92
+    WHEN TYPES.TYPNAME IN ('timestamp', 'timestamptz') THEN 93
+    WHEN TYPES.TYPNAME = 'xml' THEN 2009
+    WHEN TYPES.TYPNAME = 'refcursor' THEN 2012
+    ELSE 1111
+  END AS DATA_TYPE,
+  CASE
+    WHEN PG_CATALOG.PG_GET_EXPR(DEFAULTS.ADBIN, DEFAULTS.ADRELID) LIKE 'nextval(%'
+      AND TYPES.TYPNAME IN ('int2', 'int4', 'int8')
+    THEN
+      CASE TYPES.TYPNAME
+        WHEN 'int2' THEN 'smallserial'
+        WHEN 'int4' THEN 'serial'
+        ELSE 'bigserial'
+      END
+    ELSE TYPES.TYPNAME
+  END AS TYPE_NAME,
+  CASE
+    WHEN BASE_TYPES.TYPNAME IN ('varchar', 'bpchar', 'bit', 'varbit') THEN
+      CASE
+        WHEN COALESCE(NULLIF(ATTRIBUTES.ATTTYPMOD, -1), TYPES.TYPTYPMOD) = -1 THEN 2147483647
+        WHEN BASE_TYPES.TYPNAME IN ('bit', 'varbit')
+          THEN COALESCE(NULLIF(ATTRIBUTES.ATTTYPMOD, -1), TYPES.TYPTYPMOD)
+        ELSE COALESCE(NULLIF(ATTRIBUTES.ATTTYPMOD, -1), TYPES.TYPTYPMOD) - 4
+      END
+    WHEN BASE_TYPES.TYPNAME = 'numeric' THEN
+      CASE
+        WHEN COALESCE(NULLIF(ATTRIBUTES.ATTTYPMOD, -1), TYPES.TYPTYPMOD) = -1 THEN 0
+        ELSE ((COALESCE(NULLIF(ATTRIBUTES.ATTTYPMOD, -1), TYPES.TYPTYPMOD) - 4) >> 16) & 65535
+      END
+    WHEN BASE_TYPES.TYPNAME IN ('bool', 'char') THEN 1
+    WHEN BASE_TYPES.TYPNAME = 'int2' THEN 5
+    WHEN BASE_TYPES.TYPNAME IN ('int4', 'oid') THEN 10
+    WHEN BASE_TYPES.TYPNAME = 'int8' THEN 19
+    WHEN BASE_TYPES.TYPNAME = 'float4' THEN 8
+    WHEN BASE_TYPES.TYPNAME IN ('float8', 'money') THEN 17
+    WHEN BASE_TYPES.TYPNAME = 'date' THEN 13
+    WHEN BASE_TYPES.TYPNAME IN ('time', 'timetz', 'timestamp', 'timestamptz', 'interval') THEN
+      CASE BASE_TYPES.TYPNAME
+        WHEN 'time' THEN 8
+        WHEN 'timetz' THEN 14
+        WHEN 'timestamp' THEN 19
+        WHEN 'timestamptz' THEN 25
+        ELSE 49
+      END
+      + CASE
+          WHEN COALESCE(NULLIF(ATTRIBUTES.ATTTYPMOD, -1), TYPES.TYPTYPMOD) = -1 THEN 7
+          WHEN COALESCE(NULLIF(ATTRIBUTES.ATTTYPMOD, -1), TYPES.TYPTYPMOD) = 0 THEN 0
+          ELSE COALESCE(NULLIF(ATTRIBUTES.ATTTYPMOD, -1), TYPES.TYPTYPMOD) + 1
+        END
+    ELSE 2147483647
+  END AS COLUMN_SIZE,
+  NULL AS BUFFER_LENGTH,
+  CASE
+    WHEN BASE_TYPES.TYPNAME = 'numeric' THEN
+      CASE
+        WHEN COALESCE(NULLIF(ATTRIBUTES.ATTTYPMOD, -1), TYPES.TYPTYPMOD) = -1 THEN 0
+        ELSE (COALESCE(NULLIF(ATTRIBUTES.ATTTYPMOD, -1), TYPES.TYPTYPMOD) - 4) & 65535
+      END
+    WHEN BASE_TYPES.TYPNAME IN ('time', 'timetz', 'timestamp', 'timestamptz', 'interval') THEN
+      CASE
+        WHEN COALESCE(NULLIF(ATTRIBUTES.ATTTYPMOD, -1), TYPES.TYPTYPMOD) = -1 THEN 6
+        ELSE COALESCE(NULLIF(ATTRIBUTES.ATTTYPMOD, -1), TYPES.TYPTYPMOD)
+      END
+    WHEN BASE_TYPES.TYPNAME = 'float4' THEN 8
+    WHEN BASE_TYPES.TYPNAME = 'float8' THEN 17
+    ELSE 0
+  END AS DECIMAL_DIGITS,
+  10 AS NUM_PREC_RADIX,
+  CASE
+    WHEN ATTRIBUTES.ATTNOTNULL OR (TYPES.TYPTYPE = 'd' AND TYPES.TYPNOTNULL) THEN 0
+    ELSE 1
+  END AS NULLABLE,
+  DESCRIPTIONS.DESCRIPTION AS REMARKS,
+  PG_CATALOG.PG_GET_EXPR(DEFAULTS.ADBIN, DEFAULTS.ADRELID) AS COLUMN_DEF,
+  NULL AS SQL_DATA_TYPE,
+  NULL AS SQL_DATETIME_SUB,
+  CASE
+    WHEN BASE_TYPES.TYPNAME IN ('varchar', 'bpchar')
+      AND COALESCE(NULLIF(ATTRIBUTES.ATTTYPMOD, -1), TYPES.TYPTYPMOD) <> -1
+    THEN COALESCE(NULLIF(ATTRIBUTES.ATTTYPMOD, -1), TYPES.TYPTYPMOD) - 4
+    WHEN BASE_TYPES.TYPNAME IN ('varchar', 'bpchar', 'text') THEN 2147483647
+    ELSE NULL
+  END AS CHAR_OCTET_LENGTH,
+  ROW_NUMBER() OVER (PARTITION BY ATTRIBUTES.ATTRELID ORDER BY ATTRIBUTES.ATTNUM)
+    AS ORDINAL_POSITION,
+  CASE
+    WHEN ATTRIBUTES.ATTNOTNULL OR (TYPES.TYPTYPE = 'd' AND TYPES.TYPNOTNULL) THEN 'NO'
+    ELSE 'YES'
+  END AS IS_NULLABLE,
+  NULL AS SCOPE_CATALOG,
+  NULL AS SCOPE_SCHEMA,
+  NULL AS SCOPE_TABLE,
+  CASE
+    WHEN TYPES.TYPTYPE = 'd' THEN
+      CASE
+        WHEN BASE_TYPES.TYPNAME = 'int2' THEN 5
+        WHEN BASE_TYPES.TYPNAME = 'int4' THEN 4
+        WHEN BASE_TYPES.TYPNAME IN ('int8', 'oid') THEN -5
+        WHEN BASE_TYPES.TYPNAME = 'numeric' THEN 2
+        WHEN BASE_TYPES.TYPNAME IN ('varchar', 'text', 'name') THEN 12
+        WHEN BASE_TYPES.TYPNAME IN ('char', 'bpchar') THEN 1
+        ELSE 1111
+      END
+    ELSE NULL
+  END AS SOURCE_DATA_TYPE,
+  CASE
+    WHEN PG_CATALOG.PG_GET_EXPR(DEFAULTS.ADBIN, DEFAULTS.ADRELID) LIKE '%nextval(%'
+      OR ATTRIBUTES.ATTIDENTITY <> ''
+    THEN 'YES'
+    ELSE 'NO'
+  END AS IS_AUTOINCREMENT,
+  CASE
+    WHEN ATTRIBUTES.ATTGENERATED <> '' THEN 'YES'
+    ELSE 'NO'
+  END AS IS_GENERATEDCOLUMN
+FROM
+  PG_CATALOG.PG_NAMESPACE NAMESPACES
+  INNER JOIN PG_CATALOG.PG_CLASS TABLES
+    ON TABLES.RELNAMESPACE = NAMESPACES.OID
+  INNER JOIN PG_CATALOG.PG_ATTRIBUTE ATTRIBUTES
+    ON ATTRIBUTES.ATTRELID = TABLES.OID
+  INNER JOIN PG_CATALOG.PG_TYPE TYPES
+    ON ATTRIBUTES.ATTTYPID = TYPES.OID
+  INNER JOIN PG_CATALOG.PG_TYPE BASE_TYPES
+    ON BASE_TYPES.OID =
+      CASE WHEN TYPES.TYPTYPE = 'd' THEN TYPES.TYPBASETYPE ELSE TYPES.OID END
+  LEFT OUTER JOIN PG_CATALOG.PG_ATTRDEF DEFAULTS
+    ON ATTRIBUTES.ATTRELID = DEFAULTS.ADRELID
+      AND ATTRIBUTES.ATTNUM = DEFAULTS.ADNUM
+  LEFT OUTER JOIN PG_CATALOG.PG_DESCRIPTION DESCRIPTIONS
+    ON TABLES.OID = DESCRIPTIONS.OBJOID
+      AND ATTRIBUTES.ATTNUM = DESCRIPTIONS.OBJSUBID
+      AND DESCRIPTIONS.CLASSOID = 'pg_catalog.pg_class'::REGCLASS
+WHERE
+  NAMESPACES.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND NAMESPACES.NSPNAME !~ '^pg_toast'
+  AND NAMESPACES.NSPNAME || '.' || TABLES.RELNAME ~ '${tables}'
+  AND TABLES.RELKIND IN ('r', 'p', 'v', 'm', 'f')
+  AND ATTRIBUTES.ATTNUM > 0
+  AND NOT ATTRIBUTES.ATTISDROPPED
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  ORDINAL_POSITION
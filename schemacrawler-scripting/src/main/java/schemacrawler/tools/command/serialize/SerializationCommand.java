@@ -87,7 +87,7 @@ public final class SerializationCommand extends BaseSchemaCrawlerCommand<Seriali
       outputOptions =
           OutputOptionsBuilder.builder(outputOptions).withOutputFile(outputFile).toOptions();
 
-      try (final OutputStream out = new GZIPOutputStream(newOutputStream(outputFile))) {
+      try (final OutputStream out = newSerializationOutputStream(serializationFormat, outputFile)) {
         catalogSerializer.save(out);
       } catch (final IOException e) {
         throw new IORuntimeException("Could not save catalog", e);
@@ -98,4 +98,14 @@ public final class SerializationCommand extends BaseSchemaCrawlerCommand<Seriali
       // NOTE: Jackson closes the output writer, so no need for a try-with-resources block
     }
   }
+
+  private OutputStream newSerializationOutputStream(
+      final SerializationFormat serializationFormat, final Path outputFile) throws IOException {
+    final OutputStream out = newOutputStream(outputFile);
+    if (serializationFormat.isCompressed()) {
+      return new GZIPOutputStream(out);
+    } else {
+      return out;
+    }
+  }
 }
@@ -37,14 +37,25 @@ import schemacrawler.tools.options.OutputFormatState;
 import us.fatehi.utility.string.StringFormat;
 
 public enum SerializationFormat implements OutputFormat {
-  ser("Java serialization", "schemacrawler.tools.formatter.serialize.JavaSerializedCatalog", true),
+  ser(
+      "Java serialization",
+      "schemacrawler.tools.formatter.serialize.JavaSerializedCatalog",
+      true,
+      true),
+  scbin(
+      "SchemaCrawler binary catalog format",
+      "schemacrawler.tools.formatter.serialize.BinarySerializedCatalog",
+      true,
+      false),
   json(
       "JavaScript Object Notation (JSON) serialization format",
       "schemacrawler.tools.formatter.serialize.JsonSerializedCatalog",
+      false,
       false),
   yaml(
       "YAML Ain't Markup Language (YAML) serialization format",
       "schemacrawler.tools.formatter.serialize.YamlSerializedCatalog",
+      false,
       false);
 
   private static final Logger LOGGER = Logger.getLogger(SerializationFormat.class.getName());
@@ -89,12 +100,17 @@ public enum SerializationFormat implements OutputFormat {
   private final OutputFormatState outputFormatState;
   private final String serializerClassName;
   private final boolean isBinaryFormat;
+  private final boolean isCompressed;
 
   SerializationFormat(
-      final String description, final String serializerClassName, final boolean isBinaryFormat) {
+      final String description,
+      final String serializerClassName,
+      final boolean isBinaryFormat,
+      final boolean isCompressed) {
     outputFormatState = new OutputFormatState(name(), description);
     this.serializerClassName = serializerClassName;
     this.isBinaryFormat = isBinaryFormat;
+    this.isCompressed = isCompressed;
   }
 
   @Override
@@ -125,6 +141,16 @@ public enum SerializationFormat implements OutputFormat {
     return isBinaryFormat;
   }
 
+  /**
+   * Whether the output file is compressed with GZIP. The binary catalog format is not compressed,
+   * so that it can be memory-mapped when it is loaded.
+   *
+   * @return True if the output is compressed
+   */
+  public boolean isCompressed() {
+    return isCompressed;
+  }
+
   @Override
   public String toString() {
     return outputFormatState.toString();
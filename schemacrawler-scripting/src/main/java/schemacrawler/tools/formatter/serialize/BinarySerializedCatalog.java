@@ -0,0 +1,134 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.formatter.serialize;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import schemacrawler.crawl.BinaryCatalogReader;
+import schemacrawler.crawl.BinaryCatalogWriter;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.schemacrawler.exceptions.IORuntimeException;
+
+/**
+ * Decorates a database to allow for serialization to and from the SchemaCrawler binary catalog
+ * format. The binary format is faster to read, and smaller, than Java serialization.
+ */
+public final class BinarySerializedCatalog implements CatalogSerializer {
+
+  private static Catalog readCatalog(final InputStream in) {
+    requireNonNull(in, "No input stream provided");
+    try {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[64 * 1024];
+      int length;
+      while ((length = in.read(buffer)) != -1) {
+        bytes.write(buffer, 0, length);
+      }
+      return new BinaryCatalogReader(ByteBuffer.wrap(bytes.toByteArray())).read();
+    } catch (final IOException e) {
+      throw new ExecutionRuntimeException("Cannot deserialize catalog", e);
+    }
+  }
+
+  private static Catalog readCatalog(final Path path, final SchemaCrawlerOptions options) {
+    requireNonNull(path, "No path provided");
+    try {
+      final BinaryCatalogReader reader = BinaryCatalogReader.open(path);
+      if (options == null) {
+        return reader.read();
+      }
+      return reader.read(options);
+    } catch (final IOException e) {
+      throw new ExecutionRuntimeException("Cannot deserialize catalog", e);
+    }
+  }
+
+  private final Catalog catalog;
+
+  public BinarySerializedCatalog(final Catalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+  }
+
+  public BinarySerializedCatalog(final InputStream in) {
+    this(readCatalog(in));
+  }
+
+  /**
+   * Reads a catalog from a file, which is memory-mapped rather than read into memory.
+   *
+   * @param path Path to a binary catalog file
+   */
+  public BinarySerializedCatalog(final Path path) {
+    this(readCatalog(path, null));
+  }
+
+  /**
+   * Reads only the parts of a catalog that are included by the limit options, from a file which is
+   * memory-mapped rather than read into memory. Grep options are not applied, and the catalog
+   * should be reduced with them afterwards.
+   *
+   * @param path Path to a binary catalog file
+   * @param options Options with the limit options and filter options to apply
+   */
+  public BinarySerializedCatalog(final Path path, final SchemaCrawlerOptions options) {
+    this(readCatalog(path, requireNonNull(options, "No SchemaCrawler options provided")));
+  }
+
+  @Override
+  public Catalog getCatalog() {
+    return catalog;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final OutputStream out) {
+    requireNonNull(out, "No output stream provided");
+    try (final OutputStream outputStream = out) {
+      new BinaryCatalogWriter(catalog).write(outputStream);
+    } catch (final IOException e) {
+      throw new IORuntimeException("Could not serialize catalog", e);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void save(final Writer out) {
+    throw new UnsupportedOperationException("Cannot serialize binary format using character data");
+  }
+}
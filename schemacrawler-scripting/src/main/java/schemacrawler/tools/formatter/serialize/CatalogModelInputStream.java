@@ -53,7 +53,7 @@ final class CatalogModelInputStream extends ObjectInputStream {
           Pattern.compile("schemacrawler\\.[A-Z].*"),
           Pattern.compile("(\\[L)?java\\.(lang|util)\\..*"),
           Pattern.compile("java\\.(sql|math|time|net)\\..*"),
-          Pattern.compile("\\[[BC]"));
+          Pattern.compile("\\[[BCI]"));
 
   CatalogModelInputStream(final InputStream input) throws IOException {
     super(requireNonNull(input, "No input stream provided"));
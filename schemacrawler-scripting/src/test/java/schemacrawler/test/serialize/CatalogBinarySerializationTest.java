@@ -0,0 +1,187 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test.serialize;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+import static schemacrawler.test.utility.TestUtility.fileHeaderOf;
+import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.PartialDatabaseObject;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.FilterOptionsBuilder;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.DatabaseTestUtility;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.formatter.serialize.BinarySerializedCatalog;
+import schemacrawler.tools.formatter.serialize.JavaSerializedCatalog;
+import schemacrawler.tools.formatter.serialize.JsonSerializedCatalog;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.IOUtility;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+public class CatalogBinarySerializationTest {
+
+  @Test
+  public void catalogSerializationWithBinaryFormat(final DatabaseConnectionSource dataSource)
+      throws Exception {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+    final Catalog catalog =
+        getCatalog(dataSource, schemaRetrievalOptionsDefault, schemaCrawlerOptions, new Config());
+    assertThat("Could not obtain catalog", catalog, notNullValue());
+    assertThat("Could not find any schemas", catalog.getSchemas(), not(empty()));
+
+    final Path testOutputFile = IOUtility.createTempFilePath("sc_binary_serialization", "scbin");
+    new BinarySerializedCatalog(catalog).save(Files.newOutputStream(testOutputFile));
+    assertThat("Catalog was not serialized", Files.size(testOutputFile), greaterThan(0L));
+    assertThat(fileHeaderOf(testOutputFile), is("5343"));
+
+    final Path javaOutputFile = IOUtility.createTempFilePath("sc_java_serialization", "ser");
+    new JavaSerializedCatalog(catalog).save(Files.newOutputStream(javaOutputFile));
+    assertThat(
+        "Binary format is not smaller than Java serialization",
+        Files.size(testOutputFile),
+        lessThan(Files.size(javaOutputFile)));
+
+    final Catalog catalogFromFile = new BinarySerializedCatalog(testOutputFile).getCatalog();
+    final Catalog catalogFromStream =
+        new BinarySerializedCatalog(Files.newInputStream(testOutputFile)).getCatalog();
+    for (final Catalog catalogDeserialized : new Catalog[] {catalogFromFile, catalogFromStream}) {
+      final Schema schemaDeserialized =
+          catalogDeserialized.lookupSchema("PUBLIC.BOOKS").orElse(null);
+      assertThat("Could not obtain schema", schemaDeserialized, notNullValue());
+      assertThat(
+          "Unexpected number of tables in the schema",
+          catalogDeserialized.getTables(schemaDeserialized),
+          hasSize(11));
+
+      // Every detail of the catalog should be preserved
+      assertThat(toJson(catalogDeserialized), is(toJson(catalog)));
+    }
+  }
+
+  @Test
+  public void catalogSerializationWithBinaryFormatLoadedWithLimits(
+      final DatabaseConnectionSource dataSource) throws Exception {
+    final Catalog catalog =
+        getCatalog(
+            dataSource,
+            schemaRetrievalOptionsDefault,
+            DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel,
+            new Config());
+
+    final Path testOutputFile = IOUtility.createTempFilePath("sc_binary_serialization", "scbin");
+    new BinarySerializedCatalog(catalog).save(Files.newOutputStream(testOutputFile));
+
+    final LimitOptions limitOptions =
+        LimitOptionsBuilder.builder()
+            .includeTables(Pattern.compile("PUBLIC\\.BOOKS\\.BOOKAUTHORS"))
+            .toOptions();
+
+    // Referenced tables that are not included are loaded as partial tables
+    final Catalog catalogLimited =
+        new BinarySerializedCatalog(
+                testOutputFile,
+                SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+                    .withLimitOptions(limitOptions))
+            .getCatalog();
+    assertThat(
+        fullNamesOf(catalogLimited.getTables()), contains("PUBLIC.BOOKS.BOOKAUTHORS"));
+    final Table table = catalogLimited.getTables().iterator().next();
+    assertThat(table.getColumns(), hasSize(3));
+    assertThat(table.getImportedForeignKeys(), hasSize(2));
+    for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+      assertThat(foreignKey.getPrimaryKeyTable(), instanceOf(PartialDatabaseObject.class));
+    }
+    assertThat(catalogLimited.getRoutines(), is(empty()));
+
+    // Parent tables are loaded in full, to the requested depth
+    final Catalog catalogWithParents =
+        new BinarySerializedCatalog(
+                testOutputFile,
+                SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+                    .withLimitOptions(limitOptions)
+                    .withFilterOptions(
+                        FilterOptionsBuilder.builder().parentTableFilterDepth(1).toOptions()))
+            .getCatalog();
+    assertThat(
+        fullNamesOf(catalogWithParents.getTables()),
+        containsInAnyOrder(
+            "PUBLIC.BOOKS.AUTHORS", "PUBLIC.BOOKS.BOOKAUTHORS", "PUBLIC.BOOKS.BOOKS"));
+    for (final Table parentTable : catalogWithParents.getTables()) {
+      assertThat(parentTable, not(instanceOf(PartialDatabaseObject.class)));
+    }
+  }
+
+  private List<String> fullNamesOf(final Collection<Table> tables) {
+    final List<String> fullNames = new ArrayList<>();
+    for (final Table table : tables) {
+      fullNames.add(table.getFullName());
+    }
+    return fullNames;
+  }
+
+  private String toJson(final Catalog catalog) {
+    final StringWriter writer = new StringWriter();
+    new JsonSerializedCatalog(catalog).save(writer);
+    // Object identifiers are regenerated on deserialization
+    return writer
+        .toString()
+        .replaceAll("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}", "");
+  }
+}
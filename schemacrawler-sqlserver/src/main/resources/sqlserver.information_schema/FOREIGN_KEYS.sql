@@ -0,0 +1,52 @@
+-- Not used by default. Used only when foreign key retrieval strategy is
+-- explicitly set to data_dictionary_all
+-- Covers only the connected database
+SELECT
+  DB_NAME() AS PKTABLE_CAT,
+  SCHEMA_NAME(PK_TABLES.SCHEMA_ID) AS PKTABLE_SCHEM,
+  PK_TABLES.NAME AS PKTABLE_NAME,
+  PK_COLUMNS.NAME AS PKCOLUMN_NAME,
+  DB_NAME() AS FKTABLE_CAT,
+  SCHEMA_NAME(FK_TABLES.SCHEMA_ID) AS FKTABLE_SCHEM,
+  FK_TABLES.NAME AS FKTABLE_NAME,
+  FK_COLUMNS.NAME AS FKCOLUMN_NAME,
+  FOREIGN_KEY_COLUMNS.CONSTRAINT_COLUMN_ID AS KEY_SEQ,
+  CASE FOREIGN_KEYS.UPDATE_REFERENTIAL_ACTION
+    WHEN 0 THEN 3
+    WHEN 1 THEN 0
+    WHEN 2 THEN 2
+    WHEN 3 THEN 4
+    ELSE NULL
+  END AS UPDATE_RULE,
+  CASE FOREIGN_KEYS.DELETE_REFERENTIAL_ACTION
+    WHEN 0 THEN 3
+    WHEN 1 THEN 0
+    WHEN 2 THEN 2
+    WHEN 3 THEN 4
+    ELSE NULL
+  END AS DELETE_RULE,
+  FOREIGN_KEYS.NAME AS FK_NAME,
+  PK_INDEXES.NAME AS PK_NAME,
+  7 AS DEFERRABILITY
+FROM
+  SYS.FOREIGN_KEYS FOREIGN_KEYS
+  INNER JOIN SYS.FOREIGN_KEY_COLUMNS FOREIGN_KEY_COLUMNS
+    ON FOREIGN_KEY_COLUMNS.CONSTRAINT_OBJECT_ID = FOREIGN_KEYS.OBJECT_ID
+  INNER JOIN SYS.OBJECTS FK_TABLES
+    ON FOREIGN_KEYS.PARENT_OBJECT_ID = FK_TABLES.OBJECT_ID
+  INNER JOIN SYS.COLUMNS FK_COLUMNS
+    ON FK_COLUMNS.OBJECT_ID = FOREIGN_KEY_COLUMNS.PARENT_OBJECT_ID
+      AND FK_COLUMNS.COLUMN_ID = FOREIGN_KEY_COLUMNS.PARENT_COLUMN_ID
+  INNER JOIN SYS.OBJECTS PK_TABLES
+    ON FOREIGN_KEYS.REFERENCED_OBJECT_ID = PK_TABLES.OBJECT_ID
+  INNER JOIN SYS.COLUMNS PK_COLUMNS
+    ON PK_COLUMNS.OBJECT_ID = FOREIGN_KEY_COLUMNS.REFERENCED_OBJECT_ID
+      AND PK_COLUMNS.COLUMN_ID = FOREIGN_KEY_COLUMNS.REFERENCED_COLUMN_ID
+  LEFT OUTER JOIN SYS.INDEXES PK_INDEXES
+    ON PK_INDEXES.OBJECT_ID = FOREIGN_KEYS.REFERENCED_OBJECT_ID
+      AND PK_INDEXES.INDEX_ID = FOREIGN_KEYS.KEY_INDEX_ID
+ORDER BY
+  FKTABLE_SCHEM,
+  FKTABLE_NAME,
+  FK_NAME,
+  KEY_SEQ
@@ -0,0 +1,39 @@
+-- Not used by default. Used only when index retrieval strategy is
+-- explicitly set to data_dictionary_all
+-- Covers only the connected database
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMA_NAME(TABLES.SCHEMA_ID) AS TABLE_SCHEM,
+  TABLES.NAME AS TABLE_NAME,
+  CASE WHEN INDEXES.IS_UNIQUE = 1 THEN 0 ELSE 1 END AS NON_UNIQUE,
+  TABLES.NAME AS INDEX_QUALIFIER,
+  INDEXES.NAME AS INDEX_NAME,
+  CASE WHEN INDEXES.TYPE = 1 THEN 1 ELSE 3 END AS TYPE,
+  INDEX_COLUMNS.KEY_ORDINAL AS ORDINAL_POSITION,
+  COLUMNS.NAME AS COLUMN_NAME,
+  CASE WHEN INDEX_COLUMNS.IS_DESCENDING_KEY = 1 THEN 'D' ELSE 'A' END AS ASC_OR_DESC,
+  NULL AS CARDINALITY,
+  NULL AS PAGES,
+  INDEXES.FILTER_DEFINITION AS FILTER_CONDITION
+FROM
+  SYS.INDEXES INDEXES
+  INNER JOIN SYS.OBJECTS TABLES
+    ON INDEXES.OBJECT_ID = TABLES.OBJECT_ID
+  INNER JOIN SYS.INDEX_COLUMNS INDEX_COLUMNS
+    ON INDEX_COLUMNS.OBJECT_ID = INDEXES.OBJECT_ID
+      AND INDEX_COLUMNS.INDEX_ID = INDEXES.INDEX_ID
+  INNER JOIN SYS.COLUMNS COLUMNS
+    ON COLUMNS.OBJECT_ID = INDEX_COLUMNS.OBJECT_ID
+      AND COLUMNS.COLUMN_ID = INDEX_COLUMNS.COLUMN_ID
+WHERE
+  TABLES.TYPE IN ('U', 'V')
+  AND INDEXES.TYPE IN (1, 2)
+  AND INDEXES.IS_HYPOTHETICAL = 0
+  AND INDEX_COLUMNS.KEY_ORDINAL > 0
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  NON_UNIQUE,
+  TYPE,
+  INDEX_NAME,
+  ORDINAL_POSITION
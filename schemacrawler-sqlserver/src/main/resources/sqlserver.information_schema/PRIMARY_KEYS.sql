@@ -0,0 +1,26 @@
+-- Not used by default. Used only when primary key retrieval strategy is
+-- explicitly set to data_dictionary_all
+-- Covers only the connected database
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMA_NAME(TABLES.SCHEMA_ID) AS TABLE_SCHEM,
+  TABLES.NAME AS TABLE_NAME,
+  COLUMNS.NAME AS COLUMN_NAME,
+  INDEX_COLUMNS.KEY_ORDINAL AS KEY_SEQ,
+  KEY_CONSTRAINTS.NAME AS PK_NAME
+FROM
+  SYS.KEY_CONSTRAINTS KEY_CONSTRAINTS
+  INNER JOIN SYS.OBJECTS TABLES
+    ON KEY_CONSTRAINTS.PARENT_OBJECT_ID = TABLES.OBJECT_ID
+  INNER JOIN SYS.INDEX_COLUMNS INDEX_COLUMNS
+    ON INDEX_COLUMNS.OBJECT_ID = KEY_CONSTRAINTS.PARENT_OBJECT_ID
+      AND INDEX_COLUMNS.INDEX_ID = KEY_CONSTRAINTS.UNIQUE_INDEX_ID
+  INNER JOIN SYS.COLUMNS COLUMNS
+    ON COLUMNS.OBJECT_ID = INDEX_COLUMNS.OBJECT_ID
+      AND COLUMNS.COLUMN_ID = INDEX_COLUMNS.COLUMN_ID
+WHERE
+  KEY_CONSTRAINTS.TYPE = 'PK'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  KEY_SEQ
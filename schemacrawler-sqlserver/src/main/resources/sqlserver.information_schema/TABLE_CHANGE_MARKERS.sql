@@ -0,0 +1,19 @@
+SELECT
+  DB_NAME() AS TABLE_CATALOG,
+  SCHEMA_NAME(O.SCHEMA_ID) AS TABLE_SCHEMA,
+  O.NAME AS TABLE_NAME,
+  CONVERT(VARCHAR(30), O.MODIFY_DATE, 126)
+    + '/' + CAST(COUNT(T.OBJECT_ID) AS VARCHAR(10))
+    + ':' + ISNULL(CONVERT(VARCHAR(30), MAX(T.MODIFY_DATE), 126), '')
+    AS CHANGE_MARKER
+FROM
+  SYS.ALL_OBJECTS O
+  LEFT OUTER JOIN SYS.TRIGGERS T
+    ON T.PARENT_ID = O.OBJECT_ID
+WHERE
+  O.IS_MS_SHIPPED != 1
+  AND O.TYPE IN ('U', 'V')
+GROUP BY
+  O.SCHEMA_ID,
+  O.NAME,
+  O.MODIFY_DATE
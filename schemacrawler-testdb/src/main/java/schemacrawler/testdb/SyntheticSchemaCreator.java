@@ -0,0 +1,179 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.testdb;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates a synthetic schema of a configurable size, for benchmarks and load tests. Tables are
+ * named T_1 to T_n, and each table has an integer primary key, a number of data columns of
+ * assorted types, a number of foreign keys to tables created earlier, and a number of indexes on
+ * the data columns. Foreign key targets are picked with a fixed seed, so that the same parameters
+ * always produce the same schema.
+ */
+public class SyntheticSchemaCreator implements Runnable {
+
+  private static final Logger LOGGER = Logger.getLogger(SyntheticSchemaCreator.class.getName());
+
+  private static final String[] COLUMN_TYPES = {
+    "VARCHAR(50)", "INTEGER", "DECIMAL(10,2)", "DATE", "TIMESTAMP", "BIGINT", "VARCHAR(255)"
+  };
+  private static final int BATCH_SIZE = 500;
+
+  private final Connection connection;
+  private final String schemaName;
+  private final int numberOfTables;
+  private final int columnsPerTable;
+  private final double foreignKeysPerTable;
+  private final int indexesPerTable;
+
+  /**
+   * Configures the size of the synthetic schema.
+   *
+   * @param connection Database connection
+   * @param schemaName Schema to create the tables in
+   * @param numberOfTables Number of tables
+   * @param columnsPerTable Number of data columns in each table, not counting key columns
+   * @param foreignKeysPerTable Average number of foreign keys per table, for example 0.5 means that
+   *     about half the tables reference another table
+   * @param indexesPerTable Number of non-unique indexes per table, capped at the number of data
+   *     columns
+   */
+  public SyntheticSchemaCreator(
+      final Connection connection,
+      final String schemaName,
+      final int numberOfTables,
+      final int columnsPerTable,
+      final double foreignKeysPerTable,
+      final int indexesPerTable) {
+    this.connection = requireNonNull(connection, "No database connection provided");
+    this.schemaName = requireNonNull(schemaName, "No schema name provided");
+    if (numberOfTables < 0
+        || columnsPerTable < 0
+        || foreignKeysPerTable < 0
+        || indexesPerTable < 0) {
+      throw new IllegalArgumentException("Synthetic schema sizes cannot be negative");
+    }
+    this.numberOfTables = numberOfTables;
+    this.columnsPerTable = columnsPerTable;
+    this.foreignKeysPerTable = foreignKeysPerTable;
+    this.indexesPerTable = Math.min(indexesPerTable, columnsPerTable);
+  }
+
+  @Override
+  public void run() {
+    final Random random = new Random(numberOfTables);
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute(String.format("CREATE SCHEMA %s", schemaName));
+
+      int batchCount = 0;
+      for (int tableNumber = 1; tableNumber <= numberOfTables; tableNumber++) {
+        final int foreignKeyCount = foreignKeyCount(random, tableNumber);
+        final int[] referencedTables = new int[foreignKeyCount];
+        for (int i = 0; i < foreignKeyCount; i++) {
+          referencedTables[i] = 1 + random.nextInt(tableNumber - 1);
+        }
+
+        statement.addBatch(createTable(tableNumber, referencedTables));
+        for (int i = 1; i <= indexesPerTable; i++) {
+          statement.addBatch(
+              String.format(
+                  "CREATE INDEX %s.IDX_%d_%d ON %s (C_%d)",
+                  schemaName, tableNumber, i, tableName(tableNumber), i));
+        }
+        batchCount = batchCount + 1;
+        if (batchCount % BATCH_SIZE == 0) {
+          statement.executeBatch();
+        }
+      }
+      statement.executeBatch();
+    } catch (final SQLException e) {
+      throw new RuntimeException("Could not create synthetic schema", e);
+    }
+
+    LOGGER.log(
+        Level.CONFIG,
+        String.format(
+            "Created synthetic schema <%s> with %d tables, %d columns per table, "
+                + "%.2f foreign keys per table, and %d indexes per table",
+            schemaName, numberOfTables, columnsPerTable, foreignKeysPerTable, indexesPerTable));
+  }
+
+  private String createTable(final int tableNumber, final int[] referencedTables) {
+    final StringBuilder buffer = new StringBuilder(64 + 32 * columnsPerTable);
+    buffer.append("CREATE TABLE ").append(tableName(tableNumber)).append(" (");
+    buffer.append("ID INTEGER NOT NULL");
+    for (int i = 1; i <= columnsPerTable; i++) {
+      buffer
+          .append(", C_")
+          .append(i)
+          .append(' ')
+          .append(COLUMN_TYPES[(tableNumber + i) % COLUMN_TYPES.length]);
+    }
+    for (int i = 1; i <= referencedTables.length; i++) {
+      buffer.append(", FK_").append(i).append(" INTEGER");
+    }
+    buffer.append(", CONSTRAINT PK_").append(tableNumber).append(" PRIMARY KEY (ID)");
+    for (int i = 1; i <= referencedTables.length; i++) {
+      buffer
+          .append(", CONSTRAINT FK_")
+          .append(tableNumber)
+          .append('_')
+          .append(i)
+          .append(" FOREIGN KEY (FK_")
+          .append(i)
+          .append(") REFERENCES ")
+          .append(tableName(referencedTables[i - 1]))
+          .append(" (ID)");
+    }
+    buffer.append(')');
+    return buffer.toString();
+  }
+
+  private int foreignKeyCount(final Random random, final int tableNumber) {
+    // The first table has nothing to reference
+    if (tableNumber == 1) {
+      return 0;
+    }
+    final int whole = (int) foreignKeysPerTable;
+    final double fraction = foreignKeysPerTable - whole;
+    return whole + (random.nextDouble() < fraction ? 1 : 0);
+  }
+
+  private String tableName(final int tableNumber) {
+    return String.format("%s.T_%d", schemaName, tableNumber);
+  }
+}
@@ -29,6 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.catalogloader;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.RetrieverUtility.freezeCatalog;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -77,6 +78,8 @@ public class ChainedCatalogLoader extends BaseCatalogLoader implements Iterable<
 
       catalog = nextCatalogLoader.getCatalog();
     }
+    // Freeze only once all catalog loaders have modified the catalog
+    freezeCatalog(catalog);
     setCatalog(catalog);
   }
 
@@ -34,6 +34,7 @@ import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Identifiers;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.tools.options.OutputOptions;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
 
 /** A SchemaCrawler tools executable unit. */
 public interface SchemaCrawlerCommand<C extends CommandOptions> {
@@ -72,6 +73,16 @@ public interface SchemaCrawlerCommand<C extends CommandOptions> {
 
   void setConnection(Connection connection);
 
+  /**
+   * Sets the source of database connections, for commands that can use more than one connection
+   * at a time. This is set along with the connection, for commands that use a connection.
+   *
+   * @param dataSource Source of database connections
+   */
+  default void setDataSource(final DatabaseConnectionSource dataSource) {
+    // Default implementation - NO-OP
+  }
+
   void setIdentifiers(Identifiers identifiers);
 
   void setOutputOptions(OutputOptions outputOptions);
@@ -108,6 +108,7 @@ public final class SchemaCrawlerExecutable {
 
       if (scCommand.usesConnection()) {
         scCommand.setConnection(connection);
+        scCommand.setDataSource(dataSource);
       }
 
       // Execute
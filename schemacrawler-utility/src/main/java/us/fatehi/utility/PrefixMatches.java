@@ -29,17 +29,20 @@ http://www.gnu.org/licenses/
 package us.fatehi.utility;
 
 import static java.util.Objects.requireNonNull;
-import static us.fatehi.utility.Utility.commonPrefix;
 import static us.fatehi.utility.Utility.isBlank;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
+import java.util.SortedSet;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -50,6 +53,53 @@ public final class PrefixMatches {
 
   private static final Logger LOGGER = Logger.getLogger(PrefixMatches.class.getName());
 
+  /**
+   * Neighbouring keys in sorted order that share a common prefix, with counts of the keys, so that
+   * pairs of keys can be counted without listing them.
+   */
+  private static final class CommonPrefix {
+
+    private final String key;
+    private final int length;
+    private long keyCount;
+    private long keyCountSquares;
+    private long pairsInChildren;
+
+    CommonPrefix(final String key, final int length) {
+      this.key = key;
+      this.length = length;
+    }
+
+    void add(final CommonPrefix child) {
+      keyCount = keyCount + child.keyCount;
+      keyCountSquares = keyCountSquares + child.keyCountSquares;
+      pairsInChildren = pairsInChildren + child.pairs();
+    }
+
+    void addKeys(final long count) {
+      keyCount = keyCount + count;
+      keyCountSquares = keyCountSquares + count * count;
+    }
+
+    /**
+     * Number of pairs of keys in this group that are not identical, which is the number of pairs
+     * of keys that share this common prefix or a longer one.
+     */
+    long pairs() {
+      return (keyCount * keyCount - keyCountSquares) / 2;
+    }
+  }
+
+  private static int commonPrefixLength(final String key1, final String key2) {
+    final int length = Math.min(key1.length(), key2.length());
+    for (int i = 0; i < length; i++) {
+      if (key1.charAt(i) != key2.charAt(i)) {
+        return i;
+      }
+    }
+    return length;
+  }
+
   private final String keySeparator;
   private final Multimap<String, String> keyPrefixes;
 
@@ -78,7 +128,7 @@ public final class PrefixMatches {
       return;
     }
 
-    final Collection<String> prefixes = findPrefixes(keys);
+    final List<String> prefixes = findPrefixes(keys);
     mapPrefixes(keys, prefixes);
 
     LOGGER.log(Level.FINE, new StringFormat("Key prefixes=%s", prefixes));
@@ -87,62 +137,67 @@ public final class PrefixMatches {
   }
 
   /**
-   * Finds key prefixes. Prefixes are separated by a separator character.
+   * Finds key prefixes. Prefixes are separated by a separator character, and are counted by the
+   * number of pairs of keys that share them.
+   *
+   * <p>Keys are sorted, so that the common prefix of any two keys is the shortest of the common
+   * prefixes of the neighbouring keys between them. Common prefixes of neighbouring keys nest like
+   * the nodes of a trie, so the number of pairs of keys for each distinct common prefix can be
+   * counted in a single pass over the sorted keys, without comparing every pair of keys.
    *
    * @param keys Keys
    * @return Key name prefixes
    */
-  private Collection<String> findPrefixes(final List<String> keys) {
-    final SortedMap<String, Integer> prefixesMap = new TreeMap<>();
-    for (int i = 0; i < keys.size(); i++) {
-      for (int j = i + 1; j < keys.size(); j++) {
-        final String key1 = keys.get(i);
-        final String key2 = keys.get(j);
-        final String commonPrefix = commonPrefix(key1, key2);
-        if (isBlank(commonPrefix)) {
-          continue;
-        }
+  private List<String> findPrefixes(final List<String> keys) {
+    final SortedMap<String, Long> prefixesMap = new TreeMap<>();
 
-        final List<String> splitCommonPrefixes = new ArrayList<>();
-        final String[] splitPrefix = commonPrefix.split(keySeparator);
-        if (splitPrefix != null && splitPrefix.length > 0) {
-          for (int k = 0; k < splitPrefix.length; k++) {
-            final StringBuilder buffer = new StringBuilder(1024);
-            for (int l = 0; l < k; l++) {
-              buffer.append(splitPrefix[l]).append(keySeparator);
-            }
-            if (buffer.length() > 0) {
-              splitCommonPrefixes.add(buffer.toString());
-            }
-          }
-        }
-        if (commonPrefix.endsWith(keySeparator)) {
-          splitCommonPrefixes.add(commonPrefix);
-        }
+    final List<String> sortedKeys = new ArrayList<>(keys);
+    Collections.sort(sortedKeys);
 
-        for (final String splitCommonPrefix : splitCommonPrefixes) {
-          final int prevCount;
-          if (prefixesMap.containsKey(splitCommonPrefix)) {
-            prevCount = prefixesMap.get(splitCommonPrefix);
-          } else {
-            prevCount = 0;
-          }
-          prefixesMap.put(splitCommonPrefix, prevCount + 1);
-        }
+    final Deque<CommonPrefix> commonPrefixes = new ArrayDeque<>();
+    commonPrefixes.push(new CommonPrefix("", 0));
+    int i = 0;
+    while (i < sortedKeys.size()) {
+      // Identical keys do not have a common prefix with each other, so they are counted together
+      final String key = sortedKeys.get(i);
+      int next = i + 1;
+      while (next < sortedKeys.size() && key.equals(sortedKeys.get(next))) {
+        next++;
+      }
+      CommonPrefix child = new CommonPrefix(key, key.length());
+      child.addKeys(next - i);
+
+      final int length;
+      if (next < sortedKeys.size()) {
+        length = commonPrefixLength(key, sortedKeys.get(next));
+      } else {
+        length = 0;
+      }
+      while (commonPrefixes.peek().length > length) {
+        final CommonPrefix commonPrefix = commonPrefixes.pop();
+        commonPrefix.add(child);
+        countPrefixes(prefixesMap, commonPrefix);
+        child = commonPrefix;
       }
+      if (commonPrefixes.peek().length < length) {
+        commonPrefixes.push(new CommonPrefix(key, length));
+      }
+      commonPrefixes.peek().add(child);
+
+      i = next;
     }
 
     // Sort prefixes by the number of keys using them, in descending order
-    final List<Map.Entry<String, Integer>> prefixesList = new ArrayList<>(prefixesMap.entrySet());
+    final List<Map.Entry<String, Long>> prefixesList = new ArrayList<>(prefixesMap.entrySet());
     Collections.sort(
         prefixesList, (entry1, entry2) -> entry1.getValue().compareTo(entry2.getValue()));
 
     // Reduce the number of prefixes in use
     final List<String> prefixes = new ArrayList<>();
-    for (int i = 0; i < prefixesList.size(); i++) {
-      final boolean add = i < 5 || prefixesList.get(i).getValue() > prefixesMap.size() * 0.5;
+    for (int j = 0; j < prefixesList.size(); j++) {
+      final boolean add = j < 5 || prefixesList.get(j).getValue() > prefixesMap.size() * 0.5;
       if (add) {
-        prefixes.add(prefixesList.get(i).getKey());
+        prefixes.add(prefixesList.get(j).getKey());
       }
     }
     // Always return the full key as a prefix to itself
@@ -151,18 +206,79 @@ public final class PrefixMatches {
     return prefixes;
   }
 
-  private void mapPrefixes(final List<String> keys, final Collection<String> prefixes) {
+  /**
+   * Adds the pairs of keys that have exactly this common prefix to the count of each prefix that
+   * ends in a separator.
+   *
+   * @param prefixesMap Counts of prefixes
+   * @param commonPrefix Common prefix of a group of neighbouring keys
+   */
+  private void countPrefixes(
+      final SortedMap<String, Long> prefixesMap, final CommonPrefix commonPrefix) {
+    final String prefix = commonPrefix.key.substring(0, commonPrefix.length).toLowerCase();
+    if (isBlank(prefix)) {
+      return;
+    }
+    final long pairs = commonPrefix.pairs() - commonPrefix.pairsInChildren;
+    for (final String splitPrefix : splitPrefixes(prefix)) {
+      prefixesMap.merge(splitPrefix, pairs, Long::sum);
+    }
+  }
+
+  private void mapPrefixes(final List<String> keys, final List<String> prefixes) {
+    // Index prefixes and their lengths, so that each key is only compared with its own prefixes
+    final Map<String, Integer> prefixIndexes = new HashMap<>();
+    final SortedSet<Integer> prefixLengths = new TreeSet<>();
+    for (int i = 0; i < prefixes.size(); i++) {
+      final String prefix = prefixes.get(i);
+      prefixIndexes.putIfAbsent(prefix, i);
+      prefixLengths.add(prefix.length());
+    }
+
     for (final String key : keys) {
-      for (final String prefix : prefixes) {
-        String matchKeyName = key.toLowerCase();
-        if (matchKeyName.startsWith(prefix)) {
-          matchKeyName = matchKeyName.substring(prefix.length());
-          matchKeyName = Inflection.singularize(matchKeyName);
-          if (!isBlank(matchKeyName)) {
-            keyPrefixes.add(key, matchKeyName);
-          }
+      final String lowerCaseKey = key.toLowerCase();
+      // Match prefixes in the order in which they were found
+      final List<Integer> matchingPrefixes = new ArrayList<>();
+      for (final int length : prefixLengths) {
+        if (length > lowerCaseKey.length()) {
+          break;
         }
+        final Integer index = prefixIndexes.get(lowerCaseKey.substring(0, length));
+        if (index != null) {
+          matchingPrefixes.add(index);
+        }
+      }
+      Collections.sort(matchingPrefixes);
+
+      for (final int index : matchingPrefixes) {
+        String matchKeyName = lowerCaseKey.substring(prefixes.get(index).length());
+        matchKeyName = Inflection.singularize(matchKeyName);
+        if (!isBlank(matchKeyName)) {
+          keyPrefixes.add(key, matchKeyName);
+        }
+      }
+    }
+  }
+
+  /**
+   * Splits a common prefix of two keys into the prefixes that end in a separator.
+   *
+   * @param commonPrefix Common prefix of two keys
+   * @return Prefixes that end in a separator
+   */
+  private List<String> splitPrefixes(final String commonPrefix) {
+    final List<String> splitCommonPrefixes = new ArrayList<>();
+    final String[] splitPrefix = commonPrefix.split(keySeparator);
+    final StringBuilder buffer = new StringBuilder(commonPrefix.length());
+    for (int k = 1; k < splitPrefix.length; k++) {
+      buffer.append(splitPrefix[k - 1]).append(keySeparator);
+      if (buffer.length() > 0) {
+        splitCommonPrefixes.add(buffer.toString());
       }
     }
+    if (commonPrefix.endsWith(keySeparator)) {
+      splitCommonPrefixes.add(commonPrefix);
+    }
+    return splitCommonPrefixes;
   }
 }
@@ -0,0 +1,123 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for a connection pool, to see how many connections were opened and how long callers
+ * held or waited for them. Counters are updated without locking, so a snapshot taken while the
+ * pool is in use may be slightly out of step.
+ */
+public final class ConnectionPoolMetrics {
+
+  private final LongAdder borrows;
+  private final LongAdder borrowTimeNanos;
+  private final LongAdder creations;
+  private final LongAdder evictions;
+  private final LongAdder waits;
+
+  ConnectionPoolMetrics() {
+    borrows = new LongAdder();
+    borrowTimeNanos = new LongAdder();
+    creations = new LongAdder();
+    evictions = new LongAdder();
+    waits = new LongAdder();
+  }
+
+  /**
+   * Number of times a connection was borrowed and returned to the pool.
+   *
+   * @return Number of borrows
+   */
+  public long getBorrows() {
+    return borrows.sum();
+  }
+
+  /**
+   * Total time that connections were held by callers, from borrowing to returning them.
+   *
+   * @return Total borrow time
+   */
+  public Duration getBorrowTime() {
+    return Duration.ofNanos(borrowTimeNanos.sum());
+  }
+
+  /**
+   * Number of physical connections opened.
+   *
+   * @return Number of connections opened
+   */
+  public long getCreations() {
+    return creations.sum();
+  }
+
+  /**
+   * Number of idle connections that failed validation, or were idle for too long, and were closed.
+   *
+   * @return Number of connections evicted
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * Number of times a caller had to wait for a connection, since all connections were in use.
+   *
+   * @return Number of waits
+   */
+  public long getWaits() {
+    return waits.sum();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "borrows=%d, borrow time=%d ms, connections opened=%d, evictions=%d, waits=%d",
+        getBorrows(), getBorrowTime().toMillis(), getCreations(), getEvictions(), getWaits());
+  }
+
+  void recordBorrow(final long borrowTimeNanos) {
+    borrows.increment();
+    this.borrowTimeNanos.add(borrowTimeNanos);
+  }
+
+  void recordCreation() {
+    creations.increment();
+  }
+
+  void recordEviction() {
+    evictions.increment();
+  }
+
+  void recordWait() {
+    waits.increment();
+  }
+}
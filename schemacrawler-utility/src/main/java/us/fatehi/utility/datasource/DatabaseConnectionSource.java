@@ -29,11 +29,33 @@ http://www.gnu.org/licenses/
 package us.fatehi.utility.datasource;
 
 import java.sql.Connection;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 public interface DatabaseConnectionSource extends AutoCloseable, Supplier<Connection> {
 
+  int DEFAULT_MAX_CONNECTIONS = 20;
+
+  /**
+   * Maximum number of connections that should be in use at the same time. Retrievals that run
+   * concurrently should not run more than this number at once.
+   *
+   * @return Maximum number of connections
+   */
+  default int getMaxConnections() {
+    return DEFAULT_MAX_CONNECTIONS;
+  }
+
+  /**
+   * Counters for the connection pool, if this connection source pools connections.
+   *
+   * @return Connection pool counters, or empty if connections are not pooled
+   */
+  default Optional<ConnectionPoolMetrics> getMetrics() {
+    return Optional.empty();
+  }
+
   boolean releaseConnection(Connection connection);
 
   void setFirstConnectionInitializer(Consumer<Connection> connectionInitializer);
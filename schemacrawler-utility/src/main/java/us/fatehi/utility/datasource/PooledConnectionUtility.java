@@ -35,7 +35,6 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.Arrays;
 
 public class PooledConnectionUtility {
 
@@ -66,7 +65,7 @@ public class PooledConnectionUtility {
     public Object invoke(final Object proxy, final Method method, final Object[] args)
         throws Exception {
       final String methodName = method.getName();
-      if (!Arrays.asList("isClosed", "unwrap").contains(methodName) && isClosed) {
+      if (isClosed && !"isClosed".equals(methodName) && !"unwrap".equals(methodName)) {
         throw new SQLException(
             String.format("Cannot call <%s> since connection is closed", method));
       }
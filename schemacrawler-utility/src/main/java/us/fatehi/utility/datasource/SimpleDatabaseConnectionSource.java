@@ -29,42 +29,119 @@ http://www.gnu.org/licenses/
 package us.fatehi.utility.datasource;
 
 import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.PropertiesUtility.getSystemConfigurationProperty;
 import static us.fatehi.utility.Utility.isBlank;
 import static us.fatehi.utility.Utility.requireNotBlank;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import us.fatehi.utility.SQLRuntimeException;
-import us.fatehi.utility.database.DatabaseUtility;
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Connection pool with a maximum number of connections. Connections are opened as they are needed,
+ * up to the maximum, and callers wait for a connection to be returned after that. Idle connections
+ * are kept in a lock-free queue, and are validated when they are borrowed, if they have not been
+ * validated recently. Connections that have been idle for longer than the maximum idle time are
+ * closed when connections are borrowed or returned, so that the database server does not drop
+ * them first.
+ */
 final class SimpleDatabaseConnectionSource extends AbstractDatabaseConnectionSource {
 
+  /**
+   * Compares connections by identity, since driver and proxy connections do not always support
+   * hashCode and equals.
+   */
+  private static final class ConnectionKey {
+    private final Connection connection;
+
+    ConnectionKey(final Connection connection) {
+      this.connection = connection;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return obj instanceof ConnectionKey && ((ConnectionKey) obj).connection == connection;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(connection);
+    }
+  }
+
   private static final Logger LOGGER =
       Logger.getLogger(SimpleDatabaseConnectionSource.class.getName());
 
+  private static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofMinutes(5);
+  private static final Duration DEFAULT_VALIDATION_INTERVAL = Duration.ofSeconds(30);
+  private static final Duration DEFAULT_MAX_IDLE_TIME = Duration.ofMinutes(10);
+  private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
   private final String connectionUrl;
   private final Properties jdbcConnectionProperties;
-  private final Deque<Connection> connectionPool;
-  private final Deque<Connection> usedConnections;
+  private final int maxConnections;
+  private final Duration acquireTimeout;
+  private final Duration validationInterval;
+  private final Duration maxIdleTime;
+  private final Semaphore availableConnections;
+  private final Deque<Connection> idleConnections;
+  private final Map<ConnectionKey, Long> borrowedConnections;
+  private final Map<ConnectionKey, Long> lastValidated;
+  private final Map<ConnectionKey, Long> idleSince;
+  private final ConnectionPoolMetrics metrics;
 
   SimpleDatabaseConnectionSource(
       final String connectionUrl,
       final Map<String, String> connectionProperties,
       final UserCredentials userCredentials,
       final Consumer<Connection> connectionInitializer) {
+    this(
+        connectionUrl,
+        connectionProperties,
+        userCredentials,
+        connectionInitializer,
+        configuredMaxConnections(),
+        DEFAULT_ACQUIRE_TIMEOUT,
+        DEFAULT_VALIDATION_INTERVAL,
+        DEFAULT_MAX_IDLE_TIME);
+  }
+
+  SimpleDatabaseConnectionSource(
+      final String connectionUrl,
+      final Map<String, String> connectionProperties,
+      final UserCredentials userCredentials,
+      final Consumer<Connection> connectionInitializer,
+      final int maxConnections,
+      final Duration acquireTimeout,
+      final Duration validationInterval,
+      final Duration maxIdleTime) {
 
     super(connectionInitializer);
     this.connectionUrl = requireNotBlank(connectionUrl, "No database connection URL provided");
     requireNonNull(userCredentials, "No user credentials provided");
+    if (maxConnections < 1) {
+      throw new IllegalArgumentException("Connection pool needs at least one connection");
+    }
+    this.maxConnections = maxConnections;
+    this.acquireTimeout = requireNonNull(acquireTimeout, "No acquire timeout provided");
+    this.validationInterval =
+        requireNonNull(validationInterval, "No validation interval provided");
+    this.maxIdleTime = requireNonNull(maxIdleTime, "No maximum idle time provided");
 
     final String user = userCredentials.getUser();
     final String password = userCredentials.getPassword();
@@ -78,16 +155,22 @@ final class SimpleDatabaseConnectionSource extends AbstractDatabaseConnectionSou
     jdbcConnectionProperties =
         createConnectionProperties(connectionUrl, connectionProperties, user, password);
 
-    connectionPool = new LinkedBlockingDeque<>();
-    usedConnections = new LinkedBlockingDeque<>();
+    availableConnections = new Semaphore(maxConnections, true);
+    idleConnections = new ConcurrentLinkedDeque<>();
+    borrowedConnections = new ConcurrentHashMap<>();
+    lastValidated = new ConcurrentHashMap<>();
+    idleSince = new ConcurrentHashMap<>();
+    metrics = new ConnectionPoolMetrics();
   }
 
   @Override
   public void close() throws Exception {
 
     final List<Connection> connections = new ArrayList<>();
-    connections.addAll(connectionPool);
-    connections.addAll(usedConnections);
+    connections.addAll(idleConnections);
+    for (final ConnectionKey key : borrowedConnections.keySet()) {
+      connections.add(key.connection);
+    }
 
     for (final Connection connection : connections) {
       try {
@@ -98,61 +181,197 @@ final class SimpleDatabaseConnectionSource extends AbstractDatabaseConnectionSou
       }
     }
 
-    if (!usedConnections.isEmpty()) {
+    if (!borrowedConnections.isEmpty()) {
       LOGGER.log(Level.SEVERE, "Abnormal termination - not all database connections are closed");
     }
+    LOGGER.log(Level.INFO, new StringFormat("Connection pool metrics: %s", metrics));
 
-    connectionPool.clear();
-    usedConnections.clear();
+    idleConnections.clear();
+    borrowedConnections.clear();
+    lastValidated.clear();
+    idleSince.clear();
   }
 
   @Override
-  public synchronized Connection get() {
-    // Create a connection if needed
-    if (connectionPool.isEmpty()) {
-      final Connection connection = getConnection(connectionUrl, jdbcConnectionProperties);
-      connectionPool.add(connection);
-    }
+  public Connection get() {
+    acquirePermit();
+    try {
+      evictIdleConnections();
+      Connection connection = pollValidIdleConnection();
+      if (connection == null) {
+        connection = getConnection(connectionUrl, jdbcConnectionProperties);
+        metrics.recordCreation();
+        lastValidated.put(new ConnectionKey(connection), System.nanoTime());
+      }
 
-    // Mark connection as in-use
-    final Connection connection = connectionPool.removeFirst();
-    usedConnections.add(connection);
+      // Mark connection as in-use
+      borrowedConnections.put(new ConnectionKey(connection), System.nanoTime());
 
-    connectionInitializer.accept(connection);
-    LOGGER.log(
-        Level.FINE,
-        new StringFormat(
-            "Initialized database connection <%s> with <%s>", connection, connectionInitializer));
+      connectionInitializer.accept(connection);
+      LOGGER.log(
+          Level.FINE,
+          new StringFormat(
+              "Initialized database connection <%s> with <%s>",
+              connection, connectionInitializer));
+
+      return PooledConnectionUtility.newPooledConnection(connection, this);
+    } catch (final RuntimeException e) {
+      availableConnections.release();
+      throw e;
+    }
+  }
 
-    return PooledConnectionUtility.newPooledConnection(connection, this);
+  @Override
+  public int getMaxConnections() {
+    return maxConnections;
   }
 
   @Override
-  public synchronized boolean releaseConnection(final Connection connection) {
+  public Optional<ConnectionPoolMetrics> getMetrics() {
+    return Optional.of(metrics);
+  }
 
-    final boolean removed = usedConnections.remove(connection);
+  @Override
+  public boolean releaseConnection(final Connection connection) {
 
-    try {
-      final Connection unwrappedConnection = connection.unwrap(Connection.class);
-      DatabaseUtility.checkConnection(unwrappedConnection);
-    } catch (final SQLException e) {
-      LOGGER.log(
-          Level.WARNING,
-          "Cannot check connection before returning to the pool - " + e.getMessage());
-      LOGGER.log(Level.FINE, "Cannot check connection before returning to the pool - ", e);
+    final Long borrowedAt = borrowedConnections.remove(new ConnectionKey(connection));
+    if (borrowedAt == null) {
+      // Not borrowed from this pool, or already returned
+      return false;
     }
+    metrics.recordBorrow(System.nanoTime() - borrowedAt);
+
+    // Most recently used connections are borrowed first, so they stay warm
+    idleSince.put(new ConnectionKey(connection), System.nanoTime());
+    idleConnections.addFirst(connection);
+    availableConnections.release();
 
-    connectionPool.add(connection);
+    evictIdleConnections();
 
-    return removed;
+    return true;
   }
 
   @Override
   protected void finalize() throws Throwable {
     // Assert that all connections are closed
-    if (!connectionPool.isEmpty() || !usedConnections.isEmpty()) {
+    if (!idleConnections.isEmpty() || !borrowedConnections.isEmpty()) {
       throw new SQLRuntimeException("Connection pool is not closed");
     }
     super.finalize();
   }
+
+  private static int configuredMaxConnections() {
+    final String maxConnectionsValue =
+        getSystemConfigurationProperty(
+            "SC_MAX_CONNECTIONS", String.valueOf(DEFAULT_MAX_CONNECTIONS));
+    try {
+      final int maxConnections = Integer.parseInt(maxConnectionsValue.trim());
+      if (maxConnections >= 1) {
+        return maxConnections;
+      }
+    } catch (final NumberFormatException e) {
+      // Fall through to the default
+    }
+    LOGGER.log(
+        Level.WARNING,
+        new StringFormat(
+            "Bad value for SC_MAX_CONNECTIONS <%s>, so using %d connections",
+            maxConnectionsValue, DEFAULT_MAX_CONNECTIONS));
+    return DEFAULT_MAX_CONNECTIONS;
+  }
+
+  private void acquirePermit() {
+    if (availableConnections.tryAcquire()) {
+      return;
+    }
+
+    metrics.recordWait();
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat("Waiting for one of %d database connections to be free", maxConnections));
+    try {
+      if (!availableConnections.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new SQLRuntimeException(
+            String.format(
+                "Timed out after %d ms waiting for one of %d database connections to be free",
+                acquireTimeout.toMillis(), maxConnections));
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLRuntimeException("Interrupted while waiting for a database connection", e);
+    }
+  }
+
+  private void evict(final Connection connection, final String reason) {
+    metrics.recordEviction();
+    lastValidated.remove(new ConnectionKey(connection));
+    idleSince.remove(new ConnectionKey(connection));
+    try {
+      connection.close();
+    } catch (final SQLException e) {
+      LOGGER.log(Level.FINE, e, new StringFormat("Cannot close %s connection", reason));
+    }
+    LOGGER.log(
+        Level.INFO, new StringFormat("Evicted %s database connection <%s>", reason, connection));
+  }
+
+  /**
+   * Closes connections that have been idle for longer than the maximum idle time. The least
+   * recently used connections are at the end of the idle queue, so only the end of the queue is
+   * checked.
+   */
+  private void evictIdleConnections() {
+    final long now = System.nanoTime();
+    Connection connection;
+    // Connections stay in the idle queue until they are known to be stale, so that they can
+    // always be borrowed by other threads
+    while ((connection = idleConnections.peekLast()) != null) {
+      final Long idleAt = idleSince.get(new ConnectionKey(connection));
+      if (idleAt != null && now - idleAt < maxIdleTime.toNanos()) {
+        return;
+      }
+      // Another thread may have borrowed or evicted the connection in the meantime
+      if (idleConnections.removeLastOccurrence(connection)) {
+        evict(connection, "idle");
+      }
+    }
+  }
+
+  private boolean isValid(final Connection connection) {
+    try {
+      if (connection.isClosed()) {
+        return false;
+      }
+      return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+    } catch (final SQLFeatureNotSupportedException | AbstractMethodError e) {
+      // Older drivers cannot validate connections, so only rely on the closed check
+      return true;
+    } catch (final SQLException e) {
+      LOGGER.log(Level.FINE, "Cannot validate connection", e);
+      return false;
+    }
+  }
+
+  /**
+   * Takes a connection from the idle queue. Connections that have not been validated for a while
+   * are validated first, and closed if they are no longer usable.
+   *
+   * @return Idle connection, or null if there are none
+   */
+  private Connection pollValidIdleConnection() {
+    Connection connection;
+    while ((connection = idleConnections.pollFirst()) != null) {
+      final long now = System.nanoTime();
+      final Long validatedAt = lastValidated.get(new ConnectionKey(connection));
+      if (validatedAt != null && now - validatedAt < validationInterval.toNanos()) {
+        return connection;
+      }
+      if (isValid(connection)) {
+        lastValidated.put(new ConnectionKey(connection), now);
+        return connection;
+      }
+      evict(connection, "invalid");
+    }
+    return null;
+  }
 }
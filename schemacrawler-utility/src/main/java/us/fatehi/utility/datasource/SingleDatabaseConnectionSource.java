@@ -78,6 +78,12 @@ final class SingleDatabaseConnectionSource extends AbstractDatabaseConnectionSou
     return PooledConnectionUtility.newPooledConnection(connection, this);
   }
 
+  /** All callers share the one connection. */
+  @Override
+  public int getMaxConnections() {
+    return 1;
+  }
+
   @Override
   public boolean releaseConnection(final Connection connection) {
     // No-op
@@ -28,22 +28,35 @@ http://www.gnu.org/licenses/
 
 package us.fatehi.utility.graph;
 
+import static java.util.Collections.emptySet;
+
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Simple directed graph, which keeps the outgoing and incoming edges of every vertex indexed, so
+ * that graph traversals take time proportional to the number of vertices and edges.
+ *
+ * @param <T> Any comparable class
+ */
 public class DirectedGraph<T extends Comparable<? super T>> {
 
   private final Set<DirectedEdge<T>> edges;
   private final String name;
   private final Map<T, Vertex<T>> verticesMap;
+  private final Map<Vertex<T>, Set<DirectedEdge<T>>> outgoingEdges;
+  private final Map<Vertex<T>, Set<DirectedEdge<T>>> incomingEdges;
 
   public DirectedGraph(final String name) {
     this.name = name;
     verticesMap = new LinkedHashMap<>();
     edges = new LinkedHashSet<>();
+    outgoingEdges = new HashMap<>();
+    incomingEdges = new HashMap<>();
   }
 
   /**
@@ -55,7 +68,11 @@ public class DirectedGraph<T extends Comparable<? super T>> {
    */
   public void addEdge(final T from, final T to) {
     if (!from.equals(to)) {
-      edges.add(new DirectedEdge<>(addVertex(from), addVertex(to)));
+      final DirectedEdge<T> edge = new DirectedEdge<>(addVertex(from), addVertex(to));
+      if (edges.add(edge)) {
+        outgoingEdges.computeIfAbsent(edge.getFrom(), vertex -> new LinkedHashSet<>()).add(edge);
+        incomingEdges.computeIfAbsent(edge.getTo(), vertex -> new LinkedHashSet<>()).add(edge);
+      }
     }
   }
 
@@ -87,16 +104,14 @@ public class DirectedGraph<T extends Comparable<? super T>> {
     return name;
   }
 
+  public Set<DirectedEdge<T>> getIncomingEdges(final Vertex<T> vertexTo) {
+    Objects.requireNonNull(vertexTo, "No vertex provided");
+    return new LinkedHashSet<>(incomingEdges(vertexTo));
+  }
+
   public Set<DirectedEdge<T>> getOutgoingEdges(final Vertex<T> vertexFrom) {
     Objects.requireNonNull(vertexFrom, "No vertex provided");
-
-    final Set<DirectedEdge<T>> outgoingEdges = new LinkedHashSet<>();
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.getFrom().equals(vertexFrom)) {
-        outgoingEdges.add(edge);
-      }
-    }
-    return outgoingEdges;
+    return new LinkedHashSet<>(outgoingEdges(vertexFrom));
   }
 
   @Override
@@ -124,4 +139,26 @@ public class DirectedGraph<T extends Comparable<? super T>> {
   public Set<Vertex<T>> vertexSet() {
     return new LinkedHashSet<>(verticesMap.values());
   }
+
+  /**
+   * Edges coming into a vertex, in the order that they were added. The returned set is not a copy,
+   * and should not be modified.
+   *
+   * @param vertexTo Vertex at the end of the edges
+   * @return Incoming edges
+   */
+  Set<DirectedEdge<T>> incomingEdges(final Vertex<T> vertexTo) {
+    return incomingEdges.getOrDefault(vertexTo, emptySet());
+  }
+
+  /**
+   * Edges going out of a vertex, in the order that they were added. The returned set is not a
+   * copy, and should not be modified.
+   *
+   * @param vertexFrom Vertex at the start of the edges
+   * @return Outgoing edges
+   */
+  Set<DirectedEdge<T>> outgoingEdges(final Vertex<T> vertexFrom) {
+    return outgoingEdges.getOrDefault(vertexFrom, emptySet());
+  }
 }
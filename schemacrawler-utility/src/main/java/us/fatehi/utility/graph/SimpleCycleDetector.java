@@ -28,7 +28,10 @@ http://www.gnu.org/licenses/
 
 package us.fatehi.utility.graph;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.Objects;
 
 public class SimpleCycleDetector<T extends Comparable<? super T>> {
@@ -83,24 +86,40 @@ public class SimpleCycleDetector<T extends Comparable<? super T>> {
     return vertices;
   }
 
-  private boolean visitForCyles(final Vertex<T> vertex) {
+  private void startVisit(
+      final Vertex<T> vertex,
+      final Deque<Vertex<T>> path,
+      final Deque<Iterator<DirectedEdge<T>>> pathEdges) {
     vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.inProgress);
+    path.push(vertex);
+    pathEdges.push(graph.outgoingEdges(vertex).iterator());
+  }
 
-    for (final DirectedEdge<T> edge : graph.edgeSet()) {
-      if (edge.isFrom(vertex)) {
-        final Vertex<T> to = edge.getTo();
+  /**
+   * Depth-first traversal from a vertex. The traversal uses an explicit stack rather than
+   * recursion, so that long chains of edges do not overflow the call stack.
+   */
+  private boolean visitForCyles(final Vertex<T> vertex) {
+    final Deque<Vertex<T>> path = new ArrayDeque<>();
+    final Deque<Iterator<DirectedEdge<T>>> pathEdges = new ArrayDeque<>();
+    startVisit(vertex, path, pathEdges);
+
+    while (!path.isEmpty()) {
+      final Iterator<DirectedEdge<T>> edges = pathEdges.peek();
+      if (edges.hasNext()) {
+        final Vertex<T> to = edges.next().getTo();
         if (to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.inProgress) {
           to.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.marked);
           return true;
-        } else if ((to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted)
-            && visitForCyles(to)) {
-          return true;
+        } else if (to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted) {
+          startVisit(to, path, pathEdges);
         }
+      } else {
+        pathEdges.pop();
+        path.pop().putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.complete);
       }
     }
 
-    vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.complete);
-
     return false;
   }
 }
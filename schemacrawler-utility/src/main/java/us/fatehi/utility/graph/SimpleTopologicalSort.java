@@ -32,10 +32,19 @@ import static java.util.Comparator.naturalOrder;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Topological sort using <a href="https://en.wikipedia.org/wiki/Topological_sorting">Kahn's
+ * algorithm</a>, one level at a time. The first level has all the vertices without incoming edges,
+ * and every following level has the vertices whose incoming edges all start at earlier levels.
+ * Vertices within a level are in their natural sort order.
+ *
+ * @param <T> Any comparable class
+ */
 public class SimpleTopologicalSort<T extends Comparable<? super T>> {
 
   private final DirectedGraph<T> graph;
@@ -45,83 +54,52 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>> {
   }
 
   public List<T> topologicalSort() throws GraphException {
-    if (containsCycle()) {
-      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
-    }
 
     final Collection<Vertex<T>> vertices = graph.vertexSet();
     final int collectionSize = vertices.size();
 
-    final Collection<DirectedEdge<T>> edges = new ArrayList<>(graph.edgeSet());
-    final List<T> sortedValues = new ArrayList<>(collectionSize);
-
-    while (!vertices.isEmpty()) {
-
-      final List<T> nodesAtLevel = new ArrayList<>(collectionSize);
-
-      // Remove unattached nodes
-      for (final Iterator<Vertex<T>> iterator = vertices.iterator(); iterator.hasNext(); ) {
-        final Vertex<T> vertex = iterator.next();
-        if (isUnattachedNode(vertex, edges)) {
-          nodesAtLevel.add(vertex.getValue());
-          iterator.remove();
-        }
+    // Count incoming edges, and find the vertices at the first level
+    final Map<Vertex<T>, Integer> inDegrees = new HashMap<>(collectionSize * 2);
+    List<Vertex<T>> verticesAtLevel = new ArrayList<>();
+    for (final Vertex<T> vertex : vertices) {
+      final int inDegree = graph.incomingEdges(vertex).size();
+      if (inDegree == 0) {
+        verticesAtLevel.add(vertex);
+      } else {
+        inDegrees.put(vertex, inDegree);
       }
+    }
 
-      // Find all nodes at the current level
-      final List<Vertex<T>> startNodes = new ArrayList<>(collectionSize);
-      for (final Vertex<T> vertex : vertices) {
-        if (isStartNode(vertex, edges)) {
-          startNodes.add(vertex);
-        }
-      }
+    final List<T> sortedValues = new ArrayList<>(collectionSize);
+    while (!verticesAtLevel.isEmpty()) {
 
-      for (final Vertex<T> vertex : startNodes) {
+      final List<T> nodesAtLevel = new ArrayList<>(verticesAtLevel.size());
+      final List<Vertex<T>> verticesAtNextLevel = new ArrayList<>();
+      for (final Vertex<T> vertex : verticesAtLevel) {
         // Save the vertex value
         nodesAtLevel.add(vertex.getValue());
-        // Remove all out edges
-        dropOutEdges(vertex, edges);
-        // Remove the vertex itself
-        vertices.remove(vertex);
+        // Drop all out edges, and find vertices that have no more incoming edges
+        for (final DirectedEdge<T> edge : graph.outgoingEdges(vertex)) {
+          final Vertex<T> to = edge.getTo();
+          final int inDegree = inDegrees.merge(to, -1, Integer::sum);
+          if (inDegree == 0) {
+            inDegrees.remove(to);
+            verticesAtNextLevel.add(to);
+          }
+        }
       }
 
       nodesAtLevel.sort(naturalOrder());
       sortedValues.addAll(nodesAtLevel);
-    }
 
-    return sortedValues;
-  }
-
-  private boolean containsCycle() {
-    final SimpleCycleDetector<T> cycleDetector = new SimpleCycleDetector<>(graph);
-    return cycleDetector.containsCycle();
-  }
-
-  private void dropOutEdges(final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final Iterator<DirectedEdge<T>> iterator = edges.iterator(); iterator.hasNext(); ) {
-      final DirectedEdge<T> edge = iterator.next();
-      if (edge.isFrom(vertex)) {
-        iterator.remove();
-      }
+      verticesAtLevel = verticesAtNextLevel;
     }
-  }
 
-  private boolean isStartNode(final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.isTo(vertex)) {
-        return false;
-      }
+    // Vertices on a cycle, or reachable from one, always have incoming edges left
+    if (!inDegrees.isEmpty()) {
+      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
     }
-    return true;
-  }
 
-  private boolean isUnattachedNode(
-      final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.isTo(vertex) || edge.isFrom(vertex)) {
-        return false;
-      }
-    }
-    return true;
+    return sortedValues;
   }
 }
@@ -31,31 +31,41 @@ package us.fatehi.utility.graph;
 import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Implementation of <a href=
  * "https://en.wikipedia.org/wiki/Tarjan%27s_strongly_connected_components_algorithm"> Tarjan's
- * algorithm</a>
+ * algorithm</a>. The depth-first search uses an explicit stack rather than recursion, so that long
+ * chains of edges do not overflow the call stack.
  *
  * @param <T> Any comparable class
  */
 public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super T>> {
 
-  private static final String ATTRIBUTE_INDEX = "index";
-  private static final String ATTRIBUTE_LOWLINK = "lowlink";
   private final DirectedGraph<T> graph;
   private final Deque<Vertex<T>> stack;
+  private final Set<Vertex<T>> onStack;
+  private final Map<Vertex<T>, Integer> indexes;
+  private final Map<Vertex<T>, Integer> lowlinks;
   private final Collection<List<T>> stronglyConnectedComponents;
+  private int index;
 
   public TarjanStronglyConnectedComponentFinder(final DirectedGraph<T> graph) {
     this.graph = Objects.requireNonNull(graph, "No diagram provided");
 
     stronglyConnectedComponents = new HashSet<>();
     stack = new ArrayDeque<>();
+    onStack = new HashSet<>();
+    indexes = new HashMap<>();
+    lowlinks = new HashMap<>();
   }
 
   /**
@@ -65,47 +75,68 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
    */
   public Collection<List<T>> detectCycles() {
     for (final Vertex<T> vertex : graph.vertexSet()) {
-      if (!vertex.hasAttribute(ATTRIBUTE_INDEX)) {
-        strongConnect(vertex, 0);
+      if (!indexes.containsKey(vertex)) {
+        strongConnect(vertex);
       }
     }
     return stronglyConnectedComponents;
   }
 
-  private void strongConnect(final Vertex<T> vertexFrom, final int index) {
-    vertexFrom.putAttribute(ATTRIBUTE_INDEX, index);
-    vertexFrom.putAttribute(ATTRIBUTE_LOWLINK, index);
-    stack.push(vertexFrom);
-
-    for (final DirectedEdge<T> edge : graph.getOutgoingEdges(vertexFrom)) {
-      final Vertex<T> vertexTo = edge.getTo();
-      if (!vertexTo.hasAttribute(ATTRIBUTE_INDEX)) {
-        // Successor vertex has not yet been visited; recurse on it
-        strongConnect(vertexTo, index + 1);
-        vertexFrom.putAttribute(
-            ATTRIBUTE_LOWLINK,
-            Math.min(
-                vertexFrom.getAttribute(ATTRIBUTE_LOWLINK),
-                vertexTo.getAttribute(ATTRIBUTE_LOWLINK)));
-      } else if (stack.contains(vertexTo)) {
-        // Successor vertex is on stack, hence in the current SCC
-        vertexFrom.putAttribute(
-            ATTRIBUTE_LOWLINK,
-            Math.min(
-                vertexFrom.getAttribute(ATTRIBUTE_LOWLINK),
-                vertexTo.getAttribute(ATTRIBUTE_INDEX)));
+  private void startVisit(
+      final Vertex<T> vertex,
+      final Deque<Vertex<T>> path,
+      final Deque<Iterator<DirectedEdge<T>>> pathEdges) {
+    indexes.put(vertex, index);
+    lowlinks.put(vertex, index);
+    index++;
+    stack.push(vertex);
+    onStack.add(vertex);
+
+    path.push(vertex);
+    pathEdges.push(graph.outgoingEdges(vertex).iterator());
+  }
+
+  private void strongConnect(final Vertex<T> vertex) {
+    final Deque<Vertex<T>> path = new ArrayDeque<>();
+    final Deque<Iterator<DirectedEdge<T>>> pathEdges = new ArrayDeque<>();
+    startVisit(vertex, path, pathEdges);
+
+    while (!path.isEmpty()) {
+      final Vertex<T> vertexFrom = path.peek();
+      final Iterator<DirectedEdge<T>> edges = pathEdges.peek();
+      if (edges.hasNext()) {
+        final Vertex<T> vertexTo = edges.next().getTo();
+        if (!indexes.containsKey(vertexTo)) {
+          // Successor vertex has not yet been visited; descend into it
+          startVisit(vertexTo, path, pathEdges);
+        } else if (onStack.contains(vertexTo)) {
+          // Successor vertex is on stack, hence in the current SCC
+          lowlinks.put(vertexFrom, Math.min(lowlinks.get(vertexFrom), indexes.get(vertexTo)));
+        }
+        continue;
+      }
+
+      // All successors have been visited
+      path.pop();
+      pathEdges.pop();
+
+      final int lowlink = lowlinks.get(vertexFrom);
+      if (lowlink == indexes.get(vertexFrom)) {
+        final LinkedList<T> scc = new LinkedList<>();
+        Vertex<T> sccVertex;
+        do {
+          sccVertex = stack.pop();
+          onStack.remove(sccVertex);
+          scc.addFirst(sccVertex.getValue());
+        } while (!vertexFrom.equals(sccVertex));
+        if (scc.size() > 1) {
+          stronglyConnectedComponents.add(scc);
+        }
       }
-    }
 
-    if (vertexFrom.getAttribute(ATTRIBUTE_LOWLINK) == vertexFrom.getAttribute(ATTRIBUTE_INDEX)) {
-      final LinkedList<T> scc = new LinkedList<>();
-      Vertex<T> sccVertex;
-      do {
-        sccVertex = stack.pop();
-        scc.addFirst(sccVertex.getValue());
-      } while (!vertexFrom.equals(sccVertex));
-      if (scc.size() > 1) {
-        stronglyConnectedComponents.add(scc);
+      final Vertex<T> parent = path.peek();
+      if (parent != null) {
+        lowlinks.put(parent, Math.min(lowlinks.get(parent), lowlink));
       }
     }
   }
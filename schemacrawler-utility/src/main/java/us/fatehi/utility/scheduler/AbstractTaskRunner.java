@@ -38,7 +38,12 @@ import java.time.Duration;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.function.BiFunction;
@@ -46,6 +51,10 @@ import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import us.fatehi.utility.graph.DirectedGraph;
+import us.fatehi.utility.graph.GraphException;
+import us.fatehi.utility.graph.SimpleTopologicalSort;
+
 abstract class AbstractTaskRunner implements TaskRunner {
 
   private static final Logger LOGGER = Logger.getLogger(AbstractTaskRunner.class.getName());
@@ -166,6 +175,41 @@ abstract class AbstractTaskRunner implements TaskRunner {
     }
   }
 
+  /**
+   * Orders tasks so that every task comes after the tasks that it depends on. Tasks that are
+   * otherwise independent keep the order in which they were added.
+   *
+   * @param taskDefinitions Tasks to order
+   * @return Ordered tasks
+   * @throws GraphException If tasks depend on each other in a cycle
+   */
+  final List<TaskDefinition> orderByDependencies(final Collection<TaskDefinition> taskDefinitions)
+      throws GraphException {
+
+    final List<TaskDefinition> tasks = new ArrayList<>(taskDefinitions);
+    final Map<String, List<Integer>> tasksByName = new HashMap<>();
+    for (int i = 0; i < tasks.size(); i++) {
+      tasksByName.computeIfAbsent(tasks.get(i).getTaskName(), name -> new ArrayList<>()).add(i);
+    }
+
+    final DirectedGraph<Integer> graph = new DirectedGraph<>(id);
+    for (int i = 0; i < tasks.size(); i++) {
+      graph.addVertex(i);
+      for (final String dependency : tasks.get(i).getDependencies()) {
+        for (final Integer dependencyIndex :
+            tasksByName.getOrDefault(dependency, Collections.emptyList())) {
+          graph.addEdge(dependencyIndex, i);
+        }
+      }
+    }
+
+    final List<TaskDefinition> orderedTasks = new ArrayList<>(tasks.size());
+    for (final Integer index : new SimpleTopologicalSort<>(graph).topologicalSort()) {
+      orderedTasks.add(tasks.get(index));
+    }
+    return orderedTasks;
+  }
+
   abstract Collection<TimedTaskResult> runTimed(final Collection<TaskDefinition> taskDefinitions)
       throws Exception;
 }
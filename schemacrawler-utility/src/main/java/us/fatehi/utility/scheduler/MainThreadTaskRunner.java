@@ -32,10 +32,18 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import us.fatehi.utility.string.StringFormat;
 
 final class MainThreadTaskRunner extends AbstractTaskRunner {
 
+  private static final Logger LOGGER = Logger.getLogger(MainThreadTaskRunner.class.getName());
+
   MainThreadTaskRunner(final String id) {
     super(id);
   }
@@ -60,8 +68,21 @@ final class MainThreadTaskRunner extends AbstractTaskRunner {
     }
 
     final Collection<TimedTaskResult> runTaskResults = new CopyOnWriteArrayList<>();
-    for (final TaskDefinition taskDefinition : taskDefinitions) {
+    // Tasks that failed or were not run, so tasks that depend on them are not run either
+    final Set<String> failedTasks = new HashSet<>();
+    for (final TaskDefinition taskDefinition : orderByDependencies(taskDefinitions)) {
+      if (!Collections.disjoint(taskDefinition.getDependencies(), failedTasks)) {
+        LOGGER.log(
+            Level.WARNING,
+            new StringFormat(
+                "Not running <%s>, since a task it depends on did not succeed", taskDefinition));
+        failedTasks.add(taskDefinition.getTaskName());
+        continue;
+      }
       final TimedTaskResult taskResult = new TimedTask(taskDefinition).call();
+      if (taskResult.hasException()) {
+        failedTasks.add(taskDefinition.getTaskName());
+      }
       runTaskResults.add(taskResult);
     }
     return runTaskResults;
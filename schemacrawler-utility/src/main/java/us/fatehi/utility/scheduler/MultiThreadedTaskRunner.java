@@ -29,14 +29,18 @@ http://www.gnu.org/licenses/
 package us.fatehi.utility.scheduler;
 
 import static java.util.Objects.requireNonNull;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -47,12 +51,15 @@ final class MultiThreadedTaskRunner extends AbstractTaskRunner {
   private static final Logger LOGGER = Logger.getLogger(MultiThreadedTaskRunner.class.getName());
 
   private final ExecutorService executorService;
+  private final Semaphore concurrentTasks;
 
   MultiThreadedTaskRunner(final String id, final int maxThreadsSuggested) {
     super(id);
 
     final int maxThreads = Math.min(Math.max(maxThreadsSuggested, MIN_THREADS), MAX_THREADS);
     executorService = Executors.newFixedThreadPool(maxThreads);
+    // The size of the thread pool limits the number of tasks that run at the same time
+    concurrentTasks = null;
     LOGGER.log(
         Level.INFO,
         new StringFormat(
@@ -60,6 +67,27 @@ final class MultiThreadedTaskRunner extends AbstractTaskRunner {
             executorService, id, maxThreads));
   }
 
+  /**
+   * Runs tasks on an executor that does not limit the number of threads, such as one that starts
+   * a virtual thread per task, but only lets a limited number of tasks run at the same time.
+   *
+   * @param id Id of the task runner
+   * @param executorService Executor to run tasks
+   * @param maxConcurrentTasks Maximum number of tasks that can run at the same time
+   */
+  MultiThreadedTaskRunner(
+      final String id, final ExecutorService executorService, final int maxConcurrentTasks) {
+    super(id);
+
+    this.executorService = requireNonNull(executorService, "No executor provided");
+    concurrentTasks = new Semaphore(Math.max(maxConcurrentTasks, MIN_THREADS));
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Started executor <%s> for <%s> with <%d> concurrent tasks",
+            executorService, id, concurrentTasks.availablePermits()));
+  }
+
   @Override
   public boolean isStopped() {
     return executorService.isShutdown();
@@ -91,19 +119,38 @@ final class MultiThreadedTaskRunner extends AbstractTaskRunner {
     }
 
     try {
-      final Collection<TimedTask> timedTasks = new CopyOnWriteArrayList<>();
-      for (final TaskDefinition taskDefinition : taskDefinitions) {
-        final TimedTask timedTask = new TimedTask(taskDefinition);
-        timedTasks.add(timedTask);
+      // Start every task as soon as the tasks that it depends on are done, instead of
+      // waiting for the whole batch
+      final Map<String, List<CompletableFuture<TimedTaskResult>>> futuresByName = new HashMap<>();
+      final List<CompletableFuture<TimedTaskResult>> futureResults = new ArrayList<>();
+      for (final TaskDefinition taskDefinition : orderByDependencies(taskDefinitions)) {
+        final List<CompletableFuture<TimedTaskResult>> dependencyFutures = new ArrayList<>();
+        for (final String dependency : taskDefinition.getDependencies()) {
+          dependencyFutures.addAll(
+              futuresByName.getOrDefault(dependency, Collections.emptyList()));
+        }
+
+        final CompletableFuture<TimedTaskResult> futureResult =
+            CompletableFuture.allOf(dependencyFutures.toArray(new CompletableFuture[0]))
+                .thenApplyAsync(
+                    v -> runAfterDependencies(taskDefinition, dependencyFutures),
+                    executorService);
+
+        futuresByName
+            .computeIfAbsent(taskDefinition.getTaskName(), name -> new ArrayList<>())
+            .add(futureResult);
+        futureResults.add(futureResult);
       }
 
-      final Collection<TimedTaskResult> runTaskResults = new CopyOnWriteArrayList<>();
+      CompletableFuture.allOf(futureResults.toArray(new CompletableFuture[0]))
+          .get(1, TimeUnit.HOURS);
 
-      final List<Future<TimedTaskResult>> futureResults =
-          executorService.invokeAll(timedTasks, 1, TimeUnit.HOURS);
-      for (final Future<TimedTaskResult> futureResult : futureResults) {
+      final Collection<TimedTaskResult> runTaskResults = new CopyOnWriteArrayList<>();
+      for (final CompletableFuture<TimedTaskResult> futureResult : futureResults) {
         final TimedTaskResult timedTaskResult = futureResult.get();
-        runTaskResults.add(timedTaskResult);
+        if (timedTaskResult != null) {
+          runTaskResults.add(timedTaskResult);
+        }
       }
 
       return runTaskResults;
@@ -116,4 +163,34 @@ final class MultiThreadedTaskRunner extends AbstractTaskRunner {
       }
     }
   }
+
+  /**
+   * Runs a task once all the tasks it depends on are done, unless one of them failed or was not
+   * run itself.
+   *
+   * @return Result of the task, or null if the task was not run
+   */
+  private TimedTaskResult runAfterDependencies(
+      final TaskDefinition taskDefinition,
+      final List<CompletableFuture<TimedTaskResult>> dependencyFutures) {
+    for (final CompletableFuture<TimedTaskResult> dependencyFuture : dependencyFutures) {
+      final TimedTaskResult dependencyResult = dependencyFuture.join();
+      if (dependencyResult == null || dependencyResult.hasException()) {
+        LOGGER.log(
+            Level.WARNING,
+            new StringFormat(
+                "Not running <%s>, since a task it depends on did not succeed", taskDefinition));
+        return null;
+      }
+    }
+    if (concurrentTasks == null) {
+      return new TimedTask(taskDefinition).call();
+    }
+    concurrentTasks.acquireUninterruptibly();
+    try {
+      return new TimedTask(taskDefinition).call();
+    } finally {
+      concurrentTasks.release();
+    }
+  }
 }
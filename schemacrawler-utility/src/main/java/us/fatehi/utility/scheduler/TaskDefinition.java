@@ -31,6 +31,10 @@ package us.fatehi.utility.scheduler;
 import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.requireNotBlank;
 import static us.fatehi.utility.Utility.toSnakeCase;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import us.fatehi.utility.string.StringFormat;
@@ -50,17 +54,60 @@ public final class TaskDefinition {
 
   private final String taskName;
   private final TaskRunnable task;
+  private final List<String> dependencies;
 
   public TaskDefinition(final String taskName) {
-    this.taskName = toSnakeCase(requireNotBlank(taskName, "Task name not provided"));
-    this.task = () -> LOGGER.log(Level.INFO, new StringFormat("Not running task <%s>", taskName));
+    this(taskName, Collections.emptyList());
+  }
+
+  /**
+   * Task that is not run, but still waits for the tasks it depends on, so that tasks that depend on
+   * it keep their place in the order of execution.
+   *
+   * @param taskName Name of the task
+   * @param dependencies Names of tasks that need to complete before this task
+   */
+  public TaskDefinition(final String taskName, final Collection<String> dependencies) {
+    this(
+        taskName,
+        () -> LOGGER.log(Level.INFO, new StringFormat("Not running task <%s>", taskName)),
+        dependencies);
   }
 
   public TaskDefinition(final String taskName, final TaskRunnable task) {
+    this(taskName, task, Collections.emptyList());
+  }
+
+  /**
+   * Task that is started only after all the tasks that it depends on have completed successfully.
+   * Dependencies on tasks that are not submitted to be run with this task are taken to have been
+   * run already.
+   *
+   * @param taskName Name of the task
+   * @param task Task to run
+   * @param dependencies Names of tasks that need to complete before this task
+   */
+  public TaskDefinition(
+      final String taskName, final TaskRunnable task, final Collection<String> dependencies) {
     requireNotBlank(taskName, "Task name not provided");
+    requireNonNull(dependencies, "Task dependencies not provided");
 
     this.taskName = toSnakeCase(taskName);
     this.task = requireNonNull(task, "Task not provided");
+    final List<String> dependencyNames = new ArrayList<>();
+    for (final String dependency : dependencies) {
+      dependencyNames.add(toSnakeCase(requireNotBlank(dependency, "Task dependency not provided")));
+    }
+    this.dependencies = Collections.unmodifiableList(dependencyNames);
+  }
+
+  /**
+   * Names of tasks that need to complete before this task can be started.
+   *
+   * @return Names of tasks
+   */
+  public List<String> getDependencies() {
+    return dependencies;
   }
 
   public TaskRunnable getTask() {
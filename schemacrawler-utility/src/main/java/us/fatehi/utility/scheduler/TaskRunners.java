@@ -30,6 +30,9 @@ package us.fatehi.utility.scheduler;
 
 import static us.fatehi.utility.PropertiesUtility.getSystemConfigurationProperty;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -37,11 +40,34 @@ public class TaskRunners {
 
   private static final Logger LOGGER = Logger.getLogger(TaskRunners.class.getName());
 
+  /**
+   * Task runner for tasks that spend most of their time waiting on the database, such as a
+   * metadata call for each table. On Java 21 or later, each task runs on its own virtual thread, so
+   * many more round-trips can be in flight than a thread pool allows, limited only by the number of
+   * database connections. On older Java versions, tasks run on the usual thread pool.
+   *
+   * @param id Id of the task runner
+   * @param maxConcurrentTasks Maximum number of tasks that can run at the same time, usually the
+   *     size of the connection pool
+   * @return Task runner
+   */
+  public static TaskRunner getIOBoundTaskRunner(final String id, final int maxConcurrentTasks) {
+    if (isSingleThreaded()) {
+      return getTaskRunner(id, maxConcurrentTasks);
+    }
+
+    final ExecutorService virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+    if (virtualThreadExecutor == null) {
+      LOGGER.log(Level.CONFIG, "Virtual threads are not available, so using a thread pool");
+      return new MultiThreadedTaskRunner(id, maxConcurrentTasks);
+    } else {
+      LOGGER.log(Level.CONFIG, "Loading database schema using virtual threads");
+      return new MultiThreadedTaskRunner(id, virtualThreadExecutor, maxConcurrentTasks);
+    }
+  }
+
   public static TaskRunner getTaskRunner(final String id, final int maxThreadsSuggested) {
-    final boolean isSingleThreaded =
-        Boolean.valueOf(
-            getSystemConfigurationProperty("SC_SINGLE_THREADED", Boolean.FALSE.toString()));
-    if (isSingleThreaded) {
+    if (isSingleThreaded()) {
       LOGGER.log(Level.CONFIG, "Loading database schema in the main thread");
       return new MainThreadTaskRunner(id);
     } else {
@@ -49,4 +75,25 @@ public class TaskRunners {
       return new MultiThreadedTaskRunner(id, maxThreadsSuggested);
     }
   }
+
+  private static boolean isSingleThreaded() {
+    return Boolean.valueOf(
+        getSystemConfigurationProperty("SC_SINGLE_THREADED", Boolean.FALSE.toString()));
+  }
+
+  /**
+   * Looks up the virtual thread executor reflectively, since the code is compiled for older
+   * versions of Java.
+   *
+   * @return Executor, or null if virtual threads are not supported
+   */
+  private static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) method.invoke(null);
+    } catch (final ReflectiveOperationException | RuntimeException e) {
+      LOGGER.log(Level.FINE, "Cannot create a virtual thread executor", e);
+      return null;
+    }
+  }
 }
@@ -31,13 +31,20 @@ package us.fatehi.utility.datasource;
 import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,10 +53,14 @@ import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 
+import us.fatehi.utility.SQLRuntimeException;
+
 @TestInstance(Lifecycle.PER_CLASS)
 public class SimpleDatabaseConnectionSourceTest {
 
   private DatabaseConnectionSource databaseConnectionSource;
+  private String connectionUrl;
+  private String userName;
 
   @Test
   public void badConstructorArgs() throws Exception {
@@ -61,6 +72,108 @@ public class SimpleDatabaseConnectionSourceTest {
                 "<bad-url>", null, new MultiUseUserCredentials("user", "!"), connection -> {}));
   }
 
+  @Test
+  public void badMaxConnections() throws Exception {
+    for (final String maxConnections : new String[] {"0", "-1", "many"}) {
+      System.setProperty("SC_MAX_CONNECTIONS", maxConnections);
+      try {
+        final SimpleDatabaseConnectionSource connectionSource =
+            new SimpleDatabaseConnectionSource(
+                connectionUrl,
+                new HashMap<>(),
+                new MultiUseUserCredentials(userName, ""),
+                connection -> {});
+        assertThat(
+            connectionSource.getMaxConnections(),
+            is(DatabaseConnectionSource.DEFAULT_MAX_CONNECTIONS));
+        connectionSource.close();
+      } finally {
+        System.clearProperty("SC_MAX_CONNECTIONS");
+      }
+    }
+  }
+
+  @Test
+  public void boundedPool() throws Exception {
+
+    final SimpleDatabaseConnectionSource boundedConnectionSource =
+        new SimpleDatabaseConnectionSource(
+            connectionUrl,
+            new HashMap<>(),
+            new MultiUseUserCredentials(userName, ""),
+            connection -> {},
+            2,
+            Duration.ofMillis(50),
+            Duration.ofMinutes(1),
+            Duration.ofMinutes(10));
+    assertThat(boundedConnectionSource.getMaxConnections(), is(2));
+
+    final Connection connection1 = boundedConnectionSource.get();
+    final Connection connection2 = boundedConnectionSource.get();
+    assertThrows(SQLRuntimeException.class, () -> boundedConnectionSource.get());
+
+    // Returned connections are reused, and returning twice has no effect
+    final Connection unwrappedConnection1 = connection1.unwrap(Connection.class);
+    connection1.close();
+    assertThat(boundedConnectionSource.releaseConnection(unwrappedConnection1), is(false));
+    final Connection connection3 = boundedConnectionSource.get();
+    assertThat(connection3.unwrap(Connection.class), is(unwrappedConnection1));
+    assertThrows(SQLRuntimeException.class, () -> boundedConnectionSource.get());
+
+    connection2.close();
+    connection3.close();
+
+    final ConnectionPoolMetrics metrics = boundedConnectionSource.getMetrics().get();
+    assertThat(metrics.getCreations(), is(2L));
+    assertThat(metrics.getBorrows(), is(3L));
+    assertThat(metrics.getWaits(), is(2L));
+    assertThat(metrics.getEvictions(), is(0L));
+
+    boundedConnectionSource.close();
+  }
+
+  @Test
+  public void concurrentBorrows() throws Exception {
+
+    final SimpleDatabaseConnectionSource boundedConnectionSource =
+        new SimpleDatabaseConnectionSource(
+            connectionUrl,
+            new HashMap<>(),
+            new MultiUseUserCredentials(userName, ""),
+            connection -> {},
+            2,
+            Duration.ofMinutes(1),
+            Duration.ofMinutes(1),
+            Duration.ofMinutes(10));
+
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    final List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int j = 0; j < 200; j++) {
+                  try (final Connection connection = boundedConnectionSource.get()) {
+                    connection.getAutoCommit();
+                  }
+                }
+                return null;
+              }));
+    }
+    for (final Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    // Checks for idle connections never take a connection out of use, so no more connections
+    // are opened than the maximum
+    final ConnectionPoolMetrics metrics = boundedConnectionSource.getMetrics().get();
+    assertThat(metrics.getCreations(), is(lessThanOrEqualTo(2L)));
+    assertThat(metrics.getEvictions(), is(0L));
+
+    boundedConnectionSource.close();
+  }
+
   @Test
   public void connectionTests() throws Exception {
 
@@ -97,8 +210,8 @@ public class SimpleDatabaseConnectionSourceTest {
 
     final Connection wrappedConnection = db.getConnection();
     final DatabaseMetaData metaData = wrappedConnection.getMetaData();
-    final String connectionUrl = metaData.getURL();
-    final String userName = metaData.getUserName();
+    connectionUrl = metaData.getURL();
+    userName = metaData.getUserName();
     final String password = "";
     databaseConnectionSource =
         new SimpleDatabaseConnectionSource(
@@ -107,4 +220,71 @@ public class SimpleDatabaseConnectionSourceTest {
             new MultiUseUserCredentials(userName, password),
             connection -> {});
   }
+
+  @Test
+  public void idleConnectionEvicted() throws Exception {
+
+    final SimpleDatabaseConnectionSource idleConnectionSource =
+        new SimpleDatabaseConnectionSource(
+            connectionUrl,
+            new HashMap<>(),
+            new MultiUseUserCredentials(userName, ""),
+            connection -> {},
+            2,
+            Duration.ofMillis(50),
+            Duration.ofMinutes(1),
+            Duration.ofMillis(100));
+
+    // Connections that are idle for less than the maximum idle time are reused
+    final Connection connection1 = idleConnectionSource.get();
+    final Connection unwrappedConnection1 = connection1.unwrap(Connection.class);
+    connection1.close();
+    final Connection connection2 = idleConnectionSource.get();
+    assertThat(connection2.unwrap(Connection.class), is(unwrappedConnection1));
+    connection2.close();
+
+    // Connections that are idle for longer are closed
+    Thread.sleep(200);
+    final Connection connection3 = idleConnectionSource.get();
+    assertThat(connection3.unwrap(Connection.class), is(not(unwrappedConnection1)));
+    assertThat(unwrappedConnection1.isClosed(), is(true));
+    connection3.close();
+
+    final ConnectionPoolMetrics metrics = idleConnectionSource.getMetrics().get();
+    assertThat(metrics.getCreations(), is(2L));
+    assertThat(metrics.getEvictions(), is(1L));
+
+    idleConnectionSource.close();
+  }
+
+  @Test
+  public void invalidConnectionEvicted() throws Exception {
+
+    final SimpleDatabaseConnectionSource validatingConnectionSource =
+        new SimpleDatabaseConnectionSource(
+            connectionUrl,
+            new HashMap<>(),
+            new MultiUseUserCredentials(userName, ""),
+            connection -> {},
+            2,
+            Duration.ofMillis(50),
+            Duration.ZERO,
+            Duration.ofMinutes(10));
+
+    final Connection connection1 = validatingConnectionSource.get();
+    final Connection unwrappedConnection1 = connection1.unwrap(Connection.class);
+    connection1.close();
+    unwrappedConnection1.close();
+
+    final Connection connection2 = validatingConnectionSource.get();
+    assertThat(connection2.unwrap(Connection.class), is(not(unwrappedConnection1)));
+    assertThat(connection2.unwrap(Connection.class).isClosed(), is(false));
+    connection2.close();
+
+    final ConnectionPoolMetrics metrics = validatingConnectionSource.getMetrics().get();
+    assertThat(metrics.getCreations(), is(2L));
+    assertThat(metrics.getEvictions(), is(1L));
+
+    validatingConnectionSource.close();
+  }
 }
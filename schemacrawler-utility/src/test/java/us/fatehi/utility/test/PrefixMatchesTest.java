@@ -70,6 +70,23 @@ public class PrefixMatchesTest {
     assertThat(withoutPrefix, containsInAnyOrder("key1"));
   }
 
+  @Test
+  public void prefixMatches_duplicate_keys() {
+    List<String> withoutPrefix;
+
+    final PrefixMatches matchkeys =
+        new PrefixMatches(keys("PFX_ORDERS", "pfx_items", "pfx_items", "pfx_customers"), "_");
+
+    withoutPrefix = matchkeys.get("PFX_ORDERS");
+    assertThat(withoutPrefix, containsInAnyOrder("order", "pfx_order"));
+
+    withoutPrefix = matchkeys.get("pfx_items");
+    assertThat(withoutPrefix, containsInAnyOrder("item", "pfx_item", "item", "pfx_item"));
+
+    withoutPrefix = matchkeys.get("pfx_customers");
+    assertThat(withoutPrefix, containsInAnyOrder("customer", "pfx_customer"));
+  }
+
   @Test
   public void prefixMatches_mixed_prefixes() {
     List<String> withoutPrefix;
@@ -29,15 +29,21 @@ http://www.gnu.org/licenses/
 package us.fatehi.utility.test.graph;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasToString;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import us.fatehi.utility.graph.DirectedGraph;
 import us.fatehi.utility.graph.GraphException;
+import us.fatehi.utility.graph.Vertex;
 
 public class DirectedGraphTest extends GraphTestBase {
 
@@ -50,6 +56,47 @@ public class DirectedGraphTest extends GraphTestBase {
     assertThat(containsCycleTarjan(graph), is(true));
   }
 
+  @Test
+  public void edges() throws Exception {
+    final DirectedGraph<String> graph = makeGraph();
+    // Duplicate edges are ignored
+    graph.addEdge("A", "B");
+
+    final Vertex<String> a = graph.addVertex("A");
+    final Vertex<String> b = graph.addVertex("B");
+    final Vertex<String> e = graph.addVertex("E");
+
+    assertThat(graph.edgeSet().size(), is(3));
+    assertThat(graph.getOutgoingEdges(a), contains(hasToString("A -> B"), hasToString("A -> D")));
+    assertThat(graph.getIncomingEdges(a), is(empty()));
+    assertThat(graph.getOutgoingEdges(b), contains(hasToString("B -> C")));
+    assertThat(graph.getIncomingEdges(b), contains(hasToString("A -> B")));
+    assertThat(graph.getOutgoingEdges(e), is(empty()));
+    assertThat(graph.getIncomingEdges(e), is(empty()));
+  }
+
+  @Test
+  public void longChain() throws Exception {
+    final int size = 50_000;
+    final DirectedGraph<Integer> graph = new DirectedGraph<>("");
+    final List<Integer> expected = new ArrayList<>();
+    for (int i = size; i > 1; i--) {
+      graph.addEdge(i, i - 1);
+      expected.add(i);
+    }
+    expected.add(1);
+
+    assertThat(containsCycleSimple(graph), is(false));
+    assertThat(containsCycleTarjan(graph), is(false));
+    assertThat(topologicalSort(graph), is(expected));
+
+    graph.addEdge(1, size);
+
+    assertThat(containsCycleSimple(graph), is(true));
+    assertThat(containsCycleTarjan(graph), is(true));
+    assertThrows(GraphException.class, () -> topologicalSort(graph));
+  }
+
   @Test
   public void noCycles() throws Exception {
     final DirectedGraph<String> graph = makeGraph();
@@ -84,6 +131,18 @@ public class DirectedGraphTest extends GraphTestBase {
     }
   }
 
+  @Test
+  public void topologicalSortLevels() throws Exception {
+    final DirectedGraph<String> graph = new DirectedGraph<>("");
+    graph.addEdge("D", "B");
+    graph.addEdge("D", "A");
+    graph.addEdge("B", "C");
+    graph.addEdge("A", "C");
+    graph.addVertex("E");
+
+    assertThat(topologicalSort(graph), is(Arrays.asList("D", "E", "A", "B", "C")));
+  }
+
   @Test
   public void topologicalSortCyclical() throws Exception {
     final DirectedGraph<String> graph = makeGraph();
@@ -0,0 +1,123 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2023, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package us.fatehi.utility.test.scheduler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import us.fatehi.utility.graph.GraphException;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
+
+public class TaskRunnerDependenciesTest {
+
+  @AfterEach
+  public void clearSingleThreaded() {
+    System.clearProperty("SC_SINGLE_THREADED");
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void cyclicDependencies(final boolean singleThreaded) throws Exception {
+    final TaskRunner taskRunner = taskRunner(singleThreaded);
+
+    taskRunner.add(new TaskDefinition("a", () -> {}, Arrays.asList("c")));
+    taskRunner.add(new TaskDefinition("b", () -> {}, Arrays.asList("a")));
+    taskRunner.add(new TaskDefinition("c", () -> {}, Arrays.asList("b")));
+
+    assertThrows(GraphException.class, () -> taskRunner.submit());
+    taskRunner.stop();
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void dependencyOrder(final boolean singleThreaded) throws Exception {
+    final List<String> runOrder = new CopyOnWriteArrayList<>();
+    final TaskRunner taskRunner = taskRunner(singleThreaded);
+
+    // Added in reverse, so tasks can only run in order if dependencies are followed
+    taskRunner.add(
+        new TaskDefinition("d", () -> runOrder.add("d"), Arrays.asList("b", "c")));
+    taskRunner.add(new TaskDefinition("c", () -> runOrder.add("c"), Arrays.asList("b")));
+    taskRunner.add(
+        new TaskDefinition(
+            "b",
+            () -> {
+              Thread.sleep(50);
+              runOrder.add("b");
+            },
+            Arrays.asList("a")));
+    taskRunner.add(new TaskDefinition("a", () -> runOrder.add("a")));
+    // Dependencies outside the batch are taken to have been run already
+    taskRunner.add(new TaskDefinition("e", () -> {}, Arrays.asList("not_submitted")));
+    taskRunner.submit();
+
+    assertThat(runOrder, contains("a", "b", "c", "d"));
+    assertThat(taskRunner.report().get().split("\n").length, is(6));
+    taskRunner.stop();
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void failedDependency(final boolean singleThreaded) throws Exception {
+    final List<String> runOrder = new CopyOnWriteArrayList<>();
+    final TaskRunner taskRunner = taskRunner(singleThreaded);
+
+    taskRunner.add(
+        new TaskDefinition(
+            "a",
+            () -> {
+              throw new RuntimeException("Failed task");
+            }));
+    taskRunner.add(new TaskDefinition("b", () -> runOrder.add("b"), Arrays.asList("a")));
+    taskRunner.add(new TaskDefinition("c", () -> runOrder.add("c"), Arrays.asList("b")));
+    taskRunner.add(new TaskDefinition("d", () -> runOrder.add("d")));
+
+    final RuntimeException exception = assertThrows(RuntimeException.class, taskRunner::submit);
+    assertThat(exception.getMessage(), is("Failed task"));
+    assertThat(runOrder, is(Collections.singletonList("d")));
+  }
+
+  private TaskRunner taskRunner(final boolean singleThreaded) {
+    System.setProperty("SC_SINGLE_THREADED", String.valueOf(singleThreaded));
+    return TaskRunners.getTaskRunner("test-dependencies", 4);
+  }
+}